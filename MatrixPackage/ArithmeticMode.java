@@ -0,0 +1,255 @@
+/**
+ * Class to represent how primitive integer matrices handle overflow
+ * @author Ethan Tobey
+ */
+package MatrixPackage;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+public final class ArithmeticMode {
+    /**
+     * Enum to represent the kind of arithmetic
+     */
+    public enum Kind {
+        /** two's complement arithmetic that silently wraps on overflow */
+        WRAPPING,
+        /** arithmetic that throws ArithmeticException on overflow */
+        CHECKED,
+        /** arithmetic modulo a fixed modulus, with values kept in [0, modulus) */
+        MODULAR
+    }
+
+    /** largest modulus for which the product of two reduced values fits in a long */
+    public static final long SMALL_MODULUS = 3037000499L;
+
+    /** shared wrapping mode */
+    private static final ArithmeticMode WRAPPING = new ArithmeticMode(Kind.WRAPPING, 0);
+    /** shared checked mode */
+    private static final ArithmeticMode CHECKED = new ArithmeticMode(Kind.CHECKED, 0);
+
+    /** the kind of arithmetic */
+    private final Kind kind;
+    /** the modulus, only used by MODULAR arithmetic */
+    private final long modulus;
+
+    /**
+     * A private constructor for ArithmeticMode
+     * @param kind the kind of arithmetic
+     * @param modulus the modulus for MODULAR arithmetic
+     */
+    private ArithmeticMode(Kind kind, long modulus) {
+        this.kind = kind;
+        this.modulus = modulus;
+    }
+
+    /**
+     * Returns the wrapping ArithmeticMode
+     * @return ArithmeticMode that wraps on overflow
+     */
+    public static ArithmeticMode wrapping() {
+        return WRAPPING;
+    }
+
+    /**
+     * Returns the overflow-checked ArithmeticMode
+     * @return ArithmeticMode that throws ArithmeticException on overflow
+     */
+    public static ArithmeticMode checked() {
+        return CHECKED;
+    }
+
+    /**
+     * Builder method to return a new modular ArithmeticMode
+     * @param modulus the modulus, which must be at least 2
+     * @return ArithmeticMode that computes modulo the given modulus
+     */
+    public static ArithmeticMode modular(long modulus) {
+        if (modulus < 2)
+            throw new IllegalArgumentException("modulus must be at least 2");
+
+        return new ArithmeticMode(Kind.MODULAR, modulus);
+    }
+
+    /**
+     * Getter method for the kind
+     * @return the kind of arithmetic
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Getter method for the modulus
+     * @return the modulus, or 0 if this mode is not MODULAR
+     */
+    public long getModulus() {
+        return modulus;
+    }
+
+    /**
+     * Brings a value into the range used by this mode
+     * @param x the value to reduce
+     * @return x modulo the modulus for MODULAR arithmetic, otherwise x
+     */
+    public long reduce(long x) {
+        return (kind == Kind.MODULAR) ? Math.floorMod(x, modulus) : x;
+    }
+
+    /**
+     * Brings an int value into the range used by this mode
+     * @param x the value to reduce
+     * @return x modulo the modulus for MODULAR arithmetic, otherwise x
+     */
+    public int reduce(int x) {
+        return (kind == Kind.MODULAR) ? (int) Math.floorMod(x, modulus) : x;
+    }
+
+    /**
+     * Returns the sum of inputs x and y, which must already be reduced
+     * @param x the first value to add
+     * @param y the second value to add
+     * @return the sum of x and y in this mode
+     */
+    public long sum(long x, long y) {
+        switch (kind) {
+            case CHECKED:
+                return Math.addExact(x, y);
+            case MODULAR:
+                //x - (modulus - y) lies in (-modulus, modulus) so it cannot overflow
+                long sum = x - (modulus - y);
+                return (sum < 0) ? sum + modulus : sum;
+            default:
+                return x + y;
+        }
+    }
+
+    /**
+     * Returns the difference of inputs x and y, which must already be reduced
+     * @param x the value to subtract from
+     * @param y the value to subtract
+     * @return x minus y in this mode
+     */
+    public long difference(long x, long y) {
+        switch (kind) {
+            case CHECKED:
+                return Math.subtractExact(x, y);
+            case MODULAR:
+                //x - y lies in (-modulus, modulus) so it cannot overflow
+                long difference = x - y;
+                return (difference < 0) ? difference + modulus : difference;
+            default:
+                return x - y;
+        }
+    }
+
+    /**
+     * Returns the product of inputs x and y, which must already be reduced
+     * @param x the first value to multiply
+     * @param y the second value to multiply
+     * @return the product of x and y in this mode
+     */
+    public long product(long x, long y) {
+        switch (kind) {
+            case CHECKED:
+                return Math.multiplyExact(x, y);
+            case MODULAR:
+                if (modulus <= SMALL_MODULUS)
+                    return x * y % modulus;
+                //product does not fit in a long, so fall back to BigInteger
+                return BigInteger.valueOf(x).multiply(BigInteger.valueOf(y)).mod(BigInteger.valueOf(modulus)).longValue();
+            default:
+                return x * y;
+        }
+    }
+
+    /**
+     * Returns the sum of int inputs x and y, which must already be reduced
+     * @param x the first value to add
+     * @param y the second value to add
+     * @return the sum of x and y in this mode
+     */
+    public int sum(int x, int y) {
+        switch (kind) {
+            case CHECKED:
+                return Math.addExact(x, y);
+            case MODULAR:
+                return (int) sum((long) x, (long) y);
+            default:
+                return x + y;
+        }
+    }
+
+    /**
+     * Returns the difference of int inputs x and y, which must already be reduced
+     * @param x the value to subtract from
+     * @param y the value to subtract
+     * @return x minus y in this mode
+     */
+    public int difference(int x, int y) {
+        switch (kind) {
+            case CHECKED:
+                return Math.subtractExact(x, y);
+            case MODULAR:
+                return (int) difference((long) x, (long) y);
+            default:
+                return x - y;
+        }
+    }
+
+    /**
+     * Returns the product of int inputs x and y, which must already be reduced
+     * @param x the first value to multiply
+     * @param y the second value to multiply
+     * @return the product of x and y in this mode
+     */
+    public int product(int x, int y) {
+        switch (kind) {
+            case CHECKED:
+                return Math.multiplyExact(x, y);
+            case MODULAR:
+                return (int) ((long) x * y % modulus);
+            default:
+                return x * y;
+        }
+    }
+
+    /**
+     * Throws IllegalArgumentException if this mode cannot be used for int values
+     * @return this mode, if its modulus fits in an int
+     */
+    ArithmeticMode requireIntModulus() {
+        if (modulus > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("modulus must fit in an int");
+
+        return this;
+    }
+
+    /**
+     * Compares this ArithmeticMode to another object
+     * @param o the object to compare to
+     * @return true if o is an ArithmeticMode of the same kind and modulus
+     */
+    @Override
+    public boolean equals(Object o) {
+        return (o instanceof ArithmeticMode other) && kind == other.kind && modulus == other.modulus;
+    }
+
+    /**
+     * Returns hash code of this ArithmeticMode
+     * @return hash code of kind and modulus
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, modulus);
+    }
+
+    /**
+     * Overrides String representation of this ArithmeticMode
+     * @return String representation of this ArithmeticMode
+     */
+    @Override
+    public String toString() {
+        return (kind == Kind.MODULAR) ? "MODULAR(" + modulus + ")" : kind.toString();
+    }
+}
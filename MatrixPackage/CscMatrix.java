@@ -0,0 +1,331 @@
+/**
+ * Class to represent a sparse matrix in Compressed Sparse Column (CSC) format
+ * @author Ethan Tobey
+ */
+
+ //NOTE: the CSC arrays of a matrix are exactly the CSR arrays of its transpose, so a CscMatrix is stored as the
+ //CsrMatrix of its transpose and transposing between the two formats never copies entries
+package MatrixPackage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import RingsPackage.Ring;
+import RingsPackage.RingWithNegation;
+
+public final class CscMatrix<T> implements Matrix<T> {
+    /** the transpose of this matrix in CSR format, whose rows are the columns of this matrix */
+    private final CsrMatrix<T> transpose;
+    /** holds size field of matrix */
+    private final Indexes size;
+    /** ring for type stored in matrix */
+    private final Ring<T> ring;
+
+    /**
+     * A private constructor for CscMatrix
+     * @param transpose the transpose of the matrix in CSR format, not copied
+     * @param ring ring for operations and zero values in the matrix
+     */
+    private CscMatrix(CsrMatrix<T> transpose, Ring<T> ring) {
+        this.transpose = transpose;
+        this.size = new Indexes(transpose.size().column(), transpose.size().row());
+        this.ring = ring;
+    }
+
+    /**
+     * Helper method to return the CscMatrix whose transpose is the given CsrMatrix
+     * @param <S> the type of data stored in the matrix
+     * @param transpose the transpose of the matrix in CSR format
+     * @param ring ring for the matrix
+     * @return CscMatrix sharing the storage of the input
+     */
+    static <S> CscMatrix<S> wrap(CsrMatrix<S> transpose, Ring<S> ring) {
+        return new CscMatrix<>(transpose, ring);
+    }
+
+    /**
+     * Returns size field
+     * @return size field of this CscMatrix
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of stored entries of this CscMatrix
+     * @return the number of stored entries
+     */
+    public int nonZeroCount() {
+        return transpose.nonZeroCount();
+    }
+
+    /**
+     * Returns value in this CscMatrix at given index
+     * @param indexes the index at which to retrieve value
+     * @return the value at the given index, zero if it is not stored, or null if the index is outside the matrix
+     */
+    @Override
+    public T value(Indexes indexes) {
+        //ensure indexes not null
+        Objects.requireNonNull(indexes, "indexes must not be null");
+
+        return transpose.value(indexes.column(), indexes.row());
+    }
+
+    /**
+     * Returns value in this CscMatrix at given row and column
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column, zero if it is not stored, or null if it is outside the matrix
+     */
+    @Override
+    public T value(int row, int column) {
+        return transpose.value(column, row);
+    }
+
+    /**
+     * Does the given work for every stored value of this CscMatrix that is not the ring's zero, column by column and by
+     * increasing row within a column
+     * @param action the work to do on each row, column and value
+     * @param ring ring for the zero value
+     */
+    @Override
+    public void forEachNonZero(EntryConsumer<? super T> action, Ring<T> ring) {
+        //ensure action not null
+        Objects.requireNonNull(action, "action must not be null");
+
+        transpose.forEachNonZero((column, row, value) -> action.accept(row, column, value), ring);
+    }
+
+    /**
+     * Returns map representation of the matrix
+     * @return map of the stored entries of the matrix
+     */
+    @Override
+    public Map<Indexes, T> getMap() {
+        Map<Indexes, T> map = new HashMap<>();
+
+        transpose.getMap().forEach((indexes, value) -> map.put(new Indexes(indexes.column(), indexes.row()), value));
+        return Map.copyOf(map);
+    }
+
+    /**
+     * Overrides String representation of this CscMatrix
+     * Entries are listed by column, then by row
+     * @return String representation of this CscMatrix
+     */
+    @Override
+    public String toString() {
+        return "CscMatrix [matrix={" + transpose.entriesString(true) + "}]";
+    }
+
+    /**
+     * A bulder method to return a new identity CscMatrix
+     * @param <S> the type of data stored in the CscMatrix
+     * @param size the size for the CscMatrix
+     * @param ring ring for the CscMatrix
+     * @return new CscMatrix of identity matrix
+     */
+    public static <S> CscMatrix<S> identity(int size, Ring<S> ring) {
+        return wrap(CsrMatrix.identity(size, ring), ring);
+    }
+
+    /**
+     * A builder method to return a new CscMatrix from coordinate lists of its entries
+     * Entries may be given in any order, and values given more than once for an index are summed
+     * @param <S> the type of data stored in the CscMatrix
+     * @param rows the number of rows for the CscMatrix
+     * @param columns the number of columns for the CscMatrix
+     * @param rowIndexes row of each entry
+     * @param columnIndexes column of each entry
+     * @param values value of each entry
+     * @param ring ring for the CscMatrix
+     * @return new CscMatrix of the given entries
+     */
+    public static <S> CscMatrix<S> fromCoordinates(int rows, int columns, int[] rowIndexes, int[] columnIndexes, List<S> values, Ring<S> ring) {
+        //swap rows and columns to build the transpose
+        return wrap(CsrMatrix.fromCoordinates(columns, rows, columnIndexes, rowIndexes, values, ring), ring);
+    }
+
+    /**
+     * A builder method to return a new CscMatrix holding the values of any matrix
+     * A CsrMatrix is converted in linear time, other matrices visit only the entries returned by getMap
+     * @param <S> the type of data stored in the matrix
+     * @param matrix the matrix to copy
+     * @param ring ring for the CscMatrix
+     * @return new CscMatrix of the values of the input matrix
+     */
+    public static <S> CscMatrix<S> from(Matrix<S> matrix, Ring<S> ring) {
+        //ensure inputs not null
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "ring must not be null");
+
+        if (matrix instanceof CscMatrix<S> csc)
+            return wrap(csc.transpose, ring);
+
+        return wrap(CsrMatrix.from(matrix, ring).transposeToCsr(), ring);
+    }
+
+    /**
+     * Computes the sum of two matrices
+     * Columns are merged by row, so the work is proportional to the stored entries of both matrices
+     * @param other matrix to add to this
+     * @param ring ring to compute operations
+     * @return the sum of the two matrices
+     */
+    @Override
+    public Matrix<T> plus(Matrix<T> other, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        //the transpose of a sum is the sum of the transposes
+        return wrap(transpose.add(from(other, this.ring).transpose, ring), this.ring);
+    }
+
+    /**
+     * Computes the difference of two matrices
+     * Columns are merged by row, so the work is proportional to the stored entries of both matrices
+     * @param other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this matrix minus other
+     */
+    @Override
+    public Matrix<T> minus(Matrix<T> other, RingWithNegation<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        //the transpose of a difference is the difference of the transposes
+        return wrap(transpose.subtract(from(other, this.ring).transpose, ring), this.ring);
+    }
+
+    /**
+     * Computes the additive inverse of this matrix
+     * Only the stored values are negated
+     * @param ring ring to compute operations
+     * @return the matrix whose values are the negations of the values of this
+     */
+    @Override
+    public CscMatrix<T> negate(RingWithNegation<T> ring) {
+        return wrap(transpose.negate(ring), this.ring);
+    }
+
+    /**
+     * Computes the product of two matrices
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @return the product of the two matrices
+     */
+    @Override
+    public Matrix<T> times(Matrix<T> other, Ring<T> ring) {
+        return times(other, ring, null);
+    }
+
+    /**
+     * Computes the product of two matrices column by column
+     * Each column of the product combines the columns of this selected by the stored entries of a column of other
+     * The ring must be thread-safe when a pool is given
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @param pool pool to compute columns of the product in, or null to compute sequentially
+     * @return the product of the two matrices
+     */
+    public Matrix<T> times(Matrix<T> other, Ring<T> ring, ForkJoinPool pool) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure columns of this match rows of other
+        InconsistentSizeException.requireInnerDimension(this, other);
+
+        //the transpose of this times other is other's transpose times this transpose,
+        //with each product of values reversed so non-commutative rings multiply in the right order
+        return wrap(from(other, this.ring).transpose.multiply(transpose, ring, pool, true), this.ring);
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector into a destination vector
+     * Columns of this matrix are added scaled by the matching value of the vector, skipping zero values,
+     * so with a SparseVector the work is proportional to the stored entries of the selected columns
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param ring ring to compute operations
+     * @param destination vector to store the product in, with one value per row of this matrix
+     * @return the destination, holding the product
+     */
+    @Override
+    public DenseVector<T> times(Vector<T> vector, Ring<T> ring, DenseVector<T> destination) {
+        //ensure no null values
+        Objects.requireNonNull(ring, "Ring must not be null");
+        DenseVector.requireProduct(size(), vector, destination);
+
+        for (int row = 0; row <= size().row(); row++) {
+            destination.set(row, ring.zero());
+        }
+        //only visit the stored values of a sparse vector
+        if (vector instanceof SparseVector<T> sparse) {
+            for (int position = 0; position < sparse.nonZeroCount(); position++) {
+                transpose.addScaledRow(sparse.storedIndex(position), sparse.storedValue(position), ring, destination);
+            }
+        }
+        else {
+            for (int column = 0; column <= size().column(); column++) {
+                T x = vector.value(column);
+                //zero values of the vector add nothing
+                if (x != ring.zero())
+                    transpose.addScaledRow(column, x, ring, destination);
+            }
+        }
+        return destination;
+    }
+
+    /**
+     * Returns the transpose of this matrix as a CsrMatrix sharing this matrix's storage
+     * @return the transpose of this matrix
+     */
+    public CsrMatrix<T> transpose() {
+        return transpose;
+    }
+
+    /**
+     * Returns a CscMatrix of columns [from, to) of this matrix
+     * @param from first column of the slice
+     * @param to column the slice stops before
+     * @return the slice, with to - from columns
+     */
+    public CscMatrix<T> columnSlice(int from, int to) {
+        return wrap(transpose.rowSlice(from, to), ring);
+    }
+
+    /**
+     * Convert this CscMatrix to CsrMatrix
+     * The work is linear in rows, columns and stored entries
+     * @return CsrMatrix representation of this CscMatrix
+     */
+    public CsrMatrix<T> toCsrMatrix() {
+        return transpose.transposeToCsr();
+    }
+
+    /**
+     * Convert this CscMatrix to SparseMatrix
+     * Only stored entries are visited
+     * @return SparseMatrix representation of this CscMatrix
+     */
+    public SparseMatrix<T> toSparseMatrix() {
+        return SparseMatrix.from(getMap(), size(), ring);
+    }
+
+    /**
+     * Convert this CscMatrix to MatrixMap
+     * @return MatrixMap representation of this CscMatrix
+     */
+    public MatrixMap<T> toMatrixMap() {
+        return MatrixMap.instance(size(), (indexes) -> value(indexes));
+    }
+}
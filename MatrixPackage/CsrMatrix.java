@@ -0,0 +1,764 @@
+/**
+ * Class to represent a sparse matrix in Compressed Sparse Row (CSR) format
+ * @author Ethan Tobey
+ */
+
+ //NOTE: stored entries of row i are at positions rowPointers[i] to rowPointers[i + 1] - 1 of columnIndexes and values,
+ //in increasing column order, so work on a row only touches that row's stored entries
+package MatrixPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import RingsPackage.Ring;
+import RingsPackage.RingWithNegation;
+
+public final class CsrMatrix<T> implements Matrix<T> {
+    /** start of each row in columnIndexes and values, with one extra entry for the end of the last row */
+    private final int[] rowPointers;
+    /** column of each stored entry */
+    private final int[] columnIndexes;
+    /** value of each stored entry */
+    private final T[] values;
+    /** stores number of rows of the matrix */
+    private final int rows;
+    /** stores number of columns of the matrix */
+    private final int columns;
+    /** holds size field of matrix */
+    private final Indexes size;
+    /** ring for type stored in matrix */
+    private final Ring<T> ring;
+
+    /**
+     * A private constructor for CsrMatrix
+     * @param rowPointers start of each row, not copied
+     * @param columnIndexes column of each stored entry, not copied
+     * @param values value of each stored entry, not copied
+     * @param columns the number of columns of the matrix
+     * @param ring ring for operations and zero values in the matrix
+     */
+    private CsrMatrix(int[] rowPointers, int[] columnIndexes, T[] values, int columns, Ring<T> ring) {
+        this.rowPointers = rowPointers;
+        this.columnIndexes = columnIndexes;
+        this.values = values;
+        this.rows = rowPointers.length - 1;
+        this.columns = columns;
+        this.size = new Indexes(rows - 1, columns - 1);      //-1 to account for row/col # 0
+        this.ring = ring;
+    }
+
+    /**
+     * Returns size field
+     * @return size field of this CsrMatrix
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of stored entries of this CsrMatrix
+     * @return the number of stored entries
+     */
+    public int nonZeroCount() {
+        return rowPointers[rows];
+    }
+
+    /**
+     * Returns value in this CsrMatrix at given index
+     * @param indexes the index at which to retrieve value
+     * @return the value at the given index, zero if it is not stored, or null if the index is outside the matrix
+     */
+    @Override
+    public T value(Indexes indexes) {
+        //ensure indexes not null
+        Objects.requireNonNull(indexes, "indexes must not be null");
+
+        return value(indexes.row(), indexes.column());
+    }
+
+    /**
+     * Returns value in this CsrMatrix at given row and column
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column, zero if it is not stored, or null if it is outside the matrix
+     */
+    @Override
+    public T value(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns)
+            return null;
+
+        //columns of a row are sorted, so binary search the row
+        int position = Arrays.binarySearch(columnIndexes, rowPointers[row], rowPointers[row + 1], column);
+        return (position >= 0) ? values[position] : ring.zero();
+    }
+
+    /**
+     * Does the given work for every stored value of this CsrMatrix that is not the ring's zero, row by row and by
+     * increasing column within a row
+     * @param action the work to do on each row, column and value
+     * @param ring ring for the zero value
+     */
+    @Override
+    public void forEachNonZero(EntryConsumer<? super T> action, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(action, "action must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        T zero = ring.zero();
+        for (int row = 0; row < rows; row++) {
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                if (!zero.equals(values[i]))
+                    action.accept(row, columnIndexes[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns map representation of the matrix
+     * @return map of the stored entries of the matrix
+     */
+    @Override
+    public Map<Indexes, T> getMap() {
+        Map<Indexes, T> map = new HashMap<>();
+
+        for (int row = 0; row < rows; row++) {
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                map.put(new Indexes(row, columnIndexes[i]), values[i]);
+            }
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * Overrides String representation of this CsrMatrix
+     * Entries are listed by row, then by column
+     * @return String representation of this CsrMatrix
+     */
+    @Override
+    public String toString() {
+        return "CsrMatrix [matrix={" + entriesString(false) + "}]";
+    }
+
+    /**
+     * Helper method to list the stored entries in storage order
+     * @param transposed true to swap row and column of every entry, as when this holds the transpose of a CscMatrix
+     * @return the entries as comma separated "Indexes[row=r, column=c]=value" items
+     */
+    String entriesString(boolean transposed) {
+        StringBuilder builder = new StringBuilder();
+
+        //stored entries are already in row, then column order
+        for (int row = 0; row < rows; row++) {
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                int entryRow = transposed ? columnIndexes[i] : row;
+                int entryColumn = transposed ? row : columnIndexes[i];
+                builder.append("Indexes[row=").append(entryRow).append(", column=").append(entryColumn).append("]=").append(values[i]).append(", ");
+            }
+        }
+
+        //remove final ", " from end if there were stored entries
+        if (nonZeroCount() > 0)
+            builder.delete(builder.length() - 2, builder.length());
+        return builder.toString();
+    }
+
+    /**
+     * A builder method to return a new instance of CsrMatrix
+     * CsrMatrix has specified rows and columns count
+     * values of CsrMatrix are determined by the functional interface input, evaluated for every index
+     * @param <S> the type of data stored in the CsrMatrix
+     * @param rows the number of rows for the CsrMatrix
+     * @param columns the number of columns for the CsrMatrix
+     * @param valueMapper functional interface to define values of the CsrMatrix
+     * @param ring ring for the CsrMatrix
+     * @return new CsrMatrix built based on the inputs
+     */
+    public static <S> CsrMatrix<S> instance(int rows, int columns, Function<Indexes, S> valueMapper, Ring<S> ring) {
+        //make sure inputs not null
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+        Objects.requireNonNull(ring, "ring must not be null");
+        //require rows and columns to be greater than 0
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, rows);
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, columns);
+
+        int[] rowPointers = new int[rows + 1];
+        List<Integer> columnList = new ArrayList<>();
+        List<S> valueList = new ArrayList<>();
+
+        //visit indexes in row, then column order so entries are already sorted
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                S value = valueMapper.apply(new Indexes(row, column));
+                //only store values that are not zero
+                if (value != ring.zero()) {
+                    columnList.add(column);
+                    valueList.add(value);
+                }
+            }
+            rowPointers[row + 1] = valueList.size();
+        }
+
+        S[] values = MatrixMap.newArray(valueList.size());
+        return new CsrMatrix<>(rowPointers, columnList.stream().mapToInt(Integer::intValue).toArray(), valueList.toArray(values), columns, ring);
+    }
+
+    /**
+     * A builder method to return a new instance of CsrMatrix
+     * CsrMatrix has size specified by input
+     * values of CsrMatrix are determined by the functional interface input, evaluated for every index
+     * @param <S> the type of data stored in the CsrMatrix
+     * @param size the size for the CsrMatrix
+     * @param valueMapper functional interface to define values of the CsrMatrix
+     * @param ring ring for the CsrMatrix
+     * @return new CsrMatrix built based on the inputs
+     */
+    public static <S> CsrMatrix<S> instance(Indexes size, Function<Indexes, S> valueMapper, Ring<S> ring) {
+        //ensure inputs not null
+        Objects.requireNonNull(size, "size must not be null");
+
+        return instance(size.row() + 1, size.column() + 1, valueMapper, ring);     //+ 1 to account for 0 row/col
+    }
+
+    /**
+     * A bulder method to return a new identity CsrMatrix
+     * @param <S> the type of data stored in the CsrMatrix
+     * @param size the size for the CsrMatrix
+     * @param ring ring for the CsrMatrix
+     * @return new CsrMatrix of identity matrix
+     */
+    public static <S> CsrMatrix<S> identity(int size, Ring<S> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "ring must not be null");
+        //make sure size is valid
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, size);
+
+        int[] rowPointers = new int[size + 1];
+        int[] columnIndexes = new int[size];
+        S[] values = MatrixMap.newArray(size);
+
+        //one stored entry per row, on the diagonal
+        for (int i = 0; i < size; i++) {
+            rowPointers[i + 1] = i + 1;
+            columnIndexes[i] = i;
+            values[i] = ring.identity();
+        }
+        return new CsrMatrix<>(rowPointers, columnIndexes, values, size, ring);
+    }
+
+    /**
+     * A builder method to return a new CsrMatrix from coordinate lists of its entries
+     * Entries may be given in any order, and values given more than once for an index are summed
+     * @param <S> the type of data stored in the CsrMatrix
+     * @param rows the number of rows for the CsrMatrix
+     * @param columns the number of columns for the CsrMatrix
+     * @param rowIndexes row of each entry
+     * @param columnIndexes column of each entry
+     * @param values value of each entry
+     * @param ring ring for the CsrMatrix
+     * @return new CsrMatrix of the given entries
+     */
+    public static <S> CsrMatrix<S> fromCoordinates(int rows, int columns, int[] rowIndexes, int[] columnIndexes, List<S> values, Ring<S> ring) {
+        //make sure inputs not null
+        Objects.requireNonNull(rowIndexes, "rowIndexes must not be null");
+        Objects.requireNonNull(columnIndexes, "columnIndexes must not be null");
+        Objects.requireNonNull(values, "values must not be null");
+        Objects.requireNonNull(ring, "ring must not be null");
+        //require rows and columns to be greater than 0
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, rows);
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, columns);
+        if (rowIndexes.length != values.size() || columnIndexes.length != values.size())
+            throw new IllegalArgumentException("coordinate lists must have the same length");
+
+        //count the entries of each row, then turn the counts into row starts
+        int[] rowPointers = new int[rows + 1];
+        for (int i = 0; i < rowIndexes.length; i++) {
+            if (rowIndexes[i] < 0 || rowIndexes[i] >= rows || columnIndexes[i] < 0 || columnIndexes[i] >= columns)
+                throw new IndexOutOfBoundsException(new Indexes(rowIndexes[i], columnIndexes[i]).toString());
+            rowPointers[rowIndexes[i] + 1]++;
+        }
+        for (int row = 0; row < rows; row++) {
+            rowPointers[row + 1] += rowPointers[row];
+        }
+
+        //place each entry into its row
+        int[] next = Arrays.copyOf(rowPointers, rows);
+        int[] placedColumns = new int[values.size()];
+        S[] placedValues = MatrixMap.newArray(values.size());
+        for (int i = 0; i < rowIndexes.length; i++) {
+            int position = next[rowIndexes[i]]++;
+            placedColumns[position] = columnIndexes[i];
+            placedValues[position] = Objects.requireNonNull(values.get(i), "values must not be null");
+        }
+
+        return compact(rowPointers, placedColumns, placedValues, columns, ring);
+    }
+
+    /**
+     * A builder method to return a new CsrMatrix holding the values of any matrix
+     * Only the entries visited by forEachNonZero are read, so a SparseMatrix converts in time proportional to its stored entries
+     * @param <S> the type of data stored in the matrix
+     * @param matrix the matrix to copy
+     * @param ring ring for the CsrMatrix
+     * @return new CsrMatrix of the values of the input matrix
+     */
+    public static <S> CsrMatrix<S> from(Matrix<S> matrix, Ring<S> ring) {
+        //ensure inputs not null
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "ring must not be null");
+
+        if (matrix instanceof CsrMatrix<S> csr)
+            return new CsrMatrix<>(csr.rowPointers, csr.columnIndexes, csr.values, csr.columns, ring);
+        if (matrix instanceof CscMatrix<S> csc)
+            return from(csc.toCsrMatrix(), ring);
+
+        List<Integer> rowList = new ArrayList<>();
+        List<Integer> columnList = new ArrayList<>();
+        List<S> values = new ArrayList<>();
+
+        matrix.forEachNonZero((row, column, value) -> {
+            rowList.add(row);
+            columnList.add(column);
+            values.add(value);
+        }, ring);
+        int[] rowIndexes = rowList.stream().mapToInt(Integer::intValue).toArray();
+        int[] columnIndexes = columnList.stream().mapToInt(Integer::intValue).toArray();
+        return fromCoordinates(matrix.size().row() + 1, matrix.size().column() + 1, rowIndexes, columnIndexes, values, ring);
+    }
+
+    /**
+     * Helper method to sort each row by column, sum entries with the same index and drop zero values
+     * @param <S> the type of data stored in the matrix
+     * @param rowPointers start of each row
+     * @param columnIndexes column of each entry, grouped by row
+     * @param values value of each entry, grouped by row
+     * @param columns the number of columns of the matrix
+     * @param ring ring for the matrix
+     * @return new CsrMatrix of the compacted entries
+     */
+    private static <S> CsrMatrix<S> compact(int[] rowPointers, int[] columnIndexes, S[] values, int columns, Ring<S> ring) {
+        int rows = rowPointers.length - 1;
+        int[] compactPointers = new int[rows + 1];
+        int size = 0;
+
+        for (int row = 0; row < rows; row++) {
+            int from = rowPointers[row];
+            int to = rowPointers[row + 1];
+            sortRow(columnIndexes, values, from, to);
+
+            //sum runs of the same column into the first position of the run
+            for (int i = from; i < to; i++) {
+                S value = values[i];
+                while (i + 1 < to && columnIndexes[i + 1] == columnIndexes[i]) {
+                    value = ring.sum(value, values[++i]);
+                }
+                //only keep values that are not zero
+                if (value != ring.zero()) {
+                    columnIndexes[size] = columnIndexes[i];
+                    values[size++] = value;
+                }
+            }
+            compactPointers[row + 1] = size;
+        }
+        return new CsrMatrix<>(compactPointers, Arrays.copyOf(columnIndexes, size), Arrays.copyOf(values, size), columns, ring);
+    }
+
+    /**
+     * Helper method to sort the entries of one row by column, keeping equal columns in their given order
+     * @param <S> the type of data stored in the matrix
+     * @param columnIndexes column of each entry
+     * @param values value of each entry
+     * @param from first position of the row
+     * @param to position the row stops before
+     */
+    private static <S> void sortRow(int[] columnIndexes, S[] values, int from, int to) {
+        //insertion sort, since rows are short and usually already sorted
+        for (int i = from + 1; i < to; i++) {
+            int column = columnIndexes[i];
+            S value = values[i];
+            int j = i - 1;
+            while (j >= from && columnIndexes[j] > column) {
+                columnIndexes[j + 1] = columnIndexes[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            columnIndexes[j + 1] = column;
+            values[j + 1] = value;
+        }
+    }
+
+    /**
+     * Computes the sum of two matrices
+     * Rows are merged by column, so the work is proportional to the stored entries of both matrices
+     * @param other matrix to add to this
+     * @param ring ring to compute operations
+     * @return the sum of the two matrices
+     */
+    @Override
+    public Matrix<T> plus(Matrix<T> other, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        return add(from(other, this.ring), ring);
+    }
+
+    /**
+     * Computes the difference of two matrices
+     * Rows are merged by column, so the work is proportional to the stored entries of both matrices
+     * @param other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this matrix minus other
+     */
+    @Override
+    public Matrix<T> minus(Matrix<T> other, RingWithNegation<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        return subtract(from(other, this.ring), ring);
+    }
+
+    /**
+     * Computes the additive inverse of this matrix
+     * The result shares the row pointers and column indexes of this matrix, only the stored values are negated
+     * @param ring ring to compute operations
+     * @return the matrix whose values are the negations of the values of this
+     */
+    @Override
+    public CsrMatrix<T> negate(RingWithNegation<T> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        T[] negated = MatrixMap.newArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            negated[i] = ring.negate(values[i]);
+        }
+        return new CsrMatrix<>(rowPointers, columnIndexes, negated, columns, this.ring);
+    }
+
+    /**
+     * Helper method to compute the sum of two CsrMatrix of matching size by merging their rows
+     * @param otherCsr matrix to add to this
+     * @param ring ring to compute operations
+     * @return the sum of the two matrices
+     */
+    CsrMatrix<T> add(CsrMatrix<T> otherCsr, Ring<T> ring) {
+        return merge(otherCsr, ring, null);
+    }
+
+    /**
+     * Helper method to compute the difference of two CsrMatrix of matching size by merging their rows
+     * @param otherCsr matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this matrix minus other
+     */
+    CsrMatrix<T> subtract(CsrMatrix<T> otherCsr, RingWithNegation<T> ring) {
+        return merge(otherCsr, ring, ring);
+    }
+
+    /**
+     * Helper method to merge the rows of two CsrMatrix of matching size into their sum or difference
+     * @param otherCsr matrix to add to or subtract from this
+     * @param ring ring to compute operations
+     * @param negation ring to negate values of other with, or null to add other
+     * @return the sum, or the difference if negation is given
+     */
+    private CsrMatrix<T> merge(CsrMatrix<T> otherCsr, Ring<T> ring, RingWithNegation<T> negation) {
+        int[] sumPointers = new int[rows + 1];
+        int[] sumColumns = new int[nonZeroCount() + otherCsr.nonZeroCount()];
+        T[] sumValues = MatrixMap.newArray(sumColumns.length);
+        int size = 0;
+
+        for (int row = 0; row < rows; row++) {
+            int i = rowPointers[row];
+            int j = otherCsr.rowPointers[row];
+            //merge the two sorted rows
+            while (i < rowPointers[row + 1] || j < otherCsr.rowPointers[row + 1]) {
+                int thisColumn = (i < rowPointers[row + 1]) ? columnIndexes[i] : Integer.MAX_VALUE;
+                int otherColumn = (j < otherCsr.rowPointers[row + 1]) ? otherCsr.columnIndexes[j] : Integer.MAX_VALUE;
+                T value;
+                int column = Math.min(thisColumn, otherColumn);
+
+                if (thisColumn == otherColumn)
+                    value = (negation == null) ? ring.sum(values[i++], otherCsr.values[j++]) : negation.difference(values[i++], otherCsr.values[j++]);
+                else if (thisColumn < otherColumn)
+                    value = values[i++];
+                else
+                    value = (negation == null) ? otherCsr.values[j++] : negation.negate(otherCsr.values[j++]);
+
+                //only keep values that are not zero
+                if (value != ring.zero()) {
+                    sumColumns[size] = column;
+                    sumValues[size++] = value;
+                }
+            }
+            sumPointers[row + 1] = size;
+        }
+        return new CsrMatrix<>(sumPointers, Arrays.copyOf(sumColumns, size), Arrays.copyOf(sumValues, size), columns, this.ring);
+    }
+
+    /**
+     * Computes the product of two matrices
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @return the product of the two matrices
+     */
+    @Override
+    public Matrix<T> times(Matrix<T> other, Ring<T> ring) {
+        return times(other, ring, null);
+    }
+
+    /**
+     * Computes the product of two matrices row by row (Gustavson's algorithm)
+     * Each stored value of a row of this is multiplied by the stored values of the matching row of other,
+     * so the work is proportional to the number of products of stored values
+     * The ring must be thread-safe when a pool is given
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @param pool pool to compute rows of the product in, or null to compute sequentially
+     * @return the product of the two matrices
+     */
+    public Matrix<T> times(Matrix<T> other, Ring<T> ring, ForkJoinPool pool) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure columns of this match rows of other
+        InconsistentSizeException.requireInnerDimension(this, other);
+
+        return multiply(from(other, this.ring), ring, pool, false);
+    }
+
+    /**
+     * Helper method to compute the product of two CsrMatrix whose inner dimensions match
+     * @param otherCsr matrix to multiply by this
+     * @param ring ring to compute operations
+     * @param pool pool to compute rows of the product in, or null to compute sequentially
+     * @param reversed true to compute each product of values as other's value times this value,
+     *                 as when this and other hold the transposes of the actual operands
+     * @return the product of the two matrices
+     */
+    CsrMatrix<T> multiply(CsrMatrix<T> otherCsr, Ring<T> ring, ForkJoinPool pool, boolean reversed) {
+        int[][] productColumns = new int[rows][];
+        List<T[]> productValues = new ArrayList<>(Collections.nCopies(rows, null));
+
+        ParallelRows.compute(pool, 0, rows, ParallelRows.grain(pool, rows, Integer.MAX_VALUE), (rowFrom, rowTo) -> {
+            //accumulator for one row of the product, reused for every row of this task
+            T[] accumulator = MatrixMap.newArray(otherCsr.columns);
+            int[] touched = new int[otherCsr.columns];
+            for (int row = rowFrom; row < rowTo; row++) {
+                productRow(row, otherCsr, ring, reversed, accumulator, touched, productColumns, productValues);
+            }
+        });
+
+        //concatenate the rows of the product
+        int[] productPointers = new int[rows + 1];
+        for (int row = 0; row < rows; row++) {
+            productPointers[row + 1] = productPointers[row] + productColumns[row].length;
+        }
+        int[] columnArray = new int[productPointers[rows]];
+        T[] valueArray = MatrixMap.newArray(productPointers[rows]);
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(productColumns[row], 0, columnArray, productPointers[row], productColumns[row].length);
+            System.arraycopy(productValues.get(row), 0, valueArray, productPointers[row], productColumns[row].length);
+        }
+        return new CsrMatrix<>(productPointers, columnArray, valueArray, otherCsr.columns, this.ring);
+    }
+
+    /**
+     * Helper method to calculate one row of the product in matrix multiplication
+     * Each value of the row sums its products in increasing inner index
+     * @param row the row of the product to calculate
+     * @param other the matrix to multiply by
+     * @param ring ring to compute operations
+     * @param reversed true to multiply other's value by this value instead of this value by other's value
+     * @param accumulator scratch array of one value per column, all null on entry and on return
+     * @param touched scratch array to record which columns of the accumulator are set
+     * @param productColumns array to store the columns of the row in
+     * @param productValues list to store the values of the row in
+     */
+    private void productRow(int row, CsrMatrix<T> other, Ring<T> ring, boolean reversed, T[] accumulator, int[] touched, int[][] productColumns, List<T[]> productValues) {
+        int touchedCount = 0;
+
+        //stored entries of this row are in increasing column order, so sums are in increasing inner index
+        for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+            T value = values[i];
+            int inner = columnIndexes[i];
+            for (int j = other.rowPointers[inner]; j < other.rowPointers[inner + 1]; j++) {
+                int column = other.columnIndexes[j];
+                T product = reversed ? ring.product(other.values[j], value) : ring.product(value, other.values[j]);
+                if (accumulator[column] == null) {
+                    accumulator[column] = product;
+                    touched[touchedCount++] = column;
+                }
+                else {
+                    accumulator[column] = ring.sum(accumulator[column], product);
+                }
+            }
+        }
+
+        //gather the touched columns in order, clearing the accumulator for the next row
+        Arrays.sort(touched, 0, touchedCount);
+        int[] rowColumns = new int[touchedCount];
+        T[] rowValues = MatrixMap.newArray(touchedCount);
+        int size = 0;
+        for (int t = 0; t < touchedCount; t++) {
+            int column = touched[t];
+            //only keep values that are not zero
+            if (accumulator[column] != ring.zero()) {
+                rowColumns[size] = column;
+                rowValues[size++] = accumulator[column];
+            }
+            accumulator[column] = null;
+        }
+        productColumns[row] = Arrays.copyOf(rowColumns, size);
+        productValues.set(row, Arrays.copyOf(rowValues, size));
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param ring ring to compute operations
+     * @return the product, with one value per row of this matrix
+     */
+    public List<T> times(List<T> vector, Ring<T> ring) {
+        //ensure vector not null
+        Objects.requireNonNull(vector, "Input vector must not be null");
+
+        return times(DenseVector.from(vector), ring).toList();
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector into a destination vector
+     * The work is proportional to the number of stored entries, and nothing is allocated
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param ring ring to compute operations
+     * @param destination vector to store the product in, with one value per row of this matrix
+     * @return the destination, holding the product
+     */
+    @Override
+    public DenseVector<T> times(Vector<T> vector, Ring<T> ring, DenseVector<T> destination) {
+        //ensure no null values
+        Objects.requireNonNull(ring, "Ring must not be null");
+        DenseVector.requireProduct(size(), vector, destination);
+
+        for (int row = 0; row < rows; row++) {
+            T sum = ring.zero();
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                T x = vector.value(columnIndexes[i]);
+                //zero values of the vector add nothing
+                if (x != ring.zero())
+                    sum = ring.sum(sum, ring.product(values[i], x));
+            }
+            destination.set(row, sum);
+        }
+        return destination;
+    }
+
+    /**
+     * Helper method to add a row of this matrix, scaled on the right by a value, onto a vector
+     * Used by CscMatrix, whose columns are the rows of this matrix
+     * @param row the row of this matrix to add
+     * @param scale the value to multiply each stored entry of the row by
+     * @param ring ring to compute operations
+     * @param destination vector indexed by column of this matrix to add the scaled row onto
+     */
+    void addScaledRow(int row, T scale, Ring<T> ring, DenseVector<T> destination) {
+        for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+            int column = columnIndexes[i];
+            destination.set(column, ring.sum(destination.value(column), ring.product(values[i], scale)));
+        }
+    }
+
+    /**
+     * Returns the transpose of this matrix as a CscMatrix sharing this matrix's storage
+     * The rows of this matrix are exactly the columns of its transpose, so no entries are copied
+     * @return the transpose of this matrix
+     */
+    public CscMatrix<T> transpose() {
+        return CscMatrix.wrap(this, ring);
+    }
+
+    /**
+     * Returns a CsrMatrix of rows [from, to) of this matrix
+     * @param from first row of the slice
+     * @param to row the slice stops before
+     * @return the slice, with to - from rows
+     */
+    public CsrMatrix<T> rowSlice(int from, int to) {
+        if (from < 0 || to > rows || from >= to)
+            throw new IndexOutOfBoundsException("rows " + from + " to " + to);
+
+        int[] slicePointers = new int[to - from + 1];
+        for (int row = from; row <= to; row++) {
+            slicePointers[row - from] = rowPointers[row] - rowPointers[from];
+        }
+        return new CsrMatrix<>(slicePointers, Arrays.copyOfRange(columnIndexes, rowPointers[from], rowPointers[to]),
+            Arrays.copyOfRange(values, rowPointers[from], rowPointers[to]), columns, ring);
+    }
+
+    /**
+     * Helper method to compute the transpose of this matrix in CSR format
+     * Entries are counted per column and then placed, so the work is linear in rows, columns and stored entries
+     * @return a new CsrMatrix of the transpose of this matrix
+     */
+    CsrMatrix<T> transposeToCsr() {
+        //count the entries of each column, then turn the counts into starts
+        int[] transposePointers = new int[columns + 1];
+        for (int i = 0; i < nonZeroCount(); i++) {
+            transposePointers[columnIndexes[i] + 1]++;
+        }
+        for (int column = 0; column < columns; column++) {
+            transposePointers[column + 1] += transposePointers[column];
+        }
+
+        //visiting rows in order places each column's entries in increasing row order
+        int[] next = Arrays.copyOf(transposePointers, columns);
+        int[] transposeColumns = new int[nonZeroCount()];
+        T[] transposeValues = MatrixMap.newArray(nonZeroCount());
+        for (int row = 0; row < rows; row++) {
+            for (int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                int position = next[columnIndexes[i]]++;
+                transposeColumns[position] = row;
+                transposeValues[position] = values[i];
+            }
+        }
+        return new CsrMatrix<>(transposePointers, transposeColumns, transposeValues, rows, ring);
+    }
+
+    /**
+     * Convert this CsrMatrix to CscMatrix
+     * The work is linear in rows, columns and stored entries
+     * @return CscMatrix representation of this CsrMatrix
+     */
+    public CscMatrix<T> toCscMatrix() {
+        return CscMatrix.wrap(transposeToCsr(), ring);
+    }
+
+    /**
+     * Convert this CsrMatrix to SparseMatrix
+     * Only stored entries are visited
+     * @return SparseMatrix representation of this CsrMatrix
+     */
+    public SparseMatrix<T> toSparseMatrix() {
+        return SparseMatrix.from(getMap(), size(), ring);
+    }
+
+    /**
+     * Convert this CsrMatrix to MatrixMap
+     * @return MatrixMap representation of this CsrMatrix
+     */
+    public MatrixMap<T> toMatrixMap() {
+        return MatrixMap.instance(size(), (indexes) -> value(indexes));
+    }
+}
@@ -0,0 +1,554 @@
+/**
+ * Class to represent a dense matrix of primitive doubles
+ * @author Ethan Tobey
+ */
+
+ //NOTE: values are held in a single row-major double[] so plus/times between two DenseDoubleMatrix never box
+package MatrixPackage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import RingsPackage.DoubleRing;
+import RingsPackage.Ring;
+import RingsPackage.RingWithNegation;
+
+public final class DenseDoubleMatrix implements Matrix<Double> {
+    /** stores the entries of the matrix in row-major order */
+    private final double[] values;
+    /** stores number of rows of the matrix */
+    private final int rows;
+    /** stores number of columns of the matrix */
+    private final int columns;
+    /** stores size of the matrix */
+    private final Indexes size;
+
+    /**
+     * A private constructor for DenseDoubleMatrix
+     * @param values row-major array of entries, not copied
+     * @param rows the number of rows of the matrix
+     * @param columns the number of columns of the matrix
+     */
+    private DenseDoubleMatrix(double[] values, int rows, int columns) {
+        this.values = values;
+        this.rows = rows;
+        this.columns = columns;
+        size = new Indexes(rows - 1, columns - 1);      //-1 to account for row/col # 0
+    }
+
+    /**
+     * Returns size field
+     * @return size field of this DenseDoubleMatrix
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of rows of this DenseDoubleMatrix
+     * @return the number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns of this DenseDoubleMatrix
+     * @return the number of columns
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns map representation of the matrix
+     * The map is built on each call, so prefer get or value for single entries
+     * @return map of the entries of the matrix
+     */
+    @Override
+    public Map<Indexes, Double> getMap() {
+        Map<Indexes, Double> map = new HashMap<>();
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                map.put(new Indexes(row, column), values[row * columns + column]);
+            }
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * Overrides String representation of this DenseDoubleMatrix
+     * Rows are listed top to bottom
+     * @return String representation of this DenseDoubleMatrix
+     */
+    @Override
+    public String toString() {
+        return "DenseDoubleMatrix [matrix=" + Arrays.deepToString(toArray()) + "]";
+    }
+
+    /**
+     * Returns value in this DenseDoubleMatrix at given index
+     * @param indexes the index at which to retrieve value
+     * @return the value at the given index, or null if the index is outside the matrix
+     */
+    @Override
+    public Double value(Indexes indexes) {
+        //ensure indexes not null
+        Objects.requireNonNull(indexes, "indexes must not be null");
+
+        return value(indexes.row(), indexes.column());
+    }
+
+    /**
+     * Returns value in this DenseDoubleMatrix at given row and column
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column, or null if it is outside the matrix
+     */
+    @Override
+    public Double value(int row, int column) {
+        if (!contains(row, column))
+            return null;
+
+        return values[row * columns + column];
+    }
+
+    /**
+     * Does the given work for every value of this DenseDoubleMatrix that is not the ring's zero, row by row
+     * Values are compared to the zero as primitives, so only the values passed to the action are boxed
+     * @param action the work to do on each row, column and value
+     * @param ring ring for the zero value
+     */
+    @Override
+    public void forEachNonZero(EntryConsumer<? super Double> action, Ring<Double> ring) {
+        //ensure no null values
+        Objects.requireNonNull(action, "action must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        double zero = ring.zero();
+        for (int row = 0, i = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++, i++) {
+                if (values[i] != zero)
+                    action.accept(row, column, values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the primitive value at given row and column
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column
+     */
+    public double get(int row, int column) {
+        if (!contains(row, column))
+            throw new IndexOutOfBoundsException(new Indexes(row, column).toString());
+
+        return values[row * columns + column];
+    }
+
+    /**
+     * Helper method to check if a row and column lie inside this matrix
+     * @param row the row to check
+     * @param column the column to check
+     * @return true if the row and column are inside the matrix, otherwise false
+     */
+    private boolean contains(int row, int column) {
+        return row >= 0 && row < rows && column >= 0 && column < columns;
+    }
+
+    /**
+     * Returns a two dimensional array copy of this DenseDoubleMatrix
+     * @return two dimensional array of the entries of the matrix
+     */
+    public double[][] toArray() {
+        double[][] array = new double[rows][];
+
+        for (int row = 0; row < rows; row++) {
+            array[row] = Arrays.copyOfRange(values, row * columns, (row + 1) * columns);
+        }
+        return array;
+    }
+
+    /**
+     * A builder method to return a new instance of DenseDoubleMatrix
+     * DenseDoubleMatrix has specified rows and columns count
+     * values of DenseDoubleMatrix are determined by the functional interface input
+     * @param rows the number of rows for the DenseDoubleMatrix
+     * @param columns the number of columns for the DenseDoubleMatrix
+     * @param valueMapper functional interface to define values of the DenseDoubleMatrix
+     * @return new DenseDoubleMatrix built based on the inputs
+     */
+    public static DenseDoubleMatrix instance(int rows, int columns, Function<Indexes, Double> valueMapper) {
+        //make sure inputs not null
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+        //require rows and columns to be greater than 0
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, rows);
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, columns);
+
+        double[] values = new double[Math.multiplyExact(rows, columns)];
+
+        //fill the array row by row
+        for (int row = 0, i = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++, i++) {
+                values[i] = Objects.requireNonNull(valueMapper.apply(new Indexes(row, column)), "values must not be null");
+            }
+        }
+        return new DenseDoubleMatrix(values, rows, columns);
+    }
+
+    /**
+     * A builder method to return a new instance of DenseDoubleMatrix
+     * DenseDoubleMatrix has size specified by input
+     * values of DenseDoubleMatrix are determined by the functional interface input
+     * @param size the size for the DenseDoubleMatrix
+     * @param valueMapper functional interface to define values of the DenseDoubleMatrix
+     * @return new DenseDoubleMatrix built based on the inputs
+     */
+    public static DenseDoubleMatrix instance(Indexes size, Function<Indexes, Double> valueMapper) {
+        //make sure inputs not null
+        Objects.requireNonNull(size, "size must not be null");
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+
+        return instance(size.row() + 1, size.column() + 1, valueMapper);     //+ 1 to account for 0 row/col
+    }
+
+    /**
+     * A builder method to return a new square instance of DenseDoubleMatrix with one constant value throughout
+     * @param size the size for the square DenseDoubleMatrix
+     * @param value value to fill the DenseDoubleMatrix with
+     * @return new DenseDoubleMatrix with constant value throughout
+     */
+    public static DenseDoubleMatrix constant(int size, double value) {
+        //make sure size is valid
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, size);
+
+        double[] values = new double[Math.multiplyExact(size, size)];
+        Arrays.fill(values, value);
+        return new DenseDoubleMatrix(values, size, size);
+    }
+
+    /**
+     * A builder method to return a new identity DenseDoubleMatrix
+     * @param size the size for the DenseDoubleMatrix
+     * @return new DenseDoubleMatrix of identity matrix
+     */
+    public static DenseDoubleMatrix identity(int size) {
+        //make sure size is valid
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, size);
+
+        double[] values = new double[Math.multiplyExact(size, size)];
+        //diagonal entries are every size + 1 entries apart in row-major order
+        for (int i = 0; i < values.length; i += size + 1) {
+            values[i] = 1.;
+        }
+        return new DenseDoubleMatrix(values, size, size);
+    }
+
+    /**
+     * A builder method to return a new DenseDoubleMatrix based on given two dimensional array
+     * @param matrix two dimensional array of values for the DenseDoubleMatrix
+     * @return new DenseDoubleMatrix of given values
+     */
+    public static DenseDoubleMatrix from(double[][] matrix) {
+        //ensure matrix not null
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, matrix.length);
+        int columns = InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, matrix[0].length);
+
+        double[] values = new double[Math.multiplyExact(matrix.length, columns)];
+
+        //copy each row into its slice of the array
+        for (int row = 0; row < matrix.length; row++) {
+            if (matrix[row].length != columns)
+                throw new IllegalArgumentException(new InvalidLengthException(InvalidLengthException.Cause.COLUMN, matrix[row].length));
+            System.arraycopy(matrix[row], 0, values, row * columns, columns);
+        }
+        return new DenseDoubleMatrix(values, matrix.length, columns);
+    }
+
+    /**
+     * A builder method to return a new DenseDoubleMatrix holding the values of any Matrix of Doubles
+     * @param matrix the matrix to copy, such as a MatrixMap or SparseMatrix
+     * @return new DenseDoubleMatrix of the values of the input matrix
+     */
+    public static DenseDoubleMatrix from(Matrix<Double> matrix) {
+        //ensure matrix not null
+        Objects.requireNonNull(matrix, "matrix must not be null");
+
+        //copy the backing array directly if already dense
+        if (matrix instanceof DenseDoubleMatrix dense)
+            return new DenseDoubleMatrix(dense.values.clone(), dense.rows, dense.columns);
+
+        return instance(matrix.size(), (indexes) -> matrix.value(indexes));
+    }
+
+    /**
+     * Computes the sum of two matrices
+     * If other is a DenseDoubleMatrix and the ring is DoubleRing the sum is computed on primitives
+     * @param other matrix to add to this
+     * @param ring ring to compute operations
+     * @return the sum of the two matrices
+     */
+    @Override
+    public Matrix<Double> plus(Matrix<Double> other, Ring<Double> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        //if other is not dense or the ring is not DoubleRing, compute the long way
+        if (!(other instanceof DenseDoubleMatrix) || !(ring instanceof DoubleRing))
+            return instance(size(), (indexes) -> ring.sum(value(indexes), other.value(indexes)));
+
+        return plus((DenseDoubleMatrix) other);
+    }
+
+    /**
+     * Computes the sum of two DenseDoubleMatrix without boxing
+     * @param other matrix to add to this
+     * @return the sum of the two matrices
+     */
+    public DenseDoubleMatrix plus(DenseDoubleMatrix other) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        double[] sum = new double[values.length];
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] = values[i] + other.values[i];
+        }
+        return new DenseDoubleMatrix(sum, rows, columns);
+    }
+
+    /**
+     * Computes the difference of two matrices
+     * If other is a DenseDoubleMatrix and the ring is DoubleRing the difference is computed on primitives
+     * @param other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this matrix minus other
+     */
+    @Override
+    public Matrix<Double> minus(Matrix<Double> other, RingWithNegation<Double> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        //if other is not dense or the ring is not DoubleRing, compute the long way
+        if (!(other instanceof DenseDoubleMatrix) || !(ring instanceof DoubleRing))
+            return instance(size(), (indexes) -> ring.difference(value(indexes), other.value(indexes)));
+
+        return minus((DenseDoubleMatrix) other);
+    }
+
+    /**
+     * Computes the difference of two DenseDoubleMatrix without boxing
+     * @param other matrix to subtract from this
+     * @return this matrix minus other
+     */
+    public DenseDoubleMatrix minus(DenseDoubleMatrix other) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        double[] difference = new double[values.length];
+        for (int i = 0; i < difference.length; i++) {
+            difference[i] = values[i] - other.values[i];
+        }
+        return new DenseDoubleMatrix(difference, rows, columns);
+    }
+
+    /**
+     * Computes the additive inverse of this matrix
+     * If the ring is DoubleRing the negation is computed on primitives
+     * @param ring ring to compute operations
+     * @return the matrix whose values are the negations of the values of this
+     */
+    @Override
+    public DenseDoubleMatrix negate(RingWithNegation<Double> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        //if the ring is not DoubleRing, compute the long way
+        if (!(ring instanceof DoubleRing))
+            return instance(size(), (indexes) -> ring.negate(value(indexes)));
+
+        return negate();
+    }
+
+    /**
+     * Computes the additive inverse of this DenseDoubleMatrix without boxing
+     * @return the matrix whose values are the negations of the values of this
+     */
+    public DenseDoubleMatrix negate() {
+        double[] negated = new double[values.length];
+
+        for (int i = 0; i < negated.length; i++) {
+            negated[i] = -values[i];
+        }
+        return new DenseDoubleMatrix(negated, rows, columns);
+    }
+
+    /**
+     * Computes the product of two matrices
+     * If the ring is DoubleRing the product is computed on primitives, copying other into dense storage first if needed
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @return the product of the two matrices
+     */
+    @Override
+    public Matrix<Double> times(Matrix<Double> other, Ring<Double> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        //if the ring is not DoubleRing, compute the long way
+        if (!(ring instanceof DoubleRing))
+            return toMatrixMap().times(other, ring);
+
+        //copy other once into dense storage so the hot loop stays on primitives
+        return times((other instanceof DenseDoubleMatrix dense) ? dense : from(other));
+    }
+
+    /**
+     * Computes the product of two DenseDoubleMatrix without boxing
+     * @param other matrix to multiply by this
+     * @return the product of the two matrices
+     */
+    public DenseDoubleMatrix times(DenseDoubleMatrix other) {
+        return times(other, TiledMultiplier.defaults());
+    }
+
+    /**
+     * Computes the product of two DenseDoubleMatrix without boxing, using the given tiled multiplier
+     * @param other matrix to multiply by this
+     * @param multiplier multiplier that defines the block sizes
+     * @return the product of the two matrices
+     */
+    public DenseDoubleMatrix times(DenseDoubleMatrix other, TiledMultiplier multiplier) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(multiplier, "multiplier must not be null");
+        //ensure columns of this match rows of other
+        InconsistentSizeException.requireInnerDimension(this, other);
+
+        double[] product = new double[rows * other.columns];
+        multiplier.multiply(values, other.values, product, rows, columns, other.columns);
+        return new DenseDoubleMatrix(product, rows, other.columns);
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector into a destination vector
+     * If the ring is DoubleRing the vector is copied into a primitive array once, then the product is computed without boxing
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param ring ring to compute operations
+     * @param destination vector to store the product in, with one value per row of this matrix
+     * @return the destination, holding the product
+     */
+    @Override
+    public DenseVector<Double> times(Vector<Double> vector, Ring<Double> ring, DenseVector<Double> destination) {
+        //ensure no null values
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //if the ring is not DoubleRing, compute the long way
+        if (!(ring instanceof DoubleRing))
+            return Matrix.super.times(vector, ring, destination);
+        DenseVector.requireProduct(size(), vector, destination);
+
+        double[] x = new double[columns];
+        for (int column = 0; column < columns; column++) {
+            x[column] = Objects.requireNonNull(vector.value(column), "values must not be null");
+        }
+        double[] product = times(x, new double[rows]);
+        for (int row = 0; row < rows; row++) {
+            destination.set(row, product[row]);
+        }
+        return destination;
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector without boxing
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @return new array holding the product, with one value per row of this matrix
+     */
+    public double[] times(double[] vector) {
+        return times(vector, new double[rows]);
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector into a destination array without boxing
+     * Every value of the destination is overwritten, so one destination can be reused for repeated products
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param destination array to store the product in, with one value per row of this matrix
+     * @return the destination, holding the product
+     */
+    public double[] times(double[] vector, double[] destination) {
+        //ensure no null values
+        Objects.requireNonNull(vector, "Input vector must not be null");
+        Objects.requireNonNull(destination, "destination must not be null");
+        DenseVector.requireProduct(size(), vector.length, destination.length, vector == destination);
+
+        //each value of the product sums its row in increasing column order
+        for (int row = 0, i = 0; row < rows; row++) {
+            double sum = 0;
+            for (int column = 0; column < columns; column++, i++) {
+                sum += values[i] * vector[column];
+            }
+            destination[row] = sum;
+        }
+        return destination;
+    }
+
+    /**
+     * Computes the LU decomposition of this square matrix with partial pivoting, leaving this unchanged
+     * @return the decomposition, which can be reused to solve for many right-hand sides
+     */
+    public LuDecomposition lu() {
+        //ensure matrix is square
+        NonSquareException.requireDiagonal(size());
+
+        return LuDecomposition.decompose(values.clone(), rows);
+    }
+
+    /**
+     * Computes the determinant of this square matrix from its LU decomposition
+     * @return the determinant of this matrix
+     */
+    public double determinant() {
+        return lu().determinant();
+    }
+
+    /**
+     * Solves the linear system this * x = vector for x from the LU decomposition of this square matrix
+     * @param vector the right-hand side, with one value per row of this matrix
+     * @return the solution x
+     */
+    public double[] solve(double[] vector) {
+        return lu().solve(vector);
+    }
+
+    /**
+     * Convert this DenseDoubleMatrix to MatrixMap
+     * @return MatrixMap representation of this DenseDoubleMatrix
+     */
+    public MatrixMap<Double> toMatrixMap() {
+        return MatrixMap.instance(size(), (indexes) -> value(indexes));
+    }
+
+    /**
+     * Convert this DenseDoubleMatrix to SparseMatrix
+     * @param ring ring input for SparseMatrix
+     * @return SparseMatrix representation of this DenseDoubleMatrix
+     */
+    public SparseMatrix<Double> toSparseMatrix(Ring<Double> ring) {
+        return SparseMatrix.instance(size(), (indexes) -> value(indexes), ring);
+    }
+}
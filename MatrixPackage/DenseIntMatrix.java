@@ -0,0 +1,629 @@
+/**
+ * Class to represent a dense matrix of primitive ints
+ * @author Ethan Tobey
+ */
+
+ //NOTE: values are held in a single row-major int[] and overflow is handled by the matrix's ArithmeticMode
+package MatrixPackage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import RingsPackage.IntegerRing;
+import RingsPackage.Ring;
+import RingsPackage.RingWithNegation;
+
+public final class DenseIntMatrix implements Matrix<Integer> {
+    /** stores the entries of the matrix in row-major order */
+    private final int[] values;
+    /** stores number of rows of the matrix */
+    private final int rows;
+    /** stores number of columns of the matrix */
+    private final int columns;
+    /** stores size of the matrix */
+    private final Indexes size;
+    /** arithmetic used for sums and products */
+    private final ArithmeticMode mode;
+
+    /**
+     * A private constructor for DenseIntMatrix
+     * @param values row-major array of entries already reduced by mode, not copied
+     * @param rows the number of rows of the matrix
+     * @param columns the number of columns of the matrix
+     * @param mode arithmetic used for sums and products
+     */
+    private DenseIntMatrix(int[] values, int rows, int columns, ArithmeticMode mode) {
+        this.values = values;
+        this.rows = rows;
+        this.columns = columns;
+        this.mode = mode;
+        size = new Indexes(rows - 1, columns - 1);      //-1 to account for row/col # 0
+    }
+
+    /**
+     * Returns size field
+     * @return size field of this DenseIntMatrix
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of rows of this DenseIntMatrix
+     * @return the number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns of this DenseIntMatrix
+     * @return the number of columns
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the arithmetic mode of this DenseIntMatrix
+     * @return the mode used for sums and products
+     */
+    public ArithmeticMode mode() {
+        return mode;
+    }
+
+    /**
+     * Returns map representation of the matrix
+     * The map is built on each call, so prefer get or value for single entries
+     * @return map of the entries of the matrix
+     */
+    @Override
+    public Map<Indexes, Integer> getMap() {
+        Map<Indexes, Integer> map = new HashMap<>();
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                map.put(new Indexes(row, column), values[row * columns + column]);
+            }
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * Overrides String representation of this DenseIntMatrix
+     * Rows are listed top to bottom
+     * @return String representation of this DenseIntMatrix
+     */
+    @Override
+    public String toString() {
+        return "DenseIntMatrix [mode=" + mode + ", matrix=" + Arrays.deepToString(toArray()) + "]";
+    }
+
+    /**
+     * Returns value in this DenseIntMatrix at given index
+     * @param indexes the index at which to retrieve value
+     * @return the value at the given index, or null if the index is outside the matrix
+     */
+    @Override
+    public Integer value(Indexes indexes) {
+        //ensure indexes not null
+        Objects.requireNonNull(indexes, "indexes must not be null");
+
+        return value(indexes.row(), indexes.column());
+    }
+
+    /**
+     * Returns value in this DenseIntMatrix at given row and column
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column, or null if it is outside the matrix
+     */
+    @Override
+    public Integer value(int row, int column) {
+        if (!contains(row, column))
+            return null;
+
+        return values[row * columns + column];
+    }
+
+    /**
+     * Does the given work for every value of this DenseIntMatrix that is not the ring's zero, row by row
+     * Values are compared to the zero as primitives, so only the values passed to the action are boxed
+     * @param action the work to do on each row, column and value
+     * @param ring ring for the zero value
+     */
+    @Override
+    public void forEachNonZero(EntryConsumer<? super Integer> action, Ring<Integer> ring) {
+        //ensure no null values
+        Objects.requireNonNull(action, "action must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        int zero = ring.zero();
+        for (int row = 0, i = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++, i++) {
+                if (values[i] != zero)
+                    action.accept(row, column, values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the primitive value at given row and column
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column
+     */
+    public int get(int row, int column) {
+        if (!contains(row, column))
+            throw new IndexOutOfBoundsException(new Indexes(row, column).toString());
+
+        return values[row * columns + column];
+    }
+
+    /**
+     * Helper method to check if a row and column lie inside this matrix
+     * @param row the row to check
+     * @param column the column to check
+     * @return true if the row and column are inside the matrix, otherwise false
+     */
+    private boolean contains(int row, int column) {
+        return row >= 0 && row < rows && column >= 0 && column < columns;
+    }
+
+    /**
+     * Returns a two dimensional array copy of this DenseIntMatrix
+     * @return two dimensional array of the entries of the matrix
+     */
+    public int[][] toArray() {
+        int[][] array = new int[rows][];
+
+        for (int row = 0; row < rows; row++) {
+            array[row] = Arrays.copyOfRange(values, row * columns, (row + 1) * columns);
+        }
+        return array;
+    }
+
+    /**
+     * A builder method to return a new instance of DenseIntMatrix
+     * DenseIntMatrix has specified rows and columns count
+     * values of DenseIntMatrix are determined by the functional interface input
+     * @param rows the number of rows for the DenseIntMatrix
+     * @param columns the number of columns for the DenseIntMatrix
+     * @param valueMapper functional interface to define values of the DenseIntMatrix
+     * @param mode arithmetic for the DenseIntMatrix
+     * @return new DenseIntMatrix built based on the inputs
+     */
+    public static DenseIntMatrix instance(int rows, int columns, Function<Indexes, Integer> valueMapper, ArithmeticMode mode) {
+        //make sure inputs not null
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+        Objects.requireNonNull(mode, "mode must not be null").requireIntModulus();
+        //require rows and columns to be greater than 0
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, rows);
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, columns);
+
+        int[] values = new int[Math.multiplyExact(rows, columns)];
+
+        //fill the array row by row
+        for (int row = 0, i = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++, i++) {
+                values[i] = mode.reduce(Objects.requireNonNull(valueMapper.apply(new Indexes(row, column)), "values must not be null"));
+            }
+        }
+        return new DenseIntMatrix(values, rows, columns, mode);
+    }
+
+    /**
+     * A builder method to return a new instance of DenseIntMatrix
+     * DenseIntMatrix has size specified by input
+     * values of DenseIntMatrix are determined by the functional interface input
+     * @param size the size for the DenseIntMatrix
+     * @param valueMapper functional interface to define values of the DenseIntMatrix
+     * @param mode arithmetic for the DenseIntMatrix
+     * @return new DenseIntMatrix built based on the inputs
+     */
+    public static DenseIntMatrix instance(Indexes size, Function<Indexes, Integer> valueMapper, ArithmeticMode mode) {
+        //make sure inputs not null
+        Objects.requireNonNull(size, "size must not be null");
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+
+        return instance(size.row() + 1, size.column() + 1, valueMapper, mode);     //+ 1 to account for 0 row/col
+    }
+
+    /**
+     * A builder method to return a new square instance of DenseIntMatrix with one constant value throughout
+     * @param size the size for the square DenseIntMatrix
+     * @param value value to fill the DenseIntMatrix with
+     * @param mode arithmetic for the DenseIntMatrix
+     * @return new DenseIntMatrix with constant value throughout
+     */
+    public static DenseIntMatrix constant(int size, int value, ArithmeticMode mode) {
+        //ensure mode not null
+        Objects.requireNonNull(mode, "mode must not be null").requireIntModulus();
+        //make sure size is valid
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, size);
+
+        int[] values = new int[Math.multiplyExact(size, size)];
+        Arrays.fill(values, mode.reduce(value));
+        return new DenseIntMatrix(values, size, size, mode);
+    }
+
+    /**
+     * A builder method to return a new identity DenseIntMatrix
+     * @param size the size for the DenseIntMatrix
+     * @param mode arithmetic for the DenseIntMatrix
+     * @return new DenseIntMatrix of identity matrix
+     */
+    public static DenseIntMatrix identity(int size, ArithmeticMode mode) {
+        //ensure mode not null
+        Objects.requireNonNull(mode, "mode must not be null").requireIntModulus();
+        //make sure size is valid
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, size);
+
+        int[] values = new int[Math.multiplyExact(size, size)];
+        //diagonal entries are every size + 1 entries apart in row-major order
+        for (int i = 0; i < values.length; i += size + 1) {
+            values[i] = 1;
+        }
+        return new DenseIntMatrix(values, size, size, mode);
+    }
+
+    /**
+     * A builder method to return a new DenseIntMatrix based on given two dimensional array
+     * @param matrix two dimensional array of values for the DenseIntMatrix
+     * @param mode arithmetic for the DenseIntMatrix
+     * @return new DenseIntMatrix of given values
+     */
+    public static DenseIntMatrix from(int[][] matrix, ArithmeticMode mode) {
+        //ensure inputs not null
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(mode, "mode must not be null").requireIntModulus();
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, matrix.length);
+        int columns = InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, matrix[0].length);
+
+        int[] values = new int[Math.multiplyExact(matrix.length, columns)];
+
+        //copy each row into its slice of the array
+        for (int row = 0, i = 0; row < matrix.length; row++) {
+            if (matrix[row].length != columns)
+                throw new IllegalArgumentException(new InvalidLengthException(InvalidLengthException.Cause.COLUMN, matrix[row].length));
+            for (int column = 0; column < columns; column++, i++) {
+                values[i] = mode.reduce(matrix[row][column]);
+            }
+        }
+        return new DenseIntMatrix(values, matrix.length, columns, mode);
+    }
+
+    /**
+     * A builder method to return a new DenseIntMatrix holding the values of any Matrix of Integers
+     * @param matrix the matrix to copy, such as a MatrixMap or SparseMatrix
+     * @param mode arithmetic for the DenseIntMatrix
+     * @return new DenseIntMatrix of the values of the input matrix
+     */
+    public static DenseIntMatrix from(Matrix<Integer> matrix, ArithmeticMode mode) {
+        //ensure inputs not null
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(mode, "mode must not be null").requireIntModulus();
+
+        //copy the backing array directly if already dense in the same mode
+        if (matrix instanceof DenseIntMatrix dense && dense.mode.equals(mode))
+            return new DenseIntMatrix(dense.values.clone(), dense.rows, dense.columns, mode);
+
+        return instance(matrix.size(), (indexes) -> matrix.value(indexes), mode);
+    }
+
+    /**
+     * Computes the sum of two matrices
+     * When the ring computes as the mode of this matrix, other is copied into dense storage if needed and the sum is
+     * computed on primitives, otherwise it is computed through the ring
+     * @param other matrix to add to this
+     * @param ring ring to compute operations
+     * @return the sum of the two matrices
+     */
+    @Override
+    public Matrix<Integer> plus(Matrix<Integer> other, Ring<Integer> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        //a ring other than the mode's gives other values, so compute the long way
+        if (!inMode(ring))
+            return toMatrixMap().plus(other, ring);
+
+        return plus(asDense(other));
+    }
+
+    /**
+     * Computes the sum of two DenseIntMatrix without boxing, in the mode of this matrix
+     * @param other matrix to add to this
+     * @return the sum of the two matrices
+     */
+    public DenseIntMatrix plus(DenseIntMatrix other) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        int[] otherValues = asDense(other).values;
+        int[] sum = new int[values.length];
+
+        //choose the loop once so the hot loop does not switch on mode
+        switch (mode.getKind()) {
+            case WRAPPING:
+                for (int i = 0; i < sum.length; i++) {
+                    sum[i] = values[i] + otherValues[i];
+                }
+                break;
+            case CHECKED:
+                for (int i = 0; i < sum.length; i++) {
+                    sum[i] = Math.addExact(values[i], otherValues[i]);
+                }
+                break;
+            default:
+                for (int i = 0; i < sum.length; i++) {
+                    sum[i] = mode.sum(values[i], otherValues[i]);
+                }
+        }
+        return new DenseIntMatrix(sum, rows, columns, mode);
+    }
+
+    /**
+     * Computes the difference of two matrices
+     * When the ring computes as the mode of this matrix, other is copied into dense storage if needed and the difference
+     * is computed on primitives, otherwise it is computed through the ring
+     * @param other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this matrix minus other
+     */
+    @Override
+    public Matrix<Integer> minus(Matrix<Integer> other, RingWithNegation<Integer> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        //a ring other than the mode's gives other values, so compute the long way
+        if (!inMode(ring))
+            return toMatrixMap().minus(other, ring);
+
+        return minus(asDense(other));
+    }
+
+    /**
+     * Computes the difference of two DenseIntMatrix without boxing, in the mode of this matrix
+     * @param other matrix to subtract from this
+     * @return this matrix minus other
+     */
+    public DenseIntMatrix minus(DenseIntMatrix other) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        int[] otherValues = asDense(other).values;
+        int[] difference = new int[values.length];
+
+        //choose the loop once so the hot loop does not switch on mode
+        switch (mode.getKind()) {
+            case WRAPPING:
+                for (int i = 0; i < difference.length; i++) {
+                    difference[i] = values[i] - otherValues[i];
+                }
+                break;
+            case CHECKED:
+                for (int i = 0; i < difference.length; i++) {
+                    difference[i] = Math.subtractExact(values[i], otherValues[i]);
+                }
+                break;
+            default:
+                for (int i = 0; i < difference.length; i++) {
+                    difference[i] = mode.difference(values[i], otherValues[i]);
+                }
+        }
+        return new DenseIntMatrix(difference, rows, columns, mode);
+    }
+
+    /**
+     * Computes the additive inverse of this matrix
+     * When the ring computes as the mode of this matrix the negation is computed on primitives, otherwise through the ring
+     * @param ring ring to compute operations
+     * @return the matrix whose values are the negations of the values of this
+     */
+    @Override
+    public Matrix<Integer> negate(RingWithNegation<Integer> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        //a ring other than the mode's gives other values, so compute the long way
+        if (!inMode(ring))
+            return toMatrixMap().negate(ring);
+
+        return negate();
+    }
+
+    /**
+     * Computes the additive inverse of this matrix without boxing, in the mode of this matrix
+     * @return the matrix whose values are the negations of the values of this
+     */
+    public DenseIntMatrix negate() {
+        int[] negated = new int[values.length];
+
+        for (int i = 0; i < negated.length; i++) {
+            negated[i] = mode.difference(0, values[i]);
+        }
+        return new DenseIntMatrix(negated, rows, columns, mode);
+    }
+
+    /**
+     * Computes the product of two matrices
+     * When the ring computes as the mode of this matrix, other is copied into dense storage if needed and the product
+     * is computed on primitives, otherwise it is computed through the ring
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @return the product of the two matrices
+     */
+    @Override
+    public Matrix<Integer> times(Matrix<Integer> other, Ring<Integer> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        //a ring other than the mode's gives other values, so compute the long way
+        if (!inMode(ring))
+            return toMatrixMap().times(other, ring);
+
+        return times(asDense(other));
+    }
+
+    /**
+     * Computes the product of two DenseIntMatrix without boxing, in the mode of this matrix
+     * @param other matrix to multiply by this
+     * @return the product of the two matrices
+     */
+    public DenseIntMatrix times(DenseIntMatrix other) {
+        return times(other, TiledMultiplier.defaults());
+    }
+
+    /**
+     * Computes the product of two DenseIntMatrix without boxing, in the mode of this matrix, using the given tiled multiplier
+     * @param other matrix to multiply by this
+     * @param multiplier multiplier that defines the block sizes
+     * @return the product of the two matrices
+     */
+    public DenseIntMatrix times(DenseIntMatrix other, TiledMultiplier multiplier) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(multiplier, "multiplier must not be null");
+        //ensure columns of this match rows of other
+        InconsistentSizeException.requireInnerDimension(this, other);
+
+        int[] product = new int[rows * other.columns];
+        multiplier.multiply(values, asDense(other).values, product, rows, columns, other.columns, mode);
+        return new DenseIntMatrix(product, rows, other.columns, mode);
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector into a destination vector
+     * When the ring computes as the mode of this matrix, the vector is copied into a primitive array once and the
+     * product is computed without boxing, otherwise it is computed through the ring
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param ring ring to compute operations
+     * @param destination vector to store the product in, with one value per row of this matrix
+     * @return the destination, holding the product
+     */
+    @Override
+    public DenseVector<Integer> times(Vector<Integer> vector, Ring<Integer> ring, DenseVector<Integer> destination) {
+        //ensure no null values
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //a ring other than the mode's gives other values, so compute the long way
+        if (!inMode(ring))
+            return Matrix.super.times(vector, ring, destination);
+        DenseVector.requireProduct(size(), vector, destination);
+
+        int[] x = new int[columns];
+        for (int column = 0; column < columns; column++) {
+            x[column] = Objects.requireNonNull(vector.value(column), "values must not be null");
+        }
+        int[] product = times(x, new int[rows]);
+        for (int row = 0; row < rows; row++) {
+            destination.set(row, product[row]);
+        }
+        return destination;
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector without boxing, in the mode of this matrix
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @return new array holding the product, with one value per row of this matrix
+     */
+    public int[] times(int[] vector) {
+        return times(vector, new int[rows]);
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector into a destination array without boxing, in the mode of this matrix
+     * Every value of the destination is overwritten, so one destination can be reused for repeated products
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param destination array to store the product in, with one value per row of this matrix
+     * @return the destination, holding the product
+     */
+    public int[] times(int[] vector, int[] destination) {
+        //ensure no null values
+        Objects.requireNonNull(vector, "Input vector must not be null");
+        Objects.requireNonNull(destination, "destination must not be null");
+        DenseVector.requireProduct(size(), vector.length, destination.length, vector == destination);
+
+        //choose the loop once so the hot loop does not switch on mode
+        switch (mode.getKind()) {
+            case WRAPPING:
+                for (int row = 0, i = 0; row < rows; row++) {
+                    int sum = 0;
+                    for (int column = 0; column < columns; column++, i++) {
+                        sum += values[i] * vector[column];
+                    }
+                    destination[row] = sum;
+                }
+                break;
+            case CHECKED:
+                for (int row = 0, i = 0; row < rows; row++) {
+                    int sum = 0;
+                    for (int column = 0; column < columns; column++, i++) {
+                        sum = Math.addExact(sum, Math.multiplyExact(values[i], vector[column]));
+                    }
+                    destination[row] = sum;
+                }
+                break;
+            default:
+                long modulus = mode.getModulus();
+                for (int row = 0, i = 0; row < rows; row++) {
+                    long sum = 0;
+                    //modulus fits in an int, so reduced sum plus product of reduced values fits in a long
+                    for (int column = 0; column < columns; column++, i++) {
+                        sum = (sum + (long) values[i] * mode.reduce(vector[column])) % modulus;
+                    }
+                    destination[row] = (int) sum;
+                }
+        }
+        return destination;
+    }
+
+    /**
+     * Helper method to check whether a ring computes as the mode of this matrix, so the primitive loops give its values
+     * @param ring the ring to check
+     * @return true for IntegerRing and a wrapping or checked mode, where the checked mode throws instead of wrapping
+     */
+    private boolean inMode(Ring<Integer> ring) {
+        //there is no ring of Integer values modulo a modulus, so a modular mode always computes through the ring
+        return mode.getKind() != ArithmeticMode.Kind.MODULAR && ring instanceof IntegerRing;
+    }
+
+    /**
+     * Helper method to return a matrix as a DenseIntMatrix in the mode of this matrix
+     * @param other the matrix to convert
+     * @return other if it is already dense in this mode, otherwise a dense copy in this mode
+     */
+    private DenseIntMatrix asDense(Matrix<Integer> other) {
+        if (other instanceof DenseIntMatrix dense && dense.mode.equals(mode))
+            return dense;
+
+        return from(other, mode);
+    }
+
+    /**
+     * Convert this DenseIntMatrix to MatrixMap
+     * @return MatrixMap representation of this DenseIntMatrix
+     */
+    public MatrixMap<Integer> toMatrixMap() {
+        return MatrixMap.instance(size(), (indexes) -> value(indexes));
+    }
+
+    /**
+     * Convert this DenseIntMatrix to SparseMatrix
+     * @param ring ring input for SparseMatrix
+     * @return SparseMatrix representation of this DenseIntMatrix
+     */
+    public SparseMatrix<Integer> toSparseMatrix(Ring<Integer> ring) {
+        return SparseMatrix.instance(size(), (indexes) -> value(indexes), ring);
+    }
+}
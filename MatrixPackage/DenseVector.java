@@ -0,0 +1,204 @@
+/**
+ * Class to represent a dense Vector
+ * @author Ethan Tobey
+ */
+
+ //NOTE: unlike the matrices, a DenseVector can be written with set, so it can be reused as the destination of
+ //matrix-vector products that are computed many times
+package MatrixPackage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import RingsPackage.Ring;
+
+public final class DenseVector<T> implements Vector<T> {
+    /** stores the values of the vector */
+    private final T[] values;
+
+    /**
+     * A private constructor for DenseVector
+     * @param values array of values of the vector, not copied
+     */
+    private DenseVector(T[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the number of values of this DenseVector
+     * @return the length of this DenseVector
+     */
+    @Override
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns value in this DenseVector at given index
+     * @param index the index at which to retrieve value
+     * @return the value at the given index, or null if the index is outside the vector
+     */
+    @Override
+    public T value(int index) {
+        return (index >= 0 && index < values.length) ? values[index] : null;
+    }
+
+    /**
+     * Sets the value in this DenseVector at given index
+     * @param index the index at which to set value
+     * @param value the new value
+     */
+    public void set(int index, T value) {
+        //ensure value not null
+        Objects.requireNonNull(value, "value must not be null");
+        if (index < 0 || index >= values.length)
+            throw new IndexOutOfBoundsException(index);
+
+        values[index] = value;
+    }
+
+    /**
+     * Returns map representation of the vector
+     * @return map of the values of the vector
+     */
+    @Override
+    public Map<Integer, T> getMap() {
+        Map<Integer, T> map = new HashMap<>();
+
+        for (int index = 0; index < values.length; index++) {
+            map.put(index, values[index]);
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * Returns a list copy of this DenseVector
+     * @return list of the values of the vector
+     */
+    public List<T> toList() {
+        return List.of(values);
+    }
+
+    /**
+     * Overrides String representation of this DenseVector
+     * @return String representation of this DenseVector
+     */
+    @Override
+    public String toString() {
+        return "DenseVector [vector=" + Arrays.toString(values) + "]";
+    }
+
+    /**
+     * A builder method to return a new instance of DenseVector
+     * values of DenseVector are determined by the functional interface input
+     * @param <S> the type of data stored in the DenseVector
+     * @param length the length for the DenseVector
+     * @param valueMapper functional interface to define values of the DenseVector
+     * @return new DenseVector built based on the inputs
+     */
+    public static <S> DenseVector<S> instance(int length, IntFunction<S> valueMapper) {
+        //make sure inputs not null
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+        //require length to be greater than 0
+        Matrix.InvalidLengthException.requireNonEmpty(Matrix.InvalidLengthException.Cause.ROW, length);
+
+        S[] values = MatrixMap.newArray(length);
+        for (int index = 0; index < length; index++) {
+            values[index] = Objects.requireNonNull(valueMapper.apply(index), "values must not be null");
+        }
+        return new DenseVector<>(values);
+    }
+
+    /**
+     * A builder method to return a new DenseVector with zero throughout, to be used as a destination
+     * @param <S> the type of data stored in the DenseVector
+     * @param length the length for the DenseVector
+     * @param ring ring for the zero value of the DenseVector
+     * @return new DenseVector of zeros
+     */
+    public static <S> DenseVector<S> zero(int length, Ring<S> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "ring must not be null");
+
+        return instance(length, (index) -> ring.zero());
+    }
+
+    /**
+     * A builder method to return a new DenseVector holding the values of a list
+     * @param <S> the type of data stored in the DenseVector
+     * @param values the values for the DenseVector
+     * @return new DenseVector of given values
+     */
+    public static <S> DenseVector<S> from(List<S> values) {
+        //ensure values not null
+        Objects.requireNonNull(values, "values must not be null");
+
+        return instance(values.size(), (index) -> values.get(index));
+    }
+
+    /**
+     * A builder method to return a new DenseVector holding the values of any vector
+     * @param <S> the type of data stored in the DenseVector
+     * @param vector the vector to copy
+     * @return new DenseVector of the values of the input vector
+     */
+    public static <S> DenseVector<S> from(Vector<S> vector) {
+        //ensure vector not null
+        Objects.requireNonNull(vector, "vector must not be null");
+
+        if (vector instanceof DenseVector<S> dense)
+            return new DenseVector<>(dense.values.clone());
+
+        return instance(vector.length(), (index) -> vector.value(index));
+    }
+
+    /**
+     * Helper method to return a DenseVector of the given length whose values are all unset
+     * Callers must set every value before the vector is used
+     * @param <S> the type of data stored in the DenseVector
+     * @param length the length for the DenseVector
+     * @return new DenseVector of null values
+     */
+    static <S> DenseVector<S> empty(int length) {
+        Matrix.InvalidLengthException.requireNonEmpty(Matrix.InvalidLengthException.Cause.ROW, length);
+
+        return new DenseVector<>(MatrixMap.newArray(length));
+    }
+
+    /**
+     * Helper method to check the arguments of the product of a matrix with a vector
+     * @param size the size of the matrix
+     * @param vector the vector to multiply
+     * @param destination the vector to store the product in
+     */
+    static void requireProduct(Indexes size, Vector<?> vector, DenseVector<?> destination) {
+        //ensure no null values
+        Objects.requireNonNull(vector, "Input vector must not be null");
+        Objects.requireNonNull(destination, "destination must not be null");
+
+        requireProduct(size, vector.length(), destination.length(), destination == vector);
+    }
+
+    /**
+     * Helper method to check the lengths of the product of a matrix with a vector
+     * Throws IllegalArgumentException if the vector length is not the matrix column count,
+     * the destination length is not the matrix row count, or the destination is the vector
+     * @param size the size of the matrix
+     * @param vectorLength the length of the vector to multiply
+     * @param destinationLength the length of the vector to store the product in
+     * @param aliased true if the destination is the vector to multiply
+     */
+    static void requireProduct(Indexes size, int vectorLength, int destinationLength, boolean aliased) {
+        //+ 1 to account for 0 row/col
+        if (vectorLength != size.column() + 1)
+            throw new IllegalArgumentException(new Matrix.InvalidLengthException(Matrix.InvalidLengthException.Cause.COLUMN, vectorLength));
+        if (destinationLength != size.row() + 1)
+            throw new IllegalArgumentException(new Matrix.InvalidLengthException(Matrix.InvalidLengthException.Cause.ROW, destinationLength));
+        //values of the vector are read after values of the destination are written
+        if (aliased)
+            throw new IllegalArgumentException("destination must not be the input vector");
+    }
+}
@@ -0,0 +1,523 @@
+/**
+ * Class to compute determinants, ranks and solutions of linear systems by Gaussian elimination
+ * @author Ethan Tobey
+ */
+
+ //NOTE: elimination works in place on a row-major copy of the matrix, never on its map. Over an integral domain the
+ //fraction-free (Bareiss) form is used: each step divides exactly by the previous pivot, so entries stay minors of the
+ //matrix and grow linearly in size instead of exponentially. Over a field the ordinary form is used with the first
+ //nonzero pivot, inverting each pivot once. Rings choose pivots by isBetterPivot and test zero by isZero, so DoubleRing
+ //pivots on the largest magnitude as LuDecomposition does for DenseDoubleMatrix. The ring must be commutative. BigInteger
+ //determinants of large matrices are fastest by modularDeterminant, which never grows its values past a word. Integer and
+ //Long matrices go through BigInteger too, since IntegerRing and LongRing wrap on overflow
+package MatrixPackage;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import RingsPackage.BigIntegerRing;
+import RingsPackage.Field;
+import RingsPackage.IntegerRing;
+import RingsPackage.IntegralDomain;
+import RingsPackage.LongRing;
+
+public final class Elimination {
+    /** the first prime used by modularDeterminant, the primes after it stay below 2^31 */
+    private static final long FIRST_PRIME = 1073741827L;
+
+    /**
+     * A private constructor so Elimination is not instantiated
+     */
+    private Elimination() {
+    }
+
+    /**
+     * Computes the determinant of a square matrix by fraction-free elimination
+     * @param <T> the type of data stored in the matrix
+     * @param matrix the square matrix
+     * @param ring integral domain to compute operations
+     * @return the determinant of the matrix
+     */
+    public static <T> T determinant(Matrix<T> matrix, IntegralDomain<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure matrix is square
+        Matrix.NonSquareException.requireDiagonal(matrix.size());
+
+        int n = matrix.size().row() + 1;    //+ 1 to account for 0 row
+        T[] values = MatrixMap.toRowMajor(matrix);
+        int swaps = bareiss(values, n, n, ring, true);
+
+        //a singular matrix stops elimination early
+        if (swaps < 0)
+            return ring.zero();
+
+        T determinant = values[n * n - 1];
+        return (swaps % 2 == 0) ? determinant : ring.negate(determinant);
+    }
+
+    /**
+     * Computes the determinant of a square matrix over a field by elimination
+     * Each step inverts its pivot once, so this is cheaper than fraction-free elimination when inverses are cheap
+     * @param <T> the type of data stored in the matrix
+     * @param matrix the square matrix
+     * @param ring field to compute operations
+     * @return the determinant of the matrix
+     */
+    public static <T> T determinant(Matrix<T> matrix, Field<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure matrix is square
+        Matrix.NonSquareException.requireDiagonal(matrix.size());
+
+        int n = matrix.size().row() + 1;
+        return gauss(MatrixMap.toRowMajor(matrix), n, n, ring, true);
+    }
+
+    /**
+     * Computes the determinant of a square Integer matrix exactly, by modularDeterminant
+     * IntegerRing wraps on overflow, so fraction-free elimination would divide wrapped minors. The result is wrapped
+     * only at the end, so it is exact whenever the determinant fits in an int, and otherwise agrees with the ring's arithmetic
+     * @param matrix the square matrix
+     * @param ring ring of the matrix values
+     * @return the determinant of the matrix
+     */
+    public static Integer determinant(Matrix<Integer> matrix, IntegerRing ring) {
+        //ensure no null values
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        return modularDeterminant(toBigIntegers(matrix)).intValue();
+    }
+
+    /**
+     * Computes the determinant of a square Long matrix exactly, by modularDeterminant
+     * LongRing wraps on overflow, so fraction-free elimination would divide wrapped minors. The result is wrapped
+     * only at the end, so it is exact whenever the determinant fits in a long, and otherwise agrees with the ring's arithmetic
+     * @param matrix the square matrix
+     * @param ring ring of the matrix values
+     * @return the determinant of the matrix
+     */
+    public static Long determinant(Matrix<Long> matrix, LongRing ring) {
+        //ensure no null values
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        return modularDeterminant(toBigIntegers(matrix)).longValue();
+    }
+
+    /**
+     * Computes the determinant of a square BigInteger matrix by elimination modulo word-size primes
+     * The determinant is found modulo enough primes that their product exceeds twice Hadamard's bound on it, then
+     * reconstructed by the Chinese remainder theorem, so no BigInteger larger than the result is ever multiplied
+     * @param matrix the square matrix
+     * @return the determinant of the matrix
+     */
+    public static BigInteger modularDeterminant(Matrix<BigInteger> matrix) {
+        //ensure matrix not null
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        //ensure matrix is square
+        Matrix.NonSquareException.requireDiagonal(matrix.size());
+
+        int n = matrix.size().row() + 1;
+        BigInteger[] values = new BigInteger[n * n];
+        //Hadamard's bound: the determinant is at most the product of the lengths of the rows, + 1 bit for the sign
+        long boundBits = 1;
+        for (int row = 0; row < n; row++) {
+            BigInteger squaredLength = BigInteger.ZERO;
+            for (int column = 0; column < n; column++) {
+                BigInteger value = Objects.requireNonNull(matrix.value(row, column), "matrix values must not be null");
+                values[row * n + column] = value;
+                squaredLength = squaredLength.add(value.multiply(value));
+            }
+            boundBits += (squaredLength.bitLength() + 1) / 2;
+        }
+
+        long[] reduced = new long[values.length];
+        BigInteger determinant = BigInteger.ZERO;
+        BigInteger modulus = BigInteger.ONE;
+        BigInteger prime = BigInteger.valueOf(FIRST_PRIME);
+        while (modulus.bitLength() <= boundBits) {
+            long p = prime.longValue();
+            for (int i = 0; i < values.length; i++) {
+                reduced[i] = values[i].mod(prime).longValue();
+            }
+            long residue = determinantModulo(reduced, n, p);
+
+            //extend the determinant modulo the product of the primes so far to one that is also right modulo p
+            long current = determinant.mod(prime).longValue();
+            long inverse = inverseModulo(modulus.mod(prime).longValue(), p);
+            long step = Math.floorMod(residue - current, p) * inverse % p;
+            determinant = determinant.add(modulus.multiply(BigInteger.valueOf(step)));
+            modulus = modulus.multiply(prime);
+            prime = prime.nextProbablePrime();
+        }
+
+        //choose the representative closest to zero, since the determinant may be negative
+        return (determinant.compareTo(modulus.shiftRight(1)) > 0) ? determinant.subtract(modulus) : determinant;
+    }
+
+    /**
+     * Computes the rank of a matrix of any size by fraction-free elimination
+     * @param <T> the type of data stored in the matrix
+     * @param matrix the matrix
+     * @param ring integral domain to compute operations
+     * @return the number of linearly independent rows of the matrix
+     */
+    public static <T> int rank(Matrix<T> matrix, IntegralDomain<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        int rows = matrix.size().row() + 1;
+        int columns = matrix.size().column() + 1;
+        T[] values = MatrixMap.toRowMajor(matrix);
+
+        bareiss(values, rows, columns, ring, false);
+        //the pivots are the leading entries of the nonzero rows, which come first
+        int rank = 0;
+        while (rank < rows && !isZeroRow(values, rank, columns, ring))
+            rank++;
+        return rank;
+    }
+
+    /**
+     * Computes the rank of an Integer matrix of any size over the integers, by fraction-free elimination in BigInteger
+     * @param matrix the matrix
+     * @param ring ring of the matrix values
+     * @return the number of linearly independent rows of the matrix
+     */
+    public static int rank(Matrix<Integer> matrix, IntegerRing ring) {
+        //ensure no null values
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        return rank(toBigIntegers(matrix), new BigIntegerRing());
+    }
+
+    /**
+     * Computes the rank of a Long matrix of any size over the integers, by fraction-free elimination in BigInteger
+     * @param matrix the matrix
+     * @param ring ring of the matrix values
+     * @return the number of linearly independent rows of the matrix
+     */
+    public static int rank(Matrix<Long> matrix, LongRing ring) {
+        //ensure no null values
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        return rank(toBigIntegers(matrix), new BigIntegerRing());
+    }
+
+    /**
+     * Computes the rank of a matrix of any size over a field by elimination
+     * @param <T> the type of data stored in the matrix
+     * @param matrix the matrix
+     * @param ring field to compute operations
+     * @return the number of linearly independent rows of the matrix
+     */
+    public static <T> int rank(Matrix<T> matrix, Field<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        int rows = matrix.size().row() + 1;
+        int columns = matrix.size().column() + 1;
+        T[] values = MatrixMap.toRowMajor(matrix);
+
+        gauss(values, rows, columns, ring, false);
+        int rank = 0;
+        while (rank < rows && !isZeroRow(values, rank, columns, ring))
+            rank++;
+        return rank;
+    }
+
+    /**
+     * Solves the linear system matrix * x = vector for x over a field
+     * @param <T> the type of data stored in the matrix
+     * @param matrix the square, nonsingular matrix of the system
+     * @param vector the right-hand side, with one value per row of the matrix
+     * @param ring field to compute operations
+     * @return the solution x, with one value per column of the matrix
+     */
+    public static <T> DenseVector<T> solve(Matrix<T> matrix, Vector<T> vector, Field<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(matrix, "matrix must not be null");
+        Objects.requireNonNull(vector, "vector must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure matrix is square and vector has one value per row
+        Matrix.NonSquareException.requireDiagonal(matrix.size());
+        int n = matrix.size().row() + 1;
+        if (vector.length() != n)
+            throw new IllegalArgumentException(new Matrix.InvalidLengthException(Matrix.InvalidLengthException.Cause.ROW, vector.length()));
+
+        //eliminate on the matrix augmented by the vector as its last column
+        int columns = n + 1;
+        T[] values = MatrixMap.newArray(n * columns);
+        for (int row = 0; row < n; row++) {
+            for (int column = 0; column < n; column++) {
+                values[row * columns + column] = matrix.value(row, column);
+            }
+            values[row * columns + n] = vector.value(row);
+        }
+
+        for (int pivot = 0; pivot < n; pivot++) {
+            int pivotRow = findPivot(values, n, columns, pivot, pivot, ring);
+            if (pivotRow < 0)
+                throw new ArithmeticException("matrix is singular");
+            swapRows(values, columns, pivot, pivotRow);
+
+            //scale the pivot row so the pivot is identity, then clear the column below it
+            T inverse = ring.inverse(values[pivot * columns + pivot]);
+            for (int column = pivot; column < columns; column++) {
+                values[pivot * columns + column] = ring.product(inverse, values[pivot * columns + column]);
+            }
+            for (int row = pivot + 1; row < n; row++) {
+                T factor = values[row * columns + pivot];
+                if (ring.isZero(factor))
+                    continue;
+                for (int column = pivot; column < columns; column++) {
+                    values[row * columns + column] = ring.difference(values[row * columns + column],
+                        ring.product(factor, values[pivot * columns + column]));
+                }
+            }
+        }
+
+        //back substitution on the unit upper triangular system
+        DenseVector<T> solution = DenseVector.empty(n);
+        for (int row = n - 1; row >= 0; row--) {
+            T x = values[row * columns + n];
+            for (int column = row + 1; column < n; column++) {
+                x = ring.difference(x, ring.product(values[row * columns + column], solution.value(column)));
+            }
+            solution.set(row, x);
+        }
+        return solution;
+    }
+
+    /**
+     * Helper method to copy a matrix of word-size integers into a BigInteger matrix, so elimination cannot overflow
+     * @param matrix the matrix to copy
+     * @return a MatrixMap of the same values as BigInteger
+     */
+    private static MatrixMap<BigInteger> toBigIntegers(Matrix<? extends Number> matrix) {
+        return MatrixMap.instance(matrix.size(),
+            (indexes) -> BigInteger.valueOf(Objects.requireNonNull(matrix.value(indexes), "matrix values must not be null").longValue()));
+    }
+
+    /**
+     * Helper method to reduce a row-major array to row echelon form in place by fraction-free elimination
+     * Every entry left in the array is a minor of the original matrix, so the last pivot of a square matrix is its determinant
+     * @param <T> the type of data stored in the array
+     * @param values the row-major array to reduce
+     * @param rows the number of rows of the array
+     * @param columns the number of columns of the array
+     * @param ring integral domain to compute operations
+     * @param stopOnSingular true to stop at the first column without a pivot, as for a determinant
+     * @return the number of row swaps made, or -1 if stopped on a column without a pivot
+     */
+    private static <T> int bareiss(T[] values, int rows, int columns, IntegralDomain<T> ring, boolean stopOnSingular) {
+        T previous = ring.identity();
+        int swaps = 0;
+        int pivotRow = 0;
+
+        for (int pivotColumn = 0; pivotColumn < columns && pivotRow < rows; pivotColumn++) {
+            int found = findPivot(values, rows, columns, pivotRow, pivotColumn, ring);
+            if (found < 0) {
+                if (stopOnSingular)
+                    return -1;
+                continue;
+            }
+            if (found != pivotRow) {
+                swapRows(values, columns, pivotRow, found);
+                swaps++;
+            }
+
+            T pivot = values[pivotRow * columns + pivotColumn];
+            for (int row = pivotRow + 1; row < rows; row++) {
+                T factor = values[row * columns + pivotColumn];
+                for (int column = pivotColumn + 1; column < columns; column++) {
+                    //(pivot * a[row][column] - a[row][pivotColumn] * a[pivotRow][column]) / previous pivot is exact
+                    T cross = ring.difference(ring.product(pivot, values[row * columns + column]),
+                        ring.product(factor, values[pivotRow * columns + column]));
+                    values[row * columns + column] = ring.exactQuotient(cross, previous);
+                }
+                values[row * columns + pivotColumn] = ring.zero();
+            }
+            previous = pivot;
+            pivotRow++;
+        }
+        return swaps;
+    }
+
+    /**
+     * Helper method to reduce a row-major array to row echelon form in place by elimination over a field
+     * @param <T> the type of data stored in the array
+     * @param values the row-major array to reduce
+     * @param rows the number of rows of the array
+     * @param columns the number of columns of the array
+     * @param ring field to compute operations
+     * @param stopOnSingular true to stop at the first column without a pivot, as for a determinant
+     * @return the product of the pivots, negated for an odd number of row swaps, or zero if stopped on a column without a pivot
+     */
+    private static <T> T gauss(T[] values, int rows, int columns, Field<T> ring, boolean stopOnSingular) {
+        T determinant = ring.identity();
+        int pivotRow = 0;
+
+        for (int pivotColumn = 0; pivotColumn < columns && pivotRow < rows; pivotColumn++) {
+            int found = findPivot(values, rows, columns, pivotRow, pivotColumn, ring);
+            if (found < 0) {
+                if (stopOnSingular)
+                    return ring.zero();
+                continue;
+            }
+            if (found != pivotRow) {
+                swapRows(values, columns, pivotRow, found);
+                determinant = ring.negate(determinant);
+            }
+
+            T pivot = values[pivotRow * columns + pivotColumn];
+            determinant = ring.product(determinant, pivot);
+            T inverse = ring.inverse(pivot);
+            for (int row = pivotRow + 1; row < rows; row++) {
+                T factor = values[row * columns + pivotColumn];
+                if (ring.isZero(factor))
+                    continue;
+                factor = ring.product(factor, inverse);
+                for (int column = pivotColumn + 1; column < columns; column++) {
+                    values[row * columns + column] = ring.difference(values[row * columns + column],
+                        ring.product(factor, values[pivotRow * columns + column]));
+                }
+                values[row * columns + pivotColumn] = ring.zero();
+            }
+            pivotRow++;
+        }
+        return determinant;
+    }
+
+    /**
+     * Helper method to compute the determinant of a row-major array modulo a prime by elimination in place
+     * @param values the row-major array of values reduced modulo p, which is overwritten
+     * @param n the number of rows and columns of the array
+     * @param p the prime modulus, below 2^31 so products of reduced values fit in a long
+     * @return the determinant modulo p
+     */
+    private static long determinantModulo(long[] values, int n, long p) {
+        long determinant = 1;
+
+        for (int pivotRow = 0; pivotRow < n; pivotRow++) {
+            int found = pivotRow;
+            while (found < n && values[found * n + pivotRow] == 0)
+                found++;
+            if (found == n)
+                return 0;
+            if (found != pivotRow) {
+                for (int column = pivotRow; column < n; column++) {
+                    long value = values[found * n + column];
+                    values[found * n + column] = values[pivotRow * n + column];
+                    values[pivotRow * n + column] = value;
+                }
+                determinant = p - determinant;
+            }
+
+            long pivot = values[pivotRow * n + pivotRow];
+            determinant = determinant * pivot % p;
+            long inverse = inverseModulo(pivot, p);
+            for (int row = pivotRow + 1; row < n; row++) {
+                long factor = values[row * n + pivotRow] * inverse % p;
+                if (factor == 0)
+                    continue;
+                //adding (p - factor) times the pivot row keeps every value non-negative
+                long negated = p - factor;
+                for (int column = pivotRow + 1; column < n; column++) {
+                    values[row * n + column] = (values[row * n + column] + negated * values[pivotRow * n + column]) % p;
+                }
+            }
+        }
+        return determinant;
+    }
+
+    /**
+     * Helper method to compute the inverse of a value modulo a prime by the extended Euclidean algorithm
+     * @param x the nonzero value, reduced modulo p
+     * @param p the prime modulus
+     * @return the value that multiplies with x to 1 modulo p
+     */
+    private static long inverseModulo(long x, long p) {
+        long r0 = p, r1 = x;
+        long t0 = 0, t1 = 1;
+
+        while (r1 != 0) {
+            long quotient = r0 / r1;
+            long r = r0 - quotient * r1;
+            r0 = r1;
+            r1 = r;
+            long t = t0 - quotient * t1;
+            t0 = t1;
+            t1 = t;
+        }
+        return Math.floorMod(t0, p);
+    }
+
+    /**
+     * Helper method to find the row at or below a given row to pivot on in a column
+     * The ring's isBetterPivot chooses among the nonzero values, which for exact rings keeps the first one found
+     * @param <T> the type of data stored in the array
+     * @param values the row-major array to search
+     * @param rows the number of rows of the array
+     * @param columns the number of columns of the array
+     * @param fromRow the first row to search
+     * @param column the column to search
+     * @param ring ring for the zero test and the choice of pivot
+     * @return the row found, or -1 if every value is zero
+     */
+    private static <T> int findPivot(T[] values, int rows, int columns, int fromRow, int column, IntegralDomain<T> ring) {
+        int found = -1;
+
+        for (int row = fromRow; row < rows; row++) {
+            T value = values[row * columns + column];
+            if (ring.isZero(value))
+                continue;
+            if (found < 0 || ring.isBetterPivot(value, values[found * columns + column]))
+                found = row;
+        }
+        return found;
+    }
+
+    /**
+     * Helper method to swap two rows of a row-major array in place
+     * @param <T> the type of data stored in the array
+     * @param values the row-major array
+     * @param columns the number of columns of the array
+     * @param first the first row to swap
+     * @param second the second row to swap
+     */
+    private static <T> void swapRows(T[] values, int columns, int first, int second) {
+        if (first == second)
+            return;
+
+        for (int column = 0; column < columns; column++) {
+            T value = values[first * columns + column];
+            values[first * columns + column] = values[second * columns + column];
+            values[second * columns + column] = value;
+        }
+    }
+
+    /**
+     * Helper method to check whether a row of a row-major array holds only zero
+     * @param <T> the type of data stored in the array
+     * @param values the row-major array
+     * @param row the row to check
+     * @param columns the number of columns of the array
+     * @param ring ring for the zero value
+     * @return true if every value of the row is zero
+     */
+    private static <T> boolean isZeroRow(T[] values, int row, int columns, IntegralDomain<T> ring) {
+        for (int column = 0; column < columns; column++) {
+            if (!ring.isZero(values[row * columns + column]))
+                return false;
+        }
+        return true;
+    }
+}
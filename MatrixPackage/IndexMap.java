@@ -0,0 +1,248 @@
+/**
+ * Class to represent a map from matrix indexes to values, keyed by the row and column packed into a long
+ * @author Ethan Tobey
+ */
+
+ //NOTE: keys and values are kept in parallel arrays probed linearly from a multiplicative hash of the packed key, so an
+ //entry costs a long and a reference instead of an Indexes record, a HashMap node and a boxed hash, and lookups allocate
+ //nothing. Entries are never removed, which keeps probing simple, so callers leave out zero values instead of deleting them
+package MatrixPackage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+final class IndexMap<T> {
+
+    /** marks a slot without an entry, which no packed key of nonnegative indexes can equal */
+    private static final long EMPTY = -1L;
+    /** odd constant of the multiplicative hash, 2^64 divided by the golden ratio */
+    private static final long HASH = 0x9E3779B97F4A7C15L;
+
+    /** packed keys of the slots, or EMPTY */
+    private long[] keys;
+    /** values of the slots */
+    private T[] values;
+    /** the number of entries */
+    private int size;
+    /** 64 - log2 of the number of slots, so the top bits of the hash pick a slot */
+    private int shift;
+
+    /**
+     * A constructor for IndexMap
+     * @param expectedSize the number of entries to make room for without growing
+     */
+    IndexMap(int expectedSize) {
+        //keep at most three quarters of the slots full
+        int least = (int) Math.max(2, Math.min(1 << 30, (4L * expectedSize + 2) / 3));
+        allocate(Integer.highestOneBit(2 * least - 1));
+    }
+
+    /**
+     * Packs a row and column into a key, rows in the high half so keys sort as Indexes do
+     * @param row the row, at least 0
+     * @param column the column, at least 0
+     * @return the packed key
+     */
+    static long key(int row, int column) {
+        return ((long) row << Integer.SIZE) | (column & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the row of a packed key
+     * @param key the packed key
+     * @return the row
+     */
+    static int row(long key) {
+        return (int) (key >>> Integer.SIZE);
+    }
+
+    /**
+     * Returns the column of a packed key
+     * @param key the packed key
+     * @return the column
+     */
+    static int column(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Returns the number of entries
+     * @return the number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value at the given row and column
+     * @param row the row of the entry
+     * @param column the column of the entry
+     * @return the value, or null if there is no entry
+     */
+    T get(int row, int column) {
+        if (row < 0 || column < 0)
+            return null;
+
+        long key = key(row, column);
+        for (int slot = slot(key); ; slot = (slot + 1) & (keys.length - 1)) {
+            if (keys[slot] == key)
+                return values[slot];
+            if (keys[slot] == EMPTY)
+                return null;
+        }
+    }
+
+    /**
+     * Returns whether there is an entry at the given row and column
+     * @param row the row of the entry
+     * @param column the column of the entry
+     * @return true if there is an entry, otherwise false
+     */
+    boolean containsKey(int row, int column) {
+        return get(row, column) != null;
+    }
+
+    /**
+     * Sets the value at the given row and column, replacing any value there
+     * @param row the row of the entry, at least 0
+     * @param column the column of the entry, at least 0
+     * @param value the value, not null
+     */
+    void put(int row, int column, T value) {
+        Objects.requireNonNull(value, "value must not be null");
+        if (row < 0 || column < 0)
+            throw new IndexOutOfBoundsException("indexes must not be negative");
+
+        int slot = find(key(row, column));
+        values[slot] = value;
+    }
+
+    /**
+     * Combines a value with the value at the given row and column, or sets it if there is none
+     * @param row the row of the entry, at least 0
+     * @param column the column of the entry, at least 0
+     * @param value the value, not null
+     * @param function function combining the old value with the new one
+     */
+    void merge(int row, int column, T value, BinaryOperator<T> function) {
+        Objects.requireNonNull(value, "value must not be null");
+        if (row < 0 || column < 0)
+            throw new IndexOutOfBoundsException("indexes must not be negative");
+
+        int slot = find(key(row, column));
+        values[slot] = (values[slot] == null) ? value : function.apply(values[slot], value);
+    }
+
+    /**
+     * Does the given work for every entry, in no particular order
+     * @param action the work to do on each entry
+     */
+    void forEach(Matrix.EntryConsumer<? super T> action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY)
+                action.accept(row(keys[slot]), column(keys[slot]), values[slot]);
+        }
+    }
+
+    /**
+     * Returns the packed keys of every entry in increasing order, which is row by row and column by column within a row
+     * @return new sorted array of the keys
+     */
+    long[] sortedKeys() {
+        long[] sorted = new long[size];
+
+        for (int slot = 0, i = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY)
+                sorted[i++] = keys[slot];
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Copies the entries into a HashMap, added row by row so its order is the same as if the entries were always kept there
+     * @return new HashMap of the entries
+     */
+    Map<Indexes, T> toMap() {
+        Map<Indexes, T> map = new HashMap<>();
+
+        for (long key : sortedKeys()) {
+            map.put(new Indexes(row(key), column(key)), get(row(key), column(key)));
+        }
+        return map;
+    }
+
+    /**
+     * Helper method to find the slot of a key, claiming an empty slot for it if it has no entry
+     * @param key the packed key
+     * @return the slot of the key
+     */
+    private int find(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & (keys.length - 1)) {
+            if (keys[slot] == key)
+                return slot;
+            if (keys[slot] == EMPTY) {
+                //grow before the table gets too full, then probe again in the larger table
+                if (4L * (size + 1) > 3L * keys.length) {
+                    grow();
+                    return find(key);
+                }
+                keys[slot] = key;
+                size++;
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Helper method to compute the first slot to probe for a key
+     * @param key the packed key
+     * @return the slot
+     */
+    private int slot(long key) {
+        return (int) (hash(key) >>> shift);
+    }
+
+    /**
+     * Returns the multiplicative hash of a packed key, whose top bits are the best spread
+     * @param key the packed key
+     * @return the hash
+     */
+    static long hash(long key) {
+        return key * HASH;
+    }
+
+    /**
+     * Helper method to double the number of slots, moving every entry
+     */
+    private void grow() {
+        long[] oldKeys = keys;
+        T[] oldValues = values;
+
+        allocate(2 * oldKeys.length);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & (keys.length - 1);
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Helper method to replace the slots with empty ones
+     * @param slots the number of slots, a power of two
+     */
+    private void allocate(int slots) {
+        keys = new long[slots];
+        Arrays.fill(keys, EMPTY);
+        values = MatrixMap.newArray(slots);
+        shift = Long.SIZE - Integer.numberOfTrailingZeros(slots);
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * Class to represent a rectangle of matrix indexes, visited row by row
+ * @author Ethan Tobey
+ */
+
+ //NOTE: the indexes are numbered by position, row by row, so a range is two longs and can be split exactly in half.
+ //forEach hands rows and columns to a callback without creating an Indexes, and the spliterator behind stream reports
+ //its exact size so parallel streams split it evenly instead of buffering it in growing batches like Stream.iterate
+package MatrixPackage;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class IndexRange {
+
+    /**
+     * Functional interface for work done on each index of a range
+     */
+    @FunctionalInterface
+    public interface IndexConsumer {
+        /**
+         * Does the work for one index
+         * @param row row of the index
+         * @param column column of the index
+         */
+        void accept(int row, int column);
+    }
+
+    /** first row of the range */
+    private final int firstRow;
+    /** first column of the range */
+    private final int firstColumn;
+    /** the number of rows of the range */
+    private final int rows;
+    /** the number of columns of the range */
+    private final int columns;
+
+    /**
+     * A private constructor for IndexRange
+     * @param firstRow first row of the range
+     * @param firstColumn first column of the range
+     * @param rows the number of rows
+     * @param columns the number of columns
+     */
+    private IndexRange(int firstRow, int firstColumn, int rows, int columns) {
+        this.firstRow = firstRow;
+        this.firstColumn = firstColumn;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * A builder method to return the range of all indexes from one index to another
+     * @param from the first index of the range
+     * @param to the last index of the range, at or after from in both row and column
+     * @return new IndexRange from from to to
+     */
+    public static IndexRange of(Indexes from, Indexes to) {
+        Objects.requireNonNull(from, "Indexes must not be null");
+        Objects.requireNonNull(to, "Indexes must not be null");
+        if (to.row() < from.row() - 1 || to.column() < from.column() - 1)
+            throw new IllegalArgumentException("range must not end before it starts");
+
+        return new IndexRange(from.row(), from.column(), to.row() - from.row() + 1, to.column() - from.column() + 1);
+    }
+
+    /**
+     * A builder method to return the range of all indexes of a matrix with the given rows and columns
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @return new IndexRange from (0,0) to (rows - 1, columns - 1)
+     */
+    public static IndexRange of(int rows, int columns) {
+        return of(new Indexes(0, 0), new Indexes(rows - 1, columns - 1));
+    }
+
+    /**
+     * Getter method for the number of rows
+     * @return the number of rows of the range
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Getter method for the number of columns
+     * @return the number of columns of the range
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of indexes
+     * @return rows times columns
+     */
+    public long size() {
+        return (long) rows * columns;
+    }
+
+    /**
+     * Does the given work for every index, row by row
+     * @param action the work to do on each row and column
+     */
+    public void forEach(IndexConsumer action) {
+        Objects.requireNonNull(action, "action must not be null");
+
+        for (int row = firstRow; row < firstRow + rows; row++) {
+            for (int column = firstColumn; column < firstColumn + columns; column++) {
+                action.accept(row, column);
+            }
+        }
+    }
+
+    /**
+     * Does the given work for the indexes at positions [from, to), where position 0 is the first index and positions count row by row
+     * @param from first position to visit
+     * @param to position to stop before, at most size()
+     * @param action the work to do on each row and column
+     */
+    public void forEach(long from, long to, IndexConsumer action) {
+        Objects.requireNonNull(action, "action must not be null");
+        if (from < 0 || to > size() || from > to)
+            throw new IndexOutOfBoundsException("positions " + from + " to " + to + " are not within " + size());
+        if (from == to)
+            return;
+
+        //walk the remaining columns of the first row, then whole rows
+        int row = firstRow + (int) (from / columns);
+        int column = firstColumn + (int) (from % columns);
+        for (long position = from; position < to; position++) {
+            action.accept(row, column);
+            if (++column == firstColumn + columns) {
+                column = firstColumn;
+                row++;
+            }
+        }
+    }
+
+    /**
+     * Returns a stream of the indexes, row by row
+     * @return the sized stream of indexes, which splits evenly when parallel
+     */
+    public Stream<Indexes> stream() {
+        return StreamSupport.stream(new IndexSpliterator(0, size()), false);
+    }
+
+    /**
+     * Overrides String representation of this IndexRange
+     * @return String representation of the first index and the number of rows and columns
+     */
+    @Override
+    public String toString() {
+        return "IndexRange [from=" + new Indexes(firstRow, firstColumn) + ", rows=" + rows + ", columns=" + columns + "]";
+    }
+
+    /**
+     * A class to define the spliterator over positions of the range
+     * The class is implemented as a nested class so it reads the bounds of its range
+     */
+    private final class IndexSpliterator implements Spliterator<Indexes> {
+        /** next position to visit */
+        private long position;
+        /** position to stop before */
+        private final long end;
+
+        /**
+         * Constructor to initialize a new spliterator over the given positions
+         * @param position first position to visit
+         * @param end position to stop before
+         */
+        private IndexSpliterator(long position, long end) {
+            this.position = position;
+            this.end = end;
+        }
+
+        /**
+         * Visits the next index, if any
+         * @param action the work to do on the index
+         * @return true if an index was visited, otherwise false
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super Indexes> action) {
+            Objects.requireNonNull(action, "action must not be null");
+            if (position >= end)
+                return false;
+
+            action.accept(new Indexes(firstRow + (int) (position / columns), firstColumn + (int) (position % columns)));
+            position++;
+            return true;
+        }
+
+        /**
+         * Visits every remaining index without dividing for each one
+         * @param action the work to do on each index
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super Indexes> action) {
+            Objects.requireNonNull(action, "action must not be null");
+
+            long from = position;
+            position = end;
+            forEach(from, end, (row, column) -> action.accept(new Indexes(row, column)));
+        }
+
+        /**
+         * Splits off the first half of the remaining indexes
+         * @return spliterator over the first half, or null if too few indexes remain
+         */
+        @Override
+        public Spliterator<Indexes> trySplit() {
+            long middle = (position + end) >>> 1;
+            if (middle <= position)
+                return null;
+
+            Spliterator<Indexes> prefix = new IndexSpliterator(position, middle);
+            position = middle;
+            return prefix;
+        }
+
+        /**
+         * Returns the exact number of remaining indexes
+         * @return the number of remaining indexes
+         */
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        /**
+         * Returns the characteristics of this spliterator
+         * @return the indexes are ordered, sorted, distinct, non null, immutable and the size is exact, also after splitting
+         */
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+        }
+
+        /**
+         * Returns the comparator of the sorted indexes
+         * @return null, as the indexes are in their natural order
+         */
+        @Override
+        public Comparator<? super Indexes> getComparator() {
+            return null;
+        }
+    }
+}
@@ -58,35 +58,13 @@ public record Indexes(int row, int column) implements Comparable<Indexes> {
      * Returns a stream of all indexes from first input to second input
      * @param from indexes to start stream from
      * @param to indexes to end stream at
-     * @return the stream of indexes
+     * @return the stream of indexes, row by row
      */
     public static Stream<Indexes> stream(Indexes from, Indexes to) {
         Objects.requireNonNull(from, "Indexes must not be null");
         Objects.requireNonNull(to, "Indexes must not be null");
 
-        return indexStream(from, to);
-    }
-
-    /**
-     * Helper method to generate stream of finite length from first input to second input
-     * @param from indexes to start stream from
-     * @param to indeses to end stream at
-     * @return the stream of indexes
-     */
-    private static Stream<Indexes> indexStream(Indexes from, Indexes to) {
-        return Stream.iterate(from, index -> {        //produces infinite long stream iterating through column
-            int nextCol = index.column() + 1;           //left -> right, then rows top -> bottom
-            int nextRow = index.row();
-
-            //if column reaches end of matrix, go back to front, increment row
-            if (nextCol > to.column()) {
-                nextCol = from.column();
-                nextRow++;
-            }
-
-            return new Indexes(nextRow, nextCol);
-        })
-        .limit(((to.row() - from.row() + 1) * (to.column() - from.column() + 1)));  //limits stream size to only outputs within bounds of "to" input
+        return IndexRange.of(from, to).stream();
     }
 
     /**
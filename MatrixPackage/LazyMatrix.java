@@ -0,0 +1,353 @@
+/**
+ * Class to represent a matrix whose values are computed by a function when first read
+ * @author Ethan Tobey
+ */
+
+ //NOTE: values are memoized in an IndexMap, or with a bounded cache in a direct-mapped table where a value replaces the
+ //one in its slot, so a huge implicitly defined matrix can be sampled without holding more than the cache. Sums,
+ //differences, negations, products and blocks are LazyMatrix too, so they compute only the values that are read
+package MatrixPackage;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import RingsPackage.Ring;
+import RingsPackage.RingWithNegation;
+
+public final class LazyMatrix<T> implements Matrix<T> {
+    /** marks a slot of the bounded cache without a value, which no packed key of nonnegative indexes can equal */
+    private static final long EMPTY = -1L;
+
+    /** size of the matrix */
+    private final Indexes size;
+    /** function computing the value at each index */
+    private final Function<Indexes, T> valueMapper;
+    /** the number of values the cache holds, or -1 if it holds every value read */
+    private final int cacheSize;
+    /** memoized values when the cache is unbounded, otherwise null */
+    private final IndexMap<T> memo;
+    /** packed keys of the slots of a bounded cache, otherwise null */
+    private final long[] cachedKeys;
+    /** values of the slots of a bounded cache, otherwise null */
+    private final T[] cachedValues;
+    /** 64 - log2 of the number of slots of a bounded cache */
+    private final int shift;
+
+    /**
+     * A private constructor for LazyMatrix
+     * @param size the size of the LazyMatrix
+     * @param valueMapper function computing the value at each index
+     * @param cacheSize the number of values to cache, 0 for none, or -1 to cache every value read
+     */
+    private LazyMatrix(Indexes size, Function<Indexes, T> valueMapper, int cacheSize) {
+        this.size = size;
+        this.valueMapper = valueMapper;
+        this.cacheSize = cacheSize;
+        //an unbounded cache starts small and grows with the values read
+        memo = (cacheSize < 0) ? new IndexMap<>(0) : null;
+        if (cacheSize > 0) {
+            //round up to a power of two so the top bits of the hash pick a slot
+            int slots = Math.max(2, Integer.highestOneBit(cacheSize - 1) << 1);
+            cachedKeys = new long[slots];
+            Arrays.fill(cachedKeys, EMPTY);
+            cachedValues = MatrixMap.newArray(slots);
+            shift = Long.SIZE - Integer.numberOfTrailingZeros(slots);
+        } else {
+            cachedKeys = null;
+            cachedValues = null;
+            shift = 0;
+        }
+    }
+
+    /**
+     * A builder method to return a new LazyMatrix that caches every value read
+     * @param <S> the type of data stored in the LazyMatrix
+     * @param rows the number of rows for the LazyMatrix
+     * @param columns the number of columns for the LazyMatrix
+     * @param valueMapper functional interface to define values of the LazyMatrix, called at most once per index when read
+     * from one thread, concurrent first reads of an index may each call it, so it must always return equal values
+     * @return new LazyMatrix of the given size
+     */
+    public static <S> LazyMatrix<S> instance(int rows, int columns, Function<Indexes, S> valueMapper) {
+        return instance(rows, columns, valueMapper, -1);
+    }
+
+    /**
+     * A builder method to return a new LazyMatrix that caches a bounded number of values
+     * A value read again after its slot was reused is computed again, so valueMapper must always return equal values
+     * @param <S> the type of data stored in the LazyMatrix
+     * @param rows the number of rows for the LazyMatrix
+     * @param columns the number of columns for the LazyMatrix
+     * @param valueMapper functional interface to define values of the LazyMatrix
+     * @param cacheSize the number of values to cache, rounded up to a power of two, 0 to cache nothing, or -1 to cache every value read
+     * @return new LazyMatrix of the given size
+     */
+    public static <S> LazyMatrix<S> instance(int rows, int columns, Function<Indexes, S> valueMapper, int cacheSize) {
+        //make sure inputs not null
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+        //require rows and columns to be greater than 0
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, rows);
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, columns);
+        if (cacheSize < -1 || cacheSize > 1 << 30)
+            throw new IllegalArgumentException("cacheSize must be from -1 to 2^30");
+
+        return new LazyMatrix<>(new Indexes(rows - 1, columns - 1), valueMapper, cacheSize);     //-1 to account for row/col # 0
+    }
+
+    /**
+     * A builder method to return a new LazyMatrix that caches every value read
+     * @param <S> the type of data stored in the LazyMatrix
+     * @param size the size for the LazyMatrix
+     * @param valueMapper functional interface to define values of the LazyMatrix, called at most once per index when read
+     * from one thread, concurrent first reads of an index may each call it, so it must always return equal values
+     * @return new LazyMatrix of the given size
+     */
+    public static <S> LazyMatrix<S> instance(Indexes size, Function<Indexes, S> valueMapper) {
+        //make sure inputs not null
+        Objects.requireNonNull(size, "size must not be null");
+
+        return instance(size.row() + 1, size.column() + 1, valueMapper);     //+ 1 to account for 0 row/col
+    }
+
+    /**
+     * Returns size field
+     * @return size field of this LazyMatrix
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Returns value in this LazyMatrix at given index, computing it if it is not cached
+     * @param indexes the index at which to retrieve value
+     * @return the value at the given index, or null if the index is outside the matrix
+     */
+    @Override
+    public T value(Indexes indexes) {
+        //ensure indexes not null
+        Objects.requireNonNull(indexes, "indexes must not be null");
+
+        return value(indexes.row(), indexes.column());
+    }
+
+    /**
+     * Returns value in this LazyMatrix at given row and column, computing it if it is not cached
+     * The value is computed without holding a lock, so values of other matrices can be read meanwhile. Threads that
+     * miss on the same index at once each compute it, and the cache keeps one of their equal results
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column, or null if it is outside the matrix
+     */
+    @Override
+    public T value(int row, int column) {
+        if (row < 0 || row > size.row() || column < 0 || column > size.column())
+            return null;
+
+        T cached = cached(row, column);
+        if (cached != null)
+            return cached;
+
+        T value = Objects.requireNonNull(valueMapper.apply(new Indexes(row, column)), "valueMapper must not return null");
+        return cache(row, column, value);
+    }
+
+    /**
+     * Returns the number of values held in the cache
+     * @return the number of cached values
+     */
+    public int cachedCount() {
+        if (memo != null) {
+            synchronized (memo) {
+                return memo.size();
+            }
+        }
+        if (cachedKeys == null)
+            return 0;
+
+        synchronized (cachedKeys) {
+            return (int) Arrays.stream(cachedKeys).filter((key) -> key != EMPTY).count();
+        }
+    }
+
+    /**
+     * Helper method to return a cached value
+     * @param row row of the value
+     * @param column column of the value
+     * @return the cached value, or null if it is not cached
+     */
+    private T cached(int row, int column) {
+        if (memo != null) {
+            synchronized (memo) {
+                return memo.get(row, column);
+            }
+        }
+        if (cachedKeys == null)
+            return null;
+
+        long key = IndexMap.key(row, column);
+        int slot = (int) (IndexMap.hash(key) >>> shift);
+        synchronized (cachedKeys) {
+            return (cachedKeys[slot] == key) ? cachedValues[slot] : null;
+        }
+    }
+
+    /**
+     * Helper method to cache a computed value, keeping the value of another thread that cached it first
+     * @param row row of the value
+     * @param column column of the value
+     * @param value the computed value
+     * @return the value now cached at the row and column, or the computed value if nothing is cached
+     */
+    private T cache(int row, int column, T value) {
+        if (memo != null) {
+            synchronized (memo) {
+                T cached = memo.get(row, column);
+                if (cached != null)
+                    return cached;
+                memo.put(row, column, value);
+                return value;
+            }
+        }
+        if (cachedKeys == null)
+            return value;
+
+        //a bounded cache replaces whatever value held the slot
+        long key = IndexMap.key(row, column);
+        int slot = (int) (IndexMap.hash(key) >>> shift);
+        synchronized (cachedKeys) {
+            cachedKeys[slot] = key;
+            cachedValues[slot] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns map representation of the matrix
+     * Every value is computed, so use value, row, column or block to sample a large matrix
+     * @return map of every value of the matrix
+     */
+    @Override
+    public Map<Indexes, T> getMap() {
+        return toMatrixMap().getMap();
+    }
+
+    /**
+     * Overrides String representation of this LazyMatrix
+     * No values are computed
+     * @return String representation of the size and the number of cached values
+     */
+    @Override
+    public String toString() {
+        return "LazyMatrix [size=" + size + ", cached=" + cachedCount() + "]";
+    }
+
+    /**
+     * Returns a LazyMatrix of the values from one index to another, reading them from this matrix
+     * The block caches nothing itself, so values it reads are cached only by this matrix
+     * @param from the first index of the block
+     * @param to the last index of the block
+     * @return LazyMatrix of the values of the block
+     */
+    public LazyMatrix<T> block(Indexes from, Indexes to) {
+        //ensure inputs not null
+        Objects.requireNonNull(from, "Indexes must not be null");
+        Objects.requireNonNull(to, "Indexes must not be null");
+        if (from.row() < 0 || from.column() < 0 || to.row() > size.row() || to.column() > size.column())
+            throw new IndexOutOfBoundsException("block " + from + " to " + to + " is not within " + size);
+
+        IndexRange range = IndexRange.of(from, to);
+        return instance(range.rows(), range.columns(), (indexes) -> value(from.row() + indexes.row(), from.column() + indexes.column()), 0);
+    }
+
+    /**
+     * Computes every value of this LazyMatrix into a MatrixMap
+     * @return MatrixMap of the values of this matrix
+     */
+    public MatrixMap<T> toMatrixMap() {
+        return MatrixMap.instance(size, (indexes) -> value(indexes.row(), indexes.column()));
+    }
+
+    /**
+     * Computes the sum of two matrices lazily
+     * @param other matrix to add to this
+     * @param ring ring to compute operations
+     * @return LazyMatrix whose values are the sums of the values of this and other, with the cache size of this
+     */
+    @Override
+    public Matrix<T> plus(Matrix<T> other, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        return derived(size, (indexes) -> ring.sum(value(indexes.row(), indexes.column()), other.value(indexes.row(), indexes.column())));
+    }
+
+    /**
+     * Computes the difference of two matrices lazily
+     * @param other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return LazyMatrix whose values are the differences of the values of this and other, with the cache size of this
+     */
+    @Override
+    public Matrix<T> minus(Matrix<T> other, RingWithNegation<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        return derived(size, (indexes) -> ring.difference(value(indexes.row(), indexes.column()), other.value(indexes.row(), indexes.column())));
+    }
+
+    /**
+     * Computes the additive inverse of this matrix lazily
+     * @param ring ring to compute operations
+     * @return LazyMatrix whose values are the negations of the values of this, with the cache size of this
+     */
+    @Override
+    public Matrix<T> negate(RingWithNegation<T> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        return derived(size, (indexes) -> ring.negate(value(indexes.row(), indexes.column())));
+    }
+
+    /**
+     * Computes the product of two matrices lazily
+     * Each value of the product reads one row of this and one column of other when it is first read,
+     * summing its products in increasing inner index
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @return LazyMatrix of the product of the two matrices, with the cache size of this
+     */
+    @Override
+    public Matrix<T> times(Matrix<T> other, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure columns of this match rows of other
+        Indexes productSize = InconsistentSizeException.requireInnerDimension(this, other);
+
+        return derived(productSize, (indexes) -> {
+            T sum = ring.zero();
+            for (int inner = 0; inner <= size.column(); inner++) {
+                sum = ring.sum(sum, ring.product(value(indexes.row(), inner), other.value(inner, indexes.column())));
+            }
+            return sum;
+        });
+    }
+
+    /**
+     * Helper method to return a LazyMatrix computed from this one, with the cache size of this
+     * @param size the size of the new matrix
+     * @param valueMapper function computing the value at each index
+     * @return new LazyMatrix
+     */
+    private LazyMatrix<T> derived(Indexes size, Function<Indexes, T> valueMapper) {
+        return new LazyMatrix<>(size, valueMapper, cacheSize);
+    }
+}
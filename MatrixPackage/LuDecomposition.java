@@ -0,0 +1,152 @@
+/**
+ * Class to represent the LU decomposition with partial pivoting of a square matrix of primitive doubles
+ * @author Ethan Tobey
+ */
+
+ //NOTE: the decomposition P * A = L * U is computed in place in one row-major double[], with the unit lower triangle L
+ //stored below the diagonal and U on and above it. Each column is pivoted on the value of largest magnitude below the
+ //diagonal, which keeps the multipliers of L at most 1 and bounds the growth of rounding error
+package MatrixPackage;
+
+import java.util.Objects;
+
+public final class LuDecomposition {
+    /** L below the diagonal and U on and above it, in row-major order */
+    private final double[] lu;
+    /** row of the original matrix held by each row of the decomposition */
+    private final int[] pivots;
+    /** the number of rows and columns of the matrix */
+    private final int size;
+    /** 1 for an even number of row swaps, -1 for an odd number */
+    private final int sign;
+
+    /**
+     * A private constructor for LuDecomposition
+     * @param lu the decomposed values, not copied
+     * @param pivots the row permutation, not copied
+     * @param size the number of rows and columns of the matrix
+     * @param sign the sign of the row permutation
+     */
+    private LuDecomposition(double[] lu, int[] pivots, int size, int sign) {
+        this.lu = lu;
+        this.pivots = pivots;
+        this.size = size;
+        this.sign = sign;
+    }
+
+    /**
+     * Helper method to decompose a square row-major array in place
+     * @param values the row-major array, which is overwritten by the decomposition
+     * @param size the number of rows and columns of the array
+     * @return the decomposition of the array
+     */
+    static LuDecomposition decompose(double[] values, int size) {
+        int[] pivots = new int[size];
+        int sign = 1;
+        for (int row = 0; row < size; row++) {
+            pivots[row] = row;
+        }
+
+        for (int column = 0; column < size; column++) {
+            //choose the value of largest magnitude on or below the diagonal
+            int pivot = column;
+            for (int row = column + 1; row < size; row++) {
+                if (Math.abs(values[row * size + column]) > Math.abs(values[pivot * size + column]))
+                    pivot = row;
+            }
+            if (pivot != column) {
+                for (int j = 0; j < size; j++) {
+                    double value = values[pivot * size + j];
+                    values[pivot * size + j] = values[column * size + j];
+                    values[column * size + j] = value;
+                }
+                int row = pivots[pivot];
+                pivots[pivot] = pivots[column];
+                pivots[column] = row;
+                sign = -sign;
+            }
+
+            double diagonal = values[column * size + column];
+            //a column of zeros is left as it is, the matrix is singular
+            if (diagonal == 0)
+                continue;
+            for (int row = column + 1; row < size; row++) {
+                double multiplier = values[row * size + column] / diagonal;
+                values[row * size + column] = multiplier;
+                if (multiplier == 0)
+                    continue;
+                for (int j = column + 1; j < size; j++) {
+                    values[row * size + j] -= multiplier * values[column * size + j];
+                }
+            }
+        }
+        return new LuDecomposition(values, pivots, size, sign);
+    }
+
+    /**
+     * Returns the number of rows and columns of the decomposed matrix
+     * @return the size of the decomposed matrix
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the decomposed matrix is singular, which is when U has a zero on its diagonal
+     * @return true if the matrix is singular
+     */
+    public boolean isSingular() {
+        for (int i = 0; i < size; i++) {
+            if (lu[i * size + i] == 0)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Computes the determinant of the decomposed matrix as the signed product of the diagonal of U
+     * @return the determinant of the matrix
+     */
+    public double determinant() {
+        double determinant = sign;
+
+        for (int i = 0; i < size; i++) {
+            determinant *= lu[i * size + i];
+        }
+        return determinant;
+    }
+
+    /**
+     * Solves the linear system A * x = vector for x, where A is the decomposed matrix
+     * The decomposition is reused, so each further right-hand side costs only two triangular solves
+     * @param vector the right-hand side, with one value per row of the matrix
+     * @return the solution x
+     */
+    public double[] solve(double[] vector) {
+        //ensure no null values
+        Objects.requireNonNull(vector, "vector must not be null");
+        if (vector.length != size)
+            throw new IllegalArgumentException(new Matrix.InvalidLengthException(Matrix.InvalidLengthException.Cause.ROW, vector.length));
+        if (isSingular())
+            throw new ArithmeticException("matrix is singular");
+
+        //forward substitution with L on the permuted vector
+        double[] x = new double[size];
+        for (int row = 0; row < size; row++) {
+            double sum = vector[pivots[row]];
+            for (int column = 0; column < row; column++) {
+                sum -= lu[row * size + column] * x[column];
+            }
+            x[row] = sum;
+        }
+        //back substitution with U
+        for (int row = size - 1; row >= 0; row--) {
+            double sum = x[row];
+            for (int column = row + 1; column < size; column++) {
+                sum -= lu[row * size + column] * x[column];
+            }
+            x[row] = sum / lu[row * size + row];
+        }
+        return x;
+    }
+}
@@ -4,12 +4,32 @@
  */
 package MatrixPackage;
 
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.IntFunction;
 import RingsPackage.Ring;
+import RingsPackage.RingWithNegation;
 
 
 public interface Matrix<T> {
+
+    /**
+     * Functional interface for work done on each entry of a matrix
+     * @param <S> the type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<S> {
+        /**
+         * Does the work for one entry
+         * @param row row of the entry
+         * @param column column of the entry
+         * @param value value of the entry
+         */
+        void accept(int row, int column, S value);
+    }
+
     /**
      * Returns the value at given index
      * @param indexes the index at which to retrieve value
@@ -17,6 +37,96 @@ public interface Matrix<T> {
      */
     public T value (Indexes indexes);
 
+    /**
+     * Returns the value at given row and column
+     * This default creates an Indexes, implementations override it to read their storage directly
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column, or null if it is outside the matrix
+     */
+    public default T value(int row, int column) {
+        return value(new Indexes(row, column));
+    }
+
+    /**
+     * Returns an iterator over the values of a row, from column 0 to the last column
+     * The values are read as the iterator advances, nothing is copied
+     * @param row the row to iterate over
+     * @return iterator over the values of the row
+     */
+    public default Iterator<T> row(int row) {
+        if (row < 0 || row > size().row())
+            throw new IndexOutOfBoundsException(row);
+
+        return line(size().column() + 1, (column) -> value(row, column));
+    }
+
+    /**
+     * Returns an iterator over the values of a column, from row 0 to the last row
+     * The values are read as the iterator advances, nothing is copied
+     * @param column the column to iterate over
+     * @return iterator over the values of the column
+     */
+    public default Iterator<T> column(int column) {
+        if (column < 0 || column > size().column())
+            throw new IndexOutOfBoundsException(column);
+
+        return line(size().row() + 1, (row) -> value(row, column));
+    }
+
+    /**
+     * Does the given work for every value of the matrix that is not the ring's zero, without copying them
+     * This default reads every value row by row, dense and sparse implementations override it to read their storage directly
+     * @param action the work to do on each row, column and value
+     * @param ring ring for the zero value
+     */
+    public default void forEachNonZero(EntryConsumer<? super T> action, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(action, "action must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        T zero = ring.zero();
+        IndexRange.of(size().row() + 1, size().column() + 1).forEach((row, column) -> {
+            T value = value(row, column);
+            if (!zero.equals(value))
+                action.accept(row, column, value);
+        });
+    }
+
+    /**
+     * Helper method to return an iterator over positions of a row or column
+     * @param length the number of positions
+     * @param values function returning the value at each position
+     * @return iterator over the values at positions 0 to length - 1
+     */
+    private Iterator<T> line(int length, IntFunction<T> values) {
+        return new Iterator<T>() {
+            /** next position to return */
+            private int position;
+
+            /**
+             * Returns whether positions remain
+             * @return true if there is a next value, otherwise false
+             */
+            @Override
+            public boolean hasNext() {
+                return position < length;
+            }
+
+            /**
+             * Returns the value at the next position
+             * @return the next value
+             */
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                return values.apply(position++);
+            }
+        };
+    }
+
     /**
      * Returns the map representation of the matrix
      * @return the map storing the matrix values
@@ -38,13 +148,75 @@ public interface Matrix<T> {
     public Matrix<T> plus(Matrix<T> other, Ring<T> ring);
 
     /**
-     * Computes multiplication of two square matrices
+     * Computes difference of this matrix and another
+     * This default adds the negation of other, implementations override it to subtract directly
+     * @param other the other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this matrix minus other
+     */
+    public default Matrix<T> minus(Matrix<T> other, RingWithNegation<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        return plus(other.negate(ring), ring);
+    }
+
+    /**
+     * Computes the additive inverse of this matrix
+     * This default reads every value of the matrix, implementations override it to visit only stored values
+     * @param ring ring to compute operations
+     * @return the matrix whose values are the negations of the values of this
+     */
+    public default Matrix<T> negate(RingWithNegation<T> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        return MatrixMap.instance(size(), (indexes) -> ring.negate(value(indexes)));
+    }
+
+    /**
+     * Computes multiplication of two matrices, where the columns of this match the rows of other
      * @param other other matrix to multiply by this
      * @param ring ring to compute operations
      * @return the product of the two matrices
      */
     public Matrix<T> times(Matrix<T> other, Ring<T> ring);
 
+    /**
+     * Computes the product of this matrix with a column vector
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param ring ring to compute operations
+     * @return the product, with one value per row of this matrix
+     */
+    public default DenseVector<T> times(Vector<T> vector, Ring<T> ring) {
+        return times(vector, ring, DenseVector.empty(size().row() + 1));     //+ 1 to account for 0 row
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector into a destination vector
+     * Every value of the destination is overwritten, so one destination can be reused for repeated products
+     * This default reads every value of the matrix, implementations override it to visit only stored values
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param ring ring to compute operations
+     * @param destination vector to store the product in, with one value per row of this matrix
+     * @return the destination, holding the product
+     */
+    public default DenseVector<T> times(Vector<T> vector, Ring<T> ring, DenseVector<T> destination) {
+        //ensure no null values
+        Objects.requireNonNull(ring, "Ring must not be null");
+        DenseVector.requireProduct(size(), vector, destination);
+
+        for (int row = 0; row <= size().row(); row++) {
+            T sum = ring.zero();
+            for (int column = 0; column <= size().column(); column++) {
+                sum = ring.sum(sum, ring.product(value(row, column), vector.value(column)));
+            }
+            destination.set(row, sum);
+        }
+        return destination;
+    }
+
 
     /**
      * A class to define exception for an invalid length input for a matrix
@@ -148,6 +320,26 @@ public interface Matrix<T> {
             return thisMatrix.size();
         }
 
+        /**
+         * Throws InconsistentSizeException if the columns of the first matrix do not match the rows of the second,
+         * so the first matrix cannot be multiplied by the second
+         * @param <T> the type of data stored in the matrices
+         * @param thisMatrix the left matrix of the product
+         * @param otherMatrix the right matrix of the product
+         * @return the size of the product of the matrices if the inner dimensions matched
+         */
+        public static <T> Indexes requireInnerDimension(Matrix<T> thisMatrix, Matrix<T> otherMatrix) {
+            //require inputs non null
+            Objects.requireNonNull(thisMatrix, "thisMatrix must not be null");
+            Objects.requireNonNull(otherMatrix, "otherMatrix must not be null");
+            //if columns of this do not match rows of other, throw IllegalArgumentException caused by InconsistentSizeException
+            if (thisMatrix.size().column() != otherMatrix.size().row())
+                throw new IllegalArgumentException(new InconsistentSizeException(thisMatrix.size(), otherMatrix.size()));
+
+            //throw no error and return size of the product, rows of this by columns of other
+            return new Indexes(thisMatrix.size().row(), otherMatrix.size().column());
+        }
+
         /**
          * Getter method for thisIndexes
          * @return thisIndexes field
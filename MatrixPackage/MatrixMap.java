@@ -4,30 +4,28 @@
  */
 package MatrixPackage;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import RingsPackage.*;
 
 public final class MatrixMap<T> implements Matrix<T> {
-    /** stores a map to represent the matrix */
-    private final Map<Indexes, T> matrix;
+    /** stores a map keyed by packed indexes to represent the matrix */
+    private final IndexMap<T> matrix;
     /** stores size of the matrix */
     private final Indexes size;
+    /** map view of the matrix, built by the first call to getMap */
+    private Map<Indexes, T> map;
 
     /**
      * A private constructor for MatrixMap
-     * @param matrix map of coefficients and indexes to construct matrix from
+     * @param matrix map of coefficients and indexes to construct matrix from, with a value at every index up to size
+     * @param size the size of the MatrixMap
      */
-    private MatrixMap(Map<Indexes, T> matrix) {
+    private MatrixMap(IndexMap<T> matrix, Indexes size) {
         this.matrix = matrix;
-        List<Indexes> keyList = new ArrayList<>(matrix.keySet());
-        size =  Collections.max(keyList, Indexes::compareTo);       //compute size on initialization instead of during runtime
+        this.size = size;
     }
 
     /**
@@ -45,7 +43,10 @@ public final class MatrixMap<T> implements Matrix<T> {
      */
     @Override
     public Map<Indexes, T> getMap() {
-        return Map.copyOf(matrix);
+        //the view is immutable, so a race at most builds it twice
+        if (map == null)
+            map = Map.copyOf(matrix.toMap());
+        return map;
     }
 
     /**
@@ -54,7 +55,7 @@ public final class MatrixMap<T> implements Matrix<T> {
      */
     @Override
     public String toString() {
-        return "MatrixMap [matrix=" + matrix + "]";
+        return "MatrixMap [matrix=" + matrix.toMap() + "]";
     }
 
     /**
@@ -67,7 +68,7 @@ public final class MatrixMap<T> implements Matrix<T> {
         //ensure indexes not null
         Objects.requireNonNull(indexes, "indexes must not be null");
 
-        return matrix.get(indexes);
+        return matrix.get(indexes.row(), indexes.column());
     }
 
 
@@ -75,14 +76,29 @@ public final class MatrixMap<T> implements Matrix<T> {
      * Returns value in this MatrixMap at given row and column
      * @param row row at which to retreive value
      * @param column column at which to retrieve value
-     * @return the value at the given row and column
+     * @return the value at the given row and column, or null if it is outside the matrix
      */
+    @Override
     public T value(int row, int column) {
-        //ensure row and column inputs are valid
-        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, row);
-        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, column);
+        return matrix.get(row, column);
+    }
 
-        return value(new Indexes(row, column));
+    /**
+     * Does the given work for every value of this MatrixMap that is not the ring's zero, in no particular order
+     * @param action the work to do on each row, column and value
+     * @param ring ring for the zero value
+     */
+    @Override
+    public void forEachNonZero(EntryConsumer<? super T> action, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(action, "action must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        T zero = ring.zero();
+        matrix.forEach((row, column, value) -> {
+            if (!zero.equals(value))
+                action.accept(row, column, value);
+        });
     }
 
     /**
@@ -96,23 +112,63 @@ public final class MatrixMap<T> implements Matrix<T> {
      * @return new MatrixMap built based on the inputs
      */
     public static <S> MatrixMap<S> instance(int rows, int columns, Function<Indexes, S> valueMapper)   {
+        return instance(rows, columns, valueMapper, null);
+    }
+
+    /**
+     * A builder method to return a new instance of MatrixMap, evaluating the values of rows in parallel in the given pool
+     * The result is the same as the sequential builder, so valueMapper must be thread-safe when a pool is given
+     * @param <S> the type of data stored in the MatrixMap
+     * @param rows the number of rows for the MatrixMap
+     * @param columns the number of columns for the MatrixMap
+     * @param valueMapper functional interface to define values of the MatrixMap
+     * @param pool pool to evaluate rows of values in, or null to evaluate sequentially
+     * @return new MatrixMap built based on the inputs
+     */
+    public static <S> MatrixMap<S> instance(int rows, int columns, Function<Indexes, S> valueMapper, ForkJoinPool pool)   {
         //make sure inputs not null
         Objects.requireNonNull(valueMapper, "valueMapper must not be null");
         //require rows and columns to be greater than 0
         InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, rows);
         InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, columns);
 
-        //generate list of indexes from rows and column sizes
-        List<Indexes> indexList = Indexes.stream(rows, columns).collect(Collectors.toList());
+        //range of indexes from rows and column sizes
+        IndexRange range = IndexRange.of(rows, columns);
         //map to hold indexes and values
-        Map<Indexes, S> map = new HashMap<>();
+        IndexMap<S> map = new IndexMap<>((int) Math.min(range.size(), Integer.MAX_VALUE));
 
         //add indexes and associated values to the map
-        for (Indexes index : indexList) {
-            map.put(index, valueMapper.apply(index));
+        if (pool == null) {
+            range.forEach((row, column) -> map.put(row, column, valueMapper.apply(new Indexes(row, column))));
+        } else {
+            S[] values = evaluate(rows, columns, valueMapper, pool);
+            range.forEach((row, column) -> map.put(row, column, values[row * columns + column]));
         }
 
-        return new MatrixMap<>(map);   //returning copy
+        return new MatrixMap<>(map, new Indexes(rows - 1, columns - 1));   //-1 to account for row/col # 0
+    }
+
+    /**
+     * Helper method to evaluate a value mapper at every index into a row-major array, computing rows in parallel in the given pool
+     * Each task writes only the slots of its own rows, so the array needs no locking
+     * @param <S> the type of the values
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param valueMapper functional interface to define the values
+     * @param pool pool to evaluate rows of values in, or null to evaluate sequentially
+     * @return row-major array of the values
+     */
+    static <S> S[] evaluate(int rows, int columns, Function<Indexes, S> valueMapper, ForkJoinPool pool) {
+        S[] values = newArray(Math.multiplyExact(rows, columns));
+
+        ParallelRows.compute(pool, 0, rows, ParallelRows.grain(pool, rows, Integer.MAX_VALUE), (rowFrom, rowTo) -> {
+            for (int row = rowFrom; row < rowTo; row++) {
+                for (int column = 0; column < columns; column++) {
+                    values[row * columns + column] = valueMapper.apply(new Indexes(row, column));
+                }
+            }
+        });
+        return values;
     }
 
     /**
@@ -210,6 +266,41 @@ public final class MatrixMap<T> implements Matrix<T> {
         return MatrixMap.instance(size(), (indexes) -> ring.sum(value(indexes), other.value(indexes)));  //applies sum input by BinaryOperator
     }
     
+    /**
+     * Computes the difference of two matrices
+     * Values are subtracted entry by entry over the map of this matrix
+     * @param other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this matrix minus other
+     */
+    @Override
+    public Matrix<T> minus(Matrix<T> other, RingWithNegation<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        IndexMap<T> map = new IndexMap<>(matrix.size());
+        matrix.forEach((row, column, value) -> map.put(row, column, ring.difference(value, other.value(row, column))));
+        return new MatrixMap<>(map, size());
+    }
+
+    /**
+     * Computes the additive inverse of this matrix
+     * @param ring ring to compute operations
+     * @return the matrix whose values are the negations of the values of this
+     */
+    @Override
+    public Matrix<T> negate(RingWithNegation<T> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        IndexMap<T> map = new IndexMap<>(matrix.size());
+        matrix.forEach((row, column, value) -> map.put(row, column, ring.negate(value)));
+        return new MatrixMap<>(map, size());
+    }
+
     /**
      * Computes the product of two matrices
      * @param other matrix to multiply by this
@@ -218,33 +309,88 @@ public final class MatrixMap<T> implements Matrix<T> {
      */
     @Override
     public Matrix<T> times(Matrix<T> other, Ring<T> ring) {
+        return times(other, ring, TiledMultiplier.defaults());
+    }
+
+    /**
+     * Computes the product of two matrices using the given tiled multiplier
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @param multiplier multiplier that defines the block sizes
+     * @return the product of the two matrices
+     */
+    public Matrix<T> times(Matrix<T> other, Ring<T> ring, TiledMultiplier multiplier) {
         //ensure no null values
         Objects.requireNonNull(other, "Input matrix must not be null");
         Objects.requireNonNull(ring, "Ring must not be null");
-        //ensure sizes match and is square
-        InconsistentSizeException.requireMatchingSize(this, other);
-        NonSquareException.requireDiagonal(this.size());
+        Objects.requireNonNull(multiplier, "multiplier must not be null");
+        //ensure columns of this match rows of other
+        Indexes productSize = InconsistentSizeException.requireInnerDimension(this, other);
+
+        //copy both matrices into row-major arrays once so the multiplication does no map lookups
+        int m = productSize.row() + 1;          //+ 1 to account for 0 row/col
+        int k = size().column() + 1;
+        int n = productSize.column() + 1;
+        T[] product = newArray(m * n);
+        multiplier.multiply(toRowMajor(this), toRowMajor(other), product, m, k, n, ring);
 
-        //return new matrix, with entreis defined as product of cols * rows
-        return MatrixMap.instance(size(), (indexes) -> productAtIndex(other, ring, indexes));
+        //return new matrix, with entries defined as product of cols * rows
+        return MatrixMap.instance(productSize, (indexes) -> product[indexes.row() * n + indexes.column()]);
     }
 
     /**
-     * Helper method to calculate the produt at a given index in matrix multiplication
-     * @param other other matrix to multiply wiht
+     * Computes the product of two matrices using the given Strassen-Winograd multiplier
+     * Fewer ring products are computed than by the classical product, at the cost of more sums and differences
+     * @param other matrix to multiply by this
      * @param ring ring to compute operations
-     * @param indexes index for which to compute product
-     * @return the product at given index
+     * @param multiplier multiplier that defines the cutoff to the classical product
+     * @return the product of the two matrices
+     */
+    public Matrix<T> times(Matrix<T> other, RingWithNegation<T> ring, StrassenMultiplier multiplier) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        Objects.requireNonNull(multiplier, "multiplier must not be null");
+        //ensure columns of this match rows of other
+        Indexes productSize = InconsistentSizeException.requireInnerDimension(this, other);
+
+        int m = productSize.row() + 1;          //+ 1 to account for 0 row/col
+        int k = size().column() + 1;
+        int n = productSize.column() + 1;
+        T[] product = newArray(m * n);
+        multiplier.multiply(toRowMajor(this), toRowMajor(other), product, m, k, n, ring);
+
+        return MatrixMap.instance(productSize, (indexes) -> product[indexes.row() * n + indexes.column()]);
+    }
+
+    /**
+     * Helper method to copy the values of a matrix into a row-major array
+     * @param <S> the type of data stored in the matrix
+     * @param matrix the matrix to copy
+     * @return row-major array of the values of the matrix
      */
-    private T productAtIndex(Matrix<T> other, Ring<T> ring, Indexes indexes) {        
-        //a list to hold the products from the iterations
-        List<T> productsList = new ArrayList<>();
-        //multiply row * column from entry 0 to entry n
-        for (int i = 0; i <= this.size().row(); i++) {
-            productsList.add(ring.product(this.value(new Indexes(indexes.row(), i)), other.value(new Indexes(i, indexes.column()))));
+    static <S> S[] toRowMajor(Matrix<S> matrix) {
+        int rows = matrix.size().row() + 1;
+        int columns = matrix.size().column() + 1;
+        S[] values = newArray(rows * columns);
+
+        for (int row = 0, i = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++, i++) {
+                values[i] = matrix.value(row, column);
+            }
         }
-        //return sum of all products
-        return Rings.sum(productsList, ring);
+        return values;
+    }
+
+    /**
+     * Helper method to create an array of a generic type
+     * @param <S> the type of data stored in the array
+     * @param length the length of the array
+     * @return new array of the given length
+     */
+    @SuppressWarnings("unchecked")
+    static <S> S[] newArray(int length) {
+        return (S[]) new Object[length];
     }
 
     /**
@@ -253,6 +399,6 @@ public final class MatrixMap<T> implements Matrix<T> {
      * @return SparseMatrix representation of this MatrixMap
      */
     public SparseMatrix<T> toSparseMatrix(Ring<T> ring) {
-        return SparseMatrix.instance(size(), (indexes) -> value(indexes), ring);
+        return SparseMatrix.from(matrix, size(), ring);
     }
 }
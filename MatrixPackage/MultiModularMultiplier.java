@@ -0,0 +1,325 @@
+/**
+ * Class to compute products of BigInteger matrices by multi-modular arithmetic
+ * @author Ethan Tobey
+ */
+
+ //NOTE: the operands are reduced modulo several primes just above 2^27, each reduced product is computed on primitive longs,
+ //and every entry is reconstructed by the Chinese remainder theorem in mixed radix (Garner's form). Products of residues
+ //below 2^28 fit in 56 bits, so the long kernel adds up to BATCH of them before taking one remainder. By Cauchy-Schwarz
+ //every entry of the product is at most the largest row length of a times the largest column length of b, so just enough
+ //primes are taken for their product to exceed twice that bound. No BigInteger is multiplied until the reconstruction,
+ //which costs one pass over the product per prime instead of one BigInteger product per term.
+ //With a pool, the products modulo each prime and then the reconstruction of ranges of rows run in parallel
+package MatrixPackage;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+public final class MultiModularMultiplier {
+    /** the first prime, just above 2^27, the primes after it stay below 2^28 */
+    private static final long FIRST_PRIME = 134217757L;
+    /** number of products of residues below 2^28 that can be added to a residue without overflowing a long */
+    private static final int BATCH = 127;
+
+    /** shared sequential multiplier */
+    private static final MultiModularMultiplier DEFAULTS = new MultiModularMultiplier(null);
+
+    /** pool to compute the products modulo each prime in parallel, or null to compute sequentially */
+    private final ForkJoinPool pool;
+
+    /**
+     * A private constructor for MultiModularMultiplier
+     * @param pool pool to compute in, or null to compute sequentially
+     */
+    private MultiModularMultiplier(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the sequential MultiModularMultiplier
+     * @return the default MultiModularMultiplier
+     */
+    public static MultiModularMultiplier defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a MultiModularMultiplier that computes the products modulo each prime in parallel in the given pool
+     * @param pool the pool to run in
+     * @return a parallel MultiModularMultiplier
+     */
+    public MultiModularMultiplier withPool(ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool must not be null");
+
+        return new MultiModularMultiplier(pool);
+    }
+
+    /**
+     * Returns a MultiModularMultiplier that computes in parallel in a new pool
+     * The caller owns the new pool and shuts it down through getPool once done, or passes a shared pool to withPool instead
+     * @param parallelism the number of threads of the new pool
+     * @return a parallel MultiModularMultiplier
+     */
+    public MultiModularMultiplier withParallelism(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be positive");
+
+        return withPool(new ForkJoinPool(parallelism));
+    }
+
+    /**
+     * Returns a MultiModularMultiplier that computes sequentially
+     * @return the sequential MultiModularMultiplier
+     */
+    public MultiModularMultiplier sequential() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Getter method for the pool
+     * @return the pool products are computed in, or null if this multiplier is sequential
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Computes the product of two BigInteger matrices, where the columns of left match the rows of right
+     * @param left the left matrix of the product
+     * @param right the right matrix of the product
+     * @return the product of the two matrices
+     */
+    public Matrix<BigInteger> times(Matrix<BigInteger> left, Matrix<BigInteger> right) {
+        //ensure no null values
+        Objects.requireNonNull(left, "Input matrix must not be null");
+        Objects.requireNonNull(right, "Input matrix must not be null");
+        //ensure columns of left match rows of right
+        Indexes productSize = Matrix.InconsistentSizeException.requireInnerDimension(left, right);
+
+        int m = productSize.row() + 1;
+        int k = left.size().column() + 1;
+        int n = productSize.column() + 1;
+        BigInteger[] product = new BigInteger[m * n];
+        multiply(toArray(left), toArray(right), product, m, k, n);
+
+        return MatrixMap.instance(productSize, (indexes) -> product[indexes.row() * n + indexes.column()]);
+    }
+
+    /**
+     * Computes c += a * b for row-major BigInteger arrays
+     * Entries of c that are null are treated as empty, so the product is stored into them directly
+     * @param a the m x k left operand
+     * @param b the k x n right operand
+     * @param c the m x n array to accumulate the product into
+     * @param m the number of rows of a and c
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     */
+    public void multiply(BigInteger[] a, BigInteger[] b, BigInteger[] c, int m, int k, int n) {
+        if (a.length != (long) m * k || b.length != (long) k * n || c.length != (long) m * n)
+            throw new IllegalArgumentException("array lengths do not match dimensions " + m + "x" + k + " and " + k + "x" + n);
+
+        long[] primes = primes(boundBits(a, b, m, k, n) + 1);
+        long[][] residues = new long[primes.length][];
+
+        //the magnitudes are split into bytes once, then reduced modulo each prime 32 bits at a time
+        byte[][] aBytes = magnitudes(a);
+        byte[][] bBytes = magnitudes(b);
+        //the product modulo each prime, each computed sequentially
+        ParallelRows.compute(pool, 0, primes.length, 1, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                residues[i] = new long[m * n];
+                multiplyModulo(reduce(a, aBytes, primes[i]), reduce(b, bBytes, primes[i]), residues[i], m, k, n, primes[i]);
+            }
+        });
+
+        //inverse of the product of the primes before each prime, modulo that prime
+        long[] inverses = new long[primes.length];
+        BigInteger modulus = BigInteger.ONE;
+        for (int i = 0; i < primes.length; i++) {
+            BigInteger prime = BigInteger.valueOf(primes[i]);
+            inverses[i] = (i == 0) ? 1 : modulus.mod(prime).modInverse(prime).longValue();
+            modulus = modulus.multiply(prime);
+        }
+        BigInteger finalModulus = modulus;
+        BigInteger half = modulus.shiftRight(1);
+
+        ParallelRows.compute(pool, 0, m, ParallelRows.grain(pool, m, m), (rowFrom, rowTo) -> {
+            long[] digits = new long[primes.length];
+            for (int i = rowFrom * n; i < rowTo * n; i++) {
+                BigInteger value = reconstruct(residues, primes, inverses, digits, i);
+                //choose the representative closest to zero, since entries may be negative
+                if (value.compareTo(half) > 0)
+                    value = value.subtract(finalModulus);
+                c[i] = (c[i] == null) ? value : c[i].add(value);
+            }
+        });
+    }
+
+    /**
+     * Helper method to rebuild one entry from its residues in mixed radix, then evaluate it by Horner's rule
+     * @param residues the product modulo each prime
+     * @param primes the primes
+     * @param inverses inverse of the product of the primes before each prime, modulo that prime
+     * @param digits scratch array for the mixed radix digits, one per prime
+     * @param entry index of the entry in the row-major product
+     * @return the entry modulo the product of all primes, from zero up
+     */
+    private static BigInteger reconstruct(long[][] residues, long[] primes, long[] inverses, long[] digits, int entry) {
+        for (int i = 0; i < primes.length; i++) {
+            long p = primes[i];
+            //the value of the digits so far, modulo p
+            long partial = 0;
+            for (int j = i - 1; j >= 0; j--) {
+                partial = (partial * primes[j] + digits[j]) % p;
+            }
+            digits[i] = Math.floorMod(residues[i][entry] - partial, p) * inverses[i] % p;
+        }
+
+        BigInteger value = BigInteger.valueOf(digits[primes.length - 1]);
+        for (int i = primes.length - 2; i >= 0; i--) {
+            value = value.multiply(BigInteger.valueOf(primes[i])).add(BigInteger.valueOf(digits[i]));
+        }
+        return value;
+    }
+
+    /**
+     * Helper method to bound the bits of every entry of a * b, as the largest row length of a times the largest column length of b
+     * @param a the m x k left operand
+     * @param b the k x n right operand
+     * @param m the number of rows of a
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b
+     * @return a number of bits that the absolute value of every entry of the product fits in
+     */
+    private static int boundBits(BigInteger[] a, BigInteger[] b, int m, int k, int n) {
+        BigInteger rowLength = BigInteger.ZERO;
+        for (int row = 0; row < m; row++) {
+            BigInteger squared = BigInteger.ZERO;
+            for (int p = 0; p < k; p++) {
+                squared = squared.add(a[row * k + p].pow(2));
+            }
+            rowLength = rowLength.max(squared);
+        }
+        BigInteger columnLength = BigInteger.ZERO;
+        for (int column = 0; column < n; column++) {
+            BigInteger squared = BigInteger.ZERO;
+            for (int p = 0; p < k; p++) {
+                squared = squared.add(b[p * n + column].pow(2));
+            }
+            columnLength = columnLength.max(squared);
+        }
+        //the square root of a number of x bits fits in (x + 1) / 2 bits
+        return (rowLength.bitLength() + 1) / 2 + (columnLength.bitLength() + 1) / 2;
+    }
+
+    /**
+     * Helper method to choose primes whose product has more than the given number of bits
+     * @param bits the number of bits the product of the primes must exceed
+     * @return the primes, in increasing order
+     */
+    private static long[] primes(int bits) {
+        //every prime has at least 27 bits
+        long[] primes = new long[bits / 27 + 1];
+        BigInteger prime = BigInteger.valueOf(FIRST_PRIME);
+
+        for (int i = 0; i < primes.length; i++) {
+            primes[i] = prime.longValue();
+            prime = prime.nextProbablePrime();
+        }
+        return primes;
+    }
+
+    /**
+     * Helper method to compute c = a * b modulo a prime for row-major arrays of residues
+     * Products are added without reduction in runs of BATCH values of the inner dimension
+     * @param a the m x k left operand, reduced modulo p
+     * @param b the k x n right operand, reduced modulo p
+     * @param c the m x n array of zeros to store the product in
+     * @param m the number of rows of a and c
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     * @param p the prime, below 2^28
+     */
+    private static void multiplyModulo(long[] a, long[] b, long[] c, int m, int k, int n, long p) {
+        for (int i = 0; i < m; i++) {
+            for (int from = 0; from < k; from += BATCH) {
+                int to = Math.min(from + BATCH, k);
+                for (int q = from; q < to; q++) {
+                    long x = a[i * k + q];
+                    if (x == 0)
+                        continue;
+                    for (int j = 0; j < n; j++) {
+                        c[i * n + j] += x * b[q * n + j];
+                    }
+                }
+                for (int j = 0; j < n; j++) {
+                    c[i * n + j] %= p;
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method to split the magnitude of every value of an array into big-endian bytes
+     * @param values the values to split
+     * @return the bytes of the absolute value of each value
+     */
+    private static byte[][] magnitudes(BigInteger[] values) {
+        byte[][] magnitudes = new byte[values.length][];
+
+        for (int i = 0; i < values.length; i++) {
+            magnitudes[i] = values[i].abs().toByteArray();
+        }
+        return magnitudes;
+    }
+
+    /**
+     * Helper method to reduce every value of an array modulo a prime, 32 bits of its magnitude at a time
+     * @param values the values to reduce, for their signs
+     * @param magnitudes the big-endian bytes of the absolute value of each value
+     * @param p the prime, below 2^28 so a residue shifted by 32 bits fits in a long
+     * @return new array of the residues, from 0 to p - 1
+     */
+    private static long[] reduce(BigInteger[] values, byte[][] magnitudes, long p) {
+        long[] reduced = new long[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = magnitudes[i];
+            long residue = 0;
+            //the first word takes the bytes that do not fill a whole word
+            int position = 0;
+            long word = 0;
+            for (; position < bytes.length % 4; position++) {
+                word = (word << 8) | (bytes[position] & 0xFF);
+            }
+            residue = word % p;
+            for (; position < bytes.length; position += 4) {
+                word = ((bytes[position] & 0xFFL) << 24) | ((bytes[position + 1] & 0xFF) << 16)
+                    | ((bytes[position + 2] & 0xFF) << 8) | (bytes[position + 3] & 0xFF);
+                residue = ((residue << 32) | word) % p;
+            }
+            reduced[i] = (values[i].signum() < 0 && residue != 0) ? p - residue : residue;
+        }
+        return reduced;
+    }
+
+    /**
+     * Helper method to copy the values of a BigInteger matrix into a row-major array
+     * @param matrix the matrix to copy
+     * @return row-major array of the values of the matrix
+     */
+    private static BigInteger[] toArray(Matrix<BigInteger> matrix) {
+        int rows = matrix.size().row() + 1;
+        int columns = matrix.size().column() + 1;
+        BigInteger[] values = new BigInteger[rows * columns];
+
+        for (int row = 0, i = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++, i++) {
+                values[i] = Objects.requireNonNull(matrix.value(row, column), "matrix values must not be null");
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,463 @@
+/**
+ * Class to represent a dense matrix whose values can be updated in place
+ * @author Ethan Tobey
+ */
+
+ //NOTE: values are held in a single row-major array, the same layout TiledMultiplier works on, so products into a
+ //MutableMatrix accumulate straight into its storage. plus and times still return new matrices as for every Matrix,
+ //while addInPlace, multiplyInto and fma reuse existing storage so loops that repeat them do not allocate
+package MatrixPackage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import RingsPackage.Ring;
+import RingsPackage.RingWithNegation;
+
+public final class MutableMatrix<T> implements Matrix<T> {
+    /** stores the entries of the matrix in row-major order */
+    private final T[] values;
+    /** stores number of rows of the matrix */
+    private final int rows;
+    /** stores number of columns of the matrix */
+    private final int columns;
+    /** stores size of the matrix */
+    private final Indexes size;
+
+    /**
+     * A private constructor for MutableMatrix
+     * @param values row-major array of entries, not copied
+     * @param rows the number of rows of the matrix
+     * @param columns the number of columns of the matrix
+     */
+    private MutableMatrix(T[] values, int rows, int columns) {
+        this.values = values;
+        this.rows = rows;
+        this.columns = columns;
+        size = new Indexes(rows - 1, columns - 1);      //-1 to account for row/col # 0
+    }
+
+    /**
+     * Returns size field
+     * @return size field of this MutableMatrix
+     */
+    @Override
+    public Indexes size() {
+        return size;
+    }
+
+    /**
+     * Returns map representation of the matrix
+     * The map is a copy built on each call, so it does not change when the matrix is updated
+     * @return map of the entries of the matrix
+     */
+    @Override
+    public Map<Indexes, T> getMap() {
+        Map<Indexes, T> map = new HashMap<>();
+
+        for (int row = 0, i = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++, i++) {
+                map.put(new Indexes(row, column), values[i]);
+            }
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * Overrides String representation of this MutableMatrix
+     * Rows are listed top to bottom
+     * @return String representation of this MutableMatrix
+     */
+    @Override
+    public String toString() {
+        Object[][] array = new Object[rows][];
+
+        for (int row = 0; row < rows; row++) {
+            array[row] = Arrays.copyOfRange(values, row * columns, (row + 1) * columns);
+        }
+        return "MutableMatrix [matrix=" + Arrays.deepToString(array) + "]";
+    }
+
+    /**
+     * Returns value in this MutableMatrix at given index
+     * @param indexes the index at which to retrieve value
+     * @return the value at the given index, or null if the index is outside the matrix
+     */
+    @Override
+    public T value(Indexes indexes) {
+        //ensure indexes not null
+        Objects.requireNonNull(indexes, "indexes must not be null");
+
+        return value(indexes.row(), indexes.column());
+    }
+
+    /**
+     * Returns value in this MutableMatrix at given row and column
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column, or null if it is outside the matrix
+     */
+    @Override
+    public T value(int row, int column) {
+        if (!contains(row, column))
+            return null;
+
+        return values[row * columns + column];
+    }
+
+    /**
+     * Sets the value in this MutableMatrix at given row and column
+     * @param row row at which to set value
+     * @param column column at which to set value
+     * @param value the new value
+     */
+    public void set(int row, int column, T value) {
+        //ensure value not null
+        Objects.requireNonNull(value, "value must not be null");
+        if (!contains(row, column))
+            throw new IndexOutOfBoundsException(new Indexes(row, column).toString());
+
+        values[row * columns + column] = value;
+    }
+
+    /**
+     * Helper method to check if a row and column lie inside this matrix
+     * @param row the row to check
+     * @param column the column to check
+     * @return true if the row and column are inside the matrix, otherwise false
+     */
+    private boolean contains(int row, int column) {
+        return row >= 0 && row < rows && column >= 0 && column < columns;
+    }
+
+    /**
+     * A builder method to return a new instance of MutableMatrix
+     * MutableMatrix has specified rows and columns count
+     * values of MutableMatrix are determined by the functional interface input
+     * @param <S> the type of data stored in the MutableMatrix
+     * @param rows the number of rows for the MutableMatrix
+     * @param columns the number of columns for the MutableMatrix
+     * @param valueMapper functional interface to define values of the MutableMatrix
+     * @return new MutableMatrix built based on the inputs
+     */
+    public static <S> MutableMatrix<S> instance(int rows, int columns, Function<Indexes, S> valueMapper) {
+        //make sure inputs not null
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+        //require rows and columns to be greater than 0
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, rows);
+        InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, columns);
+
+        S[] values = MatrixMap.newArray(Math.multiplyExact(rows, columns));
+
+        //fill the array row by row
+        for (int row = 0, i = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++, i++) {
+                values[i] = Objects.requireNonNull(valueMapper.apply(new Indexes(row, column)), "values must not be null");
+            }
+        }
+        return new MutableMatrix<>(values, rows, columns);
+    }
+
+    /**
+     * A builder method to return a new instance of MutableMatrix
+     * MutableMatrix has size specified by input
+     * values of MutableMatrix are determined by the functional interface input
+     * @param <S> the type of data stored in the MutableMatrix
+     * @param size the size for the MutableMatrix
+     * @param valueMapper functional interface to define values of the MutableMatrix
+     * @return new MutableMatrix built based on the inputs
+     */
+    public static <S> MutableMatrix<S> instance(Indexes size, Function<Indexes, S> valueMapper) {
+        //make sure inputs not null
+        Objects.requireNonNull(size, "size must not be null");
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+
+        return instance(size.row() + 1, size.column() + 1, valueMapper);     //+ 1 to account for 0 row/col
+    }
+
+    /**
+     * A builder method to return a new MutableMatrix with zero throughout, to be used as a destination
+     * @param <S> the type of data stored in the MutableMatrix
+     * @param rows the number of rows for the MutableMatrix
+     * @param columns the number of columns for the MutableMatrix
+     * @param ring ring for the zero value of the MutableMatrix
+     * @return new MutableMatrix of zeros
+     */
+    public static <S> MutableMatrix<S> zero(int rows, int columns, Ring<S> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "ring must not be null");
+
+        return instance(rows, columns, (indexes) -> ring.zero());
+    }
+
+    /**
+     * A builder method to return a new MutableMatrix holding the values of any matrix
+     * @param <S> the type of data stored in the MutableMatrix
+     * @param matrix the matrix to copy
+     * @return new MutableMatrix of the values of the input matrix
+     */
+    public static <S> MutableMatrix<S> from(Matrix<S> matrix) {
+        //ensure matrix not null
+        Objects.requireNonNull(matrix, "matrix must not be null");
+
+        return new MutableMatrix<>(rowMajorCopy(matrix), matrix.size().row() + 1, matrix.size().column() + 1);
+    }
+
+    /**
+     * Computes the sum of two matrices into a new MutableMatrix, leaving this unchanged
+     * @param other matrix to add to this
+     * @param ring ring to compute operations
+     * @return the sum of the two matrices
+     */
+    @Override
+    public Matrix<T> plus(Matrix<T> other, Ring<T> ring) {
+        return from(this).addInPlace(other, ring);
+    }
+
+    /**
+     * Computes the difference of two matrices into a new MutableMatrix, leaving this unchanged
+     * @param other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this matrix minus other
+     */
+    @Override
+    public Matrix<T> minus(Matrix<T> other, RingWithNegation<T> ring) {
+        return from(this).subtractInPlace(other, ring);
+    }
+
+    /**
+     * Computes the additive inverse of this matrix into a new MutableMatrix, leaving this unchanged
+     * @param ring ring to compute operations
+     * @return the matrix whose values are the negations of the values of this
+     */
+    @Override
+    public MutableMatrix<T> negate(RingWithNegation<T> ring) {
+        return from(this).negateInPlace(ring);
+    }
+
+    /**
+     * Computes the product of two matrices into a new MutableMatrix, leaving this unchanged
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @return the product of the two matrices
+     */
+    @Override
+    public Matrix<T> times(Matrix<T> other, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        //ensure columns of this match rows of other
+        Indexes productSize = InconsistentSizeException.requireInnerDimension(this, other);
+
+        MutableMatrix<T> product = new MutableMatrix<>(MatrixMap.newArray(Math.multiplyExact(productSize.row() + 1, productSize.column() + 1)),
+            productSize.row() + 1, productSize.column() + 1);
+        return multiplyInto(other, ring, product);
+    }
+
+    /**
+     * Adds another matrix to this one, storing the sum in this MutableMatrix
+     * @param other matrix to add to this
+     * @param ring ring to compute operations
+     * @return this MutableMatrix, holding the sum
+     */
+    public MutableMatrix<T> addInPlace(Matrix<T> other, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        //read a MutableMatrix's storage directly, other matrices value by value
+        if (other instanceof MutableMatrix<T> mutable) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ring.sum(values[i], mutable.values[i]);
+            }
+        }
+        else {
+            for (int row = 0, i = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++, i++) {
+                    values[i] = ring.sum(values[i], other.value(row, column));
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts another matrix from this one, storing the difference in this MutableMatrix
+     * @param other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this MutableMatrix, holding the difference
+     */
+    public MutableMatrix<T> subtractInPlace(Matrix<T> other, RingWithNegation<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        //read a MutableMatrix's storage directly, other matrices value by value
+        if (other instanceof MutableMatrix<T> mutable) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ring.difference(values[i], mutable.values[i]);
+            }
+        }
+        else {
+            for (int row = 0, i = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++, i++) {
+                    values[i] = ring.difference(values[i], other.value(row, column));
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Negates every value of this MutableMatrix in place
+     * @param ring ring to compute operations
+     * @return this MutableMatrix, holding its additive inverse
+     */
+    public MutableMatrix<T> negateInPlace(RingWithNegation<T> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ring.negate(values[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Computes the product of this matrix and another into a destination, overwriting the destination
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @param destination matrix to store the product in, which must not be this or other
+     * @return the destination, holding the product
+     */
+    public MutableMatrix<T> multiplyInto(Matrix<T> other, Ring<T> ring, MutableMatrix<T> destination) {
+        return multiplyInto(other, ring, destination, TiledMultiplier.defaults());
+    }
+
+    /**
+     * Computes the product of this matrix and another into a destination using the given tiled multiplier,
+     * overwriting the destination
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @param destination matrix to store the product in, which must not be this or other
+     * @param multiplier multiplier that defines the block sizes and pool
+     * @return the destination, holding the product
+     */
+    public MutableMatrix<T> multiplyInto(Matrix<T> other, Ring<T> ring, MutableMatrix<T> destination, TiledMultiplier multiplier) {
+        //ensure no null values
+        Objects.requireNonNull(destination, "destination must not be null");
+        destination.requireProductInto(this, other, ring, multiplier);
+
+        //the multiplier stores the first product into an unset entry directly
+        Arrays.fill(destination.values, null);
+        multiplier.multiply(values, rowMajor(other), destination.values, rows, columns, destination.columns, ring);
+        return destination;
+    }
+
+    /**
+     * Adds the product of two matrices to this one (C += A * B), storing the result in this MutableMatrix
+     * @param left left matrix of the product, which must not be this
+     * @param right right matrix of the product, which must not be this
+     * @param ring ring to compute operations
+     * @return this MutableMatrix, holding the result
+     */
+    public MutableMatrix<T> fma(Matrix<T> left, Matrix<T> right, Ring<T> ring) {
+        return fma(left, right, ring, TiledMultiplier.defaults());
+    }
+
+    /**
+     * Adds the product of two matrices to this one (C += A * B) using the given tiled multiplier,
+     * storing the result in this MutableMatrix
+     * @param left left matrix of the product, which must not be this
+     * @param right right matrix of the product, which must not be this
+     * @param ring ring to compute operations
+     * @param multiplier multiplier that defines the block sizes and pool
+     * @return this MutableMatrix, holding the result
+     */
+    public MutableMatrix<T> fma(Matrix<T> left, Matrix<T> right, Ring<T> ring, TiledMultiplier multiplier) {
+        requireProductInto(left, right, ring, multiplier);
+
+        //accumulate straight into this matrix's storage
+        multiplier.multiply(rowMajor(left), rowMajor(right), values, rows, left.size().column() + 1, columns, ring);
+        return this;
+    }
+
+    /**
+     * Helper method to check the arguments of a product stored in this MutableMatrix
+     * Throws IllegalArgumentException if the inner dimensions do not match, the product does not match the size of this,
+     * or this is an operand, since values of the operands are read after values of this are written
+     * @param left left matrix of the product
+     * @param right right matrix of the product
+     * @param ring ring to compute operations
+     * @param multiplier multiplier to compute the product
+     */
+    private void requireProductInto(Matrix<T> left, Matrix<T> right, Ring<T> ring, TiledMultiplier multiplier) {
+        //ensure no null values
+        Objects.requireNonNull(left, "Input matrix must not be null");
+        Objects.requireNonNull(right, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        Objects.requireNonNull(multiplier, "multiplier must not be null");
+        //ensure columns of left match rows of right, and the product matches this
+        Indexes productSize = InconsistentSizeException.requireInnerDimension(left, right);
+        if (productSize.compareTo(size) != 0)
+            throw new IllegalArgumentException(new InconsistentSizeException(productSize, size));
+        if (left == this || right == this)
+            throw new IllegalArgumentException("destination must not be an operand of the product");
+    }
+
+    /**
+     * Computes the product of this matrix with a column vector into a destination vector
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param ring ring to compute operations
+     * @param destination vector to store the product in, with one value per row of this matrix
+     * @return the destination, holding the product
+     */
+    @Override
+    public DenseVector<T> times(Vector<T> vector, Ring<T> ring, DenseVector<T> destination) {
+        //ensure no null values
+        Objects.requireNonNull(ring, "Ring must not be null");
+        DenseVector.requireProduct(size(), vector, destination);
+
+        for (int row = 0, i = 0; row < rows; row++) {
+            T sum = ring.zero();
+            for (int column = 0; column < columns; column++, i++) {
+                sum = ring.sum(sum, ring.product(values[i], vector.value(column)));
+            }
+            destination.set(row, sum);
+        }
+        return destination;
+    }
+
+    /**
+     * Helper method to return the row-major values of a matrix, sharing the storage of a MutableMatrix
+     * @param <S> the type of data stored in the matrix
+     * @param matrix the matrix to read
+     * @return row-major array of the values of the matrix, which must not be written
+     */
+    private static <S> S[] rowMajor(Matrix<S> matrix) {
+        return (matrix instanceof MutableMatrix<S> mutable) ? mutable.values : MatrixMap.toRowMajor(matrix);
+    }
+
+    /**
+     * Helper method to copy the values of a matrix into a new row-major array
+     * @param <S> the type of data stored in the matrix
+     * @param matrix the matrix to copy
+     * @return new row-major array of the values of the matrix
+     */
+    private static <S> S[] rowMajorCopy(Matrix<S> matrix) {
+        return (matrix instanceof MutableMatrix<S> mutable) ? mutable.values.clone() : MatrixMap.toRowMajor(matrix);
+    }
+
+    /**
+     * Convert this MutableMatrix to MatrixMap
+     * @return MatrixMap representation of this MutableMatrix
+     */
+    public MatrixMap<T> toMatrixMap() {
+        return MatrixMap.instance(size(), (indexes) -> value(indexes));
+    }
+}
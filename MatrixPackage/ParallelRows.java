@@ -0,0 +1,109 @@
+/**
+ * Class to split work over a range of rows across a ForkJoinPool
+ * @author Ethan Tobey
+ */
+package MatrixPackage;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+final class ParallelRows {
+
+    /**
+     * Functional interface for work done on a range of rows
+     */
+    @FunctionalInterface
+    interface RowRange {
+        /**
+         * Does the work for rows [rowFrom, rowTo)
+         * @param rowFrom first row to compute
+         * @param rowTo row to stop before
+         */
+        void compute(int rowFrom, int rowTo);
+    }
+
+    /**
+     * A private constructor so ParallelRows is never instantiated
+     */
+    private ParallelRows() {
+    }
+
+    /**
+     * Runs the given work over rows [rowFrom, rowTo), halving the range recursively across the pool
+     * Runs on the calling thread when pool is null
+     * @param pool pool to run the work in, or null to run sequentially
+     * @param rowFrom first row to compute
+     * @param rowTo row to stop before
+     * @param grain number of rows at or below which a range is no longer split
+     * @param work the work to do on each range of rows
+     */
+    static void compute(ForkJoinPool pool, int rowFrom, int rowTo, int grain, RowRange work) {
+        Objects.requireNonNull(work, "work must not be null");
+
+        if (pool == null || rowTo - rowFrom <= grain)
+            work.compute(rowFrom, rowTo);
+        else
+            pool.invoke(new RowTask(rowFrom, rowTo, Math.max(1, grain), work));
+    }
+
+    /**
+     * Returns how many rows each task should cover so every thread of the pool gets several tasks
+     * @param pool pool the work will run in, or null if it runs sequentially
+     * @param rows the total number of rows
+     * @param maxGrain largest number of rows a task should cover
+     * @return the number of rows at or below which a range is no longer split
+     */
+    static int grain(ForkJoinPool pool, int rows, int maxGrain) {
+        if (pool == null)
+            return rows;
+
+        int tasks = 4 * pool.getParallelism();
+        return Math.max(1, Math.min(maxGrain, (rows + tasks - 1) / tasks));
+    }
+
+    /**
+     * A class to define the recursive task that splits a range of rows in half
+     * The class is implemented as a static nested class
+     */
+    private static final class RowTask extends RecursiveAction {
+        /** version of the serialized form, which RecursiveAction inherits from Serializable */
+        private static final long serialVersionUID = 1L;
+        /** first row of this task */
+        private final int rowFrom;
+        /** row this task stops before */
+        private final int rowTo;
+        /** number of rows at or below which the range is no longer split */
+        private final int grain;
+        /** the work to do on each range of rows */
+        private final RowRange work;
+
+        /**
+         * Constructor to initialize a new task over the given rows
+         * @param rowFrom first row of this task
+         * @param rowTo row this task stops before
+         * @param grain number of rows at or below which the range is no longer split
+         * @param work the work to do on each range of rows
+         */
+        RowTask(int rowFrom, int rowTo, int grain, RowRange work) {
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+            this.grain = grain;
+            this.work = work;
+        }
+
+        /**
+         * Does the work directly if the range is small, otherwise splits it in half
+         */
+        @Override
+        protected void compute() {
+            if (rowTo - rowFrom <= grain) {
+                work.compute(rowFrom, rowTo);
+                return;
+            }
+
+            int middle = (rowFrom + rowTo) >>> 1;
+            invokeAll(new RowTask(rowFrom, middle, grain, work), new RowTask(middle, rowTo, grain, work));
+        }
+    }
+}
@@ -7,35 +7,35 @@
 package MatrixPackage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import RingsPackage.Ring;
-import RingsPackage.Rings;
+import RingsPackage.RingWithNegation;
 
 public final class SparseMatrix<T> implements Matrix<T> {
-    /** holds a map to represent the matrix */
-    private final Map<Indexes, T> matrix;
+    /** holds a map keyed by packed indexes to represent the matrix */
+    private final IndexMap<T> matrix;
     /** holds size field of matrix */
     private final Indexes size;
     /** ring for type stored in matrix */
     private final Ring<T> ring;
+    /** map view of the matrix, built by the first call to getMap */
+    private Map<Indexes, T> map;
 
 
     /**
      * A private constructor for SparseMatrix
-     * @param matrix map of coefficients and indexes to construct matrix from
+     * @param matrix map of coefficients and indexes to construct matrix from, not copied
      * @param size the size of the SparseMatrix
      * @param ring ring for operations and zero values in the matrix
      */
-    private SparseMatrix(Map<Indexes, T> matrix, Indexes size, Ring<T> ring) {
-        this.matrix = Map.copyOf(matrix);
+    private SparseMatrix(IndexMap<T> matrix, Indexes size, Ring<T> ring) {
+        this.matrix = matrix;
         this.size = size;
         this.ring = ring;
     }
@@ -48,24 +48,23 @@ public final class SparseMatrix<T> implements Matrix<T> {
      //add clarification on how string format is ordered
     @Override
     public String toString() {
-        //make sorted list of keys of matrix
-        List<Indexes> sortedKeySet = new ArrayList<>(matrix.keySet());
-        Collections.sort(sortedKeySet); 
+        //make sorted array of packed keys of matrix
+        long[] sortedKeys = matrix.sortedKeys();
         StringBuilder builder = new StringBuilder("SparseMatrix [matrix={");  //compile the toString
 
         //append each value and its index in specific format
-        for (Indexes index : sortedKeySet) {
+        for (long key : sortedKeys) {
             builder.append("Indexes[row=");      //using StringBuilder.append to avoid extra string generation
-            builder.append(index.row());              
+            builder.append(IndexMap.row(key));
             builder.append(", column=");     //NOTE:could actually chain them like builder.append().append().append() in one line
-            builder.append(index.column());
+            builder.append(IndexMap.column(key));
             builder.append("]=");
-            builder.append(value(index));
+            builder.append(matrix.get(IndexMap.row(key), IndexMap.column(key)));
             builder.append(", ");
         }
 
         //remove final ", " from end if keySet had values
-        if (!sortedKeySet.isEmpty())
+        if (sortedKeys.length > 0)
             builder.delete(builder.length() - 2, builder.length());
         builder.append("}]");
         return builder.toString();
@@ -81,12 +80,43 @@ public final class SparseMatrix<T> implements Matrix<T> {
         //ensure indexes not null
         Objects.requireNonNull(indexes, "indexes must not be null");
 
-        if (indexes.compareTo(size) <= 0)
-            return matrix.getOrDefault(indexes, ring.zero());
-        
+        return value(indexes.row(), indexes.column());
+    }
+
+    /**
+     * Returns value in this SparseMatrix at given row and column
+     * @param row row at which to retrieve value
+     * @param column column at which to retrieve value
+     * @return the value at the given row and column, zero if it is not stored, or null if it is outside the matrix
+     */
+    @Override
+    public T value(int row, int column) {
+        //compare row and column separately, as compareTo orders indexes by row first
+        if (row >= 0 && row <= size.row() && column >= 0 && column <= size.column())
+            return valueOrZero(matrix, row, column, ring);
+
         return null;
     }
 
+    /**
+     * Does the given work for every stored value of this SparseMatrix that is not the ring's zero, in no particular order
+     * Only nonzero values are stored, so the work is proportional to their number
+     * @param action the work to do on each row, column and value
+     * @param ring ring for the zero value
+     */
+    @Override
+    public void forEachNonZero(EntryConsumer<? super T> action, Ring<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(action, "action must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        T zero = ring.zero();
+        matrix.forEach((row, column, value) -> {
+            if (!zero.equals(value))
+                action.accept(row, column, value);
+        });
+    }
+
     /**
      * Returns size field
      * @return size field of this SparseMatrix
@@ -102,7 +132,40 @@ public final class SparseMatrix<T> implements Matrix<T> {
      */
     @Override
     public Map<Indexes, T> getMap() {
-        return Map.copyOf(matrix);
+        //the view is immutable, so a race at most builds it twice
+        if (map == null)
+            map = Map.copyOf(matrix.toMap());
+        return map;
+    }
+
+    /**
+     * Helper method to return the value stored in a map, or zero if none is stored
+     * @param <S> type of the values
+     * @param map map of the stored values
+     * @param row row of the value
+     * @param column column of the value
+     * @param ring ring for the zero value
+     * @return the stored value, or zero
+     */
+    private static <S> S valueOrZero(IndexMap<S> map, int row, int column, Ring<S> ring) {
+        S value = map.get(row, column);
+        return (value == null) ? ring.zero() : value;
+    }
+
+    /**
+     * Helper method to return the stored entries of any matrix as an IndexMap, without copying those of a SparseMatrix
+     * @param <S> type of the values
+     * @param matrix the matrix
+     * @param ring ring for the zero value
+     * @return map of the entries visited by forEachNonZero
+     */
+    private static <S> IndexMap<S> entries(Matrix<S> matrix, Ring<S> ring) {
+        if (matrix instanceof SparseMatrix<S> sparse)
+            return sparse.matrix;
+
+        IndexMap<S> map = new IndexMap<>(matrix.size().row() + 1);
+        matrix.forEachNonZero(map::put, ring);
+        return map;
     }
 
     /**
@@ -136,6 +199,21 @@ public final class SparseMatrix<T> implements Matrix<T> {
      * @return new SparseMatrix built based on the inputs
      */
     public static <S> SparseMatrix<S> instance(int rows, int columns, Function<Indexes, S> valueMapper, Ring<S> ring) {
+        return instance(rows, columns, valueMapper, ring, null);
+    }
+
+    /**
+     * A builder method to return a new instance of SparseMatrix, evaluating the values of rows in parallel in the given pool
+     * The result is the same as the sequential builder, so valueMapper must be thread-safe when a pool is given
+     * @param <S> the type of data stored in the SparseMatrix
+     * @param rows the number of rows for the SparseMatrix
+     * @param columns the number of columns for the SparseMatrix
+     * @param valueMapper functional interface to define values of the SparseMatrix
+     * @param ring ring for the SparseMatrix
+     * @param pool pool to evaluate rows of values in, or null to evaluate sequentially
+     * @return new SparseMatrix built based on the inputs
+     */
+    public static <S> SparseMatrix<S> instance(int rows, int columns, Function<Indexes, S> valueMapper, Ring<S> ring, ForkJoinPool pool) {
          //make sure inputs not null
         Objects.requireNonNull(valueMapper, "valueMapper must not be null");
         Objects.requireNonNull(ring, "zero must not be null");
@@ -143,13 +221,16 @@ public final class SparseMatrix<T> implements Matrix<T> {
         InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.ROW, rows);
         InvalidLengthException.requireNonEmpty(InvalidLengthException.Cause.COLUMN, columns);
 
-        //generate list of indexes from rows and column sizes
-        List<Indexes> indexList = Indexes.stream(rows, columns).collect(Collectors.toList());
-        //map to hold indexes and values
-        Map<Indexes, S> map = new HashMap<>();
+        //map to hold indexes and values, grown as nonzero values are found
+        IndexMap<S> map = new IndexMap<>(rows);
 
-        //use private helper to add all to map
-        addToMap(map, indexList, ring, valueMapper);
+        //add the nonzero value at each index of the range
+        if (pool == null) {
+            IndexRange.of(rows, columns).forEach((row, column) -> putIfNonzero(map, row, column, valueMapper.apply(new Indexes(row, column)), ring));
+        } else {
+            S[] values = MatrixMap.evaluate(rows, columns, valueMapper, pool);
+            IndexRange.of(rows, columns).forEach((row, column) -> putIfNonzero(map, row, column, values[row * columns + column], ring));
+        }
 
         //-1 to account for row/col # 0
         return new SparseMatrix<>(map, new Indexes(rows - 1, columns - 1), ring);
@@ -216,6 +297,45 @@ public final class SparseMatrix<T> implements Matrix<T> {
         return instance(matrix.length, matrix[0].length, (indexes) -> indexes.value(matrix), ring);
     }
 
+    /**
+     * A builder method to return a new SparseMatrix holding the given entries
+     * Only the given entries are visited, so the work is proportional to their number
+     * @param <S> the type of data stored in the SparseMatrix
+     * @param entries map of indexes to values, entries with zero values are not stored
+     * @param size the size for the SparseMatrix
+     * @param ring ring for the SparseMatrix
+     * @return new SparseMatrix of given entries
+     */
+    public static <S> SparseMatrix<S> from(Map<Indexes, S> entries, Indexes size, Ring<S> ring) {
+        //ensure inputs not null
+        Objects.requireNonNull(entries, "entries must not be null");
+        Objects.requireNonNull(size, "size must not be null");
+        Objects.requireNonNull(ring, "ring must not be null");
+
+        //map to hold indexes and values
+        IndexMap<S> map = new IndexMap<>(entries.size());
+
+        //use private helper to add all to map
+        addToMap(map, new ArrayList<>(entries.keySet()), ring, entries::get);
+
+        return new SparseMatrix<>(map, size, ring);
+    }
+
+    /**
+     * A builder method to return a new SparseMatrix holding the entries of an IndexMap
+     * @param <S> the type of data stored in the SparseMatrix
+     * @param entries map of packed indexes to values, entries with zero values are not stored
+     * @param size the size for the SparseMatrix
+     * @param ring ring for the SparseMatrix
+     * @return new SparseMatrix of given entries
+     */
+    static <S> SparseMatrix<S> from(IndexMap<S> entries, Indexes size, Ring<S> ring) {
+        IndexMap<S> map = new IndexMap<>(entries.size());
+
+        entries.forEach((row, column, value) -> putIfNonzero(map, row, column, value, ring));
+        return new SparseMatrix<>(map, size, ring);
+    }
+
     /**
      * Computes the sum of two matrices
      * @param other matrix to add to this
@@ -236,26 +356,61 @@ public final class SparseMatrix<T> implements Matrix<T> {
 
         //typecast other to sparseMatrix
         SparseMatrix<T> otherSparse = (SparseMatrix<T>)other;
-        //list to hold union of valid indices of both matrices
-        List<Indexes> indexList = unionOfKeysets(otherSparse);
         //map to hold indexes and values
-        Map<Indexes, T> map = new HashMap<>();
+        IndexMap<T> map = new IndexMap<>(matrix.size() + otherSparse.matrix.size());
+
+        //sums at the indexes stored in this, then at the indexes stored only in other
+        matrix.forEach((row, column, value) -> putIfNonzero(map, row, column, ring.sum(value, valueOrZero(otherSparse.matrix, row, column, this.ring)), ring));
+        otherSparse.matrix.forEach((row, column, value) -> {
+            if (!matrix.containsKey(row, column))
+                putIfNonzero(map, row, column, ring.sum(this.ring.zero(), value), ring);
+        });
+
+        return new SparseMatrix<T>(map, size(), ring);
+    }
+
+    /**
+     * Computes the difference of two matrices
+     * Only stored entries of this and other are visited
+     * @param other matrix to subtract from this
+     * @param ring ring to compute operations
+     * @return this matrix minus other
+     */
+    @Override
+    public Matrix<T> minus(Matrix<T> other, RingWithNegation<T> ring) {
+        //ensure no null values
+        Objects.requireNonNull(other, "Input matrix must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        //ensure sizes match
+        InconsistentSizeException.requireMatchingSize(this, other);
+
+        IndexMap<T> otherMap = entries(other, ring);
+        IndexMap<T> map = new IndexMap<>(matrix.size() + otherMap.size());
 
-        //add indexes and associated values to the map
-        addToMap(map, indexList, ring, (index) -> ring.sum(value(index), other.value(index)));
+        //entries stored in this, then entries stored only in other, only keeping values that are not zero
+        matrix.forEach((row, column, value) -> putIfNonzero(map, row, column, ring.difference(value, valueOrZero(otherMap, row, column, this.ring)), ring));
+        otherMap.forEach((row, column, value) -> {
+            if (!matrix.containsKey(row, column))
+                putIfNonzero(map, row, column, ring.negate(value), ring);
+        });
 
         return new SparseMatrix<T>(map, size(), ring);
     }
 
     /**
-     * Helper method to find union of keySets of this and other SparseMatrix
-     * @param other other sparseMatrix for union operation
-     * @return list of the union of the keysets of the matrices
+     * Computes the additive inverse of this matrix
+     * Only stored entries are visited
+     * @param ring ring to compute operations
+     * @return the matrix whose values are the negations of the values of this
      */
-    private List<Indexes> unionOfKeysets(SparseMatrix<T> other) {
-        Set<Indexes> resultSet = new HashSet<>(matrix.keySet());
-        resultSet.addAll(other.getMap().keySet());
-        return new ArrayList<>(resultSet);
+    @Override
+    public Matrix<T> negate(RingWithNegation<T> ring) {
+        //ensure ring not null
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        IndexMap<T> map = new IndexMap<>(matrix.size());
+        matrix.forEach((row, column, value) -> map.put(row, column, ring.negate(value)));
+        return new SparseMatrix<T>(map, size(), ring);
     }
 
     //helper method to add values to map
@@ -268,15 +423,27 @@ public final class SparseMatrix<T> implements Matrix<T> {
      * @param ring ring to compute operations
      * @param valueMapper functional interface to determine values at given index
      */
-    private static <S> void addToMap(Map<Indexes, S> map, List<Indexes> indexList, Ring<S> ring, Function<Indexes, S> valueMapper) {
+    private static <S> void addToMap(IndexMap<S> map, List<Indexes> indexList, Ring<S> ring, Function<Indexes, S> valueMapper) {
         for (Indexes index : indexList) {
-            S value = valueMapper.apply(index);
-            //only add to final if does not result in zero
-            if (value != ring.zero())
-                map.put(index, value);
+            putIfNonzero(map, index.row(), index.column(), valueMapper.apply(index), ring);
         }
     }
 
+    /**
+     * Helper method to add a mapping to a map unless its value is zero
+     * @param <S> type of the values
+     * @param map map to add the value to
+     * @param row row of the value
+     * @param column column of the value
+     * @param value the value
+     * @param ring ring for the zero value
+     */
+    private static <S> void putIfNonzero(IndexMap<S> map, int row, int column, S value, Ring<S> ring) {
+        //only add to final if does not result in zero
+        if (value != ring.zero())
+            map.put(row, column, value);
+    }
+
     /**
      * Computes the product of two matrices
      * @param other matrix to multiply by this
@@ -285,56 +452,136 @@ public final class SparseMatrix<T> implements Matrix<T> {
      */
     @Override
     public Matrix<T> times(Matrix<T> other, Ring<T> ring) {
+        return times(other, ring, null);
+    }
+
+    /**
+     * Computes the product of two matrices, computing rows of the product in parallel in the given pool
+     * Only stored entries of this and other are multiplied, row of this by matching rows of other
+     * The ring must be thread-safe when a pool is given
+     * @param other matrix to multiply by this
+     * @param ring ring to compute operations
+     * @param pool pool to compute rows of the product in, or null to compute sequentially
+     * @return the product of the two matrices
+     */
+    public Matrix<T> times(Matrix<T> other, Ring<T> ring, ForkJoinPool pool) {
         //ensure no null vlaues
         Objects.requireNonNull(other, "Input matrix must not be null");
         Objects.requireNonNull(ring, "Ring must not be null");
-        //ensure sizes match and is square
-        InconsistentSizeException.requireMatchingSize(this, other);
-        NonSquareException.requireDiagonal(size());
-        //list of all indexes within size of matrix
-        List<Indexes> fullIndexesList = Indexes.stream(size()).toList();
-        //list to hold union of valid indices of both matrices
-        List<Indexes> intersectionIndexList = intersectionKeysets(other);
-        
-        //map to hold indexes and values
-        Map<Indexes, T> map = new HashMap<>();
+        //ensure columns of this match rows of other
+        Indexes productSize = InconsistentSizeException.requireInnerDimension(this, other);
+
+        //stored keys of both matrices row by row, each row in increasing column order
+        IndexMap<T> otherMap = entries(other, ring);
+        long[] thisKeys = matrix.sortedKeys();
+        long[] otherKeys = otherMap.sortedKeys();
+        int[] rowStarts = rowStarts(thisKeys);
+        int rows = rowStarts.length - 1;
+        //each task fills only its own slots, so the list is never resized concurrently
+        List<IndexMap<T>> productRows = new ArrayList<>(Collections.nCopies(rows, null));
+
+        ParallelRows.compute(pool, 0, rows, ParallelRows.grain(pool, rows, Integer.MAX_VALUE), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                productRows.set(i, productOfRow(thisKeys, rowStarts[i], rowStarts[i + 1], otherKeys, otherMap, ring));
+            }
+        });
+
+        //map to hold indexes and values, only keeping values that do not result in zero
+        IndexMap<T> map = new IndexMap<>(productRows.stream().mapToInt(IndexMap::size).sum());
+        productRows.forEach((row) -> row.forEach((rowNumber, column, value) -> putIfNonzero(map, rowNumber, column, value, ring)));
+
+        return new SparseMatrix<T>(map, productSize, ring);
+    }
 
-        //add indexes and associated values to the map
-        addToMap(map,fullIndexesList, ring, (index) -> productAtIndex(other, ring, index, intersectionIndexList));
+    /**
+     * Computes the product of this matrix with a column vector into a destination vector
+     * The work is proportional to the number of stored entries, and nothing is allocated
+     * @param vector the vector to multiply, with one value per column of this matrix
+     * @param ring ring to compute operations
+     * @param destination vector to store the product in, with one value per row of this matrix
+     * @return the destination, holding the product
+     */
+    @Override
+    public DenseVector<T> times(Vector<T> vector, Ring<T> ring, DenseVector<T> destination) {
+        //ensure no null values
+        Objects.requireNonNull(ring, "Ring must not be null");
+        DenseVector.requireProduct(size(), vector, destination);
 
-        return new SparseMatrix<T>(map, size(), ring);
+        //rows without stored entries are zero
+        for (int row = 0; row <= size().row(); row++) {
+            destination.set(row, ring.zero());
+        }
+        matrix.forEach((row, column, value) -> {
+            T x = vector.value(column);
+            //zero values of the vector add nothing
+            if (x != ring.zero())
+                destination.set(row, ring.sum(destination.value(row), ring.product(value, x)));
+        });
+        return destination;
     }
 
     /**
-     * Helper method to find intersection of keySets of this and other SparseMatrix
-     * @param other other sparseMatrix for union operation
-     * @return list of the intersection of the keysets of the matrices
+     * Helper method to find where each row starts in sorted packed keys
+     * @param keys packed keys in increasing order
+     * @return the position of the first key of each stored row, followed by the number of keys
      */
-    private List<Indexes> intersectionKeysets(Matrix<T> other) {
-        List<Indexes> intersection = new ArrayList<>(matrix.keySet());
-        intersection.retainAll(other.getMap().keySet());      //remove all entries that aren't also in other's nonZeroEntries
-        return intersection;
+    private static int[] rowStarts(long[] keys) {
+        int[] starts = new int[keys.length + 1];
+        int rows = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || IndexMap.row(keys[i]) != IndexMap.row(keys[i - 1]))
+                starts[rows++] = i;
+        }
+        starts[rows] = keys.length;
+        return Arrays.copyOf(starts, rows + 1);
     }
 
     /**
-     * Helper method to calculate the produt at a given index in matrix multiplication
-     * @param other other matrix to multiply wiht
+     * Helper method to calculate one row of the product in matrix multiplication
+     * Each value of the row sums its products in increasing inner index
+     * @param thisKeys sorted packed keys of this
+     * @param from position of the first key of the row in thisKeys
+     * @param to position after the last key of the row in thisKeys
+     * @param otherKeys sorted packed keys of other
+     * @param otherMap stored values of other
      * @param ring ring to compute operations
-     * @param indexes index for which to compute product
-     * @return the product at given index
+     * @return map of the values of the row of the product, which may be zero
      */
-    private T productAtIndex(Matrix<T> other, Ring<T> ring, Indexes indexes, List<Indexes> intersectionIndexList) { 
-        //a list to hold the products from the iterations
-        List<T> productsList = new ArrayList<>();
-        //multiply row * column from entry 0 to entry n
-        for (int i = 0; i <= this.size().row(); i++) {
-            if (intersectionIndexList.contains(new Indexes(indexes.row(), i)) && intersectionIndexList.contains(new Indexes(i, indexes.column())))
-                productsList.add(ring.product(this.value(new Indexes(indexes.row(), i)), other.value(new Indexes(i, indexes.column()))));
+    private IndexMap<T> productOfRow(long[] thisKeys, int from, int to, long[] otherKeys, IndexMap<T> otherMap, Ring<T> ring) {
+        IndexMap<T> row = new IndexMap<>(to - from);
+
+        //multiply each stored value of this row by the stored values of the matching row of other
+        for (int i = from; i < to; i++) {
+            int rowNumber = IndexMap.row(thisKeys[i]);
+            int inner = IndexMap.column(thisKeys[i]);
+            T value = matrix.get(rowNumber, inner);
+            //the matching row of other is a run of its sorted keys
+            int j = Arrays.binarySearch(otherKeys, IndexMap.key(inner, 0));
+            for (j = (j < 0) ? -j - 1 : j; j < otherKeys.length && IndexMap.row(otherKeys[j]) == inner; j++) {
+                int column = IndexMap.column(otherKeys[j]);
+                row.merge(rowNumber, column, ring.product(value, otherMap.get(inner, column)), ring::sum);
+            }
         }
-        //return sum of all products
-        T x = Rings.sum(productsList, ring);
-        System.out.println("Index: " + indexes + " value: " + x);
-        return x;
+        return row;
+    }
+
+    /**
+     * Convert this SparseMatrix to CsrMatrix
+     * Only stored entries are visited
+     * @return CsrMatrix representation of this SparseMatrix
+     */
+    public CsrMatrix<T> toCsrMatrix() {
+        return CsrMatrix.from(this, ring);
+    }
+
+    /**
+     * Convert this SparseMatrix to CscMatrix
+     * Only stored entries are visited
+     * @return CscMatrix representation of this SparseMatrix
+     */
+    public CscMatrix<T> toCscMatrix() {
+        return CscMatrix.from(this, ring);
     }
 
     /**
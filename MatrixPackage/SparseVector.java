@@ -0,0 +1,221 @@
+/**
+ * Class to represent a sparse Vector
+ * @author Ethan Tobey
+ */
+
+ //NOTE: only values that are not zero are stored, as increasing indexes with their values
+package MatrixPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import RingsPackage.Ring;
+
+public final class SparseVector<T> implements Vector<T> {
+    /** index of each stored value, in increasing order */
+    private final int[] indexes;
+    /** each stored value */
+    private final T[] values;
+    /** stores length of the vector */
+    private final int length;
+    /** ring for type stored in vector */
+    private final Ring<T> ring;
+
+    /**
+     * A private constructor for SparseVector
+     * @param indexes increasing index of each stored value, not copied
+     * @param values each stored value, none of them zero, not copied
+     * @param length the length of the vector
+     * @param ring ring for operations and zero values in the vector
+     */
+    private SparseVector(int[] indexes, T[] values, int length, Ring<T> ring) {
+        this.indexes = indexes;
+        this.values = values;
+        this.length = length;
+        this.ring = ring;
+    }
+
+    /**
+     * Returns the number of values of this SparseVector
+     * @return the length of this SparseVector
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of stored values of this SparseVector
+     * @return the number of stored values
+     */
+    public int nonZeroCount() {
+        return indexes.length;
+    }
+
+    /**
+     * Returns the index of a stored value
+     * @param position the position of the stored value, from 0 to nonZeroCount() - 1
+     * @return the index of the stored value
+     */
+    int storedIndex(int position) {
+        return indexes[position];
+    }
+
+    /**
+     * Returns a stored value
+     * @param position the position of the stored value, from 0 to nonZeroCount() - 1
+     * @return the stored value
+     */
+    T storedValue(int position) {
+        return values[position];
+    }
+
+    /**
+     * Returns value in this SparseVector at given index
+     * @param index the index at which to retrieve value
+     * @return the value at the given index, zero if it is not stored, or null if the index is outside the vector
+     */
+    @Override
+    public T value(int index) {
+        if (index < 0 || index >= length)
+            return null;
+
+        int position = Arrays.binarySearch(indexes, index);
+        return (position >= 0) ? values[position] : ring.zero();
+    }
+
+    /**
+     * Returns map representation of the vector
+     * @return map of the stored values of the vector
+     */
+    @Override
+    public Map<Integer, T> getMap() {
+        Map<Integer, T> map = new HashMap<>();
+
+        for (int position = 0; position < indexes.length; position++) {
+            map.put(indexes[position], values[position]);
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * Overrides String representation of this SparseVector
+     * Values are listed by increasing index
+     * @return String representation of this SparseVector
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("SparseVector [vector={");
+
+        for (int position = 0; position < indexes.length; position++) {
+            builder.append(indexes[position]).append("=").append(values[position]).append(", ");
+        }
+
+        //remove final ", " from end if there were stored values
+        if (indexes.length > 0)
+            builder.delete(builder.length() - 2, builder.length());
+        builder.append("}]");
+        return builder.toString();
+    }
+
+    /**
+     * A builder method to return a new instance of SparseVector
+     * values of SparseVector are determined by the functional interface input, evaluated for every index
+     * @param <S> the type of data stored in the SparseVector
+     * @param length the length for the SparseVector
+     * @param valueMapper functional interface to define values of the SparseVector
+     * @param ring ring for the SparseVector
+     * @return new SparseVector built based on the inputs
+     */
+    public static <S> SparseVector<S> instance(int length, IntFunction<S> valueMapper, Ring<S> ring) {
+        //make sure inputs not null
+        Objects.requireNonNull(valueMapper, "valueMapper must not be null");
+        Objects.requireNonNull(ring, "ring must not be null");
+        //require length to be greater than 0
+        Matrix.InvalidLengthException.requireNonEmpty(Matrix.InvalidLengthException.Cause.ROW, length);
+
+        List<Integer> indexList = new ArrayList<>();
+        List<S> valueList = new ArrayList<>();
+        for (int index = 0; index < length; index++) {
+            S value = Objects.requireNonNull(valueMapper.apply(index), "values must not be null");
+            //only store values that are not zero
+            if (value != ring.zero()) {
+                indexList.add(index);
+                valueList.add(value);
+            }
+        }
+        return build(indexList, valueList, length, ring);
+    }
+
+    /**
+     * A builder method to return a new SparseVector from a map of its values
+     * @param <S> the type of data stored in the SparseVector
+     * @param values map from index to value, where indexes not in the map are zero
+     * @param length the length for the SparseVector
+     * @param ring ring for the SparseVector
+     * @return new SparseVector of the given values
+     */
+    public static <S> SparseVector<S> from(Map<Integer, S> values, int length, Ring<S> ring) {
+        //make sure inputs not null
+        Objects.requireNonNull(values, "values must not be null");
+        Objects.requireNonNull(ring, "ring must not be null");
+        //require length to be greater than 0
+        Matrix.InvalidLengthException.requireNonEmpty(Matrix.InvalidLengthException.Cause.ROW, length);
+
+        //sort indexes so values can be binary searched
+        List<Integer> sortedIndexes = new ArrayList<>(values.keySet());
+        Collections.sort(sortedIndexes);
+        List<Integer> indexList = new ArrayList<>();
+        List<S> valueList = new ArrayList<>();
+        for (int index : sortedIndexes) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException(index);
+            S value = Objects.requireNonNull(values.get(index), "values must not be null");
+            //only store values that are not zero
+            if (value != ring.zero()) {
+                indexList.add(index);
+                valueList.add(value);
+            }
+        }
+        return build(indexList, valueList, length, ring);
+    }
+
+    /**
+     * A builder method to return a new SparseVector holding the values of any vector
+     * A SparseVector is shared, other vectors visit only the values returned by getMap
+     * @param <S> the type of data stored in the SparseVector
+     * @param vector the vector to copy
+     * @param ring ring for the SparseVector
+     * @return new SparseVector of the values of the input vector
+     */
+    public static <S> SparseVector<S> from(Vector<S> vector, Ring<S> ring) {
+        //ensure inputs not null
+        Objects.requireNonNull(vector, "vector must not be null");
+        Objects.requireNonNull(ring, "ring must not be null");
+
+        if (vector instanceof SparseVector<S> sparse)
+            return new SparseVector<>(sparse.indexes, sparse.values, sparse.length, ring);
+
+        return from(vector.getMap(), vector.length(), ring);
+    }
+
+    /**
+     * Helper method to build a SparseVector from lists of increasing indexes and their values
+     * @param <S> the type of data stored in the SparseVector
+     * @param indexList increasing index of each stored value
+     * @param valueList each stored value
+     * @param length the length for the SparseVector
+     * @param ring ring for the SparseVector
+     * @return new SparseVector of the given values
+     */
+    private static <S> SparseVector<S> build(List<Integer> indexList, List<S> valueList, int length, Ring<S> ring) {
+        int[] indexes = indexList.stream().mapToInt(Integer::intValue).toArray();
+        S[] values = MatrixMap.newArray(valueList.size());
+        return new SparseVector<>(indexes, valueList.toArray(values), length, ring);
+    }
+}
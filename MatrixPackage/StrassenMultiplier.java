@@ -0,0 +1,248 @@
+/**
+ * Class to compute matrix multiplication with the Strassen-Winograd algorithm
+ * @author Ethan Tobey
+ */
+
+ //NOTE: each level splits the operands into 2 x 2 blocks and computes the product with 7 block products and
+ //15 block sums or differences instead of 8 block products, so ring products drop by a factor of 7/8 per level.
+ //This pays off for rings whose products cost much more than their sums, such as PolynomialRing and MatrixRing.
+ //Blocks of odd sized matrices are padded with zero, and once a dimension reaches the cutoff the remaining product
+ //is computed by the classical tiled kernel. The algorithm never swaps the order of a product, so rings need not be commutative
+package MatrixPackage;
+
+import java.util.Objects;
+import RingsPackage.RingWithNegation;
+
+public final class StrassenMultiplier {
+    /** default largest dimension multiplied by the classical kernel */
+    public static final int DEFAULT_CUTOFF = 32;
+
+    /** shared multiplier using the default cutoff */
+    private static final StrassenMultiplier DEFAULTS = new StrassenMultiplier(DEFAULT_CUTOFF, TiledMultiplier.defaults());
+
+    /** largest dimension multiplied by the classical kernel */
+    private final int cutoff;
+    /** classical kernel for products at or below the cutoff */
+    private final TiledMultiplier base;
+
+    /**
+     * A private constructor for StrassenMultiplier
+     * @param cutoff largest dimension multiplied by the classical kernel
+     * @param base classical kernel for products at or below the cutoff
+     */
+    private StrassenMultiplier(int cutoff, TiledMultiplier base) {
+        this.cutoff = cutoff;
+        this.base = base;
+    }
+
+    /**
+     * Builder method to return a new StrassenMultiplier with the given cutoff
+     * @param cutoff largest dimension multiplied by the classical kernel
+     * @return a new StrassenMultiplier
+     */
+    public static StrassenMultiplier instance(int cutoff) {
+        //require cutoff to be greater than 0
+        Matrix.InvalidLengthException.requireNonEmpty(Matrix.InvalidLengthException.Cause.ROW, cutoff);
+
+        return new StrassenMultiplier(cutoff, TiledMultiplier.defaults());
+    }
+
+    /**
+     * Returns the StrassenMultiplier with the default cutoff
+     * @return the default StrassenMultiplier
+     */
+    public static StrassenMultiplier defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of this StrassenMultiplier that uses the given classical kernel at or below the cutoff
+     * @param base the classical kernel, which may compute in parallel
+     * @return a StrassenMultiplier with the same cutoff
+     */
+    public StrassenMultiplier withBase(TiledMultiplier base) {
+        Objects.requireNonNull(base, "base must not be null");
+
+        return new StrassenMultiplier(cutoff, base);
+    }
+
+    /**
+     * Getter method for the cutoff
+     * @return largest dimension multiplied by the classical kernel
+     */
+    public int getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * Getter method for the classical kernel
+     * @return the kernel for products at or below the cutoff
+     */
+    public TiledMultiplier getBase() {
+        return base;
+    }
+
+    /**
+     * Computes c += a * b for row-major arrays of ring elements
+     * Entries of c that are null are treated as empty, so the product is stored into them directly
+     * @param <T> the type of data being multiplied
+     * @param a the m x k left operand
+     * @param b the k x n right operand
+     * @param c the m x n array to accumulate the product into
+     * @param m the number of rows of a and c
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     * @param ring ring to compute operations
+     */
+    public <T> void multiply(T[] a, T[] b, T[] c, int m, int k, int n, RingWithNegation<T> ring) {
+        Objects.requireNonNull(ring, "Ring must not be null");
+        if (a.length != (long) m * k || b.length != (long) k * n || c.length != (long) m * n)
+            throw new IllegalArgumentException("array lengths do not match dimensions " + m + "x" + k + " and " + k + "x" + n);
+
+        T[] product = product(a, b, m, k, n, ring);
+        for (int i = 0; i < c.length; i++) {
+            c[i] = (c[i] == null) ? product[i] : ring.sum(c[i], product[i]);
+        }
+    }
+
+    /**
+     * Helper method to compute a * b as a new row-major array, recursing until a dimension reaches the cutoff
+     * @param <T> the type of data being multiplied
+     * @param a the m x k left operand
+     * @param b the k x n right operand
+     * @param m the number of rows of a
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b
+     * @param ring ring to compute operations
+     * @return the m x n product
+     */
+    private <T> T[] product(T[] a, T[] b, int m, int k, int n, RingWithNegation<T> ring) {
+        if (Math.min(m, Math.min(k, n)) <= cutoff) {
+            T[] c = MatrixMap.newArray(m * n);
+            base.multiply(a, b, c, m, k, n, ring);
+            return c;
+        }
+
+        //split each dimension in half, rounding up so the second half is padded with zero when odd
+        int m1 = (m + 1) / 2;
+        int k1 = (k + 1) / 2;
+        int n1 = (n + 1) / 2;
+        T[] a11 = block(a, m, k, 0, 0, m1, k1, ring);
+        T[] a12 = block(a, m, k, 0, k1, m1, k1, ring);
+        T[] a21 = block(a, m, k, m1, 0, m1, k1, ring);
+        T[] a22 = block(a, m, k, m1, k1, m1, k1, ring);
+        T[] b11 = block(b, k, n, 0, 0, k1, n1, ring);
+        T[] b12 = block(b, k, n, 0, n1, k1, n1, ring);
+        T[] b21 = block(b, k, n, k1, 0, k1, n1, ring);
+        T[] b22 = block(b, k, n, k1, n1, k1, n1, ring);
+
+        //Winograd's sums of the blocks of a and b
+        T[] s1 = sum(a21, a22, ring);
+        T[] s2 = difference(s1, a11, ring);
+        T[] s3 = difference(a11, a21, ring);
+        T[] s4 = difference(a12, s2, ring);
+        T[] t1 = difference(b12, b11, ring);
+        T[] t2 = difference(b22, t1, ring);
+        T[] t3 = difference(b22, b12, ring);
+        T[] t4 = difference(t2, b21, ring);
+
+        //the seven block products
+        T[] p1 = product(a11, b11, m1, k1, n1, ring);
+        T[] p2 = product(a12, b21, m1, k1, n1, ring);
+        T[] p3 = product(s4, b22, m1, k1, n1, ring);
+        T[] p4 = product(a22, t4, m1, k1, n1, ring);
+        T[] p5 = product(s1, t1, m1, k1, n1, ring);
+        T[] p6 = product(s2, t2, m1, k1, n1, ring);
+        T[] p7 = product(s3, t3, m1, k1, n1, ring);
+
+        //combine the products into the blocks of c
+        T[] u2 = sum(p1, p6, ring);
+        T[] u3 = sum(u2, p7, ring);
+        T[] c = MatrixMap.newArray(m * n);
+        place(c, m, n, sum(p1, p2, ring), 0, 0, m1, n1);
+        place(c, m, n, sum(sum(u2, p5, ring), p3, ring), 0, n1, m1, n1);
+        place(c, m, n, difference(u3, p4, ring), m1, 0, m1, n1);
+        place(c, m, n, sum(u3, p5, ring), m1, n1, m1, n1);
+        return c;
+    }
+
+    /**
+     * Helper method to copy a block of a row-major array, with zero for entries outside the array
+     * @param <T> the type of data stored in the array
+     * @param source the array to copy from
+     * @param rows the number of rows of source
+     * @param columns the number of columns of source
+     * @param rowFrom first row of the block
+     * @param columnFrom first column of the block
+     * @param height the number of rows of the block
+     * @param width the number of columns of the block
+     * @param ring ring for the zero value
+     * @return new row-major array of the block
+     */
+    private static <T> T[] block(T[] source, int rows, int columns, int rowFrom, int columnFrom, int height, int width, RingWithNegation<T> ring) {
+        T[] block = MatrixMap.newArray(height * width);
+
+        for (int row = 0, i = 0; row < height; row++) {
+            for (int column = 0; column < width; column++, i++) {
+                int sourceRow = rowFrom + row;
+                int sourceColumn = columnFrom + column;
+                block[i] = (sourceRow < rows && sourceColumn < columns) ? source[sourceRow * columns + sourceColumn] : ring.zero();
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Helper method to copy a block into a row-major array, dropping entries outside the array
+     * @param <T> the type of data stored in the array
+     * @param target the array to copy into
+     * @param rows the number of rows of target
+     * @param columns the number of columns of target
+     * @param block the row-major block to copy
+     * @param rowFrom row of target for the first row of the block
+     * @param columnFrom column of target for the first column of the block
+     * @param height the number of rows of the block
+     * @param width the number of columns of the block
+     */
+    private static <T> void place(T[] target, int rows, int columns, T[] block, int rowFrom, int columnFrom, int height, int width) {
+        for (int row = 0; row < height && rowFrom + row < rows; row++) {
+            for (int column = 0; column < width && columnFrom + column < columns; column++) {
+                target[(rowFrom + row) * columns + columnFrom + column] = block[row * width + column];
+            }
+        }
+    }
+
+    /**
+     * Helper method to add two arrays entry by entry
+     * @param <T> the type of data being added
+     * @param x the first array
+     * @param y the second array, of the same length
+     * @param ring ring to compute operations
+     * @return new array of the sums
+     */
+    private static <T> T[] sum(T[] x, T[] y, RingWithNegation<T> ring) {
+        T[] sum = MatrixMap.newArray(x.length);
+
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] = ring.sum(x[i], y[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Helper method to subtract two arrays entry by entry
+     * @param <T> the type of data being subtracted
+     * @param x the array to subtract from
+     * @param y the array to subtract, of the same length
+     * @param ring ring to compute operations
+     * @return new array of the differences
+     */
+    private static <T> T[] difference(T[] x, T[] y, RingWithNegation<T> ring) {
+        T[] difference = MatrixMap.newArray(x.length);
+
+        for (int i = 0; i < difference.length; i++) {
+            difference[i] = ring.difference(x[i], y[i]);
+        }
+        return difference;
+    }
+}
@@ -0,0 +1,417 @@
+/**
+ * Class to compute cache-blocked (tiled) matrix multiplication
+ * @author Ethan Tobey
+ */
+
+ //NOTE: all operands are flat row-major arrays, a is m x k, b is k x n and c is m x n
+ //blocks of a, b and c are kept small enough to stay in cache while they are reused
+ //with a pool, ranges of rows of c are computed in parallel, so Ring implementations used with it must be thread-safe
+package MatrixPackage;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import RingsPackage.Ring;
+
+public final class TiledMultiplier {
+    /** default number of rows of a and c per block */
+    public static final int DEFAULT_ROW_BLOCK = 64;
+    /** default number of columns of a and rows of b per block */
+    public static final int DEFAULT_INNER_BLOCK = 128;
+    /** default number of columns of b and c per block */
+    public static final int DEFAULT_COLUMN_BLOCK = 256;
+
+    /** shared multiplier using the default block sizes */
+    private static final TiledMultiplier DEFAULTS = new TiledMultiplier(DEFAULT_ROW_BLOCK, DEFAULT_INNER_BLOCK, DEFAULT_COLUMN_BLOCK, null);
+
+    /** number of rows of a and c per block */
+    private final int rowBlock;
+    /** number of columns of a and rows of b per block */
+    private final int innerBlock;
+    /** number of columns of b and c per block */
+    private final int columnBlock;
+    /** pool to compute rows of c in parallel, or null to compute sequentially */
+    private final ForkJoinPool pool;
+
+    /**
+     * A private constructor for TiledMultiplier
+     * @param rowBlock number of rows of a and c per block
+     * @param innerBlock number of columns of a and rows of b per block
+     * @param columnBlock number of columns of b and c per block
+     * @param pool pool to compute rows of c in parallel, or null to compute sequentially
+     */
+    private TiledMultiplier(int rowBlock, int innerBlock, int columnBlock, ForkJoinPool pool) {
+        this.rowBlock = rowBlock;
+        this.innerBlock = innerBlock;
+        this.columnBlock = columnBlock;
+        this.pool = pool;
+    }
+
+    /**
+     * Builder method to return a new TiledMultiplier with the given block sizes
+     * @param rowBlock number of rows of a and c per block
+     * @param innerBlock number of columns of a and rows of b per block
+     * @param columnBlock number of columns of b and c per block
+     * @return a new TiledMultiplier
+     */
+    public static TiledMultiplier instance(int rowBlock, int innerBlock, int columnBlock) {
+        //require all block sizes to be greater than 0
+        Matrix.InvalidLengthException.requireNonEmpty(Matrix.InvalidLengthException.Cause.ROW, rowBlock);
+        Matrix.InvalidLengthException.requireNonEmpty(Matrix.InvalidLengthException.Cause.COLUMN, innerBlock);
+        Matrix.InvalidLengthException.requireNonEmpty(Matrix.InvalidLengthException.Cause.COLUMN, columnBlock);
+
+        return new TiledMultiplier(rowBlock, innerBlock, columnBlock, null);
+    }
+
+    /**
+     * Returns the TiledMultiplier with default block sizes
+     * @return the default TiledMultiplier
+     */
+    public static TiledMultiplier defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of this TiledMultiplier that computes rows of the product in parallel in the given pool
+     * @param pool the pool to run in
+     * @return a parallel TiledMultiplier with the same block sizes
+     */
+    public TiledMultiplier withPool(ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool must not be null");
+
+        return new TiledMultiplier(rowBlock, innerBlock, columnBlock, pool);
+    }
+
+    /**
+     * Returns a copy of this TiledMultiplier that computes rows of the product in parallel in a new pool
+     * The caller owns the new pool and shuts it down through getPool once done, or passes a shared pool to withPool instead
+     * @param parallelism the number of threads of the new pool
+     * @return a parallel TiledMultiplier with the same block sizes
+     */
+    public TiledMultiplier withParallelism(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be positive");
+
+        return withPool(new ForkJoinPool(parallelism));
+    }
+
+    /**
+     * Returns a copy of this TiledMultiplier that computes sequentially
+     * @return a sequential TiledMultiplier with the same block sizes
+     */
+    public TiledMultiplier sequential() {
+        return (pool == null) ? this : new TiledMultiplier(rowBlock, innerBlock, columnBlock, null);
+    }
+
+    /**
+     * Getter method for the pool
+     * @return the pool rows are computed in, or null if this multiplier is sequential
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Getter method for the row block size
+     * @return number of rows of a and c per block
+     */
+    public int getRowBlock() {
+        return rowBlock;
+    }
+
+    /**
+     * Getter method for the inner block size
+     * @return number of columns of a and rows of b per block
+     */
+    public int getInnerBlock() {
+        return innerBlock;
+    }
+
+    /**
+     * Getter method for the column block size
+     * @return number of columns of b and c per block
+     */
+    public int getColumnBlock() {
+        return columnBlock;
+    }
+
+    /**
+     * Computes c += a * b for row-major double arrays
+     * @param a the m x k left operand
+     * @param b the k x n right operand
+     * @param c the m x n array to accumulate the product into
+     * @param m the number of rows of a and c
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     */
+    public void multiply(double[] a, double[] b, double[] c, int m, int k, int n) {
+        requireLengths(a.length, b.length, c.length, m, k, n);
+
+        ParallelRows.compute(pool, 0, m, ParallelRows.grain(pool, m, rowBlock), (rowFrom, rowTo) -> multiplyRows(a, b, c, k, n, rowFrom, rowTo));
+    }
+
+    /**
+     * Helper method to compute rows [rowFrom, rowTo) of c += a * b for double arrays
+     * @param a the left operand
+     * @param b the right operand
+     * @param c the array to accumulate the product into
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     * @param rowFrom first row of c to compute
+     * @param rowTo row of c to stop before
+     */
+    void multiplyRows(double[] a, double[] b, double[] c, int k, int n, int rowFrom, int rowTo) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += rowBlock) {
+            int iMax = Math.min(i0 + rowBlock, rowTo);
+            for (int p0 = 0; p0 < k; p0 += innerBlock) {
+                int pMax = Math.min(p0 + innerBlock, k);
+                for (int j0 = 0; j0 < n; j0 += columnBlock) {
+                    int jMax = Math.min(j0 + columnBlock, n);
+                    //multiply one block of a by one block of b into one block of c
+                    for (int i = i0; i < iMax; i++) {
+                        int cRow = i * n;
+                        for (int p = p0; p < pMax; p++) {
+                            double aValue = a[i * k + p];
+                            int bRow = p * n;
+                            for (int j = j0; j < jMax; j++) {
+                                c[cRow + j] += aValue * b[bRow + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes c += a * b for row-major long arrays in the given arithmetic mode
+     * Values of a, b and c must already be reduced by the mode
+     * @param a the m x k left operand
+     * @param b the k x n right operand
+     * @param c the m x n array to accumulate the product into
+     * @param m the number of rows of a and c
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     * @param mode arithmetic used for sums and products
+     */
+    public void multiply(long[] a, long[] b, long[] c, int m, int k, int n, ArithmeticMode mode) {
+        Objects.requireNonNull(mode, "mode must not be null");
+        requireLengths(a.length, b.length, c.length, m, k, n);
+
+        ParallelRows.compute(pool, 0, m, ParallelRows.grain(pool, m, rowBlock), (rowFrom, rowTo) -> multiplyRows(a, b, c, k, n, mode, rowFrom, rowTo));
+    }
+
+    /**
+     * Helper method to compute rows [rowFrom, rowTo) of c += a * b for long arrays
+     * @param a the left operand
+     * @param b the right operand
+     * @param c the array to accumulate the product into
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     * @param mode arithmetic used for sums and products
+     * @param rowFrom first row of c to compute
+     * @param rowTo row of c to stop before
+     */
+    void multiplyRows(long[] a, long[] b, long[] c, int k, int n, ArithmeticMode mode, int rowFrom, int rowTo) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += rowBlock) {
+            int iMax = Math.min(i0 + rowBlock, rowTo);
+            for (int p0 = 0; p0 < k; p0 += innerBlock) {
+                int pMax = Math.min(p0 + innerBlock, k);
+                for (int j0 = 0; j0 < n; j0 += columnBlock) {
+                    int jMax = Math.min(j0 + columnBlock, n);
+                    //multiply one block of a by one block of b into one block of c
+                    for (int i = i0; i < iMax; i++) {
+                        for (int p = p0; p < pMax; p++) {
+                            multiplyAddRow(a[i * k + p], b, p * n + j0, c, i * n + j0, jMax - j0, mode);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method to add x times a run of b onto a run of c in the given mode
+     * @param x the scalar to multiply the run of b by
+     * @param b the right operand
+     * @param bFrom offset of the run of b
+     * @param c the array to accumulate into
+     * @param cFrom offset of the run of c
+     * @param length the length of the runs
+     * @param mode arithmetic used for sums and products
+     */
+    private static void multiplyAddRow(long x, long[] b, int bFrom, long[] c, int cFrom, int length, ArithmeticMode mode) {
+        switch (mode.getKind()) {
+            case WRAPPING:
+                for (int j = 0; j < length; j++) {
+                    c[cFrom + j] += x * b[bFrom + j];
+                }
+                break;
+            case CHECKED:
+                for (int j = 0; j < length; j++) {
+                    c[cFrom + j] = Math.addExact(c[cFrom + j], Math.multiplyExact(x, b[bFrom + j]));
+                }
+                break;
+            default:
+                long modulus = mode.getModulus();
+                if (modulus <= ArithmeticMode.SMALL_MODULUS) {
+                    //reduced sum plus product of reduced values stays below Long.MAX_VALUE, so one remainder per step is enough
+                    for (int j = 0; j < length; j++) {
+                        c[cFrom + j] = (c[cFrom + j] + x * b[bFrom + j]) % modulus;
+                    }
+                }
+                else {
+                    for (int j = 0; j < length; j++) {
+                        c[cFrom + j] = mode.sum(c[cFrom + j], mode.product(x, b[bFrom + j]));
+                    }
+                }
+        }
+    }
+
+    /**
+     * Computes c += a * b for row-major int arrays in the given arithmetic mode
+     * Values of a, b and c must already be reduced by the mode, whose modulus must fit in an int
+     * @param a the m x k left operand
+     * @param b the k x n right operand
+     * @param c the m x n array to accumulate the product into
+     * @param m the number of rows of a and c
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     * @param mode arithmetic used for sums and products
+     */
+    public void multiply(int[] a, int[] b, int[] c, int m, int k, int n, ArithmeticMode mode) {
+        Objects.requireNonNull(mode, "mode must not be null").requireIntModulus();
+        requireLengths(a.length, b.length, c.length, m, k, n);
+
+        ParallelRows.compute(pool, 0, m, ParallelRows.grain(pool, m, rowBlock), (rowFrom, rowTo) -> multiplyRows(a, b, c, k, n, mode, rowFrom, rowTo));
+    }
+
+    /**
+     * Helper method to compute rows [rowFrom, rowTo) of c += a * b for int arrays
+     * @param a the left operand
+     * @param b the right operand
+     * @param c the array to accumulate the product into
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     * @param mode arithmetic used for sums and products
+     * @param rowFrom first row of c to compute
+     * @param rowTo row of c to stop before
+     */
+    void multiplyRows(int[] a, int[] b, int[] c, int k, int n, ArithmeticMode mode, int rowFrom, int rowTo) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += rowBlock) {
+            int iMax = Math.min(i0 + rowBlock, rowTo);
+            for (int p0 = 0; p0 < k; p0 += innerBlock) {
+                int pMax = Math.min(p0 + innerBlock, k);
+                for (int j0 = 0; j0 < n; j0 += columnBlock) {
+                    int jMax = Math.min(j0 + columnBlock, n);
+                    //multiply one block of a by one block of b into one block of c
+                    for (int i = i0; i < iMax; i++) {
+                        for (int p = p0; p < pMax; p++) {
+                            multiplyAddRow(a[i * k + p], b, p * n + j0, c, i * n + j0, jMax - j0, mode);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method to add x times a run of b onto a run of c in the given mode
+     * @param x the scalar to multiply the run of b by
+     * @param b the right operand
+     * @param bFrom offset of the run of b
+     * @param c the array to accumulate into
+     * @param cFrom offset of the run of c
+     * @param length the length of the runs
+     * @param mode arithmetic used for sums and products
+     */
+    private static void multiplyAddRow(int x, int[] b, int bFrom, int[] c, int cFrom, int length, ArithmeticMode mode) {
+        switch (mode.getKind()) {
+            case WRAPPING:
+                for (int j = 0; j < length; j++) {
+                    c[cFrom + j] += x * b[bFrom + j];
+                }
+                break;
+            case CHECKED:
+                for (int j = 0; j < length; j++) {
+                    c[cFrom + j] = Math.addExact(c[cFrom + j], Math.multiplyExact(x, b[bFrom + j]));
+                }
+                break;
+            default:
+                long modulus = mode.getModulus();
+                //modulus fits in an int, so reduced sum plus product of reduced values fits in a long
+                for (int j = 0; j < length; j++) {
+                    c[cFrom + j] = (int) ((c[cFrom + j] + (long) x * b[bFrom + j]) % modulus);
+                }
+        }
+    }
+
+    /**
+     * Computes c += a * b for row-major arrays of ring elements
+     * Entries of c that are null are treated as empty, so the first product into them is stored directly
+     * Each entry of c sums its products in increasing inner index, the same order as a plain row times column
+     * @param <T> the type of data being multiplied
+     * @param a the m x k left operand
+     * @param b the k x n right operand
+     * @param c the m x n array to accumulate the product into
+     * @param m the number of rows of a and c
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     * @param ring ring to compute operations
+     */
+    public <T> void multiply(T[] a, T[] b, T[] c, int m, int k, int n, Ring<T> ring) {
+        Objects.requireNonNull(ring, "Ring must not be null");
+        requireLengths(a.length, b.length, c.length, m, k, n);
+
+        ParallelRows.compute(pool, 0, m, ParallelRows.grain(pool, m, rowBlock), (rowFrom, rowTo) -> multiplyRows(a, b, c, k, n, ring, rowFrom, rowTo));
+    }
+
+    /**
+     * Helper method to compute rows [rowFrom, rowTo) of c += a * b for arrays of ring elements
+     * @param <T> the type of data being multiplied
+     * @param a the left operand
+     * @param b the right operand
+     * @param c the array to accumulate the product into
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     * @param ring ring to compute operations
+     * @param rowFrom first row of c to compute
+     * @param rowTo row of c to stop before
+     */
+    <T> void multiplyRows(T[] a, T[] b, T[] c, int k, int n, Ring<T> ring, int rowFrom, int rowTo) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += rowBlock) {
+            int iMax = Math.min(i0 + rowBlock, rowTo);
+            for (int p0 = 0; p0 < k; p0 += innerBlock) {
+                int pMax = Math.min(p0 + innerBlock, k);
+                for (int j0 = 0; j0 < n; j0 += columnBlock) {
+                    int jMax = Math.min(j0 + columnBlock, n);
+                    //multiply one block of a by one block of b into one block of c
+                    for (int i = i0; i < iMax; i++) {
+                        int cRow = i * n;
+                        for (int p = p0; p < pMax; p++) {
+                            T aValue = a[i * k + p];
+                            int bRow = p * n;
+                            for (int j = j0; j < jMax; j++) {
+                                T product = ring.product(aValue, b[bRow + j]);
+                                c[cRow + j] = (c[cRow + j] == null) ? product : ring.sum(c[cRow + j], product);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method to check that array lengths match the given dimensions
+     * @param aLength length of the left operand
+     * @param bLength length of the right operand
+     * @param cLength length of the result
+     * @param m the number of rows of a and c
+     * @param k the number of columns of a and rows of b
+     * @param n the number of columns of b and c
+     */
+    private static void requireLengths(int aLength, int bLength, int cLength, int m, int k, int n) {
+        if (aLength != (long) m * k || bLength != (long) k * n || cLength != (long) m * n)
+            throw new IllegalArgumentException("array lengths do not match dimensions " + m + "x" + k + " and " + k + "x" + n);
+    }
+}
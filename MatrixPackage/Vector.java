@@ -0,0 +1,28 @@
+/**
+ * Interface to represent a column Vector
+ * @author Ethan Tobey
+ */
+package MatrixPackage;
+
+import java.util.Map;
+
+public interface Vector<T> {
+    /**
+     * Returns the value at given index
+     * @param index the index at which to retrieve value
+     * @return the value at given index, or null if the index is outside the vector
+     */
+    public T value(int index);
+
+    /**
+     * Returns the number of values of the vector
+     * @return the length of the vector
+     */
+    public int length();
+
+    /**
+     * Returns the map representation of the vector
+     * @return the map storing the vector values
+     */
+    public Map<Integer, T> getMap();
+}
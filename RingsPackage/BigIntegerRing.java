@@ -8,7 +8,7 @@ import java.math.BigInteger;
 import java.util.Objects;
 
 
-public class BigIntegerRing implements Ring<BigInteger> {
+public class BigIntegerRing implements IntegralDomain<BigInteger> {
     
     /**
      * Returns 0 in BigInteger type
@@ -57,4 +57,47 @@ public class BigIntegerRing implements Ring<BigInteger> {
 
         return x.multiply(y);
     }
+
+    /**
+     * Returns the additive inverse of input x
+     * @param x the BigInteger to negate
+     * @return the negation of x
+     */
+    @Override
+    public BigInteger negate(BigInteger x) {
+        //make sure input is not null
+        Objects.requireNonNull(x, "BigInteger must not be null");
+
+        return x.negate();
+    }
+
+    /**
+     * Returns the difference of inputs x and y
+     * @param x the BigInteger to subtract from
+     * @param y the BigInteger to subtract
+     * @return x minus y
+     */
+    @Override
+    public BigInteger difference(BigInteger x, BigInteger y) {
+        //make sure inputs are not null
+        Objects.requireNonNull(x, "BigInteger must not be null");
+        Objects.requireNonNull(y, "BigInteger must not be null");
+
+        return x.subtract(y);
+    }
+
+    /**
+     * Returns the quotient of inputs x and y, where y divides x exactly
+     * @param x the BigInteger to divide
+     * @param y the BigInteger to divide by
+     * @return x divided by y
+     */
+    @Override
+    public BigInteger exactQuotient(BigInteger x, BigInteger y) {
+        //make sure inputs are not null
+        Objects.requireNonNull(x, "BigInteger must not be null");
+        Objects.requireNonNull(y, "BigInteger must not be null");
+
+        return x.divide(y);
+    }
 }
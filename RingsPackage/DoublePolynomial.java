@@ -0,0 +1,177 @@
+/**
+ * Class to represent a polynomial of primitive double coefficients
+ * @author Ethan Tobey
+ */
+
+ //NOTE: coefficients are held in one double[] in the same order as Polynomial, from highest to lowest degree.
+ //Sums and products can be written into caller-owned arrays, so repeated operations need not allocate
+package RingsPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public final class DoublePolynomial {
+    /** coefficients in order from highest to lowest degree */
+    private final double[] values;
+
+    /**
+     * A private constructor for DoublePolynomial
+     * @param values coefficients, not copied
+     */
+    private DoublePolynomial(double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * A builder method to return a new DoublePolynomial
+     * @param coefficients array of coefficients in order from highest to lowest degree, which is copied
+     * @return new DoublePolynomial of the coefficients
+     */
+    public static DoublePolynomial from(double[] coefficients) {
+        Objects.requireNonNull(coefficients, "Coefficients array must not be null");
+
+        return new DoublePolynomial(coefficients.clone());
+    }
+
+    /**
+     * A builder method to return a new DoublePolynomial holding the coefficients of a Polynomial of Doubles
+     * @param polynomial the Polynomial to copy, such as a product from PolynomialRing
+     * @return new DoublePolynomial of the coefficients
+     */
+    public static DoublePolynomial from(Polynomial<Double> polynomial) {
+        Objects.requireNonNull(polynomial, "Polynomial must not be null");
+
+        List<Double> coefficients = polynomial.getCoefficients();
+        double[] values = new double[coefficients.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Objects.requireNonNull(coefficients.get(i), "coefficients must not be null");
+        }
+        return new DoublePolynomial(values);
+    }
+
+    /**
+     * Returns the number of coefficients of this DoublePolynomial
+     * @return the number of coefficients
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the coefficient at the given index without boxing
+     * @param index the index of the coefficient, where 0 is the highest degree
+     * @return the coefficient at the index
+     */
+    public double get(int index) {
+        //check that input is valid else throw exception
+        if (index < 0 || index >= values.length)
+            throw new IndexOutOfBoundsException(index);
+
+        return values[index];
+    }
+
+    /**
+     * Returns an array copy of the coefficients of this DoublePolynomial
+     * @return array of the coefficients in order from highest to lowest degree
+     */
+    public double[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Convert this DoublePolynomial to Polynomial, for use with PolynomialRing
+     * @return Polynomial of the same coefficients
+     */
+    public Polynomial<Double> toPolynomial() {
+        List<Double> coefficients = new ArrayList<>(values.length);
+
+        for (double value : values) {
+            coefficients.add(value);
+        }
+        return Polynomial.from(coefficients);
+    }
+
+    /**
+     * Overrides String representation to be the coefficients of this DoublePolynomial, as for Polynomial
+     * @return String representation of this DoublePolynomial
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    /**
+     * Computes the sum of two DoublePolynomials
+     * Coefficients are added index by index from the first coefficient, as Polynomial.plus does
+     * @param other other DoublePolynomial to add to this
+     * @return the sum of this and other DoublePolynomials
+     */
+    public DoublePolynomial plus(DoublePolynomial other) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+
+        return new DoublePolynomial(plus(other, new double[Math.max(values.length, other.values.length)]));
+    }
+
+    /**
+     * Computes the sum of two DoublePolynomials into a destination array without allocating
+     * Every value of the destination is overwritten, so one destination can be reused for repeated sums
+     * @param other other DoublePolynomial to add to this
+     * @param destination array to store the sum in, with as many values as the longer polynomial
+     * @return the destination, holding the sum
+     */
+    public double[] plus(DoublePolynomial other, double[] destination) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+        Objects.requireNonNull(destination, "destination must not be null");
+        if (destination.length != Math.max(values.length, other.values.length))
+            throw new IllegalArgumentException("destination length " + destination.length + " does not match the sum");
+
+        double[] shorter = (values.length < other.values.length) ? values : other.values;
+        double[] longer = (shorter == values) ? other.values : values;
+        //the values past the shorter polynomial are copied
+        System.arraycopy(longer, shorter.length, destination, shorter.length, longer.length - shorter.length);
+        for (int i = 0; i < shorter.length; i++) {
+            destination[i] = values[i] + other.values[i];
+        }
+        return destination;
+    }
+
+    /**
+     * Computes the product of two DoublePolynomials
+     * @param other other DoublePolynomial to multiply by this
+     * @return the product of this and other DoublePolynomials
+     */
+    public DoublePolynomial times(DoublePolynomial other) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+
+        return new DoublePolynomial(times(other, new double[Math.max(values.length + other.values.length - 1, 0)]));
+    }
+
+    /**
+     * Computes the product of two DoublePolynomials into a destination array without allocating
+     * Every value of the destination is overwritten, so one destination can be reused for repeated products
+     * @param other other DoublePolynomial to multiply by this
+     * @param destination array to store the product in, with one value less than the two polynomials together
+     * @return the destination, holding the product
+     */
+    public double[] times(DoublePolynomial other, double[] destination) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+        Objects.requireNonNull(destination, "destination must not be null");
+        if (destination.length != Math.max(values.length + other.values.length - 1, 0))
+            throw new IllegalArgumentException("destination length " + destination.length + " does not match the product");
+
+        Arrays.fill(destination, 0);
+        for (int i = 0; i < values.length; i++) {
+            double x = values[i];
+            for (int j = 0; j < other.values.length; j++) {
+                destination[i + j] += x * other.values[j];
+            }
+        }
+        return destination;
+    }
+}
@@ -7,7 +7,7 @@ package RingsPackage;
 import java.util.Objects;
 
 
-public class DoubleRing implements Ring<Double> {
+public class DoubleRing implements Field<Double> {
     
     /**
      * Returns 0 in Double type
@@ -56,4 +56,94 @@ public class DoubleRing implements Ring<Double> {
 
         return x * y;
     }
+
+    /**
+     * Returns the additive inverse of input x
+     * @param x the Double to negate
+     * @return the negation of x
+     */
+    @Override
+    public Double negate(Double x) {
+        //check that input isn't null
+        Objects.requireNonNull(x, "Double must not be null");
+
+        return -x;
+    }
+
+    /**
+     * Returns the difference of inputs x and y
+     * @param x the Double to subtract from
+     * @param y the Double to subtract
+     * @return x minus y
+     */
+    @Override
+    public Double difference(Double x, Double y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Double must not be null");
+        Objects.requireNonNull(y, "Double must not be null");
+
+        return x - y;
+    }
+
+    /**
+     * Returns the multiplicative inverse of input x
+     * @param x the nonzero Double to invert
+     * @return 1 divided by x
+     */
+    @Override
+    public Double inverse(Double x) {
+        //check that input isn't null
+        Objects.requireNonNull(x, "Double must not be null");
+        //zero has no inverse
+        if (x == 0)
+            throw new ArithmeticException("zero has no inverse");
+
+        return 1 / x;
+    }
+
+    /**
+     * Returns the quotient of inputs x and y, divided directly rather than through the inverse of y
+     * @param x the Double to divide
+     * @param y the nonzero Double to divide by
+     * @return x divided by y
+     */
+    @Override
+    public Double exactQuotient(Double x, Double y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Double must not be null");
+        Objects.requireNonNull(y, "Double must not be null");
+        //zero has no inverse
+        if (y == 0)
+            throw new ArithmeticException("zero has no inverse");
+
+        return x / y;
+    }
+
+    /**
+     * Returns whether input x is zero, compared by == so that -0.0 is zero too
+     * @param x the Double to check
+     * @return true if x is 0.0 or -0.0
+     */
+    @Override
+    public boolean isZero(Double x) {
+        //check that input isn't null
+        Objects.requireNonNull(x, "Double must not be null");
+
+        return x == 0;
+    }
+
+    /**
+     * Returns whether candidate has a larger magnitude than pivot, so small pivots do not swamp the other rows with rounding error
+     * @param candidate the nonzero Double that could replace the pivot
+     * @param pivot the nonzero pivot found so far
+     * @return true if candidate is larger in magnitude than pivot
+     */
+    @Override
+    public boolean isBetterPivot(Double candidate, Double pivot) {
+        //check that inputs aren't null
+        Objects.requireNonNull(candidate, "Double must not be null");
+        Objects.requireNonNull(pivot, "Double must not be null");
+
+        return Math.abs(candidate) > Math.abs(pivot);
+    }
 }
@@ -0,0 +1,28 @@
+/**
+ * Interface to make field data types, whose nonzero values have multiplicative inverses that can be computed
+ * @author Ethan Tobey
+ */
+package RingsPackage;
+
+
+public interface Field<T> extends IntegralDomain<T> {
+
+    /**
+     * Returns the multiplicative inverse of input x
+     * @param x the nonzero input to invert
+     * @return the value that multiplies with x to identity
+     */
+    public T inverse(T x);
+
+    /**
+     * Returns the quotient of inputs x and y
+     * Every nonzero value of a field divides every other, so any nonzero y may be given
+     * @param x the input to divide
+     * @param y the nonzero input to divide by
+     * @return x times the inverse of y
+     */
+    @Override
+    public default T exactQuotient(T x, T y) {
+        return product(x, inverse(y));
+    }
+}
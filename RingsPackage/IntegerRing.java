@@ -7,7 +7,7 @@ package RingsPackage;
 import java.util.Objects;
 
 
-public class IntegerRing implements Ring<Integer> {
+public class IntegerRing implements RingWithNegation<Integer> {
     
     /**
      * Returns 0 in Integer type
@@ -56,4 +56,47 @@ public class IntegerRing implements Ring<Integer> {
 
         return x * y;
     }
-} 
+
+    /**
+     * Returns the additive inverse of input x
+     * @param x the Integer to negate
+     * @return the negation of x
+     */
+    @Override
+    public Integer negate(Integer x) {
+        //check that input isn't null
+        Objects.requireNonNull(x, "Integer must not be null");
+
+        return -x;
+    }
+
+    /**
+     * Returns the difference of inputs x and y
+     * @param x the Integer to subtract from
+     * @param y the Integer to subtract
+     * @return x minus y
+     */
+    @Override
+    public Integer difference(Integer x, Integer y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Integer must not be null");
+        Objects.requireNonNull(y, "Integer must not be null");
+
+        return x - y;
+    }
+
+    /**
+     * Returns the quotient of inputs x and y, where y divides x exactly
+     * Integer arithmetic wraps on overflow, which gives zero divisors, so this ring is not an IntegralDomain
+     * @param x the Integer to divide
+     * @param y the Integer to divide by
+     * @return x divided by y
+     */
+    public Integer exactQuotient(Integer x, Integer y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Integer must not be null");
+        Objects.requireNonNull(y, "Integer must not be null");
+
+        return x / y;
+    }
+}
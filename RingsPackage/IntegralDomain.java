@@ -0,0 +1,38 @@
+/**
+ * Interface to make commutative ring data types without zero divisors, whose exact quotients can be computed
+ * @author Ethan Tobey
+ */
+package RingsPackage;
+
+
+public interface IntegralDomain<T> extends RingWithNegation<T> {
+
+    /**
+     * Returns the quotient of inputs x and y, where y is known to divide x
+     * @param x the input to divide
+     * @param y the nonzero input to divide by, which divides x exactly
+     * @return the value that multiplies with y to x
+     */
+    public T exactQuotient(T x, T y);
+
+    /**
+     * Returns whether input x is zero
+     * Values are compared by equals, since computed zero values need not be the zero instance
+     * @param x the input to check
+     * @return true if x is zero
+     */
+    public default boolean isZero(T x) {
+        return zero().equals(x);
+    }
+
+    /**
+     * Returns whether nonzero input candidate makes a better elimination pivot than nonzero input pivot
+     * Exact values are all equally good pivots, so the first nonzero value found is kept
+     * @param candidate the nonzero value that could replace the pivot
+     * @param pivot the nonzero pivot found so far
+     * @return true if candidate should replace pivot
+     */
+    public default boolean isBetterPivot(T candidate, T pivot) {
+        return false;
+    }
+}
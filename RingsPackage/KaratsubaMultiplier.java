@@ -0,0 +1,227 @@
+/**
+ * Class to compute Polynomial multiplication with the Karatsuba algorithm
+ * @author Ethan Tobey
+ */
+
+ //NOTE: each level splits both operands in half and computes the product with 3 half-size products instead of 4,
+ //taking the middle coefficients as (a0 + a1)(b0 + b1) - a0 b0 - a1 b1, so ring products drop to about n^1.58.
+ //Operands of different lengths are cut into pieces the length of the shorter one, and once the shorter operand
+ //reaches the cutoff the remaining product is computed by the schoolbook method. Coefficients work on arrays copied
+ //once from the polynomials, and the algorithm never swaps the order of a product, so rings need not be commutative
+package RingsPackage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public final class KaratsubaMultiplier {
+    /** default largest length multiplied by the schoolbook method */
+    public static final int DEFAULT_CUTOFF = 32;
+
+    /** shared multiplier using the default cutoff */
+    private static final KaratsubaMultiplier DEFAULTS = new KaratsubaMultiplier(DEFAULT_CUTOFF);
+
+    /** largest length of the shorter operand multiplied by the schoolbook method */
+    private final int cutoff;
+
+    /**
+     * A private constructor for KaratsubaMultiplier
+     * @param cutoff largest length of the shorter operand multiplied by the schoolbook method
+     */
+    private KaratsubaMultiplier(int cutoff) {
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Builder method to return a new KaratsubaMultiplier with the given cutoff
+     * @param cutoff largest length of the shorter operand multiplied by the schoolbook method
+     * @return a new KaratsubaMultiplier
+     */
+    public static KaratsubaMultiplier instance(int cutoff) {
+        //require cutoff to be greater than 0
+        if (cutoff < 1)
+            throw new IllegalArgumentException("cutoff must be greater than 0");
+
+        return new KaratsubaMultiplier(cutoff);
+    }
+
+    /**
+     * Returns the KaratsubaMultiplier with the default cutoff
+     * @return the default KaratsubaMultiplier
+     */
+    public static KaratsubaMultiplier defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Getter method for the cutoff
+     * @return largest length of the shorter operand multiplied by the schoolbook method
+     */
+    public int getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * Computes the coefficients of the product of two lists of coefficients
+     * @param <T> the type of data being multiplied
+     * @param a the coefficients of the left operand, not empty
+     * @param b the coefficients of the right operand, not empty
+     * @param ring ring to compute operations
+     * @return the a.size() + b.size() - 1 coefficients of the product
+     */
+    public <T> List<T> multiply(List<T> a, List<T> b, RingWithNegation<T> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(a, "Coefficients list must not be null");
+        Objects.requireNonNull(b, "Coefficients list must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        if (a.isEmpty() || b.isEmpty())
+            throw new IllegalArgumentException("Coefficients list must not be empty");
+
+        T[] x = toArray(a);
+        T[] y = toArray(b);
+        return Arrays.asList(product(x, 0, x.length, y, 0, y.length, ring));
+    }
+
+    /**
+     * Helper method to compute the schoolbook product of two ranges of coefficients
+     * Each coefficient of the product adds its terms in order of the left operand, starting from the first term
+     * @param <T> the type of data being multiplied
+     * @param a the coefficients of the left operand
+     * @param aFrom index of the first coefficient of the left range
+     * @param aLength the number of coefficients of the left range, at least 1
+     * @param b the coefficients of the right operand
+     * @param bFrom index of the first coefficient of the right range
+     * @param bLength the number of coefficients of the right range, at least 1
+     * @param ring ring to compute operations
+     * @return new array of the aLength + bLength - 1 coefficients of the product
+     */
+    static <T> T[] schoolbook(T[] a, int aFrom, int aLength, T[] b, int bFrom, int bLength, Ring<T> ring) {
+        T[] product = newArray(aLength + bLength - 1);
+
+        for (int k = 0; k < product.length; k++) {
+            //terms a[i] * b[k - i] with both indexes inside their ranges
+            int i = Math.max(0, k - bLength + 1);
+            T sum = ring.product(a[aFrom + i], b[bFrom + k - i]);
+            for (i++; i <= Math.min(k, aLength - 1); i++) {
+                sum = ring.sum(sum, ring.product(a[aFrom + i], b[bFrom + k - i]));
+            }
+            product[k] = sum;
+        }
+        return product;
+    }
+
+    /**
+     * Helper method to compute the product of two ranges of coefficients, recursing until the shorter reaches the cutoff
+     * @param <T> the type of data being multiplied
+     * @param a the coefficients of the left operand
+     * @param aFrom index of the first coefficient of the left range
+     * @param aLength the number of coefficients of the left range, at least 1
+     * @param b the coefficients of the right operand
+     * @param bFrom index of the first coefficient of the right range
+     * @param bLength the number of coefficients of the right range, at least 1
+     * @param ring ring to compute operations
+     * @return new array of the aLength + bLength - 1 coefficients of the product
+     */
+    private <T> T[] product(T[] a, int aFrom, int aLength, T[] b, int bFrom, int bLength, RingWithNegation<T> ring) {
+        if (Math.min(aLength, bLength) <= cutoff)
+            return schoolbook(a, aFrom, aLength, b, bFrom, bLength, ring);
+
+        //cut the longer operand into pieces the length of the shorter and add their shifted products
+        if (aLength != bLength) {
+            T[] product = newArray(aLength + bLength - 1);
+            int piece = Math.min(aLength, bLength);
+            for (int from = 0; from < Math.max(aLength, bLength); from += piece) {
+                T[] part = (aLength > bLength)
+                    ? product(a, aFrom + from, Math.min(piece, aLength - from), b, bFrom, bLength, ring)
+                    : product(a, aFrom, aLength, b, bFrom + from, Math.min(piece, bLength - from), ring);
+                add(product, from, part, ring);
+            }
+            return product;
+        }
+
+        //split both operands after half their coefficients, the second half is the longer when the length is odd
+        int half = aLength / 2;
+        int rest = aLength - half;
+        T[] low = product(a, aFrom, half, b, bFrom, half, ring);
+        T[] high = product(a, aFrom + half, rest, b, bFrom + half, rest, ring);
+        T[] middle = product(halfSum(a, aFrom, half, rest, ring), 0, rest, halfSum(b, bFrom, half, rest, ring), 0, rest, ring);
+        for (int i = 0; i < low.length; i++) {
+            middle[i] = ring.difference(middle[i], low[i]);
+        }
+        for (int i = 0; i < high.length; i++) {
+            middle[i] = ring.difference(middle[i], high[i]);
+        }
+
+        //low, middle and high overlap at offsets 0, half and 2 * half
+        T[] product = newArray(2 * aLength - 1);
+        System.arraycopy(low, 0, product, 0, low.length);
+        System.arraycopy(high, 0, product, 2 * half, high.length);
+        product[low.length] = ring.zero();
+        add(product, half, middle, ring);
+        return product;
+    }
+
+    /**
+     * Helper method to add the first and second halves of a range of coefficients
+     * @param <T> the type of data being added
+     * @param values the coefficients
+     * @param from index of the first coefficient of the range
+     * @param half the number of coefficients of the first half
+     * @param rest the number of coefficients of the second half, half or half + 1
+     * @param ring ring to compute operations
+     * @return new array of the rest sums, the last of which is copied when the range has odd length
+     */
+    private static <T> T[] halfSum(T[] values, int from, int half, int rest, Ring<T> ring) {
+        T[] sum = newArray(rest);
+
+        for (int i = 0; i < half; i++) {
+            sum[i] = ring.sum(values[from + i], values[from + half + i]);
+        }
+        if (rest > half)
+            sum[half] = values[from + 2 * half];
+        return sum;
+    }
+
+    /**
+     * Helper method to add an array into another from an offset
+     * Entries of the target that are null are treated as empty, so the values are stored into them directly
+     * @param <T> the type of data being added
+     * @param target the array to add into
+     * @param offset index of target for the first value
+     * @param values the values to add
+     * @param ring ring to compute operations
+     */
+    private static <T> void add(T[] target, int offset, T[] values, Ring<T> ring) {
+        for (int i = 0; i < values.length; i++) {
+            T current = target[offset + i];
+            target[offset + i] = (current == null) ? values[i] : ring.sum(current, values[i]);
+        }
+    }
+
+    /**
+     * Helper method to copy a list of coefficients into an array
+     * @param <T> the type of data stored in the list
+     * @param coefficients the list to copy
+     * @return new array of the coefficients in the same order
+     */
+    static <T> T[] toArray(List<T> coefficients) {
+        T[] array = newArray(coefficients.size());
+
+        int i = 0;
+        for (T coefficient : coefficients) {
+            array[i++] = coefficient;
+        }
+        return array;
+    }
+
+    /**
+     * Helper method to create a generic array
+     * @param <T> the type of data stored in the array
+     * @param length the length of the array
+     * @return new array of nulls
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(int length) {
+        return (T[]) new Object[length];
+    }
+}
@@ -0,0 +1,272 @@
+/**
+ * Class to represent a polynomial of primitive long coefficients
+ * @author Ethan Tobey
+ */
+
+ //NOTE: coefficients are held in one long[] in the same order as Polynomial, from highest to lowest degree, and overflow
+ //is handled by the polynomial's ArithmeticMode, so ArithmeticMode.modular gives polynomials over the integers modulo m.
+ //Sums and products can be written into caller-owned arrays, so repeated operations need not allocate
+package RingsPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import MatrixPackage.ArithmeticMode;
+
+public final class LongPolynomial {
+
+    /** coefficients in order from highest to lowest degree */
+    private final long[] values;
+    /** arithmetic used for sums and products */
+    private final ArithmeticMode mode;
+
+    /**
+     * A private constructor for LongPolynomial
+     * @param values coefficients already reduced by mode, not copied
+     * @param mode arithmetic used for sums and products
+     */
+    private LongPolynomial(long[] values, ArithmeticMode mode) {
+        this.values = values;
+        this.mode = mode;
+    }
+
+    /**
+     * A builder method to return a new LongPolynomial
+     * @param coefficients array of coefficients in order from highest to lowest degree, which is copied
+     * @param mode arithmetic for the LongPolynomial
+     * @return new LongPolynomial of the reduced coefficients
+     */
+    public static LongPolynomial from(long[] coefficients, ArithmeticMode mode) {
+        //ensure inputs not null
+        Objects.requireNonNull(coefficients, "Coefficients array must not be null");
+        Objects.requireNonNull(mode, "mode must not be null");
+
+        long[] values = new long[coefficients.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mode.reduce(coefficients[i]);
+        }
+        return new LongPolynomial(values, mode);
+    }
+
+    /**
+     * A builder method to return a new LongPolynomial holding the coefficients of a Polynomial of Longs
+     * @param polynomial the Polynomial to copy, such as a product from PolynomialRing
+     * @param mode arithmetic for the LongPolynomial
+     * @return new LongPolynomial of the reduced coefficients
+     */
+    public static LongPolynomial from(Polynomial<Long> polynomial, ArithmeticMode mode) {
+        //ensure inputs not null
+        Objects.requireNonNull(polynomial, "Polynomial must not be null");
+        Objects.requireNonNull(mode, "mode must not be null");
+
+        List<Long> coefficients = polynomial.getCoefficients();
+        long[] values = new long[coefficients.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mode.reduce(Objects.requireNonNull(coefficients.get(i), "coefficients must not be null"));
+        }
+        return new LongPolynomial(values, mode);
+    }
+
+    /**
+     * Returns the number of coefficients of this LongPolynomial
+     * @return the number of coefficients
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Getter method for the mode
+     * @return arithmetic used for sums and products
+     */
+    public ArithmeticMode mode() {
+        return mode;
+    }
+
+    /**
+     * Returns the coefficient at the given index without boxing
+     * @param index the index of the coefficient, where 0 is the highest degree
+     * @return the coefficient at the index
+     */
+    public long get(int index) {
+        //check that input is valid else throw exception
+        if (index < 0 || index >= values.length)
+            throw new IndexOutOfBoundsException(index);
+
+        return values[index];
+    }
+
+    /**
+     * Returns an array copy of the coefficients of this LongPolynomial
+     * @return array of the coefficients in order from highest to lowest degree
+     */
+    public long[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Convert this LongPolynomial to Polynomial, for use with PolynomialRing
+     * @return Polynomial of the same coefficients
+     */
+    public Polynomial<Long> toPolynomial() {
+        List<Long> coefficients = new ArrayList<>(values.length);
+
+        for (long value : values) {
+            coefficients.add(value);
+        }
+        return Polynomial.from(coefficients);
+    }
+
+    /**
+     * Overrides String representation to be the coefficients of this LongPolynomial, as for Polynomial
+     * @return String representation of this LongPolynomial
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    /**
+     * Computes the sum of two LongPolynomials in the mode of this polynomial
+     * Coefficients are added index by index from the first coefficient, as Polynomial.plus does
+     * @param other other LongPolynomial to add to this
+     * @return the sum of this and other LongPolynomials
+     */
+    public LongPolynomial plus(LongPolynomial other) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+
+        return new LongPolynomial(plus(other, new long[Math.max(values.length, other.values.length)]), mode);
+    }
+
+    /**
+     * Computes the sum of two LongPolynomials into a destination array without allocating, in the mode of this polynomial
+     * Every value of the destination is overwritten, so one destination can be reused for repeated sums
+     * @param other other LongPolynomial to add to this
+     * @param destination array to store the sum in, with as many values as the longer polynomial
+     * @return the destination, holding the sum
+     */
+    public long[] plus(LongPolynomial other, long[] destination) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+        Objects.requireNonNull(destination, "destination must not be null");
+        if (destination.length != Math.max(values.length, other.values.length))
+            throw new IllegalArgumentException("destination length " + destination.length + " does not match the sum");
+
+        long[] otherValues = valuesInMode(other);
+        long[] shorter = (values.length < otherValues.length) ? values : otherValues;
+        long[] longer = (shorter == values) ? otherValues : values;
+        //the values past the shorter polynomial are copied
+        System.arraycopy(longer, shorter.length, destination, shorter.length, longer.length - shorter.length);
+
+        //choose the loop once so the hot loop does not switch on mode
+        switch (mode.getKind()) {
+            case WRAPPING:
+                for (int i = 0; i < shorter.length; i++) {
+                    destination[i] = values[i] + otherValues[i];
+                }
+                break;
+            case CHECKED:
+                for (int i = 0; i < shorter.length; i++) {
+                    destination[i] = Math.addExact(values[i], otherValues[i]);
+                }
+                break;
+            default:
+                for (int i = 0; i < shorter.length; i++) {
+                    destination[i] = mode.sum(values[i], otherValues[i]);
+                }
+        }
+        return destination;
+    }
+
+    /**
+     * Computes the product of two LongPolynomials in the mode of this polynomial
+     * @param other other LongPolynomial to multiply by this
+     * @return the product of this and other LongPolynomials
+     */
+    public LongPolynomial times(LongPolynomial other) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+
+        return new LongPolynomial(times(other, new long[productSize(values.length, other.values.length)]), mode);
+    }
+
+    /**
+     * Computes the product of two LongPolynomials into a destination array without allocating, in the mode of this polynomial
+     * Every value of the destination is overwritten, so one destination can be reused for repeated products
+     * @param other other LongPolynomial to multiply by this
+     * @param destination array to store the product in, with one value less than the two polynomials together
+     * @return the destination, holding the product
+     */
+    public long[] times(LongPolynomial other, long[] destination) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+        Objects.requireNonNull(destination, "destination must not be null");
+        if (destination.length != productSize(values.length, other.values.length))
+            throw new IllegalArgumentException("destination length " + destination.length + " does not match the product");
+
+        long[] otherValues = valuesInMode(other);
+        Arrays.fill(destination, 0);
+
+        //choose the loop once so the hot loop does not switch on mode
+        switch (mode.getKind()) {
+            case WRAPPING:
+                for (int i = 0; i < values.length; i++) {
+                    long x = values[i];
+                    for (int j = 0; j < otherValues.length; j++) {
+                        destination[i + j] += x * otherValues[j];
+                    }
+                }
+                break;
+            case CHECKED:
+                for (int i = 0; i < values.length; i++) {
+                    long x = values[i];
+                    for (int j = 0; j < otherValues.length; j++) {
+                        destination[i + j] = Math.addExact(destination[i + j], Math.multiplyExact(x, otherValues[j]));
+                    }
+                }
+                break;
+            default:
+                long modulus = mode.getModulus();
+                boolean small = modulus <= ArithmeticMode.SMALL_MODULUS;
+                for (int i = 0; i < values.length; i++) {
+                    long x = values[i];
+                    if (x == 0)
+                        continue;
+                    for (int j = 0; j < otherValues.length; j++) {
+                        //reduced sum plus product of reduced values stays below Long.MAX_VALUE for a small modulus
+                        destination[i + j] = small ? (destination[i + j] + x * otherValues[j]) % modulus
+                            : mode.sum(destination[i + j], mode.product(x, otherValues[j]));
+                    }
+                }
+        }
+        return destination;
+    }
+
+    /**
+     * Helper method for the number of coefficients of a product, which has one zero less than the two sizes together
+     * @param size the number of coefficients of the left operand
+     * @param otherSize the number of coefficients of the right operand
+     * @return the number of coefficients of the product, as for Polynomial.times
+     */
+    private static int productSize(int size, int otherSize) {
+        return Math.max(size + otherSize - 1, 0);
+    }
+
+    /**
+     * Helper method to return the coefficients of a LongPolynomial in the mode of this polynomial
+     * @param other the polynomial to read
+     * @return the backing array of other if it has this mode, otherwise a reduced copy
+     */
+    private long[] valuesInMode(LongPolynomial other) {
+        if (other.mode.equals(mode))
+            return other.values;
+
+        long[] reduced = new long[other.values.length];
+        for (int i = 0; i < reduced.length; i++) {
+            reduced[i] = mode.reduce(other.values[i]);
+        }
+        return reduced;
+    }
+}
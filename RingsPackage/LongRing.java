@@ -0,0 +1,102 @@
+/**
+ * Class to represent a ring for Long data type
+ * @author Ethan Tobey
+ */
+package RingsPackage;
+
+import java.util.Objects;
+
+
+public class LongRing implements RingWithNegation<Long> {
+    
+    /**
+     * Returns 0 in Long type
+     * @return 0 in type Long
+     */
+    @Override
+    public Long zero() {
+        return 0L;
+    }
+
+    /**
+     * Returns multiplicative identity in Long type
+     * @return 1 in type Long
+     */
+    @Override
+    public Long identity() {
+        return 1L;
+    }
+
+    /**
+     * Returns the sum of inputs x and y
+     * @param x the first Long to add
+     * @param y the second Long to add
+     * @return the sum of x and y
+     */
+    @Override
+    public Long sum(Long x, Long y) throws NullPointerException{
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Long must not be null");
+        Objects.requireNonNull(y, "Long must not be null");
+
+        return x + y;
+    }
+
+    /**
+     * Returns the product of inputs x and y
+     * @param x the first Long to multiply
+     * @param y the second Long to multiply
+     * @return the product of x and y
+     */
+    @Override
+    public Long product(Long x, Long y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Long must not be null");
+        Objects.requireNonNull(y, "Long must not be null");
+
+        return x * y;
+    }
+
+    /**
+     * Returns the additive inverse of input x
+     * @param x the Long to negate
+     * @return the negation of x
+     */
+    @Override
+    public Long negate(Long x) {
+        //check that input isn't null
+        Objects.requireNonNull(x, "Long must not be null");
+
+        return -x;
+    }
+
+    /**
+     * Returns the difference of inputs x and y
+     * @param x the Long to subtract from
+     * @param y the Long to subtract
+     * @return x minus y
+     */
+    @Override
+    public Long difference(Long x, Long y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Long must not be null");
+        Objects.requireNonNull(y, "Long must not be null");
+
+        return x - y;
+    }
+
+    /**
+     * Returns the quotient of inputs x and y, where y divides x exactly
+     * Long arithmetic wraps on overflow, which gives zero divisors, so this ring is not an IntegralDomain
+     * @param x the Long to divide
+     * @param y the Long to divide by
+     * @return x divided by y
+     */
+    public Long exactQuotient(Long x, Long y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Long must not be null");
+        Objects.requireNonNull(y, "Long must not be null");
+
+        return x / y;
+    }
+}
@@ -38,6 +38,19 @@ public class MatrixRing<T> implements Ring<Matrix<T>> {
 
         return new MatrixRing<S>(r, size);
     }
+
+    /**
+     * Builder method to return a new MatrixRing that can negate, for value rings that can
+     * @param <S> the type of data within the matrix that the ring operates on
+     * @param r the ring with negation for the data type of the matrix this ring operates on
+     * @param size the size of the matrix this ring operates on
+     * @return a new MatrixRing with negation
+     */
+    public static <S> WithNegation<S> instance(RingWithNegation<S> r, int size) {
+        Objects.requireNonNull(r, "Ring must not be null");
+
+        return new WithNegation<S>(r, size);
+    }
     
     /**
      * Returns 0 matrix with data type T and correct size
@@ -84,4 +97,49 @@ public class MatrixRing<T> implements Ring<Matrix<T>> {
 
         return x.times(y, ring);
     }
+
+    /**
+     * A class to define a MatrixRing whose value ring can negate, so its matrices can be negated and subtracted too
+     * The class is implemented as a nested class so it is built by MatrixRing.instance
+     */
+    public static final class WithNegation<T> extends MatrixRing<T> implements RingWithNegation<Matrix<T>> {
+        /** stores the value ring, which can negate */
+        private final RingWithNegation<T> negation;
+
+        /**
+         * A private constructor for WithNegation
+         * @param negation the ring with negation for the data in the matrix
+         * @param size the size of the matrix for this ring
+         */
+        private WithNegation(RingWithNegation<T> negation, int size) {
+            super(negation, size);
+            this.negation = negation;
+        }
+
+        /**
+         * Returns the additive inverse of input x
+         * @param x the Matrix to negate
+         * @return the negation of x
+         */
+        @Override
+        public Matrix<T> negate(Matrix<T> x) {
+            Objects.requireNonNull(x, "input must not be null");
+
+            return x.negate(negation);
+        }
+
+        /**
+         * Returns the difference of inputs x and y
+         * @param x the Matrix to subtract from
+         * @param y the Matrix to subtract
+         * @return x minus y
+         */
+        @Override
+        public Matrix<T> difference(Matrix<T> x, Matrix<T> y) {
+            Objects.requireNonNull(x, "input must not be null");
+            Objects.requireNonNull(y, "input must not be null");
+
+            return x.minus(y, negation);
+        }
+    }
 }
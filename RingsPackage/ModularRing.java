@@ -0,0 +1,284 @@
+/**
+ * Class to represent the ring of integers modulo a word-size modulus, for Long data type
+ * @author Ethan Tobey
+ */
+
+ //NOTE: values are the residues 0 to modulus - 1 as plain Long, so they print and compare as ordinary numbers and the ring
+ //works with MatrixMap, SparseMatrix and Polynomial unchanged. Inputs must already be reduced, see reduce. Sums and differences
+ //correct their result with a sign mask rather than a branch. Products never divide: a modulus whose products fit in a long
+ //uses Barrett reduction, a larger odd modulus uses Montgomery reduction on the 128-bit product, and only a larger even modulus
+ //falls back to BigInteger. A composite modulus has zero divisors, so only ModularRing.field builds a Field, for a prime modulus
+package RingsPackage;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import MatrixPackage.ArithmeticMode;
+
+
+public class ModularRing implements RingWithNegation<Long> {
+    /** moduli must be below this so the sum of two reduced values fits in a long */
+    private static final long MAX_MODULUS = 1L << 62;
+
+    /** the modulus of the ring */
+    private final long modulus;
+    /** floor(2^64 / modulus), for Barrett reduction of a small modulus */
+    private final long barrett;
+    /** -modulus^-1 mod 2^64, for Montgomery reduction of a large odd modulus */
+    private final long montgomery;
+    /** 2^128 mod modulus, which converts a Montgomery product back to a residue */
+    private final long montgomerySquare;
+
+    /**
+     * A private constructor for ModularRing
+     * @param modulus the modulus of the ring
+     */
+    private ModularRing(long modulus) {
+        this.modulus = modulus;
+        //2^64 / m computed as (2^64 - 1) / m, which differs only when m is a power of 2
+        this.barrett = (modulus <= ArithmeticMode.SMALL_MODULUS) ? Long.divideUnsigned(-1L, modulus) : 0;
+        if (modulus > ArithmeticMode.SMALL_MODULUS && (modulus & 1) == 1) {
+            //Newton's iteration doubles the correct low bits of the inverse each step, from 3 bits for an odd number
+            long inverse = modulus;
+            for (int i = 0; i < 5; i++) {
+                inverse *= 2 - modulus * inverse;
+            }
+            this.montgomery = -inverse;
+            this.montgomerySquare = BigInteger.ONE.shiftLeft(128).mod(BigInteger.valueOf(modulus)).longValue();
+        }
+        else {
+            this.montgomery = 0;
+            this.montgomerySquare = 0;
+        }
+    }
+
+    /**
+     * Builder method to return a new ModularRing
+     * @param modulus the modulus, at least 2 and below 2^62
+     * @return a new ModularRing computing modulo the given modulus
+     */
+    public static ModularRing instance(long modulus) {
+        if (modulus < 2 || modulus >= MAX_MODULUS)
+            throw new IllegalArgumentException("modulus must be at least 2 and below 2^62");
+
+        return new ModularRing(modulus);
+    }
+
+    /**
+     * Builder method to return a new ModularRing that is a field, for a prime modulus
+     * @param modulus the prime modulus, below 2^62
+     * @return a new ModularRing.PrimeField computing modulo the given modulus
+     */
+    public static PrimeField field(long modulus) {
+        if (modulus < 2 || modulus >= MAX_MODULUS)
+            throw new IllegalArgumentException("modulus must be at least 2 and below 2^62");
+        if (!BigInteger.valueOf(modulus).isProbablePrime(64))
+            throw new IllegalArgumentException("modulus must be prime");
+
+        return new PrimeField(modulus);
+    }
+
+    /**
+     * Getter method for the modulus
+     * @return the modulus of the ring
+     */
+    public long getModulus() {
+        return modulus;
+    }
+
+    /**
+     * Returns the residue of any long modulo the modulus, the form all values of the ring must be given in
+     * @param x the value to reduce
+     * @return x modulo the modulus, from 0 to modulus - 1
+     */
+    public Long reduce(long x) {
+        return Math.floorMod(x, modulus);
+    }
+
+    /**
+     * Returns 0 in Long type
+     * @return 0 in type Long
+     */
+    @Override
+    public Long zero() {
+        return 0L;
+    }
+
+    /**
+     * Returns multiplicative identity in Long type
+     * @return 1 in type Long
+     */
+    @Override
+    public Long identity() {
+        return 1L;
+    }
+
+    /**
+     * Returns the sum of inputs x and y
+     * @param x the first reduced Long to add
+     * @param y the second reduced Long to add
+     * @return the sum of x and y modulo the modulus
+     */
+    @Override
+    public Long sum(Long x, Long y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Long must not be null");
+        Objects.requireNonNull(y, "Long must not be null");
+
+        long sum = x + y - modulus;
+        //add the modulus back only when the subtraction went below zero
+        return sum + ((sum >> 63) & modulus);
+    }
+
+    /**
+     * Returns the product of inputs x and y
+     * @param x the first reduced Long to multiply
+     * @param y the second reduced Long to multiply
+     * @return the product of x and y modulo the modulus
+     */
+    @Override
+    public Long product(Long x, Long y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Long must not be null");
+        Objects.requireNonNull(y, "Long must not be null");
+
+        return multiply(x, y);
+    }
+
+    /**
+     * Returns the additive inverse of input x
+     * @param x the reduced Long to negate
+     * @return the negation of x modulo the modulus
+     */
+    @Override
+    public Long negate(Long x) {
+        //check that input isn't null
+        Objects.requireNonNull(x, "Long must not be null");
+
+        return subtract(0, x);
+    }
+
+    /**
+     * Returns the difference of inputs x and y
+     * @param x the reduced Long to subtract from
+     * @param y the reduced Long to subtract
+     * @return x minus y modulo the modulus
+     */
+    @Override
+    public Long difference(Long x, Long y) {
+        //check that inputs aren't null
+        Objects.requireNonNull(x, "Long must not be null");
+        Objects.requireNonNull(y, "Long must not be null");
+
+        return subtract(x, y);
+    }
+
+    /**
+     * Returns the multiplicative inverse of input x by the extended Euclidean algorithm
+     * Only values coprime to the modulus have an inverse, which is every nonzero value for a prime modulus
+     * @param x the reduced Long to invert
+     * @return the value that multiplies with x to 1 modulo the modulus
+     */
+    public Long inverse(Long x) {
+        //check that input isn't null
+        Objects.requireNonNull(x, "Long must not be null");
+
+        long r0 = modulus, r1 = x;
+        long t0 = 0, t1 = 1;
+        while (r1 != 0) {
+            long quotient = r0 / r1;
+            long r = r0 - quotient * r1;
+            r0 = r1;
+            r1 = r;
+            long t = t0 - quotient * t1;
+            t0 = t1;
+            t1 = t;
+        }
+        //only values coprime to the modulus have an inverse
+        if (r0 != 1)
+            throw new ArithmeticException(x + " has no inverse modulo " + modulus);
+
+        return Math.floorMod(t0, modulus);
+    }
+
+    /**
+     * Helper method to subtract two reduced values
+     * @param x the value to subtract from
+     * @param y the value to subtract
+     * @return x minus y modulo the modulus
+     */
+    private long subtract(long x, long y) {
+        long difference = x - y;
+        //add the modulus back only when the difference is below zero
+        return difference + ((difference >> 63) & modulus);
+    }
+
+    /**
+     * Helper method to multiply two reduced values without dividing, also used by the transforms of TransformMultiplier
+     * @param x the first value to multiply
+     * @param y the second value to multiply
+     * @return the product of x and y modulo the modulus
+     */
+    long multiply(long x, long y) {
+        if (barrett != 0) {
+            long product = x * y;
+            //the estimated quotient is at most 1 below the true quotient
+            long remainder = product - Math.multiplyHigh(product, barrett) * modulus;
+            return (remainder >= modulus) ? remainder - modulus : remainder;
+        }
+        if (montgomery != 0) {
+            //(x * y * 2^-64) * 2^128 * 2^-64 is x * y
+            return montgomeryProduct(montgomeryProduct(x, y), montgomerySquare);
+        }
+        return BigInteger.valueOf(x).multiply(BigInteger.valueOf(y)).mod(BigInteger.valueOf(modulus)).longValue();
+    }
+
+    /**
+     * Helper method to compute x * y * 2^-64 modulo the odd modulus
+     * @param x the first value to multiply
+     * @param y the second value to multiply
+     * @return the Montgomery product of x and y
+     */
+    private long montgomeryProduct(long x, long y) {
+        return redc(Math.multiplyHigh(x, y), x * y);
+    }
+
+    /**
+     * Helper method for Montgomery reduction, computing t * 2^-64 modulo the odd modulus for t below modulus * 2^64
+     * @param high the high 64 bits of t
+     * @param low the low 64 bits of t
+     * @return t * 2^-64 modulo the modulus
+     */
+    private long redc(long high, long low) {
+        //u is chosen so t + u * modulus is divisible by 2^64
+        long u = low * montgomery;
+        //high 64 bits of the unsigned product u * modulus
+        long uHigh = Math.multiplyHigh(u, modulus) + ((u >> 63) & modulus);
+        //the low halves sum to 2^64 exactly, carrying 1, unless both are zero
+        long result = high + uHigh + ((low != 0) ? 1 : 0);
+        return (result >= modulus) ? result - modulus : result;
+    }
+
+    /**
+     * A class to define a ModularRing with a prime modulus, whose nonzero values all have inverses so it is a field
+     * The class is implemented as a nested class so it is built by ModularRing.field
+     */
+    public static final class PrimeField extends ModularRing implements Field<Long> {
+
+        /**
+         * A private constructor for PrimeField
+         * @param modulus the prime modulus of the field
+         */
+        private PrimeField(long modulus) {
+            super(modulus);
+        }
+    }
+
+    /**
+     * Overrides String representation of this ModularRing
+     * @return String representation of this ModularRing
+     */
+    @Override
+    public String toString() {
+        return "ModularRing [modulus=" + modulus + "]";
+    }
+}
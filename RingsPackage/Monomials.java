@@ -0,0 +1,222 @@
+/**
+ * Class to represent the monomials in a fixed number of variables, packed into longs, and the order they are sorted by
+ * @author Ethan Tobey
+ */
+
+ //NOTE: each variable owns an equal field of 64 / variables bits, at most 32, the first variable in the highest field, so
+ //the product of two monomials is the sum of their longs and lexicographic order is the order of the longs. The top bit of
+ //every field is a guard that stays clear, so a product whose exponent leaves its field is caught by one mask instead of a loop
+package RingsPackage;
+
+import java.util.Objects;
+
+public final class Monomials {
+    /**
+     * Enum to represent the monomial order, every one of which is kept by multiplication
+     */
+    public enum Order {
+        /** lexicographic order, comparing the exponents of the first variable first */
+        LEX,
+        /** graded lexicographic order, comparing total degrees first and then lexicographically */
+        GRLEX,
+        /** graded reverse lexicographic order, comparing total degrees first, then the smaller exponent of the last differing variable is greater */
+        GREVLEX
+    }
+
+    /** the number of variables */
+    private final int variables;
+    /** the monomial order */
+    private final Order order;
+    /** the number of bits of each field */
+    private final int bits;
+    /** the top bit of every field */
+    private final long guards;
+
+    /**
+     * A private constructor for Monomials
+     * @param variables the number of variables
+     * @param order the monomial order
+     */
+    private Monomials(int variables, Order order) {
+        this.variables = variables;
+        this.order = order;
+        //exponents are ints, so a single variable still uses 32 bits
+        this.bits = Math.min(Long.SIZE / variables, Integer.SIZE);
+        long guards = 0;
+        for (int i = 0; i < variables; i++) {
+            guards |= 1L << (shift(i) + bits - 1);
+        }
+        this.guards = guards;
+    }
+
+    /**
+     * Builder method to return a new Monomials
+     * @param variables the number of variables, from 1 to 32
+     * @param order the monomial order
+     * @return a new Monomials of the given variables and order
+     */
+    public static Monomials instance(int variables, Order order) {
+        Objects.requireNonNull(order, "order must not be null");
+        if (variables < 1 || variables > Long.SIZE / 2)
+            throw new IllegalArgumentException("variables must be from 1 to 32");
+
+        return new Monomials(variables, order);
+    }
+
+    /**
+     * Getter method for the number of variables
+     * @return the number of variables
+     */
+    public int variables() {
+        return variables;
+    }
+
+    /**
+     * Getter method for the order
+     * @return the monomial order
+     */
+    public Order order() {
+        return order;
+    }
+
+    /**
+     * Returns the largest exponent of any variable
+     * @return the largest exponent that fits below the guard bit of a field
+     */
+    public long maxExponent() {
+        return (1L << (bits - 1)) - 1;
+    }
+
+    /**
+     * Packs the exponents of a monomial into a long
+     * @param exponents one exponent per variable, each from 0 to maxExponent()
+     * @return the packed monomial
+     */
+    long pack(int[] exponents) {
+        Objects.requireNonNull(exponents, "exponents must not be null");
+        if (exponents.length != variables)
+            throw new IllegalArgumentException("monomial needs " + variables + " exponents, got " + exponents.length);
+
+        long monomial = 0;
+        for (int i = 0; i < variables; i++) {
+            if (exponents[i] < 0 || exponents[i] > maxExponent())
+                throw new IllegalArgumentException("exponent " + exponents[i] + " must be from 0 to " + maxExponent());
+            monomial |= (long) exponents[i] << shift(i);
+        }
+        return monomial;
+    }
+
+    /**
+     * Returns the exponent of one variable of a packed monomial
+     * @param monomial the packed monomial
+     * @param variable the index of the variable
+     * @return the exponent of the variable
+     */
+    int exponent(long monomial, int variable) {
+        return (int) ((monomial >>> shift(variable)) & ((1L << bits) - 1));
+    }
+
+    /**
+     * Unpacks the exponents of a monomial
+     * @param monomial the packed monomial
+     * @return new array of one exponent per variable
+     */
+    int[] unpack(long monomial) {
+        int[] exponents = new int[variables];
+
+        for (int i = 0; i < variables; i++) {
+            exponents[i] = exponent(monomial, i);
+        }
+        return exponents;
+    }
+
+    /**
+     * Returns the total degree of a monomial
+     * @param monomial the packed monomial
+     * @return the sum of its exponents
+     */
+    long degree(long monomial) {
+        long degree = 0;
+
+        for (int i = 0; i < variables; i++) {
+            degree += exponent(monomial, i);
+        }
+        return degree;
+    }
+
+    /**
+     * Returns the product of two monomials
+     * @param x the first packed monomial
+     * @param y the second packed monomial
+     * @return the packed product
+     */
+    long multiply(long x, long y) {
+        long product = x + y;
+        //no field can carry into the next, but it can reach its guard bit
+        if ((product & guards) != 0)
+            throw new ArithmeticException("exponent of product exceeds " + maxExponent());
+
+        return product;
+    }
+
+    /**
+     * Compares two monomials in the monomial order
+     * @param x the first packed monomial
+     * @param y the second packed monomial
+     * @return a negative number, zero or a positive number as x is below, equal to or above y
+     */
+    int compare(long x, long y) {
+        if (order != Order.LEX && x != y) {
+            int degree = Long.compare(degree(x), degree(y));
+            if (degree != 0)
+                return degree;
+        }
+        //the guard bits are clear, so the longs compare as exponent vectors
+        if (order != Order.GREVLEX)
+            return Long.compare(x, y);
+
+        for (int i = variables - 1; i >= 0; i--) {
+            int difference = Integer.compare(exponent(y, i), exponent(x, i));
+            if (difference != 0)
+                return difference;
+        }
+        return 0;
+    }
+
+    /**
+     * Helper method for the position of the field of a variable
+     * @param variable the index of the variable
+     * @return the shift of its lowest bit
+     */
+    private int shift(int variable) {
+        return (variables - 1 - variable) * bits;
+    }
+
+    /**
+     * Compares this Monomials to another object
+     * @param o the object to compare to
+     * @return true if o is a Monomials of the same variables and order
+     */
+    @Override
+    public boolean equals(Object o) {
+        return (o instanceof Monomials other) && variables == other.variables && order == other.order;
+    }
+
+    /**
+     * Returns hash code of this Monomials
+     * @return hash code of variables and order
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(variables, order);
+    }
+
+    /**
+     * Overrides String representation of this Monomials
+     * @return String representation of this Monomials
+     */
+    @Override
+    public String toString() {
+        return order + "(" + variables + ")";
+    }
+}
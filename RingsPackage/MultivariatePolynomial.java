@@ -0,0 +1,324 @@
+/**
+ * Class to represent a polynomial in several variables
+ * @author Ethan Tobey
+ */
+
+ //NOTE: terms are stored flat, as parallel arrays of monomials packed by Monomials in decreasing monomial order and their
+ //nonzero coefficients, rather than as polynomials nested one variable at a time. Products use Johnson's heap method as
+ //SparsePolynomial does, which works for every order of Monomials because each is kept by multiplication
+package RingsPackage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+public final class MultivariatePolynomial<T> {
+    /** the variables and order of the monomials */
+    private final Monomials space;
+    /** packed monomials of the nonzero terms, in decreasing monomial order */
+    private final long[] monomials;
+    /** coefficients of the nonzero terms, in the order of their monomials */
+    private final T[] coefficients;
+
+    /**
+     * A private constructor for MultivariatePolynomial
+     * @param space the variables and order of the monomials
+     * @param monomials packed monomials in decreasing order, not copied
+     * @param coefficients nonzero coefficients of the monomials, not copied
+     */
+    private MultivariatePolynomial(Monomials space, long[] monomials, T[] coefficients) {
+        this.space = space;
+        this.monomials = monomials;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * A builder method to return a new MultivariatePolynomial from its terms, in any order
+     * Coefficients of equal monomials are added and terms with zero coefficients are dropped
+     * @param <S> the type of data stored as coefficients in the MultivariatePolynomial
+     * @param space the variables and order of the monomials
+     * @param exponents the exponents of each term, one per variable
+     * @param coefficients the coefficient of each term
+     * @param ring ring to add coefficients and recognize zero
+     * @return a new MultivariatePolynomial
+     */
+    public static <S> MultivariatePolynomial<S> from(Monomials space, int[][] exponents, List<S> coefficients, Ring<S> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(space, "Monomials must not be null");
+        Objects.requireNonNull(exponents, "Exponents array must not be null");
+        Objects.requireNonNull(coefficients, "Coefficients list must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        if (exponents.length != coefficients.size())
+            throw new IllegalArgumentException("each monomial needs one coefficient");
+
+        //sort the terms by decreasing monomial
+        long[] packed = new long[exponents.length];
+        Integer[] order = new Integer[exponents.length];
+        for (int i = 0; i < order.length; i++) {
+            packed[i] = space.pack(exponents[i]);
+            Objects.requireNonNull(coefficients.get(i), "coefficients must not be null");
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> space.compare(packed[y], packed[x]));
+
+        Builder<S> builder = new Builder<>(space, order.length, ring);
+        for (int i = 0; i < order.length; ) {
+            long monomial = packed[order[i]];
+            S sum = coefficients.get(order[i++]);
+            for (; i < order.length && packed[order[i]] == monomial; i++) {
+                sum = ring.sum(sum, coefficients.get(order[i]));
+            }
+            builder.add(monomial, sum);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Getter method for the monomials
+     * @return the variables and order of the monomials of this MultivariatePolynomial
+     */
+    public Monomials space() {
+        return space;
+    }
+
+    /**
+     * Returns the number of nonzero terms of this MultivariatePolynomial
+     * @return the number of terms
+     */
+    public int terms() {
+        return monomials.length;
+    }
+
+    /**
+     * Returns the total degree of this MultivariatePolynomial
+     * @return the largest total degree of its terms, or -1 for the zero polynomial
+     */
+    public long degree() {
+        long degree = -1;
+
+        for (long monomial : monomials) {
+            degree = Math.max(degree, space.degree(monomial));
+        }
+        return degree;
+    }
+
+    /**
+     * Returns the exponents of a term
+     * @param term the index of the term, where 0 is the leading term in the monomial order
+     * @return new array of one exponent per variable
+     */
+    public int[] exponents(int term) {
+        //check that input is valid else throw exception
+        if (term < 0 || term >= monomials.length)
+            throw new IndexOutOfBoundsException(term);
+
+        return space.unpack(monomials[term]);
+    }
+
+    /**
+     * Returns the coefficient of a term
+     * @param term the index of the term, where 0 is the leading term in the monomial order
+     * @return the nonzero coefficient of the term
+     */
+    public T coefficient(int term) {
+        //check that input is valid else throw exception
+        if (term < 0 || term >= monomials.length)
+            throw new IndexOutOfBoundsException(term);
+
+        return coefficients[term];
+    }
+
+    /**
+     * Computes the sum of two MultivariatePolynomials by merging their terms
+     * @param other other MultivariatePolynomial to add to this, with the same monomials
+     * @param ring ring to compute sum operations
+     * @return the sum of this and other MultivariatePolynomials
+     */
+    public MultivariatePolynomial<T> plus(MultivariatePolynomial<T> other, Ring<T> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+        Objects.requireNonNull(ring, "input ring must not be null");
+        requireSameSpace(other);
+
+        Builder<T> builder = new Builder<>(space, monomials.length + other.monomials.length, ring);
+        int i = 0;
+        int j = 0;
+        while (i < monomials.length || j < other.monomials.length) {
+            int comparison = (i == monomials.length) ? -1 : (j == other.monomials.length) ? 1 : space.compare(monomials[i], other.monomials[j]);
+            if (comparison > 0)
+                builder.add(monomials[i], coefficients[i++]);
+            else if (comparison < 0)
+                builder.add(other.monomials[j], other.coefficients[j++]);
+            else
+                builder.add(monomials[i], ring.sum(coefficients[i++], other.coefficients[j++]));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Computes the additive inverse of this MultivariatePolynomial
+     * @param ring ring to compute negation operations
+     * @return the MultivariatePolynomial whose coefficients are the negations of the coefficients of this
+     */
+    public MultivariatePolynomial<T> negate(RingWithNegation<T> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(ring, "input ring must not be null");
+
+        T[] negation = Builder.newArray(coefficients.length);
+        for (int i = 0; i < negation.length; i++) {
+            negation[i] = ring.negate(coefficients[i]);
+        }
+        return new MultivariatePolynomial<>(space, monomials, negation);
+    }
+
+    /**
+     * Computes the product of two MultivariatePolynomials by Johnson's heap method
+     * The order of every product of coefficients is kept, so coefficient rings need not be commutative
+     * @param other other MultivariatePolynomial to multiply by this, with the same monomials
+     * @param ring ring to compute multiplication operations
+     * @return the product of this and other MultivariatePolynomials
+     */
+    public MultivariatePolynomial<T> times(MultivariatePolynomial<T> other, Ring<T> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+        Objects.requireNonNull(ring, "input ring must not be null");
+        requireSameSpace(other);
+
+        Builder<T> builder = new Builder<>(space, monomials.length + other.monomials.length, ring);
+        if (monomials.length == 0 || other.monomials.length == 0)
+            return builder.build();
+
+        //each entry is the monomial, the term of this and the term of other of a pending product
+        PriorityQueue<long[]> heap = new PriorityQueue<>((x, y) -> space.compare(y[0], x[0]));
+        heap.add(new long[] {space.multiply(monomials[0], other.monomials[0]), 0, 0});
+        while (!heap.isEmpty()) {
+            long monomial = heap.peek()[0];
+            T sum = null;
+            //add every product of this monomial
+            while (!heap.isEmpty() && heap.peek()[0] == monomial) {
+                long[] entry = heap.poll();
+                int i = (int) entry[1];
+                int j = (int) entry[2];
+                T product = ring.product(coefficients[i], other.coefficients[j]);
+                sum = (sum == null) ? product : ring.sum(sum, product);
+                //the next term of this starts once its predecessor meets the first term of other
+                if (j == 0 && i + 1 < monomials.length)
+                    heap.add(new long[] {space.multiply(monomials[i + 1], other.monomials[0]), i + 1, 0});
+                if (j + 1 < other.monomials.length)
+                    heap.add(new long[] {space.multiply(monomials[i], other.monomials[j + 1]), i, j + 1});
+            }
+            builder.add(monomial, sum);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Helper method to throw IllegalArgumentException if another polynomial has different monomials
+     * @param other the other polynomial of an operation
+     */
+    private void requireSameSpace(MultivariatePolynomial<T> other) {
+        if (!space.equals(other.space))
+            throw new IllegalArgumentException("polynomials over " + space + " and " + other.space + " cannot be combined");
+    }
+
+    /**
+     * Compares this MultivariatePolynomial to another object
+     * @param o the object to compare to
+     * @return true if o is a MultivariatePolynomial with the same monomials and terms
+     */
+    @Override
+    public boolean equals(Object o) {
+        return (o instanceof MultivariatePolynomial<?> other) && space.equals(other.space)
+            && Arrays.equals(monomials, other.monomials) && Arrays.equals(coefficients, other.coefficients);
+    }
+
+    /**
+     * Returns hash code of this MultivariatePolynomial
+     * @return hash code of the monomials and coefficients
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(monomials) + Arrays.hashCode(coefficients);
+    }
+
+    /**
+     * Overrides String representation of this MultivariatePolynomial
+     * @return String representation of the exponents and coefficients of the terms in decreasing monomial order
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("MultivariatePolynomial [terms={");
+
+        for (int i = 0; i < monomials.length; i++) {
+            builder.append((i == 0) ? "" : ", ").append(Arrays.toString(space.unpack(monomials[i]))).append('=').append(coefficients[i]);
+        }
+        return builder.append("}]").toString();
+    }
+
+    /**
+     * Class to collect terms in decreasing monomial order, dropping zero coefficients
+     * @param <S> the type of data stored as coefficients
+     */
+    private static final class Builder<S> {
+        /** the variables and order of the monomials */
+        private final Monomials space;
+        /** monomials collected so far */
+        private long[] monomials;
+        /** coefficients collected so far */
+        private S[] coefficients;
+        /** the zero of the ring */
+        private final S zero;
+        /** the number of terms collected */
+        private int size;
+
+        /**
+         * A constructor for Builder
+         * @param space the variables and order of the monomials
+         * @param capacity the expected number of terms
+         * @param ring ring to recognize zero
+         */
+        private Builder(Monomials space, int capacity, Ring<S> ring) {
+            this.space = space;
+            monomials = new long[Math.max(capacity, 1)];
+            coefficients = newArray(monomials.length);
+            zero = ring.zero();
+        }
+
+        /**
+         * Adds a term with a monomial below every monomial added before, unless its coefficient is zero
+         * @param monomial the packed monomial of the term
+         * @param coefficient the coefficient of the term
+         */
+        private void add(long monomial, S coefficient) {
+            if (zero.equals(coefficient))
+                return;
+            //a product can have more terms than both operands together, so grow when needed
+            if (size == monomials.length) {
+                monomials = Arrays.copyOf(monomials, 2 * size);
+                coefficients = Arrays.copyOf(coefficients, 2 * size);
+            }
+            monomials[size] = monomial;
+            coefficients[size++] = coefficient;
+        }
+
+        /**
+         * Returns the MultivariatePolynomial of the collected terms
+         * @return a new MultivariatePolynomial
+         */
+        private MultivariatePolynomial<S> build() {
+            return new MultivariatePolynomial<>(space, Arrays.copyOf(monomials, size), Arrays.copyOf(coefficients, size));
+        }
+
+        /**
+         * Helper method to create a generic array
+         * @param <S> the type of data stored in the array
+         * @param length the length of the array
+         * @return new array of nulls
+         */
+        @SuppressWarnings("unchecked")
+        private static <S> S[] newArray(int length) {
+            return (S[]) new Object[length];
+        }
+    }
+}
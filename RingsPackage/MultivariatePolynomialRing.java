@@ -0,0 +1,167 @@
+/**
+ * Class to represent a ring for MultivariatePolynomial data type
+ * @author Ethan Tobey
+ */
+package RingsPackage;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+public class MultivariatePolynomialRing<T> implements Ring<MultivariatePolynomial<T>> {
+
+    /** stores a ring field for the coefficients of the polynomials this ring operates on */
+    private final Ring<T> ring;
+    /** the variables and order of the monomials of the polynomials this ring operates on */
+    private final Monomials space;
+
+    /**
+     * A private constructor for MultivariatePolynomialRing
+     * @param ring the ring for the coefficients of the MultivariatePolynomial
+     * @param space the variables and order of the monomials
+     */
+    private MultivariatePolynomialRing(Ring<T> ring, Monomials space) {
+        this.ring = ring;
+        this.space = space;
+    }
+
+    /**
+     * Builder method to return a new MultivariatePolynomialRing
+     * @param <S> the type of coefficients of the MultivariatePolynomial that the ring operates on
+     * @param r the ring for the coefficients of the MultivariatePolynomial this ring operates on
+     * @param space the variables and order of the monomials
+     * @return a new MultivariatePolynomialRing
+     */
+    public static <S> MultivariatePolynomialRing<S> instance(Ring<S> r, Monomials space) {
+        Objects.requireNonNull(r, "Ring must not be null");
+        Objects.requireNonNull(space, "Monomials must not be null");
+
+        return new MultivariatePolynomialRing<S>(r, space);
+    }
+
+    /**
+     * Builder method to return a new MultivariatePolynomialRing that can negate, for coefficient rings that can
+     * @param <S> the type of coefficients of the MultivariatePolynomial that the ring operates on
+     * @param r the ring with negation for the coefficients of the MultivariatePolynomial this ring operates on
+     * @param space the variables and order of the monomials
+     * @return a new MultivariatePolynomialRing with negation
+     */
+    public static <S> WithNegation<S> instance(RingWithNegation<S> r, Monomials space) {
+        Objects.requireNonNull(r, "Ring must not be null");
+        Objects.requireNonNull(space, "Monomials must not be null");
+
+        return new WithNegation<S>(r, space);
+    }
+
+    /**
+     * Getter method for the monomials
+     * @return the variables and order of the monomials of the polynomials of this ring
+     */
+    public Monomials space() {
+        return space;
+    }
+
+    /**
+     * Returns the constant MultivariatePolynomial of a coefficient
+     * @param value the coefficient of the constant term
+     * @return the MultivariatePolynomial value * x^0
+     */
+    public MultivariatePolynomial<T> constant(T value) {
+        return MultivariatePolynomial.from(space, new int[][] {new int[space.variables()]}, Arrays.asList(value), ring);
+    }
+
+    /**
+     * Returns the MultivariatePolynomial of one variable
+     * @param variable the index of the variable, from 0 to the number of variables - 1
+     * @return the MultivariatePolynomial x_variable with coefficient 1
+     */
+    public MultivariatePolynomial<T> variable(int variable) {
+        //check that input is valid else throw exception
+        if (variable < 0 || variable >= space.variables())
+            throw new IndexOutOfBoundsException(variable);
+
+        int[] exponents = new int[space.variables()];
+        exponents[variable] = 1;
+        return MultivariatePolynomial.from(space, new int[][] {exponents}, Arrays.asList(ring.identity()), ring);
+    }
+
+    /**
+     * Returns the MultivariatePolynomial without terms to serve as additive 0 for type MultivariatePolynomial
+     * @return MultivariatePolynomial without terms
+     */
+    @Override
+    public MultivariatePolynomial<T> zero() {
+        return MultivariatePolynomial.from(space, new int[0][], Arrays.asList(), ring);
+    }
+
+    /**
+     * Returns the constant MultivariatePolynomial of its ring's multiplicative identity to serve as MultivariatePolynomial multiplicative identity
+     * @return constant MultivariatePolynomial of the multiplicative identity
+     */
+    @Override
+    public MultivariatePolynomial<T> identity() {
+        return constant(ring.identity());
+    }
+
+    /**
+     * Returns the sum of inputs x and y
+     * @param x the first MultivariatePolynomial to add
+     * @param y the second MultivariatePolynomial to add
+     * @return the sum of x and y
+     */
+    @Override
+    public MultivariatePolynomial<T> sum(MultivariatePolynomial<T> x, MultivariatePolynomial<T> y) {
+        //make sure inputs not null
+        Objects.requireNonNull(x, "Polynomial must not be null");
+        Objects.requireNonNull(y, "Polynomial must not be null");
+
+        return x.plus(y, ring);
+    }
+
+    /**
+     * Returns the product of inputs x and y
+     * @param x the first MultivariatePolynomial to multiply
+     * @param y the second MultivariatePolynomial to multiply
+     * @return the product of x and y
+     */
+    @Override
+    public MultivariatePolynomial<T> product(MultivariatePolynomial<T> x, MultivariatePolynomial<T> y) {
+        //make sure inputs not null
+        Objects.requireNonNull(x, "Polynomial must not be null");
+        Objects.requireNonNull(y, "Polynomial must not be null");
+
+        return x.times(y, ring);
+    }
+
+    /**
+     * A class to define a MultivariatePolynomialRing whose coefficient ring can negate, so its polynomials can be negated too
+     * The class is implemented as a nested class so it is built by MultivariatePolynomialRing.instance
+     */
+    public static final class WithNegation<T> extends MultivariatePolynomialRing<T> implements RingWithNegation<MultivariatePolynomial<T>> {
+        /** stores the coefficient ring, which can negate */
+        private final RingWithNegation<T> negation;
+
+        /**
+         * A private constructor for WithNegation
+         * @param negation the ring with negation for the coefficients of the MultivariatePolynomial
+         * @param space the variables and order of the monomials
+         */
+        private WithNegation(RingWithNegation<T> negation, Monomials space) {
+            super(negation, space);
+            this.negation = negation;
+        }
+
+        /**
+         * Returns the additive inverse of input x
+         * @param x the MultivariatePolynomial to negate
+         * @return the negation of x
+         */
+        @Override
+        public MultivariatePolynomial<T> negate(MultivariatePolynomial<T> x) {
+            //make sure input not null
+            Objects.requireNonNull(x, "Polynomial must not be null");
+
+            return x.negate(negation);
+        }
+    }
+}
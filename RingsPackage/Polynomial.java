@@ -5,6 +5,8 @@
 package RingsPackage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -70,7 +72,7 @@ public class Polynomial<T> implements Iterable<T>{
      */
     public ListIterator<T> listIterator(int i) {
         //check that input is valid else throw exception
-        if (i < 0 || i > getCoefficients().size())
+        if (i < 0 || i > coefficients.size())
             throw new IndexOutOfBoundsException(i);
 
         return getCoefficients().listIterator(i);
@@ -87,20 +89,9 @@ public class Polynomial<T> implements Iterable<T>{
         Objects.requireNonNull(other, "input polynomial must not be null");
         Objects.requireNonNull(ring, "input ring must not be null");
 
-        List<T> sum;                         //final sum of inputs
-        List<T> smallerPolynomial;           //stores copy of smaller of two inputs
-
-        //record which is shorter polynomial and set sum equal to coefficients list of larger polynomial
-        if (getCoefficients().size() > other.getCoefficients().size()){
-            //initialize as new ArrayLists for O(1) access regardless of if coefficients implemented as LinkedList or ArrayList
-            smallerPolynomial = new ArrayList<>(other.getCoefficients());
-            sum = new ArrayList<>(getCoefficients());
-        }
-        else {
-            //initialize as new ArrayLists for O(1) access regardless of if coefficients implemented as LinkedList or ArrayList
-            smallerPolynomial = new ArrayList<>(this.getCoefficients());
-            sum = new ArrayList<>(other.getCoefficients());
-        }
+        //copy the larger polynomial once, then add the smaller one into it
+        List<T> smallerPolynomial = (coefficients.size() > other.coefficients.size()) ? other.coefficients : coefficients;
+        List<T> sum = new ArrayList<>((smallerPolynomial == coefficients) ? other.coefficients : coefficients);
 
         ListIterator<T> smallerIterator = smallerPolynomial.listIterator(0); //iterator to trace through small list
         ListIterator<T> sumIterator = sum.listIterator(0);                   //iterator to trace through sum list
@@ -109,67 +100,91 @@ public class Polynomial<T> implements Iterable<T>{
         while (smallerIterator.hasNext()) {
             sumIterator.set(ring.sum(sumIterator.next(), smallerIterator.next()));
         }
-        return from(sum);
+        return new Polynomial<>(sum);
+    }
+
+    /**
+     * Computes the additive inverse of this Polynomial
+     * @param ring ring to compute negation operations
+     * @return the Polynomial whose coefficients are the negations of the coefficients of this
+     */
+    public Polynomial<T> negate(RingWithNegation<T> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(ring, "input ring must not be null");
+
+        List<T> negation = new ArrayList<>(coefficients.size());
+        for (T coefficient : coefficients) {
+            negation.add(ring.negate(coefficient));
+        }
+        return new Polynomial<>(negation);
     }
 
     /**
      * Computes the product of two Polynomials
+     * Operands with few nonzero coefficients use the product of SparsePolynomial. From the threshold of the default
+     * TransformMultiplier, DoubleRing and ModularRing coefficients use a transform, otherwise rings with negation use
+     * the default KaratsubaMultiplier and other rings use the schoolbook method
      * @param other other Polynomial to multiply by this
      * @param ring ring to compute multiplication operations
      * @return the product of this and other Polynomial
      */
+    @SuppressWarnings("unchecked")
     public Polynomial<T> times(Polynomial<T> other, Ring<T> ring) {
         //check for no null inputs
         Objects.requireNonNull(other, "input polynomial must not be null");
         Objects.requireNonNull(ring, "input ring must not be null");
 
-        List<T> resultList = new ArrayList<>();                                        //holds results of multiplication
-        int size = getCoefficients().size() + other.getCoefficients().size() - 1;      //size of final product
-        
-        //iterate once for each element in final product
-        for (int iteration = 0, offset = 0; iteration < size; iteration++) {
-            //if iterates outside bounds of input lists' sizes
-            offset = calculateOffset(iteration, other.getCoefficients().size());
-            
-            //initialize iterators for this and other polynomial
-            ListIterator<T> pIterator = listIterator(offset);
-            ListIterator<T> qIterator = other.listIterator(1 + iteration - offset);
-            //add 1 to input b/c previous() looks 1 ahead of given index compared to next() 
-            List<T> productsList = new ArrayList<>();                                   //list to store the products
-            
-            //do multiplication for current index
-            while (canIncrementTimes(pIterator, qIterator)) {                      //could reduce complexity here with a helper method - Complexity TELLS YOU that there can be made a change
-                productsList.add(ring.product(pIterator.next(), qIterator.previous()));
-            }
-            //compute sum of products and add it to result lst
-            resultList.add(Rings.sum(productsList, ring));
+        if (coefficients.isEmpty() || other.coefficients.isEmpty())
+            return emptyProduct(other, ring);
+        //mostly zero operands skip the zeros entirely
+        if (SparsePolynomial.prefersSparse(coefficients, other.coefficients, ring))
+            return SparsePolynomial.from(this, ring).times(SparsePolynomial.from(other, ring), ring)
+                .toPolynomial(coefficients.size() + other.coefficients.size() - 1, ring);
+
+        //the ring's type fixes the type of the coefficients
+        TransformMultiplier transform = TransformMultiplier.defaults();
+        if (transform.applies(coefficients.size(), other.coefficients.size())) {
+            if (ring instanceof DoubleRing)
+                return new Polynomial<>((List<T>) transform.multiply((List<Double>) coefficients, (List<Double>) other.coefficients));
+            if (ring instanceof ModularRing modular)
+                return new Polynomial<>((List<T>) transform.multiply((List<Long>) coefficients, (List<Long>) other.coefficients, modular));
         }
-        return new Polynomial<>(resultList);
+        if (ring instanceof RingWithNegation<T> negation)
+            return times(other, negation, KaratsubaMultiplier.defaults());
+
+        T[] product = KaratsubaMultiplier.schoolbook(KaratsubaMultiplier.toArray(coefficients), 0, coefficients.size(),
+            KaratsubaMultiplier.toArray(other.coefficients), 0, other.coefficients.size(), ring);
+        return new Polynomial<>(Arrays.asList(product));
     }
 
     /**
-     * Helper method to calculate index offset during Polynomial multiplication
-     * @param iteration iteration number of the multiplication
-     * @param listSize size of the list being iterated accross
-     * @return the offset value
+     * Computes the product of two Polynomials using the given Karatsuba multiplier
+     * @param other other Polynomial to multiply by this
+     * @param ring ring to compute operations
+     * @param multiplier multiplier that defines the cutoff to the schoolbook method
+     * @return the product of this and other Polynomial
      */
-    private int calculateOffset(int iteration, int listSize) {
-        int offset = 0;
+    public Polynomial<T> times(Polynomial<T> other, RingWithNegation<T> ring, KaratsubaMultiplier multiplier) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+        Objects.requireNonNull(ring, "input ring must not be null");
+        Objects.requireNonNull(multiplier, "multiplier must not be null");
 
-        //if offset exceeds size of the list
-        if (iteration >= listSize)
-                offset = iteration - listSize + 1;
+        if (coefficients.isEmpty() || other.coefficients.isEmpty())
+            return emptyProduct(other, ring);
 
-        return offset;
+        return new Polynomial<>(multiplier.multiply(coefficients, other.coefficients, ring));
     }
 
     /**
-     * Helper method to check if iterators can increment during multiplication process
-     * @param forward the ListIterator moving forward
-     * @param backward the ListIterator moving backward
-     * @return true if the iterators can increment, otherwise returns false
+     * Helper method for the product when either Polynomial is empty, which has one zero less than the sum of their sizes
+     * @param other other Polynomial in the product
+     * @param ring ring for the zero value
+     * @return the Polynomial of zeros
      */
-    private boolean canIncrementTimes(ListIterator<T> forward, ListIterator<T> backward) {
-        return forward.hasNext() && backward.hasPrevious();
+    private Polynomial<T> emptyProduct(Polynomial<T> other, Ring<T> ring) {
+        int size = Math.max(coefficients.size() + other.coefficients.size() - 1, 0);
+
+        return new Polynomial<>(Collections.nCopies(size, ring.zero()));
     }
 }
@@ -33,6 +33,18 @@ public class PolynomialRing<T> implements Ring<Polynomial<T>>{
         return new PolynomialRing<S>(r);
     }
 
+    /**
+     * Builder method to return a new PolynomialRing that can negate, for coefficient rings that can
+     * @param <S> the type of data within the Polynomial that the ring operates on
+     * @param r the ring with negation for the data type of the Polynomial this ring operates on
+     * @return a new PolynomialRing with negation
+     */
+    public static <S> WithNegation<S> instance(RingWithNegation<S> r) {
+        Objects.requireNonNull(r, "Ring must not be null");
+
+        return new WithNegation<S>(r);
+    }
+
     /**
      * Returns empty polynomial to serve as multiplicative 0 for type Polynomial
      * @return empty polynomial
@@ -80,4 +92,35 @@ public class PolynomialRing<T> implements Ring<Polynomial<T>>{
 
         return x.times(y, ring);
     }
+
+    /**
+     * A class to define a PolynomialRing whose coefficient ring can negate, so its Polynomials can be negated too
+     * The class is implemented as a nested class so it is built by PolynomialRing.instance
+     */
+    public static final class WithNegation<T> extends PolynomialRing<T> implements RingWithNegation<Polynomial<T>> {
+        /** stores the coefficient ring, which can negate */
+        private final RingWithNegation<T> negation;
+
+        /**
+         * A private constructor for WithNegation
+         * @param negation the ring with negation for the data in the Polynomial
+         */
+        private WithNegation(RingWithNegation<T> negation) {
+            super(negation);
+            this.negation = negation;
+        }
+
+        /**
+         * Returns the additive inverse of input x
+         * @param x the Polynomial to negate
+         * @return the negation of x
+         */
+        @Override
+        public Polynomial<T> negate(Polynomial<T> x) {
+            //make sure input not null
+            Objects.requireNonNull(x, "Polynomial must not be null");
+
+            return x.negate(negation);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+/**
+ * Interface to make ring data types whose values have additive inverses that can be computed
+ * @author Ethan Tobey
+ */
+package RingsPackage;
+
+
+public interface RingWithNegation<T> extends Ring<T> {
+
+    /**
+     * Returns the additive inverse of input x
+     * @param x the input to negate
+     * @return the value that sums with x to zero
+     */
+    public T negate(T x);
+
+    /**
+     * Returns the difference of inputs x and y
+     * @param x the input to subtract from
+     * @param y the input to subtract
+     * @return x minus y
+     */
+    public default T difference(T x, T y) {
+        return sum(x, negate(y));
+    }
+}
@@ -0,0 +1,377 @@
+/**
+ * Class to represent a sparse Polynomial data type
+ * @author Ethan Tobey
+ */
+
+ //NOTE: only the nonzero terms are stored, as parallel arrays of exponents in decreasing order and their coefficients,
+ //so x^100000 + 3x^7 + 1 holds 3 terms. Products use Johnson's heap method, which takes the products of terms in
+ //decreasing order of exponent with a heap holding at most one pending term per term of the left operand, so equal
+ //exponents are added as they meet and no dense array of the result is ever allocated
+package RingsPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+public final class SparsePolynomial<T> {
+    /** exponents of the nonzero terms, in decreasing order */
+    private final int[] exponents;
+    /** coefficients of the nonzero terms, in the order of their exponents */
+    private final T[] coefficients;
+
+    /**
+     * A private constructor for SparsePolynomial
+     * @param exponents exponents in decreasing order, not copied
+     * @param coefficients nonzero coefficients of the exponents, not copied
+     */
+    private SparsePolynomial(int[] exponents, T[] coefficients) {
+        this.exponents = exponents;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * A builder method to return a new SparsePolynomial from its terms, in any order
+     * Coefficients of equal exponents are added and terms with zero coefficients are dropped
+     * @param <S> the type of data stored as coefficients in the SparsePolynomial
+     * @param exponents the exponent of each term, not negative
+     * @param coefficients the coefficient of each term
+     * @param ring ring to add coefficients and recognize zero
+     * @return a new SparsePolynomial
+     */
+    public static <S> SparsePolynomial<S> from(int[] exponents, List<S> coefficients, Ring<S> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(exponents, "Exponents array must not be null");
+        Objects.requireNonNull(coefficients, "Coefficients list must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+        if (exponents.length != coefficients.size())
+            throw new IllegalArgumentException("each exponent needs one coefficient");
+
+        //sort the terms by decreasing exponent
+        Integer[] order = new Integer[exponents.length];
+        for (int i = 0; i < order.length; i++) {
+            if (exponents[i] < 0)
+                throw new IllegalArgumentException("exponents must not be negative");
+            Objects.requireNonNull(coefficients.get(i), "coefficients must not be null");
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> Integer.compare(exponents[y], exponents[x]));
+
+        Builder<S> builder = new Builder<>(order.length, ring);
+        for (int i = 0; i < order.length; ) {
+            int exponent = exponents[order[i]];
+            S sum = coefficients.get(order[i++]);
+            for (; i < order.length && exponents[order[i]] == exponent; i++) {
+                sum = ring.sum(sum, coefficients.get(order[i]));
+            }
+            builder.add(exponent, sum);
+        }
+        return builder.build();
+    }
+
+    /**
+     * A builder method to return a new SparsePolynomial holding the nonzero coefficients of a Polynomial
+     * @param <S> the type of data stored as coefficients in the SparsePolynomial
+     * @param polynomial the Polynomial, with coefficients in order from highest to lowest degree
+     * @param ring ring to recognize zero
+     * @return a new SparsePolynomial
+     */
+    public static <S> SparsePolynomial<S> from(Polynomial<S> polynomial, Ring<S> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(polynomial, "Polynomial must not be null");
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        List<S> dense = polynomial.getCoefficients();
+        Builder<S> builder = new Builder<>(dense.size(), ring);
+        int exponent = dense.size();
+        for (S coefficient : dense) {
+            builder.add(--exponent, Objects.requireNonNull(coefficient, "coefficients must not be null"));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns whether a sparse product of two Polynomials is clearly cheaper than a dense one
+     * Polynomial.times uses this to choose the sparse product for operands such as x^100000 + 3x^7 + 1
+     * @param <S> the type of data stored as coefficients in the Polynomials
+     * @param x the coefficients of the left operand
+     * @param y the coefficients of the right operand
+     * @param ring ring to recognize zero
+     * @return true if four times the products of nonzero terms are at most the coefficients of the dense product
+     */
+    static <S> boolean prefersSparse(List<S> x, List<S> y, Ring<S> ring) {
+        long limit = x.size() + y.size() - 1;
+        long xTerms = nonZeroCount(x, ring);
+
+        //the factor of 4 leaves room for the heap and the conversions
+        return xTerms == 0 || 4 * xTerms * nonZeroCount(y, ring) <= limit;
+    }
+
+    /**
+     * Helper method to count the nonzero values of a list
+     * @param <S> the type of data stored in the list
+     * @param values the values to count
+     * @param ring ring to recognize zero
+     * @return the number of values that do not equal zero
+     */
+    private static <S> long nonZeroCount(List<S> values, Ring<S> ring) {
+        S zero = ring.zero();
+        long count = 0;
+
+        for (S value : values) {
+            if (!zero.equals(value))
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of nonzero terms of this SparsePolynomial
+     * @return the number of terms
+     */
+    public int terms() {
+        return exponents.length;
+    }
+
+    /**
+     * Returns the degree of this SparsePolynomial
+     * @return the largest exponent, or -1 for the zero polynomial
+     */
+    public int degree() {
+        return (exponents.length == 0) ? -1 : exponents[0];
+    }
+
+    /**
+     * Returns the exponent of a term
+     * @param term the index of the term, where 0 is the term of highest degree
+     * @return the exponent of the term
+     */
+    public int exponent(int term) {
+        //check that input is valid else throw exception
+        if (term < 0 || term >= exponents.length)
+            throw new IndexOutOfBoundsException(term);
+
+        return exponents[term];
+    }
+
+    /**
+     * Returns the coefficient of a term
+     * @param term the index of the term, where 0 is the term of highest degree
+     * @return the nonzero coefficient of the term
+     */
+    public T coefficient(int term) {
+        //check that input is valid else throw exception
+        if (term < 0 || term >= exponents.length)
+            throw new IndexOutOfBoundsException(term);
+
+        return coefficients[term];
+    }
+
+    /**
+     * Convert this SparsePolynomial to a dense Polynomial, for use with PolynomialRing
+     * @param ring ring for the zero coefficients
+     * @return Polynomial with coefficients in order from highest to lowest degree
+     */
+    public Polynomial<T> toPolynomial(Ring<T> ring) {
+        Objects.requireNonNull(ring, "Ring must not be null");
+
+        return toPolynomial(degree() + 1, ring);
+    }
+
+    /**
+     * Helper method to convert this SparsePolynomial to a dense Polynomial with leading zeros
+     * @param size the number of coefficients, at least the degree + 1
+     * @param ring ring for the zero coefficients
+     * @return Polynomial of size coefficients in order from highest to lowest degree
+     */
+    Polynomial<T> toPolynomial(int size, Ring<T> ring) {
+        List<T> dense = new ArrayList<>(size);
+        T zero = ring.zero();
+
+        for (int exponent = size - 1, term = 0; exponent >= 0; exponent--) {
+            if (term < exponents.length && exponents[term] == exponent)
+                dense.add(coefficients[term++]);
+            else
+                dense.add(zero);
+        }
+        return Polynomial.from(dense);
+    }
+
+    /**
+     * Computes the sum of two SparsePolynomials by merging their terms
+     * @param other other SparsePolynomial to add to this
+     * @param ring ring to compute sum operations
+     * @return the sum of this and other SparsePolynomials
+     */
+    public SparsePolynomial<T> plus(SparsePolynomial<T> other, Ring<T> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+        Objects.requireNonNull(ring, "input ring must not be null");
+
+        Builder<T> builder = new Builder<>(exponents.length + other.exponents.length, ring);
+        int i = 0;
+        int j = 0;
+        while (i < exponents.length || j < other.exponents.length) {
+            if (j == other.exponents.length || (i < exponents.length && exponents[i] > other.exponents[j]))
+                builder.add(exponents[i], coefficients[i++]);
+            else if (i == exponents.length || other.exponents[j] > exponents[i])
+                builder.add(other.exponents[j], other.coefficients[j++]);
+            else
+                builder.add(exponents[i], ring.sum(coefficients[i++], other.coefficients[j++]));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Computes the additive inverse of this SparsePolynomial
+     * @param ring ring to compute negation operations
+     * @return the SparsePolynomial whose coefficients are the negations of the coefficients of this
+     */
+    public SparsePolynomial<T> negate(RingWithNegation<T> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(ring, "input ring must not be null");
+
+        T[] negation = Builder.newArray(coefficients.length);
+        for (int i = 0; i < negation.length; i++) {
+            negation[i] = ring.negate(coefficients[i]);
+        }
+        return new SparsePolynomial<>(exponents, negation);
+    }
+
+    /**
+     * Computes the product of two SparsePolynomials by Johnson's heap method
+     * The order of every product of coefficients is kept, so coefficient rings need not be commutative
+     * @param other other SparsePolynomial to multiply by this
+     * @param ring ring to compute multiplication operations
+     * @return the product of this and other SparsePolynomials
+     */
+    public SparsePolynomial<T> times(SparsePolynomial<T> other, Ring<T> ring) {
+        //check for no null inputs
+        Objects.requireNonNull(other, "input polynomial must not be null");
+        Objects.requireNonNull(ring, "input ring must not be null");
+
+        Builder<T> builder = new Builder<>(exponents.length + other.exponents.length, ring);
+        if (exponents.length == 0 || other.exponents.length == 0)
+            return builder.build();
+
+        //each entry is the exponent, the term of this and the term of other of a pending product
+        PriorityQueue<int[]> heap = new PriorityQueue<>((x, y) -> Integer.compare(y[0], x[0]));
+        heap.add(new int[] {Math.addExact(exponents[0], other.exponents[0]), 0, 0});
+        while (!heap.isEmpty()) {
+            int exponent = heap.peek()[0];
+            T sum = null;
+            //add every product of this exponent
+            while (!heap.isEmpty() && heap.peek()[0] == exponent) {
+                int[] entry = heap.poll();
+                int i = entry[1];
+                int j = entry[2];
+                T product = ring.product(coefficients[i], other.coefficients[j]);
+                sum = (sum == null) ? product : ring.sum(sum, product);
+                //the next term of this starts once its predecessor meets the first term of other
+                if (j == 0 && i + 1 < exponents.length)
+                    heap.add(new int[] {Math.addExact(exponents[i + 1], other.exponents[0]), i + 1, 0});
+                if (j + 1 < other.exponents.length)
+                    heap.add(new int[] {Math.addExact(exponents[i], other.exponents[j + 1]), i, j + 1});
+            }
+            builder.add(exponent, sum);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compares this SparsePolynomial to another object
+     * @param o the object to compare to
+     * @return true if o is a SparsePolynomial with the same terms
+     */
+    @Override
+    public boolean equals(Object o) {
+        return (o instanceof SparsePolynomial<?> other) && Arrays.equals(exponents, other.exponents)
+            && Arrays.equals(coefficients, other.coefficients);
+    }
+
+    /**
+     * Returns hash code of this SparsePolynomial
+     * @return hash code of the exponents and coefficients
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(exponents) + Arrays.hashCode(coefficients);
+    }
+
+    /**
+     * Overrides String representation of this SparsePolynomial
+     * @return String representation of the terms from highest to lowest degree
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("SparsePolynomial [terms={");
+
+        for (int i = 0; i < exponents.length; i++) {
+            builder.append((i == 0) ? "" : ", ").append(exponents[i]).append('=').append(coefficients[i]);
+        }
+        return builder.append("}]").toString();
+    }
+
+    /**
+     * Class to collect terms in decreasing order of exponent, dropping zero coefficients
+     * @param <S> the type of data stored as coefficients
+     */
+    private static final class Builder<S> {
+        /** exponents collected so far */
+        private int[] exponents;
+        /** coefficients collected so far */
+        private S[] coefficients;
+        /** the zero of the ring */
+        private final S zero;
+        /** the number of terms collected */
+        private int size;
+
+        /**
+         * A constructor for Builder
+         * @param capacity the expected number of terms
+         * @param ring ring to recognize zero
+         */
+        private Builder(int capacity, Ring<S> ring) {
+            exponents = new int[Math.max(capacity, 1)];
+            coefficients = newArray(exponents.length);
+            zero = ring.zero();
+        }
+
+        /**
+         * Adds a term with an exponent below every exponent added before, unless its coefficient is zero
+         * @param exponent the exponent of the term
+         * @param coefficient the coefficient of the term
+         */
+        private void add(int exponent, S coefficient) {
+            if (zero.equals(coefficient))
+                return;
+            //a product can have more terms than both operands together, so grow when needed
+            if (size == exponents.length) {
+                exponents = Arrays.copyOf(exponents, 2 * size);
+                coefficients = Arrays.copyOf(coefficients, 2 * size);
+            }
+            exponents[size] = exponent;
+            coefficients[size++] = coefficient;
+        }
+
+        /**
+         * Returns the SparsePolynomial of the collected terms
+         * @return a new SparsePolynomial
+         */
+        private SparsePolynomial<S> build() {
+            return new SparsePolynomial<>(Arrays.copyOf(exponents, size), Arrays.copyOf(coefficients, size));
+        }
+
+        /**
+         * Helper method to create a generic array
+         * @param <S> the type of data stored in the array
+         * @param length the length of the array
+         * @return new array of nulls
+         */
+        @SuppressWarnings("unchecked")
+        private static <S> S[] newArray(int length) {
+            return (S[]) new Object[length];
+        }
+    }
+}
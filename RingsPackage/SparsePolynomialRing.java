@@ -0,0 +1,126 @@
+/**
+ * Class to represent a ring for SparsePolynomial data type
+ * @author Ethan Tobey
+ */
+package RingsPackage;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+public class SparsePolynomialRing<T> implements Ring<SparsePolynomial<T>> {
+
+    /** stores a ring field for the coefficients of the polynomials this ring operates on */
+    private final Ring<T> ring;
+
+    /**
+     * A private constructor for SparsePolynomialRing
+     * @param ring the ring for the coefficients of the SparsePolynomial
+     */
+    private SparsePolynomialRing(Ring<T> ring) {
+        this.ring = ring;
+    }
+
+    /**
+     * Builder method to return a new SparsePolynomialRing
+     * @param <S> the type of coefficients of the SparsePolynomial that the ring operates on
+     * @param r the ring for the coefficients of the SparsePolynomial this ring operates on
+     * @return a new SparsePolynomialRing
+     */
+    public static <S> SparsePolynomialRing<S> instance(Ring<S> r) {
+        Objects.requireNonNull(r, "Ring must not be null");
+
+        return new SparsePolynomialRing<S>(r);
+    }
+
+    /**
+     * Builder method to return a new SparsePolynomialRing that can negate, for coefficient rings that can
+     * @param <S> the type of coefficients of the SparsePolynomial that the ring operates on
+     * @param r the ring with negation for the coefficients of the SparsePolynomial this ring operates on
+     * @return a new SparsePolynomialRing with negation
+     */
+    public static <S> WithNegation<S> instance(RingWithNegation<S> r) {
+        Objects.requireNonNull(r, "Ring must not be null");
+
+        return new WithNegation<S>(r);
+    }
+
+    /**
+     * Returns the SparsePolynomial without terms to serve as additive 0 for type SparsePolynomial
+     * @return SparsePolynomial without terms
+     */
+    @Override
+    public SparsePolynomial<T> zero() {
+        return SparsePolynomial.from(new int[0], Arrays.asList(), ring);
+    }
+
+    /**
+     * Returns the constant SparsePolynomial of its ring's multiplicative identity to serve as SparsePolynomial multiplicative identity
+     * @return SparsePolynomial of the multiplicative identity with exponent 0
+     */
+    @Override
+    public SparsePolynomial<T> identity() {
+        return SparsePolynomial.from(new int[] {0}, Arrays.asList(ring.identity()), ring);
+    }
+
+    /**
+     * Returns the sum of inputs x and y
+     * @param x the first SparsePolynomial to add
+     * @param y the second SparsePolynomial to add
+     * @return the sum of x and y
+     */
+    @Override
+    public SparsePolynomial<T> sum(SparsePolynomial<T> x, SparsePolynomial<T> y) {
+        //make sure inputs not null
+        Objects.requireNonNull(x, "Polynomial must not be null");
+        Objects.requireNonNull(y, "Polynomial must not be null");
+
+        return x.plus(y, ring);
+    }
+
+    /**
+     * Returns the product of inputs x and y
+     * @param x the first SparsePolynomial to multiply
+     * @param y the second SparsePolynomial to multiply
+     * @return the product of x and y
+     */
+    @Override
+    public SparsePolynomial<T> product(SparsePolynomial<T> x, SparsePolynomial<T> y) {
+        //make sure inputs not null
+        Objects.requireNonNull(x, "Polynomial must not be null");
+        Objects.requireNonNull(y, "Polynomial must not be null");
+
+        return x.times(y, ring);
+    }
+
+    /**
+     * A class to define a SparsePolynomialRing whose coefficient ring can negate, so its polynomials can be negated too
+     * The class is implemented as a nested class so it is built by SparsePolynomialRing.instance
+     */
+    public static final class WithNegation<T> extends SparsePolynomialRing<T> implements RingWithNegation<SparsePolynomial<T>> {
+        /** stores the coefficient ring, which can negate */
+        private final RingWithNegation<T> negation;
+
+        /**
+         * A private constructor for WithNegation
+         * @param negation the ring with negation for the coefficients of the SparsePolynomial
+         */
+        private WithNegation(RingWithNegation<T> negation) {
+            super(negation);
+            this.negation = negation;
+        }
+
+        /**
+         * Returns the additive inverse of input x
+         * @param x the SparsePolynomial to negate
+         * @return the negation of x
+         */
+        @Override
+        public SparsePolynomial<T> negate(SparsePolynomial<T> x) {
+            //make sure input not null
+            Objects.requireNonNull(x, "Polynomial must not be null");
+
+            return x.negate(negation);
+        }
+    }
+}
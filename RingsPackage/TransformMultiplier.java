@@ -0,0 +1,441 @@
+/**
+ * Class to compute Polynomial multiplication by fast Fourier and number-theoretic transforms
+ * @author Ethan Tobey
+ */
+
+ //NOTE: the coefficients are transformed, multiplied point by point and transformed back, which costs O(n log n) instead
+ //of O(n^2) ring products. Double coefficients use a complex FFT with both operands packed into one complex vector, as
+ //(a + ib)^2 has imaginary part 2ab. Coefficients modulo a prime p with 2^k dividing p - 1 use a number-theoretic transform
+ //modulo p itself, any other modulus is convolved exactly modulo three fixed NTT primes and rebuilt by the Chinese remainder
+ //theorem, as long as the true coefficients fit below their product. Other moduli fall back to KaratsubaMultiplier
+package RingsPackage;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class TransformMultiplier {
+    /** default length of the shorter operand from which Polynomial.times uses a transform */
+    public static final int DEFAULT_THRESHOLD = 128;
+
+    /** NTT primes 15 * 2^27 + 1, 7 * 2^26 + 1 and 45 * 2^24 + 1, each with a root of unity for every power of 2 up to 2^24 */
+    private static final ModularRing[] PRIMES = {
+        ModularRing.instance(2013265921L), ModularRing.instance(469762049L), ModularRing.instance(754974721L)};
+    /** largest transform length supported by all three primes */
+    private static final int MAX_LENGTH = 1 << 24;
+    /** product of the three primes, which bounds the coefficients they can rebuild */
+    private static final BigInteger PRIMES_PRODUCT = BigInteger.valueOf(2013265921L).multiply(BigInteger.valueOf(469762049L))
+        .multiply(BigInteger.valueOf(754974721L));
+    /** the first prime inverted modulo the second */
+    private static final long INVERSE_1 = inverse(PRIMES[0].getModulus(), PRIMES[1].getModulus());
+    /** the product of the first two primes inverted modulo the third */
+    private static final long INVERSE_12 = inverse(PRIMES[0].getModulus() * PRIMES[1].getModulus(), PRIMES[2].getModulus());
+
+    /** shared multiplier using the default threshold */
+    private static final TransformMultiplier DEFAULTS = new TransformMultiplier(DEFAULT_THRESHOLD);
+
+    /** length of the shorter operand from which Polynomial.times uses a transform */
+    private final int threshold;
+
+    /**
+     * A private constructor for TransformMultiplier
+     * @param threshold length of the shorter operand from which Polynomial.times uses a transform
+     */
+    private TransformMultiplier(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Builder method to return a new TransformMultiplier with the given threshold
+     * @param threshold length of the shorter operand from which Polynomial.times uses a transform
+     * @return a new TransformMultiplier
+     */
+    public static TransformMultiplier instance(int threshold) {
+        //require threshold to be greater than 0
+        if (threshold < 1)
+            throw new IllegalArgumentException("threshold must be greater than 0");
+
+        return new TransformMultiplier(threshold);
+    }
+
+    /**
+     * Returns the TransformMultiplier with the default threshold
+     * @return the default TransformMultiplier
+     */
+    public static TransformMultiplier defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Getter method for the threshold
+     * @return length of the shorter operand from which Polynomial.times uses a transform
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Returns whether products of operands of the given lengths are computed by a transform
+     * @param aSize the number of coefficients of the left operand
+     * @param bSize the number of coefficients of the right operand
+     * @return true if the shorter operand reaches the threshold
+     */
+    public boolean applies(int aSize, int bSize) {
+        return Math.min(aSize, bSize) >= threshold;
+    }
+
+    /**
+     * Computes the coefficients of the product of two lists of Double coefficients by a complex FFT
+     * Coefficients are exact up to rounding error relative to the largest coefficients of the operands
+     * @param a the coefficients of the left operand, not empty
+     * @param b the coefficients of the right operand, not empty
+     * @return the a.size() + b.size() - 1 coefficients of the product
+     */
+    public List<Double> multiply(List<Double> a, List<Double> b) {
+        int size = requireOperands(a, b);
+        int n = length(size);
+
+        //a in the real parts and b in the imaginary parts
+        double[] real = new double[n];
+        double[] imaginary = new double[n];
+        int i = 0;
+        for (Double coefficient : a) {
+            real[i++] = coefficient;
+        }
+        i = 0;
+        for (Double coefficient : b) {
+            imaginary[i++] = coefficient;
+        }
+
+        double[] cosines = new double[n / 2];
+        double[] sines = new double[n / 2];
+        for (int j = 0; j < n / 2; j++) {
+            cosines[j] = Math.cos(2 * Math.PI * j / n);
+            sines[j] = Math.sin(2 * Math.PI * j / n);
+        }
+        fft(real, imaginary, cosines, sines, -1);
+        //square point by point
+        for (int k = 0; k < n; k++) {
+            double re = real[k];
+            double im = imaginary[k];
+            real[k] = re * re - im * im;
+            imaginary[k] = 2 * re * im;
+        }
+        fft(real, imaginary, cosines, sines, 1);
+
+        //the inverse transform is scaled by n, and the square holds 2ab
+        List<Double> product = new ArrayList<>(size);
+        for (int k = 0; k < size; k++) {
+            product.add(imaginary[k] / (2.0 * n));
+        }
+        return product;
+    }
+
+    /**
+     * Computes the coefficients of the product of two lists of coefficients modulo the modulus of a ModularRing
+     * @param a the reduced coefficients of the left operand, not empty
+     * @param b the reduced coefficients of the right operand, not empty
+     * @param ring ring of the coefficients
+     * @return the a.size() + b.size() - 1 coefficients of the product
+     */
+    public List<Long> multiply(List<Long> a, List<Long> b, ModularRing ring) {
+        int size = requireOperands(a, b);
+        Objects.requireNonNull(ring, "Ring must not be null");
+        int n = length(size);
+        long[] x = toArray(a, n);
+        long[] y = toArray(b, n);
+
+        //a transform modulo the modulus itself needs a prime with an n-th root of unity
+        long[] roots = BigInteger.valueOf(ring.getModulus()).isProbablePrime(30) ? roots(ring, n) : null;
+        if (roots != null) {
+            return toList(convolve(x, y, roots, ring), size);
+        }
+
+        //otherwise the true coefficients must fit below the product of the three primes
+        BigInteger largest = BigInteger.valueOf(ring.getModulus() - 1);
+        BigInteger bound = largest.multiply(largest).multiply(BigInteger.valueOf(Math.min(a.size(), b.size())));
+        if (n > MAX_LENGTH || bound.compareTo(PRIMES_PRODUCT) >= 0)
+            return KaratsubaMultiplier.defaults().multiply(a, b, ring);
+
+        long[][] residues = new long[PRIMES.length][];
+        for (int i = 0; i < PRIMES.length; i++) {
+            long prime = PRIMES[i].getModulus();
+            long[] xReduced = new long[n];
+            long[] yReduced = new long[n];
+            for (int j = 0; j < n; j++) {
+                xReduced[j] = x[j] % prime;
+                yReduced[j] = y[j] % prime;
+            }
+            residues[i] = convolve(xReduced, yReduced, roots(PRIMES[i], n), PRIMES[i]);
+        }
+
+        //Garner's mixed radix digits, then the value modulo the modulus
+        long m1 = PRIMES[0].getModulus();
+        long m2 = PRIMES[1].getModulus();
+        long m1Reduced = ring.reduce(m1);
+        long m12Reduced = ring.multiply(m1Reduced, ring.reduce(m2));
+        long[] product = new long[size];
+        for (int k = 0; k < size; k++) {
+            long r1 = residues[0][k];
+            long t2 = PRIMES[1].multiply(PRIMES[1].difference(residues[1][k], r1 % m2), INVERSE_1);
+            long sum = PRIMES[2].sum(r1 % PRIMES[2].getModulus(), PRIMES[2].multiply(m1 % PRIMES[2].getModulus(), t2));
+            long t3 = PRIMES[2].multiply(PRIMES[2].difference(residues[2][k], sum), INVERSE_12);
+            product[k] = ring.sum(ring.sum(ring.reduce(r1), ring.multiply(m1Reduced, ring.reduce(t2))), ring.multiply(m12Reduced, ring.reduce(t3)));
+        }
+        return toList(product, size);
+    }
+
+    /**
+     * Helper method to check the operands of a product
+     * @param a the coefficients of the left operand
+     * @param b the coefficients of the right operand
+     * @return the number of coefficients of the product
+     */
+    private static int requireOperands(List<?> a, List<?> b) {
+        //check for no null inputs
+        Objects.requireNonNull(a, "Coefficients list must not be null");
+        Objects.requireNonNull(b, "Coefficients list must not be null");
+        if (a.isEmpty() || b.isEmpty())
+            throw new IllegalArgumentException("Coefficients list must not be empty");
+
+        return a.size() + b.size() - 1;
+    }
+
+    /**
+     * Helper method to choose the transform length
+     * @param size the number of coefficients of the product
+     * @return the smallest power of 2 that is at least size and at least 2
+     */
+    private static int length(int size) {
+        int n = Integer.highestOneBit(size);
+
+        return Math.max((n < size) ? n << 1 : n, 2);
+    }
+
+    /**
+     * Helper method for an in-place iterative radix-2 complex FFT
+     * @param real the real parts, of power of 2 length n
+     * @param imaginary the imaginary parts, of length n
+     * @param cosines cos(2 pi j / n) for j below n / 2
+     * @param sines sin(2 pi j / n) for j below n / 2
+     * @param sign -1 for the forward transform, 1 for the unscaled inverse
+     */
+    private static void fft(double[] real, double[] imaginary, double[] cosines, double[] sines, int sign) {
+        int n = real.length;
+        reverseBits(real, imaginary);
+
+        for (int length = 2; length <= n; length <<= 1) {
+            int half = length / 2;
+            int step = n / length;
+            for (int start = 0; start < n; start += length) {
+                for (int j = 0; j < half; j++) {
+                    double wRe = cosines[j * step];
+                    double wIm = sign * sines[j * step];
+                    int top = start + j;
+                    int bottom = top + half;
+                    double re = real[bottom] * wRe - imaginary[bottom] * wIm;
+                    double im = real[bottom] * wIm + imaginary[bottom] * wRe;
+                    real[bottom] = real[top] - re;
+                    imaginary[bottom] = imaginary[top] - im;
+                    real[top] += re;
+                    imaginary[top] += im;
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method to compute the cyclic convolution of two arrays of residues by a number-theoretic transform
+     * @param x the first residues, of power of 2 length n, which are overwritten
+     * @param y the second residues, of length n, which are overwritten
+     * @param roots the powers of a primitive n-th root of unity below n / 2
+     * @param ring ring of the residues
+     * @return the convolution, in x
+     */
+    private static long[] convolve(long[] x, long[] y, long[] roots, ModularRing ring) {
+        int n = x.length;
+        ntt(x, roots, ring, false);
+        ntt(y, roots, ring, false);
+        for (int i = 0; i < n; i++) {
+            x[i] = ring.multiply(x[i], y[i]);
+        }
+        ntt(x, roots, ring, true);
+
+        long scale = ring.inverse((long) n);
+        for (int i = 0; i < n; i++) {
+            x[i] = ring.multiply(x[i], scale);
+        }
+        return x;
+    }
+
+    /**
+     * Helper method for an in-place iterative radix-2 number-theoretic transform
+     * @param values the residues, of power of 2 length n
+     * @param roots the powers of a primitive n-th root of unity below n / 2
+     * @param ring ring of the residues
+     * @param inverse true for the unscaled inverse transform, which uses the inverse root
+     */
+    private static void ntt(long[] values, long[] roots, ModularRing ring, boolean inverse) {
+        int n = values.length;
+        long modulus = ring.getModulus();
+        reverseBits(values);
+
+        for (int length = 2; length <= n; length <<= 1) {
+            int half = length / 2;
+            int step = n / length;
+            for (int start = 0; start < n; start += length) {
+                for (int j = 0; j < half; j++) {
+                    //w^-j is -w^(n/2 - j)
+                    long root = (!inverse || j == 0) ? roots[j * step] : modulus - roots[n / 2 - j * step];
+                    int top = start + j;
+                    int bottom = top + half;
+                    long value = ring.multiply(values[bottom], root);
+                    long difference = values[top] - value;
+                    long sum = values[top] + value - modulus;
+                    values[bottom] = difference + ((difference >> 63) & modulus);
+                    values[top] = sum + ((sum >> 63) & modulus);
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method to find the powers of a primitive n-th root of unity modulo a prime
+     * @param ring ring of a prime modulus
+     * @param n the power of 2 order of the root
+     * @return the powers w^0 to w^(n/2 - 1), or null if n does not divide the modulus - 1
+     */
+    private static long[] roots(ModularRing ring, int n) {
+        long modulus = ring.getModulus();
+        if ((modulus - 1) % n != 0)
+            return null;
+
+        //x^((p - 1) / n) has order n exactly when its (n / 2)th power is -1, which half of all x satisfy
+        long root = 0;
+        for (long x = 2; root == 0; x++) {
+            long candidate = power(ring, x, (modulus - 1) / n);
+            if (power(ring, candidate, n / 2) == modulus - 1)
+                root = candidate;
+        }
+
+        long[] roots = new long[n / 2];
+        roots[0] = 1;
+        for (int j = 1; j < roots.length; j++) {
+            roots[j] = ring.multiply(roots[j - 1], root);
+        }
+        return roots;
+    }
+
+    /**
+     * Helper method to raise a residue to a power by repeated squaring
+     * @param ring ring of the residue
+     * @param base the reduced residue
+     * @param exponent the power, not negative
+     * @return base to the power of exponent modulo the modulus
+     */
+    private static long power(ModularRing ring, long base, long exponent) {
+        long result = 1;
+
+        for (; exponent > 0; exponent >>= 1) {
+            if ((exponent & 1) == 1)
+                result = ring.multiply(result, base);
+            base = ring.multiply(base, base);
+        }
+        return result;
+    }
+
+    /**
+     * Helper method to invert a value modulo a prime
+     * @param value the value to invert
+     * @param prime the prime modulus
+     * @return the inverse of value modulo prime
+     */
+    private static long inverse(long value, long prime) {
+        return BigInteger.valueOf(value).modInverse(BigInteger.valueOf(prime)).longValue();
+    }
+
+    /**
+     * Helper method to permute an array into bit-reversed order
+     * @param values the array, of power of 2 length
+     */
+    private static void reverseBits(long[] values) {
+        int n = values.length;
+
+        for (int i = 1, j = 0; i < n; i++) {
+            j = nextReversed(j, n);
+            if (i < j) {
+                long value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+    }
+
+    /**
+     * Helper method to permute two arrays into bit-reversed order
+     * @param real the first array, of power of 2 length
+     * @param imaginary the second array, of the same length
+     */
+    private static void reverseBits(double[] real, double[] imaginary) {
+        int n = real.length;
+
+        for (int i = 1, j = 0; i < n; i++) {
+            j = nextReversed(j, n);
+            if (i < j) {
+                double value = real[i];
+                real[i] = real[j];
+                real[j] = value;
+                value = imaginary[i];
+                imaginary[i] = imaginary[j];
+                imaginary[j] = value;
+            }
+        }
+    }
+
+    /**
+     * Helper method to increment a bit-reversed index
+     * @param j the bit-reversed form of i - 1
+     * @param n the power of 2 length
+     * @return the bit-reversed form of i
+     */
+    private static int nextReversed(int j, int n) {
+        int bit = n >> 1;
+
+        for (; (j & bit) != 0; bit >>= 1) {
+            j ^= bit;
+        }
+        return j | bit;
+    }
+
+    /**
+     * Helper method to copy a list of residues into a zero-padded array
+     * @param coefficients the residues
+     * @param n the length of the array
+     * @return new array of the residues followed by zeros
+     */
+    private static long[] toArray(List<Long> coefficients, int n) {
+        long[] array = new long[n];
+
+        int i = 0;
+        for (Long coefficient : coefficients) {
+            array[i++] = coefficient;
+        }
+        return array;
+    }
+
+    /**
+     * Helper method to copy the start of an array of residues into a list
+     * @param values the residues
+     * @param size the number of residues to copy
+     * @return new list of the first size residues
+     */
+    private static List<Long> toList(long[] values, int size) {
+        List<Long> list = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return list;
+    }
+}
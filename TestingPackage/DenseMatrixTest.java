@@ -0,0 +1,127 @@
+/**
+ * A class that tests the dense primitive matrix classes
+ * @author Ethan Tobey
+ */
+package TestingPackage;
+
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import org.junit.Test;
+import MatrixPackage.ArithmeticMode;
+import MatrixPackage.DenseDoubleMatrix;
+import MatrixPackage.DenseIntMatrix;
+import MatrixPackage.DenseLongMatrix;
+import MatrixPackage.DenseVector;
+import MatrixPackage.Indexes;
+import MatrixPackage.MatrixMap;
+import RingsPackage.DoubleRing;
+import RingsPackage.IntegerRing;
+import RingsPackage.LongRing;
+import RingsPackage.ModularRing;
+
+public class DenseMatrixTest {
+
+    /**
+     * Tests the sum and product methods of DenseDoubleMatrix
+     */
+    @Test
+    public void testDoubleOperations() {
+        DoubleRing ring = new DoubleRing();
+        //sizes do not match
+        assertThrows(IllegalArgumentException.class, () -> DenseDoubleMatrix.identity(2).plus(DenseDoubleMatrix.identity(3)));
+        //full matrices
+        DenseDoubleMatrix matrix1 = DenseDoubleMatrix.from(new double[][] {{1, 2}, {3, 4}});
+        DenseDoubleMatrix matrix2 = DenseDoubleMatrix.from(new double[][] {{5, 6}, {7, 8}});
+        assertEquals("DenseDoubleMatrix [matrix=[[6.0, 8.0], [10.0, 12.0]]]", matrix1.plus(matrix2).toString());
+        assertEquals("DenseDoubleMatrix [matrix=[[19.0, 22.0], [43.0, 50.0]]]", matrix1.times(matrix2).toString());
+        //identity leaves matrix unchanged
+        assertEquals(matrix1.toString(), matrix1.times(DenseDoubleMatrix.identity(2), ring).toString());
+        //mixed with MatrixMap gives same values as MatrixMap
+        MatrixMap<Double> map2 = matrix2.toMatrixMap();
+        assertEquals(matrix1.toMatrixMap().times(map2, ring).getMap(), matrix1.times(map2, ring).getMap());
+        assertEquals(matrix1.toMatrixMap().plus(map2, ring).getMap(), matrix1.plus(map2, ring).getMap());
+        //conversions keep values
+        assertEquals(matrix1.getMap(), DenseDoubleMatrix.from(matrix1.toSparseMatrix(ring)).getMap());
+        assertEquals(Double.valueOf(3), matrix1.value(new Indexes(1, 0)));
+        //differences and negations
+        assertEquals("DenseDoubleMatrix [matrix=[[-4.0, -4.0], [-4.0, -4.0]]]", matrix1.minus(matrix2).toString());
+        assertEquals(matrix1.toMatrixMap().minus(map2, ring).getMap(), matrix1.minus(map2, ring).getMap());
+        assertEquals(matrix2.minus(matrix1).getMap(), matrix1.minus(matrix2).negate(ring).getMap());
+        assertNull(matrix1.value(new Indexes(2, 0)));
+    }
+
+    /**
+     * Tests the arithmetic modes of DenseIntMatrix and DenseLongMatrix
+     */
+    @Test
+    public void testIntegerModes() {
+        IntegerRing intRing = new IntegerRing();
+        LongRing longRing = new LongRing();
+        int[][] intValues = {{1, 2}, {3, 4}};
+        long[][] longValues = {{1, 2}, {3, 4}};
+        //wrapping mode matches MatrixMap
+        DenseIntMatrix intMatrix = DenseIntMatrix.from(intValues, ArithmeticMode.wrapping());
+        assertEquals(intMatrix.toMatrixMap().times(intMatrix.toMatrixMap(), intRing).getMap(), intMatrix.times(intMatrix, intRing).getMap());
+        DenseLongMatrix longMatrix = DenseLongMatrix.from(longValues, ArithmeticMode.wrapping());
+        assertEquals("DenseLongMatrix [mode=WRAPPING, matrix=[[7, 10], [15, 22]]]", longMatrix.times(longMatrix).toString());
+        assertEquals(longMatrix.toMatrixMap().plus(longMatrix.toMatrixMap(), longRing).getMap(), longMatrix.plus(longMatrix, longRing).getMap());
+        //checked mode throws on overflow
+        DenseIntMatrix bigInts = DenseIntMatrix.constant(2, Integer.MAX_VALUE, ArithmeticMode.checked());
+        assertThrows(ArithmeticException.class, () -> bigInts.plus(bigInts));
+        DenseLongMatrix bigLongs = DenseLongMatrix.constant(2, Long.MAX_VALUE / 2, ArithmeticMode.checked());
+        assertThrows(ArithmeticException.class, () -> bigLongs.times(bigLongs));
+        //modular mode reduces all values
+        DenseIntMatrix modInts = DenseIntMatrix.from(intValues, ArithmeticMode.modular(5));
+        assertEquals("DenseIntMatrix [mode=MODULAR(5), matrix=[[2, 0], [0, 2]]]", modInts.times(modInts).toString());
+        assertEquals("DenseLongMatrix [mode=MODULAR(7), matrix=[[6, 5], [4, 3]]]",
+            DenseLongMatrix.constant(2, -1, ArithmeticMode.modular(7)).plus(DenseLongMatrix.from(new long[][] {{0, -1}, {-2, -3}}, ArithmeticMode.modular(7))).toString());
+        assertEquals("DenseLongMatrix [mode=MODULAR(7), matrix=[[1, 2], [4, 5]]]",
+            DenseLongMatrix.constant(2, 2, ArithmeticMode.modular(7)).minus(DenseLongMatrix.from(new long[][] {{1, 0}, {-2, 4}}, ArithmeticMode.modular(7))).negate().negate().toString());
+        assertEquals("DenseIntMatrix [mode=MODULAR(5), matrix=[[4, 3], [2, 1]]]", modInts.negate().toString());
+        //a ring other than the mode's computes through the ring
+        assertEquals(modInts.toMatrixMap().negate(intRing).getMap(), modInts.negate(intRing).getMap());
+        ModularRing seven = ModularRing.instance(7);
+        DenseLongMatrix hundreds = DenseLongMatrix.constant(2, 100, ArithmeticMode.wrapping());
+        assertEquals(hundreds.toMatrixMap().times(hundreds, seven).getMap(), hundreds.times(hundreds, seven).getMap());
+        assertEquals(Long.valueOf(20000), hundreds.times(hundreds, longRing).value(0, 0));
+        assertEquals(Long.valueOf(1), hundreds.times(hundreds, seven).value(0, 0));
+        DenseLongMatrix sevens = DenseLongMatrix.constant(2, 3, ArithmeticMode.modular(7));
+        assertEquals("DenseLongMatrix [mode=MODULAR(7), matrix=[[4, 4], [4, 4]]]", sevens.times(sevens, seven).toString());
+        assertEquals(Long.valueOf(18), sevens.times(sevens, longRing).value(0, 0));
+        assertEquals(Long.valueOf(6), sevens.plus(sevens, longRing).value(1, 1));
+        assertThrows(ArithmeticException.class, () -> DenseIntMatrix.constant(1, Integer.MIN_VALUE, ArithmeticMode.checked()).negate());
+        assertEquals(intMatrix.toMatrixMap().minus(intMatrix.times(intMatrix), intRing).getMap(), intMatrix.minus(intMatrix.times(intMatrix), intRing).getMap());
+        long prime = (1L << 61) - 1;
+        DenseLongMatrix modLongs = DenseLongMatrix.constant(1, prime - 1, ArithmeticMode.modular(prime));
+        assertEquals(1L, modLongs.times(modLongs).get(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> DenseIntMatrix.identity(2, ArithmeticMode.modular(prime)));
+    }
+
+    /**
+     * Tests the matrix-vector products of the dense matrices
+     */
+    @Test
+    public void testMatrixVectorProducts() {
+        DenseDoubleMatrix doubles = DenseDoubleMatrix.from(new double[][] {{1, 2, 3}, {4, 5, 6}});
+        assertArrayEquals(new double[] {14, 32}, doubles.times(new double[] {1, 2, 3}), 0);
+        //a destination is overwritten and returned
+        double[] destination = {-1, -1};
+        assertSame(destination, doubles.times(new double[] {1, 0, 0}, destination));
+        assertArrayEquals(new double[] {1, 4}, destination, 0);
+        assertEquals(Arrays.asList(14., 32.), doubles.times(DenseVector.instance(3, (index) -> index + 1.), new DoubleRing()).toList());
+        assertThrows(IllegalArgumentException.class, () -> doubles.times(new double[] {1, 2}));
+        //rectangular products need only matching inner dimensions
+        DenseDoubleMatrix column = DenseDoubleMatrix.from(new double[][] {{1}, {2}, {3}});
+        assertEquals("DenseDoubleMatrix [matrix=[[14.0], [32.0]]]", doubles.times(column).toString());
+        assertThrows(IllegalArgumentException.class, () -> column.times(column));
+        //integer products use the mode of the matrix
+        DenseLongMatrix longs = DenseLongMatrix.from(new long[][] {{1, 2}, {3, 4}}, ArithmeticMode.modular(7));
+        assertArrayEquals(new long[] {3, 5}, longs.times(new long[] {-1, 9}));
+        assertEquals(Arrays.asList(3L, 5L), longs.times(DenseVector.from(Arrays.asList(6L, 2L)), ModularRing.instance(7)).toList());
+        //a ring other than the mode's computes through the ring
+        assertEquals(Arrays.asList(17L, 33L), longs.times(DenseVector.from(Arrays.asList(-1L, 9L)), new LongRing()).toList());
+        DenseIntMatrix ints = DenseIntMatrix.constant(2, Integer.MAX_VALUE, ArithmeticMode.checked());
+        assertThrows(ArithmeticException.class, () -> ints.times(new int[] {1, 1}));
+        assertArrayEquals(new int[] {-2, -2}, DenseIntMatrix.constant(2, Integer.MAX_VALUE, ArithmeticMode.wrapping()).times(new int[] {1, 1}));
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * A class that tests determinants, ranks and linear solves by elimination
+ * @author Ethan Tobey
+ */
+package TestingPackage;
+
+import static org.junit.Assert.*;
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.junit.Test;
+import MatrixPackage.DenseDoubleMatrix;
+import MatrixPackage.DenseVector;
+import MatrixPackage.Elimination;
+import MatrixPackage.LuDecomposition;
+import MatrixPackage.Matrix;
+import MatrixPackage.MatrixMap;
+import RingsPackage.BigIntegerRing;
+import RingsPackage.DoubleRing;
+import RingsPackage.IntegerRing;
+import RingsPackage.LongRing;
+
+public class EliminationTest {
+
+    /**
+     * Tests fraction-free determinants and ranks over BigIntegerRing
+     */
+    @Test
+    public void testDeterminantAndRank() {
+        BigIntegerRing ring = new BigIntegerRing();
+        assertEquals(BigInteger.ONE, Elimination.determinant(MatrixMap.identity(5, ring.zero(), ring.identity()), ring));
+        //a zero pivot needs a row swap, which flips the sign
+        MatrixMap<BigInteger> swap = MatrixMap.instance(2, 2, (indexes) -> (indexes.areDiagonal()) ? BigInteger.ZERO : BigInteger.ONE);
+        assertEquals(BigInteger.ONE.negate(), Elimination.determinant(swap, ring));
+        //Vandermonde determinant is the product of the differences of its points
+        int[] points = {2, -3, 5, 7, -1, 4, 10, 0};
+        MatrixMap<BigInteger> vandermonde = MatrixMap.instance(8, 8, (indexes) -> BigInteger.valueOf(points[indexes.row()]).pow(indexes.column()));
+        BigInteger expected = BigInteger.ONE;
+        for (int i = 0; i < points.length; i++) {
+            for (int j = i + 1; j < points.length; j++) {
+                expected = expected.multiply(BigInteger.valueOf(points[j] - points[i]));
+            }
+        }
+        assertEquals(expected, Elimination.determinant(vandermonde, ring));
+        //determinant of a product is the product of the determinants
+        MatrixMap<BigInteger> left = MatrixMap.instance(30, 30, (indexes) -> BigInteger.valueOf((indexes.row() * 7 + indexes.column() * 3) % 11 - 5));
+        MatrixMap<BigInteger> right = MatrixMap.instance(30, 30, (indexes) -> BigInteger.valueOf((indexes.row() * indexes.column() + 2) % 13 - 6));
+        assertEquals(Elimination.determinant(left, ring).multiply(Elimination.determinant(right, ring)), Elimination.determinant(left.times(right, ring), ring));
+        //elimination modulo primes gives the same determinants
+        assertEquals(expected, Elimination.modularDeterminant(vandermonde));
+        assertEquals(Elimination.determinant(left.times(right, ring), ring), Elimination.modularDeterminant(left.times(right, ring)));
+        assertEquals(BigInteger.ONE.negate(), Elimination.modularDeterminant(swap));
+        //a product through 2 inner columns has rank 2 and determinant zero
+        Matrix<BigInteger> lowRank = MatrixMap.instance(5, 2, (indexes) -> BigInteger.valueOf(indexes.row() + indexes.column() * indexes.row() + 1))
+            .times(MatrixMap.instance(2, 5, (indexes) -> BigInteger.valueOf(indexes.column() - indexes.row())), ring);
+        assertEquals(2, Elimination.rank(lowRank, ring));
+        assertEquals(BigInteger.ZERO, Elimination.determinant(lowRank, ring));
+        assertEquals(BigInteger.ZERO, Elimination.modularDeterminant(lowRank));
+        assertEquals(8, Elimination.rank(vandermonde, ring));
+        assertEquals(1, Elimination.rank(MatrixMap.instance(2, 6, (indexes) -> BigInteger.valueOf(indexes.row() * indexes.column())), ring));
+        //determinants need square matrices
+        assertThrows(IllegalStateException.class, () -> Elimination.determinant(MatrixMap.instance(2, 3, (indexes) -> BigInteger.ONE), ring));
+    }
+
+    /**
+     * Tests determinants and ranks over IntegerRing and LongRing whose elimination steps overflow the value type
+     */
+    @Test
+    public void testWrappingRings() {
+        IntegerRing intRing = new IntegerRing();
+        LongRing longRing = new LongRing();
+        //the second elimination step multiplies 50000 by 50000, past Integer.MAX_VALUE
+        MatrixMap<Integer> intDiagonal = MatrixMap.instance(3, 3, (indexes) -> (indexes.areDiagonal()) ? ((indexes.row() == 0) ? 50000 : 1) : 0);
+        assertEquals(Integer.valueOf(50000), Elimination.determinant(intDiagonal, intRing));
+        assertEquals(3, Elimination.rank(intDiagonal, intRing));
+        //and 4e9 by 4e9, past Long.MAX_VALUE
+        MatrixMap<Long> longDiagonal = MatrixMap.instance(3, 3, (indexes) -> (indexes.areDiagonal()) ? ((indexes.row() == 0) ? 4000000000L : 1L) : 0L);
+        assertEquals(Long.valueOf(4000000000L), Elimination.determinant(longDiagonal, longRing));
+        assertEquals(3, Elimination.rank(longDiagonal, longRing));
+        //agrees with BigInteger on a full matrix, and wraps only the final result
+        MatrixMap<Long> full = MatrixMap.instance(6, 6, (indexes) -> (indexes.row() * 1000003L + indexes.column() * indexes.column() * 7919L) % 100003 - 50000);
+        BigInteger expected = Elimination.determinant(MatrixMap.instance(full.size(), (indexes) -> BigInteger.valueOf(full.value(indexes))), new BigIntegerRing());
+        assertEquals(expected.longValue(), (long) Elimination.determinant(full, longRing));
+        assertEquals(0, Elimination.rank(MatrixMap.instance(2, 2, (indexes) -> 0), intRing));
+    }
+
+    /**
+     * Tests linear solves over DoubleRing and the LU decomposition of DenseDoubleMatrix
+     */
+    @Test
+    public void testSolve() {
+        DoubleRing ring = new DoubleRing();
+        //the zero in the top left needs a pivot
+        DenseDoubleMatrix matrix = DenseDoubleMatrix.from(new double[][] {{0, 2, 1}, {1, -1, 3}, {4, 1, -2}});
+        double[] vector = {5, 4, 1};
+        DenseVector<Double> solution = Elimination.solve(matrix, DenseVector.from(Arrays.asList(5., 4., 1.)), ring);
+        double[] luSolution = matrix.solve(vector);
+        double[] product = matrix.times(luSolution);
+        for (int i = 0; i < vector.length; i++) {
+            assertEquals(vector[i], product[i], 1e-12);
+            assertEquals(luSolution[i], solution.value(i), 1e-12);
+        }
+        assertEquals(Elimination.determinant(matrix, ring), matrix.determinant(), 1e-12);
+        assertEquals(33.0, matrix.determinant(), 1e-12);
+        //the decomposition is reused for further right-hand sides
+        LuDecomposition lu = matrix.lu();
+        assertFalse(lu.isSingular());
+        assertArrayEquals(new double[] {0, 0, 0}, lu.solve(new double[3]), 0);
+        //singular matrices cannot be solved
+        DenseDoubleMatrix singular = DenseDoubleMatrix.from(new double[][] {{1, 2}, {2, 4}});
+        assertTrue(singular.lu().isSingular());
+        assertEquals(0.0, singular.determinant(), 0);
+        assertThrows(ArithmeticException.class, () -> singular.solve(new double[] {1, 1}));
+        assertThrows(ArithmeticException.class, () -> Elimination.solve(singular, DenseVector.zero(2, ring), ring));
+        assertThrows(IllegalArgumentException.class, () -> matrix.solve(new double[2]));
+        //a tiny first pivot loses the second row to rounding unless the larger value pivots
+        DenseDoubleMatrix tiny = DenseDoubleMatrix.from(new double[][] {{1e-20, 1}, {1, 1}});
+        DenseVector<Double> tinySolution = Elimination.solve(tiny, DenseVector.from(Arrays.asList(1., 2.)), ring);
+        assertEquals(1.0, tinySolution.value(0), 1e-12);
+        assertEquals(1.0, tinySolution.value(1), 1e-12);
+        //negative zero is zero, so it is never chosen as a pivot
+        DenseDoubleMatrix negativeZero = DenseDoubleMatrix.from(new double[][] {{-0.0, 1}, {1, 0}});
+        assertEquals(-1.0, Elimination.determinant(negativeZero, ring), 0);
+        assertEquals(1, Elimination.rank(DenseDoubleMatrix.from(new double[][] {{-0.0, 1}, {-0.0, 2}}), ring));
+        assertTrue(ring.isZero(-0.0));
+        assertTrue(ring.isBetterPivot(-2.0, 1.0));
+        assertFalse(new BigIntegerRing().isBetterPivot(BigInteger.TEN, BigInteger.ONE));
+    }
+}
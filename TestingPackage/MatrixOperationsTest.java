@@ -6,10 +6,34 @@ package TestingPackage;
 
 import static org.junit.Assert.*;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.Test;
+import MatrixPackage.ArithmeticMode;
+import MatrixPackage.CscMatrix;
+import MatrixPackage.CsrMatrix;
+import MatrixPackage.DenseLongMatrix;
+import MatrixPackage.IndexRange;
+import MatrixPackage.Indexes;
+import MatrixPackage.LazyMatrix;
+import MatrixPackage.Matrix;
 import MatrixPackage.MatrixMap;
+import MatrixPackage.MultiModularMultiplier;
+import MatrixPackage.MutableMatrix;
+import MatrixPackage.SparseMatrix;
+import MatrixPackage.StrassenMultiplier;
+import MatrixPackage.TiledMultiplier;
 import RingsPackage.BigIntegerRing;
+import RingsPackage.DoubleRing;
+import RingsPackage.MatrixRing;
 import RingsPackage.Polynomial;
 import RingsPackage.PolynomialRing;
 
@@ -78,9 +102,9 @@ public class MatrixOperationsTest {
         MatrixMap<BigInteger> bigMap1 = MatrixMap.identity(2, BigInteger.ZERO, BigInteger.ONE);
         MatrixMap<BigInteger> bigMap2 = MatrixMap.identity(3, BigInteger.ZERO, BigInteger.ONE);
         assertThrows(IllegalArgumentException.class, () -> bigMap1.times(bigMap2, ring));
-        //matrix not square
+        //inner dimensions do not match
         MatrixMap<BigInteger> unevenMap = MatrixMap.instance(2, 1, (indexes) -> ring.zero());
-        assertThrows(IllegalStateException.class, () -> unevenMap.times(unevenMap, ring));
+        assertThrows(IllegalArgumentException.class, () -> unevenMap.times(unevenMap, ring));
         //one large matrices
         MatrixMap<BigInteger> oneMap = MatrixMap.identity(1, BigInteger.ZERO, BigInteger.ONE);
         assertEquals("MatrixMap [matrix={Indexes[row=0, column=0]=1}]", oneMap.times(oneMap, ring).toString());
@@ -109,9 +133,9 @@ public class MatrixOperationsTest {
         MatrixMap<Polynomial<BigInteger>> polyMap1 = MatrixMap.identity(2, polyRing.zero(), polyRing.identity());
         MatrixMap<Polynomial<BigInteger>> polyMap2 = MatrixMap.identity(3, polyRing.zero(), polyRing.identity());
         assertThrows(IllegalArgumentException.class, () -> polyMap1.times(polyMap2, polyRing));
-        //matrix not square
+        //inner dimensions do not match
         MatrixMap<Polynomial<BigInteger>> unevenPolyMap = MatrixMap.instance(2, 1, (indexes) -> polyRing.zero());
-        assertThrows(IllegalStateException.class, () -> unevenPolyMap.times(unevenPolyMap, polyRing));
+        assertThrows(IllegalArgumentException.class, () -> unevenPolyMap.times(unevenPolyMap, polyRing));
         //one large matrices
         MatrixMap<Polynomial<BigInteger>> onePolyMap = MatrixMap.identity(1, polyRing.zero(), polyRing.identity());
         assertEquals("MatrixMap [matrix={Indexes[row=0, column=0]=[1]}]", onePolyMap.times(onePolyMap, polyRing).toString());
@@ -123,4 +147,357 @@ public class MatrixOperationsTest {
         " Indexes[row=0, column=1]=[1, 2, 3], Indexes[row=1, column=2]=[1, 2, 3], Indexes[row=0, column=2]=[1, 2, 3], Indexes[row=2, column=0]=[1, 2, 3]," +
         " Indexes[row=1, column=0]=[1, 2, 3], Indexes[row=2, column=1]=[1, 2, 3]}]", polyMap3.times(polyMap4, polyRing).toString());
     }
+
+    /**
+     * Tests that tiled and parallel products of MatrixMap and SparseMatrix match the sequential product
+     */
+    @Test
+    public void testParallelTimes() {
+        BigIntegerRing ring = new BigIntegerRing();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        MatrixMap<BigInteger> map = MatrixMap.instance(37, 37, (indexes) -> BigInteger.valueOf(indexes.row() * 37L - indexes.column()));
+        //naive triple loop as an oracle independent of TiledMultiplier
+        Map<Indexes, BigInteger> naive = new HashMap<>();
+        for (int row = 0; row < 37; row++) {
+            for (int column = 0; column < 37; column++) {
+                BigInteger sum = BigInteger.ZERO;
+                for (int p = 0; p < 37; p++) {
+                    sum = sum.add(BigInteger.valueOf(row * 37L - p).multiply(BigInteger.valueOf(p * 37L - column)));
+                }
+                naive.put(new Indexes(row, column), sum);
+            }
+        }
+        Matrix<BigInteger> expected = map.times(map, ring, TiledMultiplier.instance(37, 37, 37));
+        assertEquals(naive, expected.getMap());
+        //primitive tiled products of rectangular matrices, with blocks that do not divide the sizes
+        long[][] a = new long[45][37];
+        long[][] b = new long[37][29];
+        long[][] naiveLongs = new long[45][29];
+        for (int i = 0; i < 45; i++) {
+            for (int p = 0; p < 37; p++) {
+                a[i][p] = (i * 7L - p * 3L) % 19;
+            }
+        }
+        for (int p = 0; p < 37; p++) {
+            for (int j = 0; j < 29; j++) {
+                b[p][j] = (p * 5L + j * 11L) % 23 - 9;
+            }
+        }
+        for (int i = 0; i < 45; i++) {
+            for (int j = 0; j < 29; j++) {
+                for (int p = 0; p < 37; p++) {
+                    naiveLongs[i][j] += a[i][p] * b[p][j];
+                }
+            }
+        }
+        DenseLongMatrix longProduct = DenseLongMatrix.from(a, ArithmeticMode.wrapping()).times(DenseLongMatrix.from(b, ArithmeticMode.wrapping()), TiledMultiplier.instance(5, 3, 7));
+        assertArrayEquals(naiveLongs, longProduct.toArray());
+        //small blocks, sequential and parallel
+        TiledMultiplier small = TiledMultiplier.instance(5, 3, 7);
+        assertEquals(expected.getMap(), map.times(map, ring, small).getMap());
+        assertEquals(expected.getMap(), map.times(map, ring, small.withPool(pool)).getMap());
+        TiledMultiplier threads = small.withParallelism(3);
+        assertEquals(expected.getMap(), map.times(map, ring, threads).getMap());
+        threads.getPool().shutdown();
+        assertThrows(IllegalArgumentException.class, () -> small.withParallelism(0));
+        //sparse matrix with every third entry stored
+        SparseMatrix<BigInteger> sparse = SparseMatrix.instance(37, 37, (indexes) -> ((indexes.row() + indexes.column()) % 3 == 0) ? map.value(indexes) : ring.zero(), ring);
+        MatrixMap<BigInteger> sparseAsMap = sparse.toMatrixMap();
+        Matrix<BigInteger> sparseProduct = sparse.times(sparse, ring);
+        assertEquals(sparseAsMap.times(sparseAsMap, ring).getMap(), MatrixMap.instance(sparseProduct.size(), sparseProduct::value).getMap());
+        assertEquals(sparse.times(sparse, ring).toString(), sparse.times(sparse, ring, pool).toString());
+        pool.shutdown();
+    }
+
+    /**
+     * Tests products of rectangular matrices, which need only matching inner dimensions
+     */
+    @Test
+    public void testRectangularTimes() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MatrixMap<BigInteger> tall = MatrixMap.instance(5, 2, (indexes) -> BigInteger.valueOf(indexes.row() - 3L * indexes.column()));
+        MatrixMap<BigInteger> wide = MatrixMap.instance(2, 4, (indexes) -> BigInteger.valueOf(2L * indexes.row() + indexes.column() + 1));
+        Matrix<BigInteger> product = tall.times(wide, ring);
+        assertEquals(new Indexes(4, 3), product.size());
+        assertEquals(BigInteger.valueOf(4 * 1 + (4 - 3) * 3), product.value(new Indexes(4, 0)));
+        assertEquals(product.getMap(), product.times(MatrixMap.identity(4, ring.zero(), ring.identity()), ring).getMap());
+        //every format gives the same product
+        SparseMatrix<BigInteger> sparseTall = tall.toSparseMatrix(ring);
+        assertEquals(product.getMap(), MatrixMap.instance(product.size(), sparseTall.times(wide, ring)::value).getMap());
+        assertEquals(product.getMap(), ((CsrMatrix<BigInteger>) CsrMatrix.from(tall, ring).times(wide, ring)).toMatrixMap().getMap());
+        assertEquals(product.getMap(), ((CscMatrix<BigInteger>) CscMatrix.from(tall, ring).times(wide, ring)).toMatrixMap().getMap());
+        //outside the product is null
+        assertNull(sparseTall.times(wide, ring).value(new Indexes(0, 4)));
+        //inner dimensions do not match
+        assertThrows(IllegalArgumentException.class, () -> wide.times(wide, ring));
+        assertThrows(IllegalArgumentException.class, () -> sparseTall.times(tall, ring));
+        assertThrows(IllegalArgumentException.class, () -> CsrMatrix.from(tall, ring).times(tall, ring));
+    }
+
+    /**
+     * Tests the in-place operations of MutableMatrix
+     */
+    @Test
+    public void testMutableOperations() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MatrixMap<BigInteger> left = MatrixMap.instance(3, 2, (indexes) -> BigInteger.valueOf(indexes.row() + 2L * indexes.column()));
+        MatrixMap<BigInteger> right = MatrixMap.instance(2, 3, (indexes) -> BigInteger.valueOf(3L * indexes.row() - indexes.column()));
+        Matrix<BigInteger> product = left.times(right, ring);
+        //multiplyInto overwrites the destination, which can be reused
+        MutableMatrix<BigInteger> mutableLeft = MutableMatrix.from(left);
+        MutableMatrix<BigInteger> destination = MutableMatrix.zero(3, 3, ring);
+        destination.set(0, 0, BigInteger.TEN);
+        assertSame(destination, mutableLeft.multiplyInto(right, ring, destination));
+        assertEquals(product.getMap(), destination.getMap());
+        assertEquals(product.getMap(), mutableLeft.multiplyInto(MutableMatrix.from(right), ring, destination).getMap());
+        //fma and addInPlace accumulate into the matrix
+        assertSame(destination, destination.fma(left, right, ring));
+        assertEquals(product.plus(product, ring).getMap(), destination.getMap());
+        destination.addInPlace(product, ring);
+        assertEquals(product.plus(product, ring).plus(product, ring).getMap(), destination.getMap());
+        //plus and times leave the matrix unchanged
+        Matrix<BigInteger> sum = mutableLeft.plus(mutableLeft, ring);
+        assertEquals(left.plus(left, ring).getMap(), sum.getMap());
+        assertEquals(left.getMap(), mutableLeft.getMap());
+        assertEquals(product.getMap(), mutableLeft.times(right, ring).getMap());
+        assertEquals("MutableMatrix [matrix=[[0, 2], [1, 3], [2, 4]]]", mutableLeft.toString());
+        //sizes must match and the destination must not be an operand
+        assertThrows(IllegalArgumentException.class, () -> mutableLeft.addInPlace(right, ring));
+        assertThrows(IllegalArgumentException.class, () -> mutableLeft.multiplyInto(right, ring, MutableMatrix.zero(2, 2, ring)));
+        MutableMatrix<BigInteger> square = MutableMatrix.from(product);
+        assertThrows(IllegalArgumentException.class, () -> square.fma(square, product, ring));
+        assertEquals(product.getMap(), square.getMap());
+    }
+
+    /**
+     * Tests that Strassen-Winograd products match the classical product with fewer ring products
+     */
+    @Test
+    public void testStrassenTimes() {
+        BigIntegerRing ring = new BigIntegerRing();
+        //odd and rectangular sizes are padded at every level
+        MatrixMap<BigInteger> left = MatrixMap.instance(45, 37, (indexes) -> BigInteger.valueOf(indexes.row() * 7L - indexes.column() * indexes.column()));
+        MatrixMap<BigInteger> right = MatrixMap.instance(37, 50, (indexes) -> BigInteger.valueOf(indexes.row() - 5L * indexes.column() + 3));
+        assertEquals(left.times(right, ring).getMap(), left.times(right, ring, StrassenMultiplier.instance(4)).getMap());
+        assertEquals(left.times(right, ring).getMap(), left.times(right, ring, StrassenMultiplier.defaults().withBase(TiledMultiplier.instance(3, 5, 7))).getMap());
+        //count the ring products of a 64 x 64 product
+        AtomicLong products = new AtomicLong();
+        BigIntegerRing countingRing = new BigIntegerRing() {
+            @Override
+            public BigInteger product(BigInteger x, BigInteger y) {
+                products.incrementAndGet();
+                return super.product(x, y);
+            }
+        };
+        MatrixMap<BigInteger> square = MatrixMap.instance(64, 64, (indexes) -> BigInteger.valueOf(indexes.row() ^ indexes.column()));
+        Matrix<BigInteger> classical = square.times(square, countingRing);
+        assertEquals(64L * 64 * 64, products.getAndSet(0));
+        assertEquals(classical.getMap(), square.times(square, countingRing, StrassenMultiplier.instance(8)).getMap());
+        assertEquals(7L * 7 * 7 * 8 * 8 * 8, products.get());
+        //polynomial entries
+        PolynomialRing.WithNegation<BigInteger> polyRing = PolynomialRing.instance(ring);
+        MatrixMap<Polynomial<BigInteger>> polyMap = MatrixMap.instance(9, 9,
+            (indexes) -> Polynomial.from(Arrays.asList(BigInteger.valueOf(indexes.row()), BigInteger.valueOf(-indexes.column()))));
+        assertEquals(polyMap.times(polyMap, polyRing).toString(), polyMap.times(polyMap, polyRing, StrassenMultiplier.instance(2)).toString());
+    }
+
+    /**
+     * Tests that differences and negations agree across the matrix formats and rings
+     */
+    @Test
+    public void testMinus() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MatrixMap<BigInteger> left = MatrixMap.instance(4, 3, (indexes) -> BigInteger.valueOf((indexes.row() + indexes.column()) % 3));
+        MatrixMap<BigInteger> right = MatrixMap.instance(4, 3, (indexes) -> BigInteger.valueOf(indexes.row() * indexes.column() % 2));
+        Matrix<BigInteger> difference = MatrixMap.instance(4, 3, (indexes) -> left.value(indexes).subtract(right.value(indexes)));
+        assertEquals(difference.getMap(), left.minus(right, ring).getMap());
+        assertEquals(difference.getMap(), left.plus(right.negate(ring), ring).getMap());
+        //every format gives the same difference
+        SparseMatrix<BigInteger> sparseLeft = left.toSparseMatrix(ring);
+        assertEquals(difference.getMap(), MatrixMap.instance(difference.size(), sparseLeft.minus(right.toSparseMatrix(ring), ring)::value).getMap());
+        assertEquals(difference.getMap(), ((CsrMatrix<BigInteger>) CsrMatrix.from(left, ring).minus(right, ring)).toMatrixMap().getMap());
+        assertEquals(difference.getMap(), ((CscMatrix<BigInteger>) CscMatrix.from(left, ring).minus(right, ring)).toMatrixMap().getMap());
+        assertEquals(difference.getMap(), MutableMatrix.from(left).minus(right, ring).getMap());
+        assertEquals(right.negate(ring).getMap(), CsrMatrix.from(right, ring).negate(ring).toMatrixMap().getMap());
+        assertEquals(right.negate(ring).getMap(), CscMatrix.from(right, ring).negate(ring).toMatrixMap().getMap());
+        //a matrix minus itself stores no entries in the sparse formats
+        assertTrue(sparseLeft.minus(sparseLeft, ring).getMap().isEmpty());
+        assertEquals(0, ((CsrMatrix<BigInteger>) CsrMatrix.from(left, ring).minus(left, ring)).nonZeroCount());
+        //sizes must match
+        assertThrows(IllegalArgumentException.class, () -> left.minus(left.times(MatrixMap.identity(2, ring.zero(), ring.identity()), ring), ring));
+        //subtractInPlace and negateInPlace update the matrix
+        MutableMatrix<BigInteger> mutable = MutableMatrix.from(left);
+        assertSame(mutable, mutable.subtractInPlace(right, ring).negateInPlace(ring));
+        assertEquals(right.minus(left, ring).getMap(), mutable.getMap());
+    }
+
+    /**
+     * Tests differences of matrices of matrices and Strassen-Winograd products over a non-commutative ring
+     */
+    @Test
+    public void testMatrixRingNegation() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MatrixRing.WithNegation<BigInteger> blockRing = MatrixRing.instance(ring, 2);
+        MatrixMap<Matrix<BigInteger>> blocks = MatrixMap.instance(6, 6, (indexes) -> MatrixMap.instance(2, 2,
+            (inner) -> BigInteger.valueOf(indexes.row() * 3L - indexes.column() + inner.row() * 5L - inner.column())));
+        //blocks do not commute, so the order of every product must be kept
+        Matrix<Matrix<BigInteger>> classical = blocks.times(blocks, blockRing);
+        Matrix<Matrix<BigInteger>> strassen = blocks.times(blocks, blockRing, StrassenMultiplier.instance(1));
+        for (Indexes indexes : classical.getMap().keySet()) {
+            assertEquals(classical.value(indexes).getMap(), strassen.value(indexes).getMap());
+        }
+        Matrix<BigInteger> block = blocks.value(new Indexes(1, 2));
+        assertTrue(blockRing.difference(block, block).getMap().values().stream().allMatch(BigInteger.ZERO::equals));
+    }
+
+    /**
+     * Tests that multi-modular products of BigInteger matrices match the classical product
+     */
+    @Test
+    public void testMultiModularTimes() {
+        BigIntegerRing ring = new BigIntegerRing();
+        //entries of about 100 bits, of both signs, need several primes
+        MatrixMap<BigInteger> left = MatrixMap.instance(7, 9, (indexes) -> BigInteger.valueOf(indexes.row() * 13L - indexes.column() * 5L).pow(25).add(BigInteger.ONE));
+        MatrixMap<BigInteger> right = MatrixMap.instance(9, 4, (indexes) -> BigInteger.valueOf(3L - indexes.row() * indexes.column()).shiftLeft(90).subtract(BigInteger.TEN));
+        Matrix<BigInteger> product = left.times(right, ring);
+        assertEquals(product.getMap(), MultiModularMultiplier.defaults().times(left, right).getMap());
+        MultiModularMultiplier threads = MultiModularMultiplier.defaults().withParallelism(3);
+        assertEquals(product.getMap(), threads.times(left, right).getMap());
+        threads.getPool().shutdown();
+        assertThrows(IllegalArgumentException.class, () -> MultiModularMultiplier.defaults().withParallelism(0));
+        //small and zero values need a single prime
+        MatrixMap<BigInteger> small = MatrixMap.instance(3, 3, (indexes) -> BigInteger.valueOf(indexes.row() - indexes.column()));
+        assertEquals(small.times(small, ring).getMap(), MultiModularMultiplier.defaults().times(small, small).getMap());
+        MatrixMap<BigInteger> zero = MatrixMap.instance(2, 3, (indexes) -> BigInteger.ZERO);
+        assertEquals(zero.times(small, ring).getMap(), MultiModularMultiplier.defaults().times(zero, small).getMap());
+        //multiply accumulates into existing values
+        BigInteger[] c = {BigInteger.ONE, null};
+        MultiModularMultiplier.defaults().multiply(new BigInteger[] {BigInteger.TWO, BigInteger.ONE.negate()}, new BigInteger[] {BigInteger.ONE, BigInteger.TWO, BigInteger.TEN, BigInteger.ZERO}, c, 1, 2, 2);
+        assertArrayEquals(new BigInteger[] {BigInteger.valueOf(-7), BigInteger.valueOf(4)}, c);
+        //inner dimensions do not match
+        assertThrows(IllegalArgumentException.class, () -> MultiModularMultiplier.defaults().times(left, left));
+    }
+
+    /**
+     * Tests that IndexRange visits every index row by row, sequentially, by position and split in parallel
+     */
+    @Test
+    public void testIndexRange() {
+        IndexRange range = IndexRange.of(new Indexes(2, 1), new Indexes(4, 3));
+        assertEquals(9, range.size());
+        List<Indexes> expected = Indexes.stream(new Indexes(2, 1), new Indexes(4, 3)).collect(Collectors.toList());
+        assertEquals(new Indexes(2, 1), expected.get(0));
+        assertEquals(new Indexes(2, 3), expected.get(2));
+        assertEquals(new Indexes(3, 1), expected.get(3));
+        assertEquals(new Indexes(4, 3), expected.get(8));
+        //the callbacks and a parallel stream visit the same indexes in the same order
+        List<Indexes> visited = new ArrayList<>();
+        range.forEach((row, column) -> visited.add(new Indexes(row, column)));
+        assertEquals(expected, visited);
+        assertEquals(expected, range.stream().parallel().collect(Collectors.toList()));
+        visited.clear();
+        range.forEach(4, 7, (row, column) -> visited.add(new Indexes(row, column)));
+        assertEquals(expected.subList(4, 7), visited);
+        assertThrows(IndexOutOfBoundsException.class, () -> range.forEach(0, 10, (row, column) -> { }));
+
+        //splitting keeps exact sizes, so a large range divides evenly
+        Spliterator<Indexes> second = IndexRange.of(4000, 4000).stream().spliterator();
+        assertTrue(second.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        Spliterator<Indexes> first = second.trySplit();
+        assertEquals(8000000, first.getExactSizeIfKnown());
+        assertEquals(8000000, second.getExactSizeIfKnown());
+        assertEquals(4000, IndexRange.of(4000, 4000).stream().parallel().filter(Indexes::areDiagonal).count());
+        assertEquals(0, IndexRange.of(0, 5).stream().count());
+        assertThrows(IllegalArgumentException.class, () -> IndexRange.of(new Indexes(2, 2), new Indexes(0, 2)));
+    }
+
+    /**
+     * Tests that MatrixMap and SparseMatrix built in parallel match the sequential builders and evaluate each index once
+     */
+    @Test
+    public void testParallelInstance() {
+        BigIntegerRing ring = new BigIntegerRing();
+        PolynomialRing<BigInteger> polyRing = PolynomialRing.instance(ring);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        AtomicLong calls = new AtomicLong();
+        //an expensive mapper building polynomial values
+        Function<Indexes, Polynomial<BigInteger>> mapper = (indexes) -> {
+            calls.incrementAndGet();
+            return Polynomial.from(Arrays.asList(BigInteger.valueOf(indexes.row()), BigInteger.valueOf(indexes.column()), BigInteger.ONE));
+        };
+        MatrixMap<Polynomial<BigInteger>> sequential = MatrixMap.instance(41, 29, mapper);
+        calls.set(0);
+        MatrixMap<Polynomial<BigInteger>> parallel = MatrixMap.instance(41, 29, mapper, pool);
+        assertEquals(41 * 29, calls.get());
+        assertEquals(sequential.size(), parallel.size());
+        assertEquals(sequential.toString(), parallel.toString());
+        assertEquals(sequential.plus(sequential, polyRing).toString(), parallel.plus(parallel, polyRing).toString());
+
+        //zero values are still left out of a SparseMatrix
+        Function<Indexes, BigInteger> sparseMapper = (indexes) -> (indexes.row() % 3 == indexes.column() % 5) ? BigInteger.valueOf(indexes.row() + indexes.column()) : ring.zero();
+        SparseMatrix<BigInteger> sparse = SparseMatrix.instance(57, 31, sparseMapper, ring);
+        assertEquals(sparse.toString(), SparseMatrix.instance(57, 31, sparseMapper, ring, pool).toString());
+        assertEquals(sparse.getMap(), SparseMatrix.instance(57, 31, sparseMapper, ring, pool).getMap());
+
+        //exceptions of the mapper reach the caller
+        assertThrows(ArithmeticException.class, () -> MatrixMap.instance(8, 8, (indexes) -> BigInteger.ONE.divide(BigInteger.valueOf(indexes.row() - 5)), pool));
+        pool.shutdown();
+    }
+
+    /**
+     * Tests that LazyMatrix computes values only when read, memoizes them, and stays lazy through sums, products and blocks
+     */
+    @Test
+    public void testLazyMatrix() {
+        DoubleRing doubleRing = new DoubleRing();
+        AtomicLong calls = new AtomicLong();
+        //a Hilbert matrix far too large to store
+        Function<Indexes, Double> hilbert = (indexes) -> {
+            calls.incrementAndGet();
+            return 1.0 / (indexes.row() + indexes.column() + 1);
+        };
+        LazyMatrix<Double> huge = LazyMatrix.instance(1000000, 1000000, hilbert);
+        assertEquals(0.125, huge.value(3, 4), 0);
+        assertEquals(0.125, huge.value(new Indexes(3, 4)), 0);
+        assertEquals(1, calls.get());
+        assertNull(huge.value(1000000, 0));
+        assertEquals("LazyMatrix [size=Indexes[row=999999, column=999999], cached=1]", huge.toString());
+        //sums and blocks compute only what is read
+        assertEquals(0.25, huge.plus(huge, doubleRing).value(new Indexes(3, 4)), 0);
+        MatrixMap<Double> block = huge.block(new Indexes(10, 20), new Indexes(12, 23)).toMatrixMap();
+        assertEquals(new Indexes(2, 3), block.size());
+        assertEquals(1.0 / 36, block.value(new Indexes(2, 3)), 0);
+        assertEquals(13, calls.get());
+        assertEquals(13, huge.cachedCount());
+
+        //a bounded cache holds at most its size, and no cache recomputes every value
+        calls.set(0);
+        LazyMatrix<Double> bounded = LazyMatrix.instance(100, 100, hilbert, 5);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1.0 / (2 * i + 1), bounded.value(i, i), 0);
+        }
+        assertTrue(bounded.cachedCount() <= 8);
+        assertEquals(100, calls.get());
+        LazyMatrix<Double> uncached = LazyMatrix.instance(100, 100, hilbert, 0);
+        uncached.value(1, 1);
+        uncached.value(1, 1);
+        assertEquals(102, calls.get());
+        assertEquals(0, uncached.cachedCount());
+        assertThrows(IllegalArgumentException.class, () -> LazyMatrix.instance(2, 2, hilbert, -2));
+
+        //products match the stored product, each value of the factors computed once
+        BigIntegerRing ring = new BigIntegerRing();
+        calls.set(0);
+        LazyMatrix<BigInteger> vandermonde = LazyMatrix.instance(7, 7, (indexes) -> {
+            calls.incrementAndGet();
+            return BigInteger.valueOf(indexes.row() + 2).pow(indexes.column());
+        });
+        MatrixMap<BigInteger> stored = vandermonde.toMatrixMap();
+        Matrix<BigInteger> product = vandermonde.times(vandermonde, ring);
+        assertEquals(stored.times(stored, ring).getMap(), product.getMap());
+        assertEquals(stored.minus(stored, ring).getMap(), vandermonde.minus(vandermonde, ring).getMap());
+        assertEquals(stored.negate(ring).getMap(), vandermonde.negate(ring).getMap());
+        assertEquals(49, calls.get());
+        assertThrows(NullPointerException.class, () -> LazyMatrix.instance(2, 2, (indexes) -> null).value(0, 0));
+    }
 }
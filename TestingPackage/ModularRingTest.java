@@ -0,0 +1,105 @@
+/**
+ * A class that tests ModularRing
+ * @author Ethan Tobey
+ */
+package TestingPackage;
+
+import static org.junit.Assert.*;
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.junit.Test;
+import MatrixPackage.Elimination;
+import MatrixPackage.Indexes;
+import MatrixPackage.Matrix;
+import MatrixPackage.MatrixMap;
+import MatrixPackage.SparseMatrix;
+import RingsPackage.BigIntegerRing;
+import RingsPackage.Field;
+import RingsPackage.ModularRing;
+import RingsPackage.Polynomial;
+import RingsPackage.PolynomialRing;
+
+public class ModularRingTest {
+
+    /**
+     * Tests the arithmetic of each reduction against BigInteger
+     */
+    @Test
+    public void testArithmetic() {
+        //Barrett for small moduli, Montgomery for large odd moduli, BigInteger for large even moduli
+        long[] moduli = {2, 7, 1L << 20, 3037000493L, (1L << 61) - 1, (1L << 62) - 57, (1L << 62) - 2};
+        for (long modulus : moduli) {
+            ModularRing ring = ModularRing.instance(modulus);
+            BigInteger bigModulus = BigInteger.valueOf(modulus);
+            long[] values = {0, 1, modulus - 1, modulus / 2, modulus / 3 + 1, ring.reduce(-12345678901L), ring.reduce(Long.MAX_VALUE)};
+            for (long x : values) {
+                for (long y : values) {
+                    BigInteger bigX = BigInteger.valueOf(x);
+                    BigInteger bigY = BigInteger.valueOf(y);
+                    assertEquals(bigX.multiply(bigY).mod(bigModulus).longValue(), (long) ring.product(x, y));
+                    assertEquals(bigX.add(bigY).mod(bigModulus).longValue(), (long) ring.sum(x, y));
+                    assertEquals(bigX.subtract(bigY).mod(bigModulus).longValue(), (long) ring.difference(x, y));
+                }
+                assertEquals(BigInteger.valueOf(x).negate().mod(bigModulus).longValue(), (long) ring.negate(x));
+            }
+        }
+        //inverses exist for values coprime to the modulus
+        ModularRing.PrimeField prime = ModularRing.field((1L << 61) - 1);
+        assertEquals(Long.valueOf(1), prime.product(prime.inverse(123456789L), 123456789L));
+        ModularRing composite = ModularRing.instance(12);
+        assertEquals(Long.valueOf(7), composite.inverse(7L));
+        assertThrows(ArithmeticException.class, () -> composite.inverse(8L));
+        assertThrows(ArithmeticException.class, () -> prime.inverse(0L));
+        assertThrows(IllegalArgumentException.class, () -> ModularRing.instance(1));
+        assertThrows(IllegalArgumentException.class, () -> ModularRing.instance(1L << 62));
+        assertThrows(IllegalArgumentException.class, () -> ModularRing.field(12));
+        assertThrows(IllegalArgumentException.class, () -> ModularRing.field(1L << 62));
+    }
+
+    /**
+     * Tests that a composite modulus gives a ring that is not a field but still multiplies matrices
+     */
+    @Test
+    public void testCompositeModulus() {
+        ModularRing ring = ModularRing.instance(12);
+        assertFalse(ring instanceof Field);
+        assertTrue(ModularRing.field(13) instanceof Field);
+        //2 * 6 is a zero divisor modulo 12
+        assertEquals(Long.valueOf(0), ring.product(2L, 6L));
+        //[[2, 1], [0, 1]] squared is [[4, 3], [0, 1]]
+        MatrixMap<Long> matrix = MatrixMap.instance(2, 2, (indexes) -> (indexes.row() == 0) ? ((indexes.column() == 0) ? 2L : 1L) : ((indexes.column() == 0) ? 0L : 1L));
+        Matrix<Long> square = matrix.times(matrix, ring);
+        assertEquals(Long.valueOf(4), square.value(new Indexes(0, 0)));
+        assertEquals(Long.valueOf(3), square.value(new Indexes(0, 1)));
+        assertEquals(Long.valueOf(1), square.value(new Indexes(1, 1)));
+        //matrices of 6s square to zero modulo 12
+        MatrixMap<Long> sixes = MatrixMap.instance(3, 3, (indexes) -> 6L);
+        assertTrue(sixes.toSparseMatrix(ring).times(sixes.toSparseMatrix(ring), ring).getMap().isEmpty());
+    }
+
+    /**
+     * Tests ModularRing with the matrix, polynomial and elimination classes
+     */
+    @Test
+    public void testWithMatricesAndPolynomials() {
+        ModularRing.PrimeField ring = ModularRing.field(1000003);
+        BigIntegerRing bigRing = new BigIntegerRing();
+        BigInteger bigModulus = BigInteger.valueOf(ring.getModulus());
+        MatrixMap<BigInteger> big = MatrixMap.instance(12, 12, (indexes) -> BigInteger.valueOf((indexes.row() * 31L + indexes.column() * 17L) % 23 - 11));
+        MatrixMap<Long> reduced = MatrixMap.instance(big.size(), (indexes) -> ring.reduce(big.value(indexes).longValue()));
+        //products agree with BigInteger products reduced afterward
+        Matrix<BigInteger> bigProduct = big.times(big, bigRing);
+        Matrix<Long> product = reduced.times(reduced, ring);
+        assertEquals(MatrixMap.instance(big.size(), (indexes) -> bigProduct.value(indexes).mod(bigModulus).longValue()).getMap(), product.getMap());
+        SparseMatrix<Long> sparse = reduced.toSparseMatrix(ring);
+        assertEquals(product.getMap(), MatrixMap.instance(big.size(), sparse.times(sparse, ring)::value).getMap());
+        assertTrue(sparse.minus(sparse, ring).getMap().isEmpty());
+        //determinants and ranks modulo a prime
+        assertEquals(Elimination.determinant(big, bigRing).mod(bigModulus).longValue(), (long) Elimination.determinant(reduced, ring));
+        assertEquals(Elimination.rank(big, bigRing), Elimination.rank(reduced, ring));
+        //polynomials
+        PolynomialRing<Long> polyRing = PolynomialRing.instance(ring);
+        Polynomial<Long> poly = Polynomial.from(Arrays.asList(ring.reduce(-1), 2L, 500000L));
+        assertEquals("[1, 999999, 7, 999997, 250003]", polyRing.product(poly, poly).toString());
+    }
+}
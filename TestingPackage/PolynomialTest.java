@@ -0,0 +1,342 @@
+/**
+ * A class that tests Polynomial products
+ * @author Ethan Tobey
+ */
+package TestingPackage;
+
+import static org.junit.Assert.*;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import MatrixPackage.ArithmeticMode;
+import MatrixPackage.Indexes;
+import MatrixPackage.Matrix;
+import MatrixPackage.MatrixMap;
+import RingsPackage.BigIntegerRing;
+import RingsPackage.DoublePolynomial;
+import RingsPackage.DoubleRing;
+import RingsPackage.KaratsubaMultiplier;
+import RingsPackage.LongPolynomial;
+import RingsPackage.LongRing;
+import RingsPackage.MatrixRing;
+import RingsPackage.ModularRing;
+import RingsPackage.Monomials;
+import RingsPackage.MultivariatePolynomial;
+import RingsPackage.MultivariatePolynomialRing;
+import RingsPackage.Polynomial;
+import RingsPackage.PolynomialRing;
+import RingsPackage.Ring;
+import RingsPackage.SparsePolynomial;
+import RingsPackage.SparsePolynomialRing;
+import RingsPackage.TransformMultiplier;
+
+public class PolynomialTest {
+
+    /**
+     * Helper method to build a polynomial with BigInteger coefficients of both signs
+     * @param size the number of coefficients
+     * @param seed number the coefficients are derived from
+     * @return the polynomial
+     */
+    private static Polynomial<BigInteger> polynomial(int size, long seed) {
+        List<BigInteger> coefficients = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            coefficients.add(BigInteger.valueOf((i * seed + 7) % 201 - 100).shiftLeft(i % 70));
+        }
+        return Polynomial.from(coefficients);
+    }
+
+    /**
+     * Tests Karatsuba products against schoolbook products over BigIntegerRing
+     */
+    @Test
+    public void testKaratsubaTimes() {
+        BigIntegerRing ring = new BigIntegerRing();
+        //a plain Ring is multiplied by the schoolbook method
+        Ring<BigInteger> plainRing = new Ring<>() {
+            public BigInteger zero() { return ring.zero(); }
+            public BigInteger identity() { return ring.identity(); }
+            public BigInteger sum(BigInteger x, BigInteger y) { return ring.sum(x, y); }
+            public BigInteger product(BigInteger x, BigInteger y) { return ring.product(x, y); }
+        };
+        //equal, odd, and very uneven lengths
+        int[][] sizes = {{1, 1}, {2, 2}, {7, 7}, {33, 33}, {100, 101}, {65, 3}, {5, 300}, {257, 130}};
+        for (int[] size : sizes) {
+            Polynomial<BigInteger> left = polynomial(size[0], 13);
+            Polynomial<BigInteger> right = polynomial(size[1], 29);
+            Polynomial<BigInteger> expected = left.times(right, plainRing);
+            assertEquals(size[0] + size[1] - 1, expected.getCoefficients().size());
+            for (int cutoff : new int[] {1, 2, 3, KaratsubaMultiplier.DEFAULT_CUTOFF}) {
+                assertEquals(expected.getCoefficients(), left.times(right, ring, KaratsubaMultiplier.instance(cutoff)).getCoefficients());
+            }
+            assertEquals(expected.getCoefficients(), left.times(right, ring).getCoefficients());
+            assertEquals(expected.getCoefficients(), PolynomialRing.instance(ring).product(left, right).getCoefficients());
+        }
+        //the empty polynomial gives zeros as before
+        assertEquals("[0, 0]", PolynomialRing.instance(ring).zero().times(polynomial(3, 1), ring).toString());
+        assertEquals("[]", PolynomialRing.instance(ring).zero().times(PolynomialRing.instance(ring).zero(), plainRing).toString());
+        assertThrows(IllegalArgumentException.class, () -> KaratsubaMultiplier.instance(0));
+    }
+
+    /**
+     * Tests that Karatsuba products keep the order of products for non-commutative coefficients
+     */
+    @Test
+    public void testKaratsubaNonCommutative() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MatrixRing.WithNegation<BigInteger> matrixRing = MatrixRing.instance(ring, 2);
+        List<Matrix<BigInteger>> left = new ArrayList<>();
+        List<Matrix<BigInteger>> right = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            int seed = i;
+            left.add(MatrixMap.instance(2, 2, (indexes) -> BigInteger.valueOf(seed * 3 - indexes.row() + 2 * indexes.column())));
+            right.add(MatrixMap.instance(2, 2, (indexes) -> BigInteger.valueOf(indexes.row() * seed - indexes.column() + 1)));
+        }
+        Polynomial<Matrix<BigInteger>> x = Polynomial.from(left);
+        Polynomial<Matrix<BigInteger>> y = Polynomial.from(right);
+        List<Matrix<BigInteger>> karatsuba = x.times(y, matrixRing, KaratsubaMultiplier.instance(1)).getCoefficients();
+        List<Matrix<BigInteger>> schoolbook = x.times(y, matrixRing, KaratsubaMultiplier.instance(9)).getCoefficients();
+        assertEquals(schoolbook.size(), karatsuba.size());
+        for (int i = 0; i < schoolbook.size(); i++) {
+            assertEquals(schoolbook.get(i).getMap(), karatsuba.get(i).getMap());
+        }
+        //swapping the operands gives a different product
+        assertNotEquals(schoolbook.get(1).getMap(), y.times(x, matrixRing).getCoefficients().get(1).getMap());
+        assertEquals(Arrays.asList(matrixRing.identity().getMap()), Arrays.asList(Polynomial.from(Arrays.asList(matrixRing.identity()))
+            .times(Polynomial.from(Arrays.asList(matrixRing.identity())), matrixRing).getCoefficients().get(0).getMap()));
+    }
+
+    /**
+     * Tests FFT products of Double polynomials against schoolbook products
+     */
+    @Test
+    public void testFftTimes() {
+        DoubleRing ring = new DoubleRing();
+        KaratsubaMultiplier schoolbook = KaratsubaMultiplier.instance(Integer.MAX_VALUE);
+        int[][] sizes = {{128, 128}, {300, 200}, {128, 3000}};
+        for (int[] size : sizes) {
+            List<Double> a = new ArrayList<>();
+            List<Double> b = new ArrayList<>();
+            for (int i = 0; i < size[0]; i++) {
+                a.add((double) ((i * 37 + 11) % 199 - 99));
+            }
+            for (int i = 0; i < size[1]; i++) {
+                b.add((i * 53 + 5) % 101 / 7.0 - 7);
+            }
+            List<Double> expected = Polynomial.from(a).times(Polynomial.from(b), ring, schoolbook).getCoefficients();
+            List<Double> product = Polynomial.from(a).times(Polynomial.from(b), ring).getCoefficients();
+            assertEquals(expected.size(), product.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), product.get(i), 1e-8);
+            }
+        }
+        //below the threshold the product is the schoolbook one exactly
+        List<Double> small = Arrays.asList(0.1, 0.2, 0.3);
+        assertEquals(Polynomial.from(small).times(Polynomial.from(small), ring, schoolbook).getCoefficients(),
+            Polynomial.from(small).times(Polynomial.from(small), ring).getCoefficients());
+        assertFalse(TransformMultiplier.defaults().applies(TransformMultiplier.DEFAULT_THRESHOLD - 1, 1000));
+        assertTrue(TransformMultiplier.instance(1).applies(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> TransformMultiplier.instance(0));
+    }
+
+    /**
+     * Tests NTT products of polynomials over ModularRing against schoolbook products
+     */
+    @Test
+    public void testNttTimes() {
+        //an NTT prime, primes and composites rebuilt from three NTT primes, and a modulus too large for them
+        long[] moduli = {998244353L, 1000003L, 12L, (1L << 32) - 5, (1L << 61) - 1};
+        for (long modulus : moduli) {
+            ModularRing ring = ModularRing.instance(modulus);
+            KaratsubaMultiplier schoolbook = KaratsubaMultiplier.instance(Integer.MAX_VALUE);
+            for (int[] size : new int[][] {{100, 100}, {130, 1000}}) {
+                List<Long> a = new ArrayList<>();
+                List<Long> b = new ArrayList<>();
+                for (int i = 0; i < size[0]; i++) {
+                    a.add(ring.reduce(modulus - 1 - i * 7919L));
+                }
+                for (int i = 0; i < size[1]; i++) {
+                    b.add(ring.reduce(-(i * 104729L) - 1));
+                }
+                Polynomial<Long> expected = Polynomial.from(a).times(Polynomial.from(b), ring, schoolbook);
+                assertEquals(expected.getCoefficients(), Polynomial.from(a).times(Polynomial.from(b), ring).getCoefficients());
+                assertEquals(expected.getCoefficients(), TransformMultiplier.instance(1).multiply(a, b, ring));
+            }
+        }
+        //transform lengths of 1 and 2
+        ModularRing ring = ModularRing.instance(998244353L);
+        assertEquals(Arrays.asList(6L), TransformMultiplier.defaults().multiply(Arrays.asList(2L), Arrays.asList(3L), ring));
+        assertEquals(Arrays.asList(2L, 7L, 3L), TransformMultiplier.defaults().multiply(Arrays.asList(2L, 1L), Arrays.asList(1L, 3L), ring));
+    }
+
+    /**
+     * Tests LongPolynomial and DoublePolynomial against Polynomial in each arithmetic mode
+     */
+    @Test
+    public void testPrimitivePolynomials() {
+        long[] a = new long[40];
+        long[] b = new long[25];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (i * 7919L) % 1009 - 504;
+        }
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (i * 104729L) % 997 - 498;
+        }
+        //wrapping arithmetic matches LongRing
+        LongRing longRing = new LongRing();
+        LongPolynomial x = LongPolynomial.from(a, ArithmeticMode.wrapping());
+        LongPolynomial y = LongPolynomial.from(b, ArithmeticMode.wrapping());
+        PolynomialRing<Long> polyRing = PolynomialRing.instance(longRing);
+        assertEquals(polyRing.product(x.toPolynomial(), y.toPolynomial()).getCoefficients(), x.times(y).toPolynomial().getCoefficients());
+        assertEquals(polyRing.sum(x.toPolynomial(), y.toPolynomial()).getCoefficients(), x.plus(y).toPolynomial().getCoefficients());
+        assertEquals(polyRing.sum(y.toPolynomial(), x.toPolynomial()).toString(), y.plus(x).toString());
+        //modular arithmetic matches ModularRing, for a modulus with small products and one without
+        for (long modulus : new long[] {1000003L, (1L << 61) - 1}) {
+            ModularRing ring = ModularRing.instance(modulus);
+            LongPolynomial p = LongPolynomial.from(a, ArithmeticMode.modular(modulus));
+            LongPolynomial q = LongPolynomial.from(y.toPolynomial(), ArithmeticMode.modular(modulus));
+            assertEquals(p.toPolynomial().times(q.toPolynomial(), ring).getCoefficients(), p.times(q).toPolynomial().getCoefficients());
+            assertEquals(ring.reduce(a[0] + b[0]), (Long) p.plus(q).get(0));
+            //operands in another mode are reduced into the mode of this polynomial
+            assertEquals(p.times(q).toString(), p.times(y).toString());
+        }
+        //products and sums reuse the same destination
+        long[] destination = new long[x.size() + y.size() - 1];
+        assertSame(destination, x.times(y, destination));
+        assertArrayEquals(x.times(y).toArray(), x.times(y, destination));
+        assertArrayEquals(x.times(y).toArray(), x.times(y, destination));
+        assertThrows(IllegalArgumentException.class, () -> x.times(y, new long[x.size()]));
+        assertThrows(IllegalArgumentException.class, () -> x.plus(y, new long[y.size()]));
+        //checked arithmetic throws on overflow
+        LongPolynomial large = LongPolynomial.from(new long[] {Long.MAX_VALUE / 2, 3}, ArithmeticMode.checked());
+        assertThrows(ArithmeticException.class, () -> large.times(large));
+        assertEquals("[3, 9]", large.plus(LongPolynomial.from(new long[] {3 - Long.MAX_VALUE / 2, 6}, ArithmeticMode.checked())).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> large.get(2));
+
+        //doubles match DoubleRing
+        DoubleRing doubleRing = new DoubleRing();
+        double[] c = {0.5, -1.25, 3, 2};
+        DoublePolynomial d = DoublePolynomial.from(c);
+        DoublePolynomial e = DoublePolynomial.from(Polynomial.from(Arrays.asList(1.5, 4.0)));
+        assertEquals(d.toPolynomial().times(e.toPolynomial(), doubleRing).getCoefficients(), d.times(e).toPolynomial().getCoefficients());
+        assertEquals("[2.0, 2.75, 3.0, 2.0]", d.plus(e).toString());
+        double[] buffer = new double[5];
+        assertArrayEquals(d.times(e).toArray(), d.times(e, buffer), 0);
+        assertArrayEquals(d.times(e).toArray(), d.times(e, buffer), 0);
+        assertEquals("[]", DoublePolynomial.from(new double[0]).times(DoublePolynomial.from(new double[0])).toString());
+    }
+
+    /**
+     * Tests SparsePolynomial, SparsePolynomialRing and the sparse path of Polynomial.times
+     */
+    @Test
+    public void testSparsePolynomial() {
+        BigIntegerRing ring = new BigIntegerRing();
+        SparsePolynomialRing.WithNegation<BigInteger> sparseRing = SparsePolynomialRing.instance(ring);
+        //x^100000 + 3x^7 + 1, squared with 9 products
+        SparsePolynomial<BigInteger> p = SparsePolynomial.from(new int[] {7, 100000, 0},
+            Arrays.asList(BigInteger.valueOf(3), BigInteger.ONE, BigInteger.ONE), ring);
+        assertEquals("SparsePolynomial [terms={100000=1, 7=3, 0=1}]", p.toString());
+        assertEquals("SparsePolynomial [terms={200000=1, 100007=6, 100000=2, 14=9, 7=6, 0=1}]", sparseRing.product(p, p).toString());
+        assertEquals(200000, sparseRing.product(p, p).degree());
+        //equal exponents are added and zero terms dropped
+        SparsePolynomial<BigInteger> q = SparsePolynomial.from(new int[] {3, 1, 3}, Arrays.asList(BigInteger.TWO, BigInteger.valueOf(5), BigInteger.TWO.negate()), ring);
+        assertEquals("SparsePolynomial [terms={1=5}]", q.toString());
+        assertEquals("SparsePolynomial [terms={100000=1, 7=3, 1=5, 0=1}]", sparseRing.sum(p, q).toString());
+        assertEquals(sparseRing.zero(), sparseRing.difference(p, p));
+        assertEquals(-1, sparseRing.zero().degree());
+        assertEquals(p, sparseRing.product(p, sparseRing.identity()));
+        assertEquals(sparseRing.zero(), sparseRing.product(p, sparseRing.zero()));
+
+        //dense products of mostly zero polynomials take the sparse path and keep their leading zeros
+        Polynomial<BigInteger> dense = p.toPolynomial(ring);
+        assertEquals(100001, dense.getCoefficients().size());
+        assertEquals(p, SparsePolynomial.from(dense, ring));
+        Polynomial<BigInteger> shortDense = polynomial(40, 3);
+        Polynomial<BigInteger> padded = Polynomial.from(new ArrayList<>(Collections.nCopies(3000, BigInteger.ZERO)));
+        List<BigInteger> paddedCoefficients = padded.getCoefficients();
+        paddedCoefficients.set(1, BigInteger.valueOf(-4));
+        paddedCoefficients.set(2500, BigInteger.ONE);
+        padded = Polynomial.from(paddedCoefficients);
+        assertEquals(padded.times(shortDense, ring, KaratsubaMultiplier.defaults()).getCoefficients(), padded.times(shortDense, ring).getCoefficients());
+        assertEquals("[0, 0, 0, 1]", Polynomial.from(Arrays.asList(BigInteger.ZERO, BigInteger.ZERO, BigInteger.ONE))
+            .times(Polynomial.from(Arrays.asList(BigInteger.ZERO, BigInteger.ONE)), ring).toString());
+
+        //SparsePolynomialRing works as the ring of a matrix
+        MatrixMap<SparsePolynomial<BigInteger>> matrix = MatrixMap.instance(2, 2, (indexes) -> (indexes.areDiagonal()) ? p : q);
+        assertEquals(sparseRing.sum(sparseRing.product(p, p), sparseRing.product(q, q)), matrix.times(matrix, sparseRing).value(new Indexes(0, 0)));
+    }
+
+    /**
+     * Tests MultivariatePolynomial products and orders, and MultivariatePolynomialRing with matrices
+     */
+    @Test
+    public void testMultivariatePolynomial() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MultivariatePolynomialRing.WithNegation<BigInteger> lexRing = MultivariatePolynomialRing.instance(ring, Monomials.instance(2, Monomials.Order.LEX));
+        MultivariatePolynomial<BigInteger> x = lexRing.variable(0);
+        MultivariatePolynomial<BigInteger> y = lexRing.variable(1);
+        assertEquals("MultivariatePolynomial [terms={[2, 0]=1, [0, 2]=-1}]", lexRing.product(lexRing.sum(x, y), lexRing.difference(x, y)).toString());
+        //x^2 is above y^3 in lexicographic order only
+        MultivariatePolynomial<BigInteger> xSquared = lexRing.product(x, x);
+        MultivariatePolynomial<BigInteger> yCubed = lexRing.product(y, lexRing.product(y, y));
+        assertArrayEquals(new int[] {2, 0}, lexRing.sum(yCubed, xSquared).exponents(0));
+        MultivariatePolynomialRing.WithNegation<BigInteger> grlexRing = MultivariatePolynomialRing.instance(ring, Monomials.instance(2, Monomials.Order.GRLEX));
+        assertArrayEquals(new int[] {0, 3}, MultivariatePolynomial.from(grlexRing.space(), new int[][] {{2, 0}, {0, 3}},
+            Arrays.asList(BigInteger.ONE, BigInteger.ONE), ring).exponents(0));
+
+        //(x + y + z)^3 has 10 terms whatever the order, with the multinomial coefficients
+        for (Monomials.Order order : Monomials.Order.values()) {
+            MultivariatePolynomialRing.WithNegation<BigInteger> polyRing = MultivariatePolynomialRing.instance(ring, Monomials.instance(3, order));
+            MultivariatePolynomial<BigInteger> sum = polyRing.sum(polyRing.sum(polyRing.variable(0), polyRing.variable(1)), polyRing.variable(2));
+            MultivariatePolynomial<BigInteger> cube = polyRing.product(sum, polyRing.product(sum, sum));
+            assertEquals(10, cube.terms());
+            assertEquals(3, cube.degree());
+            assertEquals(cube, polyRing.product(polyRing.product(sum, sum), sum));
+            for (int term = 0; term < cube.terms(); term++) {
+                int[] exponents = cube.exponents(term);
+                long expected = 6 / (factorial(exponents[0]) * factorial(exponents[1]) * factorial(exponents[2]));
+                assertEquals(BigInteger.valueOf(expected), cube.coefficient(term));
+            }
+            assertEquals(polyRing.zero(), polyRing.difference(cube, cube));
+            assertEquals(cube, polyRing.product(cube, polyRing.identity()));
+        }
+        //x z^2 leads in graded lexicographic order, y^2 z in graded reverse lexicographic order
+        int[][] terms = {{1, 0, 2}, {0, 2, 1}};
+        List<BigInteger> ones = Arrays.asList(BigInteger.ONE, BigInteger.ONE);
+        assertArrayEquals(terms[0], MultivariatePolynomial.from(Monomials.instance(3, Monomials.Order.GRLEX), terms, ones, ring).exponents(0));
+        assertArrayEquals(terms[1], MultivariatePolynomial.from(Monomials.instance(3, Monomials.Order.GREVLEX), terms, ones, ring).exponents(0));
+
+        //polynomials over different monomials cannot be combined, and exponents must fit their fields
+        assertThrows(IllegalArgumentException.class, () -> x.plus(grlexRing.variable(0), ring));
+        MultivariatePolynomialRing.WithNegation<BigInteger> wideRing = MultivariatePolynomialRing.instance(ring, Monomials.instance(32, Monomials.Order.LEX));
+        assertEquals(1, wideRing.space().maxExponent());
+        assertThrows(ArithmeticException.class, () -> wideRing.product(wideRing.variable(5), wideRing.variable(5)));
+        assertThrows(IllegalArgumentException.class, () -> Monomials.instance(33, Monomials.Order.LEX));
+
+        //MultivariatePolynomialRing works as the ring of MatrixMap and SparseMatrix
+        MatrixMap<MultivariatePolynomial<BigInteger>> matrix = MatrixMap.instance(2, 2,
+            (indexes) -> (indexes.row() == 0) ? ((indexes.column() == 0) ? x : y) : ((indexes.column() == 0) ? y : lexRing.identity()));
+        MultivariatePolynomial<BigInteger> expected = lexRing.sum(xSquared, lexRing.product(y, y));
+        assertEquals(expected, matrix.times(matrix, lexRing).value(new Indexes(0, 0)));
+        assertEquals(expected, matrix.toSparseMatrix(lexRing).times(matrix.toSparseMatrix(lexRing), lexRing).value(new Indexes(0, 0)));
+    }
+
+    /**
+     * Helper method to compute a small factorial
+     * @param n the number, from 0 to 20
+     * @return n factorial
+     */
+    private static long factorial(int n) {
+        long factorial = 1;
+
+        for (int i = 2; i <= n; i++) {
+            factorial *= i;
+        }
+        return factorial;
+    }
+}
@@ -0,0 +1,232 @@
+/**
+ * A class that tests the compressed sparse matrix formats
+ * @author Ethan Tobey
+ */
+package TestingPackage;
+
+import static org.junit.Assert.*;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+import MatrixPackage.ArithmeticMode;
+import MatrixPackage.CscMatrix;
+import MatrixPackage.CsrMatrix;
+import MatrixPackage.DenseDoubleMatrix;
+import MatrixPackage.DenseLongMatrix;
+import MatrixPackage.DenseVector;
+import MatrixPackage.Indexes;
+import MatrixPackage.Matrix;
+import MatrixPackage.MatrixMap;
+import MatrixPackage.SparseMatrix;
+import MatrixPackage.SparseVector;
+import RingsPackage.BigIntegerRing;
+import RingsPackage.DoubleRing;
+import RingsPackage.LongRing;
+import RingsPackage.MatrixRing;
+
+public class SparseFormatsTest {
+
+    /**
+     * Helper method to build a sparse BigInteger matrix with a fixed pattern of stored entries
+     * @param size the number of rows and columns
+     * @param ring ring for the matrix
+     * @return MatrixMap holding the values, zero where nothing is stored
+     */
+    private static MatrixMap<BigInteger> pattern(int size, BigIntegerRing ring) {
+        return MatrixMap.instance(size, size,
+            (indexes) -> ((indexes.row() * 7 + indexes.column() * 3) % 5 == 0) ? BigInteger.valueOf(indexes.row() - 2L * indexes.column()) : ring.zero());
+    }
+
+    /**
+     * Tests building, sum and product methods of CsrMatrix
+     */
+    @Test
+    public void testCsrOperations() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MatrixMap<BigInteger> map = pattern(23, ring);
+        CsrMatrix<BigInteger> csr = CsrMatrix.from(map, ring);
+        //values match the source matrix
+        assertEquals(map.getMap(), csr.toMatrixMap().getMap());
+        assertEquals(ring.zero(), csr.value(new Indexes(0, 1)));
+        assertNull(csr.value(new Indexes(23, 0)));
+        //sum and product match MatrixMap
+        assertEquals(map.plus(map, ring).getMap(), ((CsrMatrix<BigInteger>) csr.plus(csr, ring)).toMatrixMap().getMap());
+        assertEquals(map.times(map, ring).getMap(), ((CsrMatrix<BigInteger>) csr.times(map, ring)).toMatrixMap().getMap());
+        ForkJoinPool pool = new ForkJoinPool(3);
+        assertEquals(csr.times(csr, ring).toString(), csr.times(csr, ring, pool).toString());
+        pool.shutdown();
+        //sizes do not match
+        assertThrows(IllegalArgumentException.class, () -> csr.plus(CsrMatrix.identity(2, ring), ring));
+        //coordinates are sorted and duplicates summed
+        List<BigInteger> values = Arrays.asList(BigInteger.ONE, BigInteger.TWO, BigInteger.TEN, BigInteger.ONE);
+        Matrix<BigInteger> coordinates = CsrMatrix.fromCoordinates(2, 3, new int[] {1, 0, 1, 1}, new int[] {2, 1, 0, 2}, values, ring);
+        assertEquals("CsrMatrix [matrix={Indexes[row=0, column=1]=2, Indexes[row=1, column=0]=10, Indexes[row=1, column=2]=2}]", coordinates.toString());
+        //matrix-vector product
+        assertEquals(Arrays.asList(BigInteger.TWO, BigInteger.valueOf(16)),
+            ((CsrMatrix<BigInteger>) coordinates).times(Arrays.asList(BigInteger.ONE, BigInteger.ONE, BigInteger.valueOf(3)), ring));
+    }
+
+    /**
+     * Tests CscMatrix operations and conversions between the sparse formats
+     */
+    @Test
+    public void testCscAndConversions() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MatrixMap<BigInteger> map = pattern(19, ring);
+        SparseMatrix<BigInteger> sparse = map.toSparseMatrix(ring);
+        CscMatrix<BigInteger> csc = sparse.toCscMatrix();
+        CsrMatrix<BigInteger> csr = csc.toCsrMatrix();
+        //every conversion keeps the stored entries
+        assertEquals(sparse.getMap(), csc.getMap());
+        assertEquals(sparse.getMap(), csr.getMap());
+        assertEquals(sparse.getMap(), csr.toCscMatrix().toSparseMatrix().getMap());
+        assertEquals(map.getMap(), csc.toMatrixMap().getMap());
+        //sum and product match MatrixMap
+        assertEquals(map.plus(map, ring).getMap(), ((CscMatrix<BigInteger>) csc.plus(csr, ring)).toMatrixMap().getMap());
+        assertEquals(map.times(map, ring).getMap(), ((CscMatrix<BigInteger>) csc.times(csc, ring)).toMatrixMap().getMap());
+        //transpose shares storage and swaps indexes
+        assertEquals(csr.value(new Indexes(3, 5)), csr.transpose().value(new Indexes(5, 3)));
+        assertEquals(csc.columnSlice(4, 9).value(new Indexes(7, 1)), csc.value(new Indexes(7, 5)));
+        assertEquals("CscMatrix [matrix={Indexes[row=1, column=0]=10, Indexes[row=0, column=1]=2}]",
+            CscMatrix.fromCoordinates(2, 2, new int[] {0, 1}, new int[] {1, 0}, Arrays.asList(BigInteger.TWO, BigInteger.TEN), ring).toString());
+        //non-commutative entries keep their order in products
+        MatrixRing<BigInteger> matrixRing = MatrixRing.instance(ring, 2);
+        MatrixMap<Matrix<BigInteger>> blocks = MatrixMap.instance(3, 3,
+            (indexes) -> MatrixMap.instance(2, 2, (inner) -> BigInteger.valueOf(indexes.row() * 5L + inner.row() - 3L * inner.column() + indexes.column())));
+        Matrix<Matrix<BigInteger>> expected = blocks.times(blocks, matrixRing);
+        Matrix<Matrix<BigInteger>> actual = CscMatrix.from(blocks, matrixRing).times(blocks, matrixRing);
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 3; column++) {
+                Indexes indexes = new Indexes(row, column);
+                assertEquals(expected.value(indexes).getMap(), actual.value(indexes).getMap());
+            }
+        }
+    }
+
+    /**
+     * Tests matrix-vector products of the sparse formats
+     */
+    @Test
+    public void testMatrixVectorProducts() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MatrixMap<BigInteger> map = pattern(17, ring);
+        DenseVector<BigInteger> dense = DenseVector.instance(17, (index) -> BigInteger.valueOf(index - 5L));
+        SparseVector<BigInteger> sparse = SparseVector.instance(17, (index) -> (index % 4 == 1) ? BigInteger.valueOf(index) : ring.zero(), ring);
+        List<BigInteger> expectedDense = map.times(dense, ring).toList();
+        List<BigInteger> expectedSparse = map.times(sparse, ring).toList();
+        //every format gives the product of the default implementation
+        for (Matrix<BigInteger> matrix : Arrays.asList(map.toSparseMatrix(ring), CsrMatrix.from(map, ring), CscMatrix.from(map, ring))) {
+            assertEquals(expectedDense, matrix.times(dense, ring).toList());
+            assertEquals(expectedSparse, matrix.times(sparse, ring).toList());
+        }
+        //a destination is overwritten and returned
+        DenseVector<BigInteger> destination = DenseVector.zero(17, ring);
+        CscMatrix<BigInteger> csc = CscMatrix.from(map, ring);
+        assertSame(destination, csc.times(sparse, ring, destination));
+        assertSame(destination, csc.times(dense, ring, destination));
+        assertEquals(expectedDense, destination.toList());
+        //sparse vectors only store values that are not zero
+        assertEquals(4, sparse.nonZeroCount());
+        assertEquals("SparseVector [vector={1=1, 5=5, 9=9, 13=13}]", sparse.toString());
+        assertEquals(ring.zero(), sparse.value(2));
+        //lengths must match and the destination must not be the input
+        assertThrows(IllegalArgumentException.class, () -> csc.times(DenseVector.zero(3, ring), ring));
+        assertThrows(IllegalArgumentException.class, () -> csc.times(dense, ring, DenseVector.zero(3, ring)));
+        assertThrows(IllegalArgumentException.class, () -> csc.times(destination, ring, destination));
+    }
+
+    /**
+     * Tests that MatrixMap and SparseMatrix store, look up and combine entries at packed indexes, including large ones
+     */
+    @Test
+    public void testPackedIndexes() {
+        BigIntegerRing ring = new BigIntegerRing();
+        //enough entries that the storage grows several times
+        MatrixMap<BigInteger> map = MatrixMap.instance(60, 70, (indexes) -> BigInteger.valueOf(1000L * indexes.row() + indexes.column()));
+        Map<Indexes, BigInteger> entries = map.getMap();
+        assertEquals(60 * 70, entries.size());
+        assertSame(entries, map.getMap());
+        entries.forEach((indexes, value) -> assertEquals(value, map.value(indexes)));
+        assertNull(map.value(new Indexes(60, 0)));
+        assertNull(map.value(new Indexes(-1, 0)));
+        assertEquals(new Indexes(59, 69), map.size());
+        assertEquals(map.getMap(), map.negate(ring).negate(ring).getMap());
+
+        //indexes that need the full width of an int
+        Indexes corner = new Indexes(Integer.MAX_VALUE - 1, Integer.MAX_VALUE - 1);
+        SparseMatrix<BigInteger> sparse = SparseMatrix.from(Map.of(corner, BigInteger.TWO, new Indexes(0, Integer.MAX_VALUE - 1), BigInteger.ONE,
+            new Indexes(7, 3), ring.zero()), corner, ring);
+        assertEquals(2, sparse.getMap().size());
+        assertEquals(BigInteger.TWO, sparse.value(corner));
+        assertEquals(ring.zero(), sparse.value(new Indexes(7, 3)));
+        assertEquals("SparseMatrix [matrix={Indexes[row=0, column=2147483646]=1, Indexes[row=2147483646, column=2147483646]=2}]", sparse.toString());
+        assertEquals("SparseMatrix [matrix={Indexes[row=0, column=2147483646]=2, Indexes[row=2147483646, column=2147483646]=4}]",
+            sparse.times(sparse, ring).toString());
+        assertEquals("SparseMatrix [matrix={}]", sparse.minus(sparse, ring).toString());
+    }
+
+    /**
+     * Tests value(int, int), row and column iterators and forEachNonZero across matrix implementations
+     */
+    @Test
+    public void testIterationApi() {
+        BigIntegerRing ring = new BigIntegerRing();
+        MatrixMap<BigInteger> map = pattern(11, ring);
+        SparseMatrix<BigInteger> sparse = map.toSparseMatrix(ring);
+        CsrMatrix<BigInteger> csr = CsrMatrix.from(map, ring);
+        List<Matrix<BigInteger>> matrices = Arrays.asList(map, sparse, csr, csr.toCscMatrix());
+        for (Matrix<BigInteger> matrix : matrices) {
+            //row 0 and column 0 are inside the matrix, the last row and column are too
+            assertEquals(map.value(new Indexes(0, 0)), matrix.value(0, 0));
+            assertEquals(map.value(new Indexes(10, 5)), matrix.value(10, 5));
+            assertNull(matrix.value(11, 0));
+            assertNull(matrix.value(0, -1));
+            //row and column iterators read the values in order
+            Iterator<BigInteger> row = matrix.row(4);
+            Iterator<BigInteger> column = matrix.column(7);
+            for (int i = 0; i <= 10; i++) {
+                assertEquals(map.value(4, i), row.next());
+                assertEquals(map.value(i, 7), column.next());
+            }
+            assertFalse(row.hasNext());
+            assertThrows(NoSuchElementException.class, column::next);
+            assertThrows(IndexOutOfBoundsException.class, () -> matrix.row(11));
+            //every nonzero value is visited once
+            Map<Indexes, BigInteger> visited = new HashMap<>();
+            matrix.forEachNonZero((i, j, value) -> assertNull(visited.put(new Indexes(i, j), value)), ring);
+            Map<Indexes, BigInteger> expected = new HashMap<>(map.getMap());
+            expected.values().removeIf(ring.zero()::equals);
+            assertEquals(expected, visited);
+        }
+        //a MatrixMap stores every value, but only the nonzero ones are visited, as a SparseMatrix stores
+        List<BigInteger> values = new ArrayList<>();
+        map.forEachNonZero((i, j, value) -> values.add(value), ring);
+        assertEquals(sparse.getMap().size(), values.size());
+        values.clear();
+        sparse.forEachNonZero((i, j, value) -> values.add(value), ring);
+        assertEquals(sparse.getMap().size(), values.size());
+        //CsrMatrix visits row by row
+        List<Indexes> order = new ArrayList<>();
+        csr.forEachNonZero((i, j, value) -> order.add(new Indexes(i, j)), ring);
+        List<Indexes> sorted = new ArrayList<>(order);
+        sorted.sort(null);
+        assertEquals(sorted, order);
+        //dense matrices skip their zero values too, so a sparse copy reads only the nonzero ones
+        DenseLongMatrix dense = DenseLongMatrix.from(new long[][] {{0, 3, 0}, {0, 0, 0}, {-1, 0, 2}}, ArithmeticMode.wrapping());
+        List<Long> denseValues = new ArrayList<>();
+        dense.forEachNonZero((i, j, value) -> denseValues.add(value), new LongRing());
+        assertEquals(Arrays.asList(3L, -1L, 2L), denseValues);
+        assertEquals(3, CsrMatrix.from(dense, new LongRing()).getMap().size());
+        DenseDoubleMatrix doubles = DenseDoubleMatrix.from(new double[][] {{-0.0, 1.5}});
+        List<Double> doubleValues = new ArrayList<>();
+        doubles.forEachNonZero((i, j, value) -> doubleValues.add(value), new DoubleRing());
+        assertEquals(Arrays.asList(1.5), doubleValues);
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Enum of the rings that benchmarks are parameterized by
+ * @author Ethan Tobey
+ */
+package BenchmarkPackage;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import RingsPackage.BigIntegerRing;
+import RingsPackage.DoubleRing;
+import RingsPackage.IntegerRing;
+import RingsPackage.ModularRing;
+import RingsPackage.Polynomial;
+import RingsPackage.PolynomialRing;
+import RingsPackage.Ring;
+
+public enum BenchmarkRing {
+    INTEGER(new IntegerRing()) {
+        @Override
+        Object value(long seed) {
+            return (int) (seed % 100);
+        }
+    },
+    DOUBLE(new DoubleRing()) {
+        @Override
+        Object value(long seed) {
+            return (seed % 100) / 10.;
+        }
+    },
+    BIG_INTEGER(new BigIntegerRing()) {
+        @Override
+        Object value(long seed) {
+            return BigInteger.valueOf(seed).pow(3);
+        }
+    },
+    MODULAR(ModularRing.instance((1L << 61) - 1)) {
+        @Override
+        Object value(long seed) {
+            return Math.floorMod(seed * seed * seed, (1L << 61) - 1);
+        }
+    },
+    POLYNOMIAL(PolynomialRing.instance(new BigIntegerRing())) {
+        @Override
+        Object value(long seed) {
+            return Polynomial.from(Arrays.asList(BigInteger.valueOf(seed % 7), BigInteger.valueOf(seed % 11), BigInteger.valueOf(seed % 13)));
+        }
+    };
+
+    /** the ring for values of this kind */
+    private final Ring<?> ring;
+
+    /**
+     * Constructor to initialize the enum constant with its ring
+     * @param ring the ring for values of this kind
+     */
+    BenchmarkRing(Ring<?> ring) {
+        this.ring = ring;
+    }
+
+    /**
+     * Returns the ring of this kind, typed loosely so one benchmark can run every kind
+     * @return the ring for values of this kind
+     */
+    @SuppressWarnings("unchecked")
+    public Ring<Object> ring() {
+        return (Ring<Object>) ring;
+    }
+
+    /**
+     * Returns a deterministic value of this kind
+     * @param seed number the value is derived from
+     * @return a value in the ring of this kind
+     */
+    abstract Object value(long seed);
+}
@@ -0,0 +1,129 @@
+/**
+ * Benchmarks products of the primitive dense matrices against the naive triple loop
+ * @author Ethan Tobey
+ */
+package BenchmarkPackage;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import MatrixPackage.ArithmeticMode;
+import MatrixPackage.DenseDoubleMatrix;
+import MatrixPackage.DenseLongMatrix;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DenseMatrixBenchmark {
+    /** number of rows and columns of the matrices */
+    @Param({"128", "512", "1024"})
+    public int size;
+
+    /** left operand as a row-major array */
+    private double[] leftValues;
+    /** right operand as a row-major array */
+    private double[] rightValues;
+    /** left operand as a row-major array of longs */
+    private long[] leftLongs;
+    /** right operand as a row-major array of longs */
+    private long[] rightLongs;
+    /** left operand */
+    private DenseDoubleMatrix left;
+    /** right operand */
+    private DenseDoubleMatrix right;
+    /** left operand of longs */
+    private DenseLongMatrix leftLong;
+    /** right operand of longs */
+    private DenseLongMatrix rightLong;
+
+    /**
+     * Builds the operands once per trial
+     */
+    @Setup
+    public void setup() {
+        leftValues = new double[size * size];
+        rightValues = new double[size * size];
+        leftLongs = new long[size * size];
+        rightLongs = new long[size * size];
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                leftLongs[row * size + column] = (31L * row + column) % 1000;
+                rightLongs[row * size + column] = (17L * column + row + 1) % 1000;
+                leftValues[row * size + column] = leftLongs[row * size + column] / 10.;
+                rightValues[row * size + column] = rightLongs[row * size + column] / 10.;
+            }
+        }
+        left = DenseDoubleMatrix.instance(size, size, (indexes) -> leftValues[indexes.row() * size + indexes.column()]);
+        right = DenseDoubleMatrix.instance(size, size, (indexes) -> rightValues[indexes.row() * size + indexes.column()]);
+        leftLong = DenseLongMatrix.instance(size, size, (indexes) -> leftLongs[indexes.row() * size + indexes.column()], ArithmeticMode.wrapping());
+        rightLong = DenseLongMatrix.instance(size, size, (indexes) -> rightLongs[indexes.row() * size + indexes.column()], ArithmeticMode.wrapping());
+    }
+
+    /**
+     * Benchmarks DenseDoubleMatrix.times, which is tiled
+     * @return the product
+     */
+    @Benchmark
+    public DenseDoubleMatrix doubleTimes() {
+        return left.times(right);
+    }
+
+    /**
+     * Benchmarks the naive row by column triple loop on the same double arrays, the baseline for doubleTimes
+     * @return the product
+     */
+    @Benchmark
+    public double[] naiveDoubleTimes() {
+        double[] product = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                double sum = 0;
+                for (int p = 0; p < size; p++) {
+                    sum += leftValues[i * size + p] * rightValues[p * size + j];
+                }
+                product[i * size + j] = sum;
+            }
+        }
+        return product;
+    }
+
+    /**
+     * Benchmarks DenseLongMatrix.times in wrapping mode, which is tiled
+     * @return the product
+     */
+    @Benchmark
+    public DenseLongMatrix longTimes() {
+        return leftLong.times(rightLong);
+    }
+
+    /**
+     * Benchmarks the naive row by column triple loop on the same long arrays, the baseline for longTimes
+     * @return the product
+     */
+    @Benchmark
+    public long[] naiveLongTimes() {
+        long[] product = new long[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                long sum = 0;
+                for (int p = 0; p < size; p++) {
+                    sum += leftLongs[i * size + p] * rightLongs[p * size + j];
+                }
+                product[i * size + j] = sum;
+            }
+        }
+        return product;
+    }
+}
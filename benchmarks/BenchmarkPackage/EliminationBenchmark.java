@@ -0,0 +1,93 @@
+/**
+ * Benchmarks determinants by fraction-free elimination, elimination modulo primes and LU decomposition
+ * @author Ethan Tobey
+ */
+package BenchmarkPackage;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import MatrixPackage.DenseDoubleMatrix;
+import MatrixPackage.Elimination;
+import MatrixPackage.MatrixMap;
+import RingsPackage.BigIntegerRing;
+import RingsPackage.ModularRing;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class EliminationBenchmark {
+    /** number of rows and columns of the matrices */
+    @Param({"50", "100", "200"})
+    public int size;
+
+    /** ring of the BigInteger matrix */
+    private final BigIntegerRing ring = new BigIntegerRing();
+    /** matrix of small BigInteger values */
+    private MatrixMap<BigInteger> bigIntegers;
+    /** field of the residues modulo a word-size prime */
+    private final ModularRing.PrimeField modularRing = ModularRing.field((1L << 61) - 1);
+    /** matrix of the same values modulo the prime */
+    private MatrixMap<Long> residues;
+    /** matrix of the same values as doubles */
+    private DenseDoubleMatrix doubles;
+
+    /**
+     * Builds the matrices once per trial
+     */
+    @Setup
+    public void setup() {
+        bigIntegers = MatrixMap.instance(size, size, (indexes) -> BigInteger.valueOf((31L * indexes.row() + 17L * indexes.column() * indexes.column()) % 201 - 100));
+        residues = MatrixMap.instance(bigIntegers.size(), (indexes) -> modularRing.reduce(bigIntegers.value(indexes).longValue()));
+        doubles = DenseDoubleMatrix.instance(bigIntegers.size(), (indexes) -> bigIntegers.value(indexes).doubleValue());
+    }
+
+    /**
+     * Benchmarks the fraction-free determinant over BigIntegerRing
+     * @return the determinant
+     */
+    @Benchmark
+    public BigInteger bareissDeterminant() {
+        return Elimination.determinant(bigIntegers, ring);
+    }
+
+    /**
+     * Benchmarks the determinant over BigInteger by elimination modulo word-size primes
+     * @return the determinant
+     */
+    @Benchmark
+    public BigInteger modularDeterminant() {
+        return Elimination.modularDeterminant(bigIntegers);
+    }
+
+    /**
+     * Benchmarks the determinant modulo a prime over ModularRing
+     * @return the determinant modulo the prime
+     */
+    @Benchmark
+    public Long fieldDeterminant() {
+        return Elimination.determinant(residues, modularRing);
+    }
+
+    /**
+     * Benchmarks the determinant of DenseDoubleMatrix by LU decomposition
+     * @return the determinant
+     */
+    @Benchmark
+    public double luDeterminant() {
+        return doubles.determinant();
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Benchmarks sum and product operations of MatrixMap
+ * @author Ethan Tobey
+ */
+package BenchmarkPackage;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import MatrixPackage.Matrix;
+import MatrixPackage.MatrixMap;
+import MatrixPackage.MutableMatrix;
+import RingsPackage.Ring;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixMapBenchmark {
+    /** number of rows and columns of the matrices */
+    @Param({"16", "64", "128", "512"})
+    public int size;
+
+    /** ring of the values of the matrices */
+    @Param({"INTEGER", "DOUBLE", "BIG_INTEGER", "MODULAR", "POLYNOMIAL"})
+    public BenchmarkRing ringKind;
+
+    /** ring to compute operations */
+    private Ring<Object> ring;
+    /** left operand */
+    private MatrixMap<Object> left;
+    /** right operand */
+    private MatrixMap<Object> right;
+    /** left operand as a MutableMatrix */
+    private MutableMatrix<Object> mutableLeft;
+    /** right operand as a MutableMatrix */
+    private MutableMatrix<Object> mutableRight;
+    /** reused destination of products */
+    private MutableMatrix<Object> destination;
+
+    /**
+     * Builds the operands once per trial
+     */
+    @Setup
+    public void setup() {
+        ring = ringKind.ring();
+        left = MatrixMap.instance(size, size, (indexes) -> ringKind.value(31L * indexes.row() + indexes.column()));
+        right = MatrixMap.instance(size, size, (indexes) -> ringKind.value(17L * indexes.column() + indexes.row() + 1));
+        mutableLeft = MutableMatrix.from(left);
+        mutableRight = MutableMatrix.from(right);
+        destination = MutableMatrix.zero(size, size, ring);
+    }
+
+    /**
+     * Benchmarks MatrixMap.plus
+     * @return the sum
+     */
+    @Benchmark
+    public Matrix<Object> plus() {
+        return left.plus(right, ring);
+    }
+
+    /**
+     * Benchmarks MatrixMap.times
+     * @return the product
+     */
+    @Benchmark
+    public Matrix<Object> times() {
+        return left.times(right, ring);
+    }
+
+    /**
+     * Benchmarks MutableMatrix.multiplyInto on the same operands, reusing one destination
+     * @return the product
+     */
+    @Benchmark
+    public Matrix<Object> multiplyInto() {
+        return mutableLeft.multiplyInto(mutableRight, ring, destination);
+    }
+}
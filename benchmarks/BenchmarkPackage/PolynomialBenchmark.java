@@ -0,0 +1,87 @@
+/**
+ * Benchmarks sum and product operations of Polynomial at several degrees
+ * @author Ethan Tobey
+ */
+package BenchmarkPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import RingsPackage.Polynomial;
+import RingsPackage.Ring;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolynomialBenchmark {
+    /** degree of the polynomials */
+    @Param({"10", "100", "1000"})
+    public int degree;
+
+    /** ring of the coefficients of the polynomials */
+    @Param({"INTEGER", "DOUBLE", "BIG_INTEGER", "MODULAR", "POLYNOMIAL"})
+    public BenchmarkRing ringKind;
+
+    /** ring to compute operations */
+    private Ring<Object> ring;
+    /** left operand */
+    private Polynomial<Object> left;
+    /** right operand */
+    private Polynomial<Object> right;
+
+    /**
+     * Builds the operands once per trial
+     */
+    @Setup
+    public void setup() {
+        ring = ringKind.ring();
+        left = polynomial(3);
+        right = polynomial(5);
+    }
+
+    /**
+     * Helper method to build a polynomial of the benchmarked degree
+     * @param seed number the coefficients are derived from
+     * @return the polynomial
+     */
+    private Polynomial<Object> polynomial(long seed) {
+        List<Object> coefficients = new ArrayList<>();
+
+        for (int i = 0; i <= degree; i++) {
+            coefficients.add(ringKind.value(seed * i + 1));
+        }
+        return Polynomial.from(coefficients);
+    }
+
+    /**
+     * Benchmarks Polynomial.plus
+     * @return the sum
+     */
+    @Benchmark
+    public Polynomial<Object> plus() {
+        return left.plus(right, ring);
+    }
+
+    /**
+     * Benchmarks Polynomial.times
+     * @return the product
+     */
+    @Benchmark
+    public Polynomial<Object> times() {
+        return left.times(right, ring);
+    }
+}
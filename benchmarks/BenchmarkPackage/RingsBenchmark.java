@@ -0,0 +1,74 @@
+/**
+ * Benchmarks the sum and product reductions of Rings
+ * @author Ethan Tobey
+ */
+package BenchmarkPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import RingsPackage.Ring;
+import RingsPackage.Rings;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingsBenchmark {
+    /** number of values to reduce */
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    /** ring of the values */
+    @Param({"INTEGER", "DOUBLE", "BIG_INTEGER", "MODULAR", "POLYNOMIAL"})
+    public BenchmarkRing ringKind;
+
+    /** ring to compute operations */
+    private Ring<Object> ring;
+    /** values to reduce */
+    private List<Object> values;
+
+    /**
+     * Builds the values once per trial
+     */
+    @Setup
+    public void setup() {
+        ring = ringKind.ring();
+        values = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            values.add(ringKind.value(i + 1));
+        }
+    }
+
+    /**
+     * Benchmarks Rings.sum
+     * @return the sum
+     */
+    @Benchmark
+    public Object sum() {
+        return Rings.sum(values, ring);
+    }
+
+    /**
+     * Benchmarks Rings.product
+     * @return the product
+     */
+    @Benchmark
+    public Object product() {
+        return Rings.product(values, ring);
+    }
+}
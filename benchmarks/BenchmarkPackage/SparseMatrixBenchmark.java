@@ -0,0 +1,137 @@
+/**
+ * Benchmarks sum and product operations of SparseMatrix at several densities
+ * @author Ethan Tobey
+ */
+package BenchmarkPackage;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import MatrixPackage.CsrMatrix;
+import MatrixPackage.DenseVector;
+import MatrixPackage.Matrix;
+import MatrixPackage.SparseMatrix;
+import RingsPackage.Ring;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SparseMatrixBenchmark {
+    /** number of rows and columns of the matrices */
+    @Param({"64", "256"})
+    public int size;
+
+    /** fraction of entries that are stored */
+    @Param({"0.01", "0.1", "0.5"})
+    public double density;
+
+    /** ring of the values of the matrices */
+    @Param({"INTEGER", "DOUBLE", "BIG_INTEGER", "POLYNOMIAL"})
+    public BenchmarkRing ringKind;
+
+    /** ring to compute operations */
+    private Ring<Object> ring;
+    /** left operand */
+    private SparseMatrix<Object> left;
+    /** right operand */
+    private SparseMatrix<Object> right;
+    /** left operand in CSR format */
+    private CsrMatrix<Object> leftCsr;
+    /** right operand in CSR format */
+    private CsrMatrix<Object> rightCsr;
+    /** vector operand */
+    private DenseVector<Object> vector;
+    /** reused destination of matrix-vector products */
+    private DenseVector<Object> destination;
+
+    /**
+     * Builds the operands once per trial, with a fixed seed so every run stores the same entries
+     */
+    @Setup
+    public void setup() {
+        ring = ringKind.ring();
+        left = randomMatrix(new Random(1));
+        right = randomMatrix(new Random(2));
+        leftCsr = CsrMatrix.from(left, ring);
+        rightCsr = CsrMatrix.from(right, ring);
+        vector = DenseVector.instance(size, (index) -> ringKind.value(index + 1));
+        destination = DenseVector.zero(size, ring);
+    }
+
+    /**
+     * Helper method to build a SparseMatrix storing about density of its entries
+     * @param random source of which entries are stored
+     * @return the SparseMatrix
+     */
+    private SparseMatrix<Object> randomMatrix(Random random) {
+        return SparseMatrix.instance(size, size,
+            (indexes) -> (random.nextDouble() < density) ? ringKind.value(random.nextInt(1000) + 1) : ring.zero(), ring);
+    }
+
+    /**
+     * Benchmarks SparseMatrix.plus
+     * @return the sum
+     */
+    @Benchmark
+    public Matrix<Object> plus() {
+        return left.plus(right, ring);
+    }
+
+    /**
+     * Benchmarks SparseMatrix.times
+     * @return the product
+     */
+    @Benchmark
+    public Matrix<Object> times() {
+        return left.times(right, ring);
+    }
+
+    /**
+     * Benchmarks CsrMatrix.plus on the same operands
+     * @return the sum
+     */
+    @Benchmark
+    public Matrix<Object> csrPlus() {
+        return leftCsr.plus(rightCsr, ring);
+    }
+
+    /**
+     * Benchmarks CsrMatrix.times on the same operands
+     * @return the product
+     */
+    @Benchmark
+    public Matrix<Object> csrTimes() {
+        return leftCsr.times(rightCsr, ring);
+    }
+
+    /**
+     * Benchmarks SparseMatrix times a vector into a reused destination
+     * @return the product
+     */
+    @Benchmark
+    public DenseVector<Object> timesVector() {
+        return left.times(vector, ring, destination);
+    }
+
+    /**
+     * Benchmarks CsrMatrix times a vector into a reused destination
+     * @return the product
+     */
+    @Benchmark
+    public DenseVector<Object> csrTimesVector() {
+        return leftCsr.times(vector, ring, destination);
+    }
+}